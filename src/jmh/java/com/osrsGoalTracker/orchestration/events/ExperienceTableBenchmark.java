@@ -0,0 +1,112 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the ExperienceTable against the naive approach consumers use:
+ * evaluating the XP curve with a floating-point loop on every call, and
+ * stepping through the levels until the curve passes the experience. Each
+ * operation converts one experience value or level from a fixed random set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExperienceTableBenchmark {
+
+    private static final int SAMPLES = 1_024;
+
+    private final long[] xpValues = new long[SAMPLES];
+    private final int[] levels = new int[SAMPLES];
+    private int next;
+
+    /**
+     * Draws the experience values and levels, spread over the whole table.
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            xpValues[i] = random.nextLong(ExperienceTable.MAX_XP + 1L);
+            levels[i] = random.nextInt(ExperienceTable.MIN_LEVEL, ExperienceTable.MAX_VIRTUAL_LEVEL + 1);
+        }
+    }
+
+    /**
+     * Looks up a level's experience in the table.
+     *
+     * @return The experience
+     */
+    @Benchmark
+    public int tableXpForLevel() {
+        return ExperienceTable.xpForLevel(levels[nextIndex()]);
+    }
+
+    /**
+     * Computes a level's experience with the game's formula.
+     *
+     * @return The experience
+     */
+    @Benchmark
+    public int naiveXpForLevel() {
+        return naiveXpForLevel(levels[nextIndex()]);
+    }
+
+    /**
+     * Finds an experience value's level by binary search over the table.
+     *
+     * @return The level
+     */
+    @Benchmark
+    public int tableLevelForXp() {
+        return ExperienceTable.virtualLevelForXp(xpValues[nextIndex()]);
+    }
+
+    /**
+     * Finds an experience value's level by stepping through the formula.
+     *
+     * @return The level
+     */
+    @Benchmark
+    public int naiveLevelForXp() {
+        long xp = xpValues[nextIndex()];
+        int level = ExperienceTable.MIN_LEVEL;
+        while (level < ExperienceTable.MAX_VIRTUAL_LEVEL && naiveXpForLevel(level + 1) <= xp) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Gets the next sample index, wrapping round.
+     *
+     * @return The index
+     */
+    private int nextIndex() {
+        next = (next + 1) & (SAMPLES - 1);
+        return next;
+    }
+
+    /**
+     * Computes a level's experience the way most consumers do, summing the
+     * curve from level 1 in floating point.
+     *
+     * @param level The level
+     * @return The experience
+     */
+    private static int naiveXpForLevel(int level) {
+        double points = 0;
+        for (int n = 1; n < level; n++) {
+            points += Math.floor(n + 300 * Math.pow(2, n / 7.0));
+        }
+        return (int) Math.floor(points / 4);
+    }
+}
@@ -0,0 +1,247 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+import com.osrsGoalTracker.orchestration.handler.codec.GoalCreationRequestCodec;
+import com.osrsGoalTracker.orchestration.handler.validation.GoalCreationRequestValidator;
+import com.osrsGoalTracker.orchestration.service.EventBridgeEventPublisher;
+import com.osrsGoalTracker.orchestration.service.EventPublisher;
+import com.osrsGoalTracker.orchestration.service.IdempotencyService;
+import com.osrsGoalTracker.orchestration.service.PublishGuard;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the GoalCreationRequestEventProducerHandler hot path.
+ * The handler is built through Guice like the Lambda entry point, with
+ * EventBridge replaced by an in-memory stand-in. Run with the GC profiler
+ * (the default for ./gradlew jmh) to see bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GoalCreationRequestEventProducerHandlerBenchmark {
+
+    private static final String GOAL_BODY = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\","
+            + "\"targetValue\":13034431,\"currentValue\":0,\"targetDate\":\"2099-01-01T00:00:00Z\","
+            + "\"notificationChannelType\":\"DISCORD\",\"frequency\":\"DAILY\"}";
+    private static final int BULK_SIZE = 25;
+    private static final OrchestrationConfig CONFIG = OrchestrationConfig.builder()
+            .eventBusName("benchmark-event-bus")
+            .detailType("GoalCreationRequest")
+            .idempotencyEnabled(false)
+            .build();
+
+    private GoalCreationRequestEventProducerHandler handler;
+    private GoalCreationRequestEventProducerHandler idempotentHandler;
+    private GoalCreationRequestCodec codec;
+    private ObjectMapper objectMapper;
+    private APIGatewayProxyRequestEvent singleRequest;
+    private APIGatewayProxyRequestEvent bulkRequest;
+    private GoalCreationRequestEvent event;
+
+    /**
+     * Module that wires the handler to the in-memory EventBridge stand-in and a
+     * fixed configuration.
+     */
+    static class BenchmarkModule extends AbstractModule {
+
+        /**
+         * Provides the benchmark configuration.
+         *
+         * @return The OrchestrationConfig
+         */
+        @Provides
+        @Singleton
+        public OrchestrationConfig provideOrchestrationConfig() {
+            return CONFIG;
+        }
+
+        /**
+         * Provides a publisher backed by the in-memory EventBridge stand-in.
+         *
+         * @return The EventPublisher
+         */
+        @Provides
+        @Singleton
+        public EventPublisher provideEventPublisher() {
+            return new EventBridgeEventPublisher(new InMemoryEventBridgeAsyncClient(), CONFIG.getEventBusName());
+        }
+
+        /**
+         * Provides the validator, checking target dates against the system clock.
+         *
+         * @return The GoalCreationRequestValidator
+         */
+        @Provides
+        @Singleton
+        public GoalCreationRequestValidator provideGoalCreationRequestValidator() {
+            return new GoalCreationRequestValidator(Clock.systemUTC());
+        }
+
+        /**
+         * Provides a guard without a rate limit or circuit breaker, so the
+         * benchmark measures the handler rather than the limit.
+         *
+         * @return The PublishGuard
+         */
+        @Provides
+        @Singleton
+        public PublishGuard providePublishGuard() {
+            return new PublishGuard(null, null, Clock.systemUTC());
+        }
+
+        /**
+         * Provides a recorder that builds the EMF line of each invocation and
+         * then drops it, so the benchmark includes the cost of metrics without
+         * printing them.
+         *
+         * @return The MetricsRecorder
+         */
+        @Provides
+        @Singleton
+        public MetricsRecorder provideMetricsRecorder() {
+            return new EmfMetricsRecorder(CONFIG.getMetricsNamespace(), Map.of("Handler", "Benchmark"),
+                    line -> { }, Clock.systemUTC());
+        }
+    }
+
+    /**
+     * Builds the handler and the requests once per trial.
+     */
+    @Setup
+    public void setUp() {
+        handler = new GoalCreationRequestEventProducerHandler(Guice.createInjector(new BenchmarkModule()));
+        idempotentHandler = new GoalCreationRequestEventProducerHandler(null,
+                new EventBridgeEventPublisher(new InMemoryEventBridgeAsyncClient(), CONFIG.getEventBusName()),
+                CONFIG,
+                new IdempotencyService(null, 1_000, Duration.ofHours(1), Duration.ofSeconds(30),
+                        Clock.systemUTC()));
+        codec = new GoalCreationRequestCodec();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        Map<String, String> pathParameters = Map.of("userId", "benchmark-user", "name", "Zezima");
+        singleRequest = new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withBody(GOAL_BODY);
+
+        StringJoiner bulkBody = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < BULK_SIZE; i++) {
+            bulkBody.add(GOAL_BODY);
+        }
+        bulkRequest = new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withBody(bulkBody.toString());
+
+        event = handler.parseAndValidateInput(singleRequest);
+        idempotentHandler.handleRequest(singleRequest, null);
+    }
+
+    /**
+     * Parses and validates a single goal request.
+     *
+     * @return The parsed event
+     */
+    @Benchmark
+    public GoalCreationRequestEvent parseAndValidateInput() {
+        return handler.parseAndValidateInput(singleRequest);
+    }
+
+    /**
+     * Serializes an event with the streaming codec the handler uses.
+     *
+     * @return The event detail
+     */
+    @Benchmark
+    public String serializeEvent() {
+        return codec.writeEvent(event);
+    }
+
+    /**
+     * Serializes an event through a general-purpose ObjectMapper, as a baseline
+     * for the codec.
+     *
+     * @return The event detail
+     * @throws JsonProcessingException if the event cannot be serialized
+     */
+    @Benchmark
+    public String serializeEventWithObjectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    /**
+     * Builds a success response.
+     *
+     * @return The response
+     */
+    @Benchmark
+    public APIGatewayProxyResponseEvent createSuccessResponse() {
+        return handler.createSuccessResponse("Goal creation request received successfully");
+    }
+
+    /**
+     * Builds an error response.
+     *
+     * @return The response
+     */
+    @Benchmark
+    public APIGatewayProxyResponseEvent createErrorResponse() {
+        return handler.createErrorResponse(HTTP_BAD_REQUEST, "Missing userId in path parameters");
+    }
+
+    /**
+     * Handles a single goal request end to end.
+     *
+     * @return The response
+     */
+    @Benchmark
+    public APIGatewayProxyResponseEvent handleRequest() {
+        return handler.handleRequest(singleRequest, null);
+    }
+
+    /**
+     * Handles a bulk request of 25 goals end to end.
+     *
+     * @return The response
+     */
+    @Benchmark
+    public APIGatewayProxyResponseEvent handleBulkRequest() {
+        return handler.handleRequest(bulkRequest, null);
+    }
+
+    /**
+     * Handles a repeat of a request already handled, which is answered from the
+     * in-container idempotency cache without publishing.
+     *
+     * @return The replayed response
+     */
+    @Benchmark
+    public APIGatewayProxyResponseEvent handleRepeatedRequest() {
+        return idempotentHandler.handleRequest(singleRequest, null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+/**
+ * In-memory stand-in for EventBridge used by the benchmarks.
+ * Every entry is accepted and completes immediately, so a benchmark measures
+ * the handler and publisher rather than the network.
+ */
+public class InMemoryEventBridgeAsyncClient implements EventBridgeAsyncClient {
+
+    private final AtomicLong acceptedEntries = new AtomicLong();
+
+    /**
+     * Accepts every entry of the request.
+     *
+     * @param request The PutEvents request
+     * @return A completed future with one successful result per entry
+     */
+    @Override
+    public CompletableFuture<PutEventsResponse> putEvents(PutEventsRequest request) {
+        List<PutEventsResultEntry> entries = new ArrayList<>(request.entries().size());
+        for (int i = 0; i < request.entries().size(); i++) {
+            entries.add(PutEventsResultEntry.builder()
+                    .eventId(Long.toString(acceptedEntries.incrementAndGet()))
+                    .build());
+        }
+        return CompletableFuture.completedFuture(PutEventsResponse.builder()
+                .failedEntryCount(0)
+                .entries(entries)
+                .build());
+    }
+
+    /**
+     * Describes the requested event bus.
+     *
+     * @param request The DescribeEventBus request
+     * @return A completed future with the event bus name
+     */
+    @Override
+    public CompletableFuture<DescribeEventBusResponse> describeEventBus(DescribeEventBusRequest request) {
+        return CompletableFuture.completedFuture(DescribeEventBusResponse.builder()
+                .name(request.name())
+                .build());
+    }
+
+    /**
+     * Gets the number of entries accepted so far.
+     *
+     * @return The number of accepted entries
+     */
+    public long getAcceptedEntries() {
+        return acceptedEntries.get();
+    }
+
+    /**
+     * Gets the service name.
+     *
+     * @return The service name
+     */
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    /**
+     * Nothing to close.
+     */
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
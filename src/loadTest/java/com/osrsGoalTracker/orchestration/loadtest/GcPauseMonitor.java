@@ -0,0 +1,112 @@
+package com.osrsGoalTracker.orchestration.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Records the stop-the-world collections of the JVM while it is started.
+ * Collectors that run concurrently with the application, such as ZGC cycles
+ * and the G1 concurrent cycle, are left out: their durations are not pauses.
+ */
+public class GcPauseMonitor implements NotificationListener, AutoCloseable {
+
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder totalPauseMillis = new LongAdder();
+    private final LongAccumulator maxPauseMillis = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Starts listening to every pausing collector.
+     */
+    public void start() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter && isPausing(collector.getName())) {
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    /**
+     * Records one collection.
+     *
+     * @param notification The notification
+     * @param handback     Unused
+     */
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from(
+                (CompositeData) notification.getUserData());
+        long millis = info.getGcInfo().getDuration();
+        pauses.increment();
+        totalPauseMillis.add(millis);
+        maxPauseMillis.accumulate(millis);
+    }
+
+    /**
+     * Gets the number of pauses.
+     *
+     * @return The number of pauses
+     */
+    public long pauses() {
+        return pauses.sum();
+    }
+
+    /**
+     * Gets the total time paused.
+     *
+     * @return The time in milliseconds
+     */
+    public long totalPauseMillis() {
+        return totalPauseMillis.sum();
+    }
+
+    /**
+     * Gets the longest pause.
+     *
+     * @return The time in milliseconds
+     */
+    public long maxPauseMillis() {
+        return maxPauseMillis.get();
+    }
+
+    /**
+     * Stops listening.
+     */
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // Already removed.
+            }
+        }
+        emitters.clear();
+    }
+
+    /**
+     * Determines whether a collector stops the application.
+     *
+     * @param name The collector name
+     * @return false for collectors that run concurrently
+     */
+    private static boolean isPausing(String name) {
+        return !name.contains("Concurrent") && !name.endsWith("Cycles");
+    }
+}
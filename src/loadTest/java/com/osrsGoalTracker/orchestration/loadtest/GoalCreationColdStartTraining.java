@@ -0,0 +1,161 @@
+package com.osrsGoalTracker.orchestration.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.osrsGoalTracker.orchestration.handler.GoalCreationRequestEventProducerHandler;
+import com.osrsGoalTracker.orchestration.handler.ServerRequestContext;
+import com.osrsGoalTracker.orchestration.loadtest.RequestMix.LoadRequest;
+
+/**
+ * Training run for the producer handler's slim jar and class-data sharing
+ * archive. It builds the handler the way the Lambda runtime does, from the
+ * environment, answers one goal, and then sends a mix of single, bulk and
+ * invalid requests, so every class the handler loads on its request paths is
+ * loaded once. EventBridge is a LocalEventBridgeServer in a child JVM on the
+ * port of {@code EVENTBRIDGE_ENDPOINT}, so none of the stand-in's classes or
+ * start-up time are counted against the handler.
+ *
+ * The build runs it with {@code -XX:DumpLoadedClassList} over the fat jar to
+ * find the classes to keep and to archive, and again over the fat jar and the
+ * slim jar to compare cold starts. It prints one {@code COLD_START} line and
+ * exits with status 1 if a request fails in a way the handler never fails on
+ * its own, so a slim jar that is missing a class fails the build.
+ */
+public final class GoalCreationColdStartTraining {
+
+    static final String COLD_START_LINE = "COLD_START";
+    private static final String EVENTBRIDGE_ENDPOINT = "EVENTBRIDGE_ENDPOINT";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int TRAINING_REQUESTS = 200;
+    private static final double BULK_RATIO = 0.2;
+    private static final int BULK_SIZE = 10;
+    private static final double INVALID_RATIO = 0.2;
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Not instantiable.
+     */
+    private GoalCreationColdStartTraining() {
+    }
+
+    /**
+     * Runs the training and prints the cold-start timings.
+     *
+     * @param args Unused
+     * @throws Exception if the stand-in cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        long mainStartedMillis = System.currentTimeMillis();
+        String endpoint = System.getenv(EVENTBRIDGE_ENDPOINT);
+        if (endpoint == null || endpoint.isBlank()) {
+            throw new IllegalArgumentException(EVENTBRIDGE_ENDPOINT + " must name a loopback port for the stand-in");
+        }
+        // The SDK signs every call, so it needs credentials even for the stand-in.
+        GoalCreationLoadTest.setIfAbsent("aws.accessKeyId", "cold-start-training");
+        GoalCreationLoadTest.setIfAbsent("aws.secretAccessKey", "cold-start-training");
+
+        Process standIn = startStandIn(URI.create(endpoint.trim()).getPort());
+        int failures;
+        try {
+            long initStartNanos = System.nanoTime();
+            GoalCreationRequestEventProducerHandler handler = new GoalCreationRequestEventProducerHandler();
+            long initNanos = System.nanoTime() - initStartNanos;
+
+            long firstStartNanos = System.nanoTime();
+            APIGatewayProxyResponseEvent first = handler.handleRequest(firstRequest(),
+                    new ServerRequestContext(REQUEST_TIMEOUT));
+            long firstNanos = System.nanoTime() - firstStartNanos;
+
+            failures = first.getStatusCode() == HTTP_OK ? 0 : 1;
+            failures += train(handler);
+            long bootMillis = mainStartedMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+            System.out.printf("%s bootMillis=%d initMillis=%.1f firstRequestMillis=%.1f failures=%d%n",
+                    COLD_START_LINE, bootMillis, initNanos / NANOS_PER_MILLI, firstNanos / NANOS_PER_MILLI, failures);
+        } finally {
+            standIn.destroy();
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * Sends the training mix and counts the requests that threw or were
+     * answered with a server error.
+     *
+     * @param handler The handler
+     * @return The number of failed requests
+     */
+    private static int train(GoalCreationRequestEventProducerHandler handler) {
+        RequestMix mix = new RequestMix(BULK_RATIO, BULK_SIZE, INVALID_RATIO);
+        int failures = 0;
+        for (int i = 0; i < TRAINING_REQUESTS; i++) {
+            LoadRequest request = mix.next();
+            try {
+                APIGatewayProxyResponseEvent response = handler.handleRequest(request.getRequest(),
+                        new ServerRequestContext(REQUEST_TIMEOUT));
+                if (response.getStatusCode() >= HTTP_INTERNAL_ERROR) {
+                    System.err.printf("Training request answered %d: %s%n", response.getStatusCode(),
+                            response.getBody());
+                    failures++;
+                }
+            } catch (RuntimeException | LinkageError e) {
+                System.err.println("Training request threw " + e);
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Builds the first request: one valid goal, with a trace header so the
+     * trace parsing is loaded as well.
+     *
+     * @return The request
+     */
+    private static APIGatewayProxyRequestEvent firstRequest() {
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod("POST")
+                .withPath("/users/cold-start-user/characters/Zezima/goals")
+                .withPathParameters(Map.of("userId", "cold-start-user", "name", "Zezima"))
+                .withHeaders(Map.of(
+                        "Content-Type", "application/json",
+                        "traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"))
+                .withBody("{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":13034431,"
+                        + "\"currentValue\":0,\"targetDate\":\"2099-01-01T00:00:00Z\","
+                        + "\"notificationChannelType\":\"DISCORD\",\"frequency\":\"DAILY\"}");
+    }
+
+    /**
+     * Starts the EventBridge stand-in in a child JVM on the same class path
+     * and waits until it is listening.
+     *
+     * @param port The loopback port
+     * @return The stand-in process
+     * @throws IOException if the process cannot be started or exits before listening
+     */
+    private static Process startStandIn(int port) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                LocalEventBridgeServer.class.getName(), Integer.toString(port))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8));
+        if (output.readLine() == null) {
+            process.destroy();
+            throw new IOException("EventBridge stand-in exited before listening on port " + port);
+        }
+        return process;
+    }
+}
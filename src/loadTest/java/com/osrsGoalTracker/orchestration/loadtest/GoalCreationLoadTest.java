@@ -0,0 +1,354 @@
+package com.osrsGoalTracker.orchestration.loadtest;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.util.Modules;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.di.GoalCreationRequestEventProducerModule;
+import com.osrsGoalTracker.orchestration.handler.GoalCreationRequestEventProducerHandler;
+import com.osrsGoalTracker.orchestration.handler.ServerRequestContext;
+import com.osrsGoalTracker.orchestration.loadtest.RequestMix.LoadRequest;
+import com.osrsGoalTracker.orchestration.service.PublishGuard;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+
+/**
+ * Load test for the GoalCreationRequestEventProducerHandler. It builds the
+ * handler through the production Guice module, pointed at a
+ * LocalEventBridgeServer on a loopback port, and calls {@code handleRequest}
+ * from many virtual threads at once with a mix of single, bulk and invalid
+ * requests. Each thread sends its next request as soon as the previous one is
+ * answered. After a warm-up, it reports throughput, latency percentiles, GC
+ * pauses and the goals the handler accepted that never reached the stand-in.
+ *
+ * All threads share one handler, so the run measures one container taking the
+ * load of many, which is the worst case for the shared publish guard, client
+ * connection pool and idempotency cache. Nothing leaves the machine.
+ *
+ * Run with {@code ./gradlew loadTest -PloadTestArgs="concurrency=500 durationSeconds=60"}.
+ */
+public final class GoalCreationLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String EVENT_BUS_NAME = "load-test-event-bus";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_MULTI_STATUS = 207;
+    private static final int HTTP_MULTIPLE_CHOICES = 300;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final GoalCreationRequestEventProducerHandler handler;
+    private final RequestMix mix;
+    private final LoadTestOptions options;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final Set<Long> acceptedGoals = ConcurrentHashMap.newKeySet();
+    private final LongAdder measuredAcceptedGoals = new LongAdder();
+    private final LongAdder sentGoals = new LongAdder();
+    private final LongAdder handlerExceptions = new LongAdder();
+    private final LongAdder invalidAccepted = new LongAdder();
+
+    /**
+     * Creates a load test.
+     *
+     * @param handler The handler under load
+     * @param mix     The request generator
+     * @param options The run settings
+     */
+    GoalCreationLoadTest(GoalCreationRequestEventProducerHandler handler, RequestMix mix, LoadTestOptions options) {
+        this.handler = handler;
+        this.mix = mix;
+        this.options = options;
+    }
+
+    /**
+     * Runs the load test and exits with status 1 if accepted goals were lost
+     * and failOnLostEvents is set.
+     *
+     * @param args key=value options, see LoadTestOptions
+     * @throws Exception if the stand-in cannot start or the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // The SDK signs every call, so it needs credentials even for the stand-in.
+        setIfAbsent("aws.accessKeyId", "load-test");
+        setIfAbsent("aws.secretAccessKey", "load-test");
+
+        long lostGoals;
+        try (LocalEventBridgeServer server = new LocalEventBridgeServer(options.getLatency(),
+                options.getLatencyJitter(), options.getThrottleRate(), options.getEntryFailureRate());
+                GcPauseMonitor gcPauses = new GcPauseMonitor()) {
+            OrchestrationConfig config = config(server.endpoint());
+            Injector injector = Guice.createInjector(module(config, options.isPublishGuard()));
+            GoalCreationLoadTest loadTest = new GoalCreationLoadTest(
+                    new GoalCreationRequestEventProducerHandler(injector),
+                    new RequestMix(options.getBulkRatio(), options.getBulkSize(), options.getInvalidRatio()),
+                    options);
+
+            loadTest.run(options.getWarmup(), false);
+            gcPauses.start();
+            long startNanos = System.nanoTime();
+            loadTest.run(options.getDuration(), true);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            gcPauses.close();
+
+            // A publish the handler gave up on may still be in flight; let it land before counting.
+            Thread.sleep(config.getTransportApiCallTimeout().toMillis());
+            injector.getInstance(EventBridgeAsyncClient.class).close();
+            lostGoals = loadTest.report(server, gcPauses, elapsedNanos);
+        }
+        System.exit(lostGoals > 0 && options.isFailOnLostEvents() ? 1 : 0);
+    }
+
+    /**
+     * Sends requests from every thread until the time is up.
+     *
+     * @param length   How long to send requests
+     * @param measured Whether latencies and status codes are recorded
+     */
+    void run(Duration length, boolean measured) {
+        long endNanos = System.nanoTime() + length.toNanos();
+        try (ExecutorService drivers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                drivers.execute(() -> drive(endNanos, measured));
+            }
+        }
+    }
+
+    /**
+     * Sends one request after another until the end time.
+     *
+     * @param endNanos The System.nanoTime at which to stop
+     * @param measured Whether latencies and status codes are recorded
+     */
+    private void drive(long endNanos, boolean measured) {
+        while (System.nanoTime() < endNanos) {
+            LoadRequest load = mix.next();
+            long startNanos = System.nanoTime();
+            APIGatewayProxyResponseEvent response;
+            try {
+                response = handler.handleRequest(load.getRequest(),
+                        new ServerRequestContext(options.getRequestTimeout()));
+            } catch (RuntimeException e) {
+                handlerExceptions.increment();
+                continue;
+            }
+            long latencyNanos = System.nanoTime() - startNanos;
+            int accepted = account(load, response);
+            if (measured) {
+                latencies.record(latencyNanos);
+                statusCodes.computeIfAbsent(response.getStatusCode(), ignored -> new LongAdder()).increment();
+                measuredAcceptedGoals.add(accepted);
+            }
+        }
+    }
+
+    /**
+     * Records which goals of a request the handler reported as accepted.
+     *
+     * @param load     The request
+     * @param response The handler's response
+     * @return The number of goals accepted
+     */
+    private int account(LoadRequest load, APIGatewayProxyResponseEvent response) {
+        int status = response.getStatusCode();
+        if (!load.isValid()) {
+            if (status < HTTP_MULTIPLE_CHOICES) {
+                invalidAccepted.increment();
+            }
+            return 0;
+        }
+
+        List<Long> sequences = load.getSequences();
+        sentGoals.add(sequences.stream().filter(Objects::nonNull).count());
+        if (!load.isBulk()) {
+            if (status != HTTP_OK) {
+                return 0;
+            }
+            acceptedGoals.add(sequences.get(0));
+            return 1;
+        }
+        if (status != HTTP_OK && status != HTTP_MULTI_STATUS) {
+            return 0;
+        }
+
+        int accepted = 0;
+        try {
+            for (JsonNode result : OBJECT_MAPPER.readTree(response.getBody()).path("results")) {
+                if (!"ACCEPTED".equals(result.path("status").asText())) {
+                    continue;
+                }
+                Long sequence = sequences.get(result.path("index").asInt());
+                if (sequence == null) {
+                    invalidAccepted.increment();
+                } else {
+                    acceptedGoals.add(sequence);
+                    accepted++;
+                }
+            }
+        } catch (Exception e) {
+            handlerExceptions.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * Prints the results of the run.
+     *
+     * @param server       The stand-in the goals were published to
+     * @param gcPauses     The GC pauses during the measured part of the run
+     * @param elapsedNanos The length of the measured part of the run
+     * @return The number of accepted goals that never reached the stand-in
+     */
+    long report(LocalEventBridgeServer server, GcPauseMonitor gcPauses, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long lostGoals = acceptedGoals.stream().filter(sequence -> !server.wasDelivered(sequence)).count();
+        long unacknowledgedGoals = server.deliveredGoals() - (acceptedGoals.size() - lostGoals);
+
+        StringJoiner codes = new StringJoiner(" ");
+        new TreeMap<>(statusCodes).forEach((code, count) -> codes.add(code + "=" + count.sum()));
+
+        System.out.printf("Load test: concurrency=%d warmup=%ds duration=%ds bulkRatio=%.2f bulkSize=%d "
+                        + "invalidRatio=%.2f publishGuard=%b%n",
+                options.getConcurrency(), options.getWarmup().toSeconds(), options.getDuration().toSeconds(),
+                options.getBulkRatio(), options.getBulkSize(), options.getInvalidRatio(), options.isPublishGuard());
+        System.out.printf("Stand-in:  latency=%dms+%dms throttleRate=%.3f entryFailureRate=%.3f%n",
+                options.getLatency().toMillis(), options.getLatencyJitter().toMillis(), options.getThrottleRate(),
+                options.getEntryFailureRate());
+        System.out.println();
+        System.out.printf("Requests          %d (%.1f/s)%n", latencies.count(), latencies.count() / seconds);
+        System.out.printf("Status codes      %s%n", codes);
+        System.out.printf("Latency (ms)      p50=%.2f p99=%.2f p999=%.2f max=%.2f%n",
+                latencies.percentile(0.50) / NANOS_PER_MILLI, latencies.percentile(0.99) / NANOS_PER_MILLI,
+                latencies.percentile(0.999) / NANOS_PER_MILLI, latencies.max() / NANOS_PER_MILLI);
+        System.out.printf("GC pauses         count=%d total=%dms max=%dms%n",
+                gcPauses.pauses(), gcPauses.totalPauseMillis(), gcPauses.maxPauseMillis());
+        System.out.printf("Goals accepted    %d (%.1f/s measured)%n", acceptedGoals.size(),
+                measuredAcceptedGoals.sum() / seconds);
+        System.out.printf("Goals sent        %d valid, %d delivered to the stand-in%n", sentGoals.sum(),
+                server.deliveredGoals());
+        System.out.printf("Lost events       %d accepted but never delivered%n", lostGoals);
+        System.out.printf("Unacknowledged    %d delivered but not reported as accepted%n", unacknowledgedGoals);
+        System.out.printf("Duplicates        %d entries delivered more than once%n", server.duplicateEntries());
+        System.out.printf("PutEvents         calls=%d throttled=%d failedEntries=%d%n", server.putEventsCalls(),
+                server.throttledCalls(), server.failedEntries());
+        System.out.printf("Harness errors    handlerExceptions=%d invalidAccepted=%d%n", handlerExceptions.sum(),
+                invalidAccepted.sum());
+        return lostGoals;
+    }
+
+    /**
+     * Builds the handler configuration: production defaults, pointed at the
+     * stand-in, with metrics and payload sampling off so the console shows
+     * only the report.
+     *
+     * @param endpoint The stand-in endpoint
+     * @return The configuration
+     */
+    static OrchestrationConfig config(URI endpoint) {
+        return OrchestrationConfig.builder()
+                .eventBusName(EVENT_BUS_NAME)
+                .detailType("GoalCreationRequest")
+                .region("us-east-1")
+                .eventBridgeEndpoint(endpoint)
+                .payloadSampleRate(0.0)
+                .metricsEnabled(false)
+                .build();
+    }
+
+    /**
+     * Builds the Guice module: the production module with its configuration
+     * replaced and, if asked, its publish guard replaced by one without a rate
+     * limit or circuit breaker.
+     *
+     * @param config       The configuration
+     * @param publishGuard Whether to keep the production publish guard
+     * @return The module
+     */
+    static Module module(OrchestrationConfig config, boolean publishGuard) {
+        Module overrides = new ConfigModule(config);
+        if (!publishGuard) {
+            overrides = Modules.combine(overrides, new UnguardedModule());
+        }
+        return Modules.override(new GoalCreationRequestEventProducerModule()).with(overrides);
+    }
+
+    /**
+     * Sets a system property unless it is already set.
+     *
+     * @param name  The property name
+     * @param value The property value
+     */
+    static void setIfAbsent(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    /**
+     * Module that provides the load-test configuration in place of the
+     * environment.
+     */
+    static class ConfigModule extends AbstractModule {
+
+        private final OrchestrationConfig config;
+
+        /**
+         * Creates the module.
+         *
+         * @param config The configuration
+         */
+        ConfigModule(OrchestrationConfig config) {
+            this.config = config;
+        }
+
+        /**
+         * Provides the load-test configuration.
+         *
+         * @return The OrchestrationConfig
+         */
+        @Provides
+        @Singleton
+        public OrchestrationConfig provideOrchestrationConfig() {
+            return config;
+        }
+    }
+
+    /**
+     * Module that provides a publish guard without a rate limit or circuit
+     * breaker, so the run measures how far the handler and the stand-in go.
+     */
+    static class UnguardedModule extends AbstractModule {
+
+        /**
+         * Provides a guard that lets every publish through.
+         *
+         * @return The PublishGuard
+         */
+        @Provides
+        @Singleton
+        public PublishGuard providePublishGuard() {
+            return new PublishGuard(null, null, Clock.systemUTC());
+        }
+    }
+}
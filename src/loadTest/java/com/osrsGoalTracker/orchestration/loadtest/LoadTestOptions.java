@@ -0,0 +1,199 @@
+package com.osrsGoalTracker.orchestration.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings of one load-test run, read from key=value arguments such as
+ * {@code concurrency=500 durationSeconds=60 throttleRate=0.05}. Every setting
+ * has a default, so a run without arguments is a short smoke test.
+ */
+@Value
+@Builder
+public class LoadTestOptions {
+
+    /** The number of virtual threads calling the handler at once. */
+    @Builder.Default
+    int concurrency = 200;
+
+    /** How long requests are sent before the measurement starts. */
+    @Builder.Default
+    Duration warmup = Duration.ofSeconds(5);
+
+    /** How long requests are sent and measured. */
+    @Builder.Default
+    Duration duration = Duration.ofSeconds(30);
+
+    /** The Lambda timeout each request is handled under. */
+    @Builder.Default
+    Duration requestTimeout = Duration.ofSeconds(10);
+
+    /** The fraction of requests that are bulk requests. */
+    @Builder.Default
+    double bulkRatio = 0.1;
+
+    /** The number of goals in a bulk request. */
+    @Builder.Default
+    int bulkSize = 10;
+
+    /** The fraction of requests, and of goals within a bulk request, that are invalid. */
+    @Builder.Default
+    double invalidRatio = 0.2;
+
+    /** The time the stand-in takes to answer every PutEvents call. */
+    @Builder.Default
+    Duration latency = Duration.ofMillis(20);
+
+    /** The upper bound of the random time added to the latency of each call. */
+    @Builder.Default
+    Duration latencyJitter = Duration.ofMillis(10);
+
+    /** The fraction of PutEvents calls the stand-in answers with a ThrottlingException. */
+    @Builder.Default
+    double throttleRate = 0.0;
+
+    /** The fraction of entries the stand-in fails with an InternalFailure. */
+    @Builder.Default
+    double entryFailureRate = 0.0;
+
+    /** Whether the handler publishes through its adaptive rate limit and circuit breaker. */
+    @Builder.Default
+    boolean publishGuard = true;
+
+    /** Whether the run exits with status 1 when an accepted goal never reached the stand-in. */
+    @Builder.Default
+    boolean failOnLostEvents = true;
+
+    /**
+     * Reads the options from key=value arguments.
+     *
+     * @param args The arguments
+     * @return The options
+     * @throws IllegalArgumentException if an argument is unknown, malformed or out of range
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+
+        LoadTestOptions defaults = LoadTestOptions.builder().build();
+        LoadTestOptions options = LoadTestOptions.builder()
+                .concurrency(integer(values.remove("concurrency"), defaults.concurrency, 1, 100_000))
+                .warmup(seconds(values.remove("warmupSeconds"), defaults.warmup))
+                .duration(seconds(values.remove("durationSeconds"), defaults.duration))
+                .requestTimeout(seconds(values.remove("requestTimeoutSeconds"), defaults.requestTimeout))
+                .bulkRatio(fraction(values.remove("bulkRatio"), defaults.bulkRatio))
+                .bulkSize(integer(values.remove("bulkSize"), defaults.bulkSize, 1, 1_000))
+                .invalidRatio(fraction(values.remove("invalidRatio"), defaults.invalidRatio))
+                .latency(millis(values.remove("latencyMillis"), defaults.latency))
+                .latencyJitter(millis(values.remove("latencyJitterMillis"), defaults.latencyJitter))
+                .throttleRate(fraction(values.remove("throttleRate"), defaults.throttleRate))
+                .entryFailureRate(fraction(values.remove("entryFailureRate"), defaults.entryFailureRate))
+                .publishGuard(bool(values.remove("publishGuard"), defaults.publishGuard))
+                .failOnLostEvents(bool(values.remove("failOnLostEvents"), defaults.failOnLostEvents))
+                .build();
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    /**
+     * Reads an integer option.
+     *
+     * @param value        The raw value, or null when not given
+     * @param defaultValue The value used when not given
+     * @param min          The smallest allowed value
+     * @param max          The largest allowed value
+     * @return The value
+     * @throws IllegalArgumentException if the value is not an integer in range
+     */
+    private static int integer(String value, int defaultValue, int min, int max) {
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected an integer, got " + value, e);
+        }
+        if (parsed < min || parsed > max) {
+            throw new IllegalArgumentException("Expected a value between " + min + " and " + max + ", got " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * Reads a fraction option.
+     *
+     * @param value        The raw value, or null when not given
+     * @param defaultValue The value used when not given
+     * @return The value
+     * @throws IllegalArgumentException if the value is not a number between 0 and 1
+     */
+    private static double fraction(String value, double defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a fraction, got " + value, e);
+        }
+        if (!(parsed >= 0.0 && parsed <= 1.0)) {
+            throw new IllegalArgumentException("Expected a fraction between 0 and 1, got " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * Reads a duration option given in seconds.
+     *
+     * @param value        The raw value, or null when not given
+     * @param defaultValue The value used when not given
+     * @return The duration
+     */
+    private static Duration seconds(String value, Duration defaultValue) {
+        return value == null ? defaultValue : Duration.ofSeconds(integer(value, 0, 0, 86_400));
+    }
+
+    /**
+     * Reads a duration option given in milliseconds.
+     *
+     * @param value        The raw value, or null when not given
+     * @param defaultValue The value used when not given
+     * @return The duration
+     */
+    private static Duration millis(String value, Duration defaultValue) {
+        return value == null ? defaultValue : Duration.ofMillis(integer(value, 0, 0, 600_000));
+    }
+
+    /**
+     * Reads a boolean option.
+     *
+     * @param value        The raw value, or null when not given
+     * @param defaultValue The value used when not given
+     * @return The value
+     * @throws IllegalArgumentException if the value is neither true nor false
+     */
+    private static boolean bool(String value, boolean defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("Expected true or false, got " + value);
+        }
+        return Boolean.parseBoolean(value);
+    }
+}
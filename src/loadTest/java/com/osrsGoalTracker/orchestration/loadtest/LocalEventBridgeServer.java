@@ -0,0 +1,333 @@
+package com.osrsGoalTracker.orchestration.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local HTTP stand-in for the EventBridge API, speaking the AWS JSON 1.1
+ * protocol the SDK uses. It answers PutEvents and DescribeEventBus, which is
+ * all the producer handler calls, on a loopback port with one virtual thread
+ * per exchange.
+ *
+ * Faults are injected per call: every call waits for the latency plus a random
+ * jitter, a fraction of calls are answered with a ThrottlingException, and a
+ * fraction of the entries in the remaining calls are failed with an
+ * InternalFailure. Every entry that is accepted is recorded by the
+ * {@code currentValue} of its detail, which the load test makes unique per
+ * goal, so the run can tell goals that never arrived from goals that arrived
+ * twice.
+ */
+public class LocalEventBridgeServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String TARGET_HEADER = "X-Amz-Target";
+    private static final String PUT_EVENTS = "AWSEvents.PutEvents";
+    private static final String DESCRIBE_EVENT_BUS = "AWSEvents.DescribeEventBus";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double throttleRate;
+    private final double entryFailureRate;
+    private final Set<Long> delivered = ConcurrentHashMap.newKeySet();
+    private final AtomicLong putEventsCalls = new AtomicLong();
+    private final AtomicLong throttledCalls = new AtomicLong();
+    private final AtomicLong acceptedEntries = new AtomicLong();
+    private final AtomicLong failedEntries = new AtomicLong();
+    private final AtomicLong duplicateEntries = new AtomicLong();
+
+    /**
+     * Starts a stand-in on a free loopback port.
+     *
+     * @param latency          The time every call takes
+     * @param latencyJitter    The upper bound of the random time added to each call
+     * @param throttleRate     The fraction of PutEvents calls that are throttled
+     * @param entryFailureRate The fraction of entries that fail
+     * @throws IOException if the port cannot be bound
+     */
+    public LocalEventBridgeServer(Duration latency, Duration latencyJitter, double throttleRate,
+            double entryFailureRate) throws IOException {
+        this(0, latency, latencyJitter, throttleRate, entryFailureRate);
+    }
+
+    /**
+     * Starts a stand-in on the given loopback port, for a handler that reads
+     * its endpoint from the environment.
+     *
+     * @param port             The port, or 0 for a free one
+     * @param latency          The time every call takes
+     * @param latencyJitter    The upper bound of the random time added to each call
+     * @param throttleRate     The fraction of PutEvents calls that are throttled
+     * @param entryFailureRate The fraction of entries that fail
+     * @throws IOException if the port cannot be bound
+     */
+    public LocalEventBridgeServer(int port, Duration latency, Duration latencyJitter, double throttleRate,
+            double entryFailureRate) throws IOException {
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.throttleRate = throttleRate;
+        this.entryFailureRate = entryFailureRate;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * Runs a stand-in in its own JVM, without latency or faults, until
+     * standard input is closed. It prints its endpoint once it is listening.
+     *
+     * @param args The loopback port to listen on
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        try (LocalEventBridgeServer server = new LocalEventBridgeServer(Integer.parseInt(args[0]), Duration.ZERO,
+                Duration.ZERO, 0.0, 0.0)) {
+            System.out.println(server.endpoint());
+            System.out.flush();
+            System.in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Gets the endpoint to point the EventBridge client at.
+     *
+     * @return The endpoint
+     */
+    public URI endpoint() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    /**
+     * Determines whether the goal with the given sequence number was accepted.
+     *
+     * @param sequence The sequence number the goal was sent with as its currentValue
+     * @return true if an entry for the goal was accepted
+     */
+    public boolean wasDelivered(long sequence) {
+        return delivered.contains(sequence);
+    }
+
+    /**
+     * Gets the number of distinct goals accepted.
+     *
+     * @return The number of distinct goals
+     */
+    public long deliveredGoals() {
+        return delivered.size();
+    }
+
+    /**
+     * Gets the number of PutEvents calls received.
+     *
+     * @return The number of calls
+     */
+    public long putEventsCalls() {
+        return putEventsCalls.get();
+    }
+
+    /**
+     * Gets the number of PutEvents calls answered with a ThrottlingException.
+     *
+     * @return The number of throttled calls
+     */
+    public long throttledCalls() {
+        return throttledCalls.get();
+    }
+
+    /**
+     * Gets the number of entries accepted, counting repeats.
+     *
+     * @return The number of accepted entries
+     */
+    public long acceptedEntries() {
+        return acceptedEntries.get();
+    }
+
+    /**
+     * Gets the number of entries failed on purpose.
+     *
+     * @return The number of failed entries
+     */
+    public long failedEntries() {
+        return failedEntries.get();
+    }
+
+    /**
+     * Gets the number of accepted entries for goals that had already been accepted.
+     *
+     * @return The number of duplicate entries
+     */
+    public long duplicateEntries() {
+        return duplicateEntries.get();
+    }
+
+    /**
+     * Stops the stand-in.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    /**
+     * Answers one exchange.
+     *
+     * @param exchange The HTTP exchange
+     * @throws IOException if the exchange cannot be read or written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            delay();
+            String target = exchange.getRequestHeaders().getFirst(TARGET_HEADER);
+            if (PUT_EVENTS.equals(target)) {
+                putEvents(exchange, OBJECT_MAPPER.readTree(body));
+            } else if (DESCRIBE_EVENT_BUS.equals(target)) {
+                JsonNode request = OBJECT_MAPPER.readTree(body);
+                String name = request.path("Name").asText("default");
+                respond(exchange, HTTP_OK, "{\"Name\":\"" + name + "\",\"Arn\":\"arn:aws:events:us-east-1:000000000000:"
+                        + "event-bus/" + name + "\"}");
+            } else {
+                error(exchange, "UnknownOperationException", "Unsupported operation " + target);
+            }
+        }
+    }
+
+    /**
+     * Answers a PutEvents call, throttling it or failing some of its entries.
+     *
+     * @param exchange The HTTP exchange
+     * @param request  The PutEvents request
+     * @throws IOException if the response cannot be written
+     */
+    private void putEvents(HttpExchange exchange, JsonNode request) throws IOException {
+        putEventsCalls.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < throttleRate) {
+            throttledCalls.incrementAndGet();
+            error(exchange, "ThrottlingException", "Rate exceeded");
+            return;
+        }
+
+        StringWriter response = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(response)) {
+            int failed = 0;
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("Entries");
+            for (JsonNode entry : request.path("Entries")) {
+                generator.writeStartObject();
+                if (random.nextDouble() < entryFailureRate) {
+                    failed++;
+                    generator.writeStringField("ErrorCode", "InternalFailure");
+                    generator.writeStringField("ErrorMessage", "Injected failure");
+                } else {
+                    accept(entry);
+                    generator.writeStringField("EventId", UUID.randomUUID().toString());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("FailedEntryCount", failed);
+            generator.writeEndObject();
+            failedEntries.addAndGet(failed);
+        }
+        respond(exchange, HTTP_OK, response.toString());
+    }
+
+    /**
+     * Records an accepted entry by the sequence number in its detail.
+     *
+     * @param entry The PutEvents request entry
+     * @throws IOException if the detail is not JSON
+     */
+    private void accept(JsonNode entry) throws IOException {
+        acceptedEntries.incrementAndGet();
+        JsonNode detail = OBJECT_MAPPER.readTree(entry.path("Detail").asText("{}"));
+        JsonNode sequence = detail.get("currentValue");
+        if (sequence != null && !delivered.add(sequence.asLong())) {
+            duplicateEntries.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for the configured latency plus jitter.
+     */
+    private void delay() {
+        long millis = latency.toMillis();
+        if (latencyJitter.toMillis() > 0) {
+            millis += ThreadLocalRandom.current().nextLong(latencyJitter.toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes an AWS JSON error response. The SDK reads the error code from the
+     * {@code __type} field.
+     *
+     * @param exchange The HTTP exchange
+     * @param code     The error code
+     * @param message  The error message
+     * @throws IOException if the response cannot be written
+     */
+    private static void error(HttpExchange exchange, String code, String message) throws IOException {
+        exchange.getResponseHeaders().add("x-amzn-ErrorType", code);
+        respond(exchange, HTTP_BAD_REQUEST, "{\"__type\":\"" + code + "\",\"message\":\"" + message + "\"}");
+    }
+
+    /**
+     * Writes a JSON response.
+     *
+     * @param exchange The HTTP exchange
+     * @param status   The HTTP status
+     * @param body     The response body
+     * @throws IOException if the response cannot be written
+     */
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().add("x-amzn-RequestId", UUID.randomUUID().toString());
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.osrsGoalTracker.orchestration.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+
+import lombok.Value;
+
+/**
+ * Generates the API Gateway requests of a load test: single goals, bulk
+ * requests and, at the configured ratio, requests the handler must reject.
+ *
+ * Every valid goal carries a sequence number as its {@code currentValue}, with
+ * a target far above it, so each goal is distinct, is never answered from the
+ * idempotency cache, and can be found again in the stand-in by its sequence.
+ */
+public class RequestMix {
+
+    private static final String[] SKILLS = {
+        "ATTACK", "STRENGTH", "DEFENCE", "RANGED", "MAGIC", "WOODCUTTING", "FISHING", "MINING", "SLAYER", "AGILITY"};
+    private static final String[] CHANNELS = {"DISCORD", "SMS", "EMAIL"};
+    private static final String[] FREQUENCIES = {"DAILY", "WEEKLY", "MONTHLY"};
+    private static final long TARGET_VALUE = 200_000_000L;
+    private static final String[] INVALID_GOALS = {
+        // Not JSON.
+        "{\"targetAttribute\":\"WOODCUTTING\",",
+        // Not an OSRS skill or activity.
+        goal("CONSTRUCTING", "SKILL", 99, 0, "DISCORD", "DAILY"),
+        // Current value above the target.
+        goal("FISHING", "SKILL", 1_000, 5_000, "EMAIL", "WEEKLY"),
+        // Target above the XP cap.
+        goal("MINING", "SKILL", TARGET_VALUE + 1, 0, "SMS", "DAILY"),
+        // Unknown notification channel.
+        goal("MAGIC", "SKILL", 13_034_431, 0, "CARRIER_PIGEON", "DAILY"),
+        // Target date in the past.
+        "{\"targetAttribute\":\"AGILITY\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":0,"
+                + "\"targetDate\":\"2001-01-01T00:00:00Z\",\"notificationChannelType\":\"DISCORD\","
+                + "\"frequency\":\"DAILY\"}"};
+
+    private final double bulkRatio;
+    private final int bulkSize;
+    private final double invalidRatio;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a request mix.
+     *
+     * @param bulkRatio    The fraction of requests that are bulk requests
+     * @param bulkSize     The number of goals in a bulk request
+     * @param invalidRatio The fraction of requests, and of goals within a bulk request, that are invalid
+     */
+    public RequestMix(double bulkRatio, int bulkSize, double invalidRatio) {
+        this.bulkRatio = bulkRatio;
+        this.bulkSize = bulkSize;
+        this.invalidRatio = invalidRatio;
+    }
+
+    /**
+     * Generates the next request.
+     *
+     * @return The request and the sequence numbers of its valid goals
+     */
+    public LoadRequest next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String userId = "load-user-" + random.nextInt(10_000);
+        if (random.nextDouble() < bulkRatio) {
+            return bulk(random, userId);
+        }
+        if (random.nextDouble() < invalidRatio) {
+            return invalid(random, userId);
+        }
+        long goalSequence = sequence.incrementAndGet();
+        return new LoadRequest(request(userId, validGoal(random, goalSequence)), false, true,
+                List.of(goalSequence));
+    }
+
+    /**
+     * Generates a bulk request in which each goal is invalid at the invalid ratio.
+     *
+     * @param random The random source
+     * @param userId The user the goals are for
+     * @return The request
+     */
+    private LoadRequest bulk(ThreadLocalRandom random, String userId) {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        List<Long> sequences = new ArrayList<>(bulkSize);
+        for (int i = 0; i < bulkSize; i++) {
+            if (random.nextDouble() < invalidRatio) {
+                body.add(INVALID_GOALS[1 + random.nextInt(INVALID_GOALS.length - 1)]);
+                sequences.add(null);
+            } else {
+                long goalSequence = sequence.incrementAndGet();
+                body.add(validGoal(random, goalSequence));
+                sequences.add(goalSequence);
+            }
+        }
+        return new LoadRequest(request(userId, body.toString()), true, true, Collections.unmodifiableList(sequences));
+    }
+
+    /**
+     * Generates a request the handler must reject as a whole.
+     *
+     * @param random The random source
+     * @param userId The user the goal is for
+     * @return The request
+     */
+    private LoadRequest invalid(ThreadLocalRandom random, String userId) {
+        int choice = random.nextInt(INVALID_GOALS.length + 2);
+        APIGatewayProxyRequestEvent request;
+        if (choice == INVALID_GOALS.length) {
+            request = new APIGatewayProxyRequestEvent()
+                    .withPathParameters(Map.of("name", "Zezima"))
+                    .withBody(validGoal(random, 0));
+        } else if (choice == INVALID_GOALS.length + 1) {
+            request = request(userId, "");
+        } else {
+            request = request(userId, INVALID_GOALS[choice]);
+        }
+        return new LoadRequest(request, false, false, List.of());
+    }
+
+    /**
+     * Builds a request for the given user and body.
+     *
+     * @param userId The user ID path parameter
+     * @param body   The request body
+     * @return The request
+     */
+    private static APIGatewayProxyRequestEvent request(String userId, String body) {
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod("POST")
+                .withPath("/users/" + userId + "/characters/Zezima/goals")
+                .withPathParameters(Map.of("userId", userId, "name", "Zezima"))
+                .withHeaders(Map.of("Content-Type", "application/json"))
+                .withBody(body);
+    }
+
+    /**
+     * Builds a valid goal whose current value is its sequence number.
+     *
+     * @param random        The random source
+     * @param goalSequence  The sequence number
+     * @return The goal JSON
+     */
+    private static String validGoal(ThreadLocalRandom random, long goalSequence) {
+        return goal(SKILLS[random.nextInt(SKILLS.length)], "SKILL", TARGET_VALUE, goalSequence,
+                CHANNELS[random.nextInt(CHANNELS.length)], FREQUENCIES[random.nextInt(FREQUENCIES.length)]);
+    }
+
+    /**
+     * Builds a goal body.
+     *
+     * @param attribute   The target attribute
+     * @param type        The target type
+     * @param target      The target value
+     * @param current     The current value
+     * @param channel     The notification channel
+     * @param frequency   The notification frequency
+     * @return The goal JSON
+     */
+    private static String goal(String attribute, String type, long target, long current, String channel,
+            String frequency) {
+        return "{\"targetAttribute\":\"" + attribute + "\",\"targetType\":\"" + type + "\",\"targetValue\":" + target
+                + ",\"currentValue\":" + current + ",\"targetDate\":\"2099-01-01T00:00:00Z\","
+                + "\"notificationChannelType\":\"" + channel + "\",\"frequency\":\"" + frequency + "\"}";
+    }
+
+    /**
+     * One generated request.
+     */
+    @Value
+    public static class LoadRequest {
+        /** The request. */
+        APIGatewayProxyRequestEvent request;
+
+        /** Whether the request is a bulk request. */
+        boolean bulk;
+
+        /** Whether the request as a whole is valid. */
+        boolean valid;
+
+        /** The sequence numbers of the goals in request order, null for an invalid goal. */
+        List<Long> sequences;
+    }
+}
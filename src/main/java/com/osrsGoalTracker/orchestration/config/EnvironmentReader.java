@@ -0,0 +1,208 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads typed values from the environment and collects every problem, so a
+ * bad deploy reports all of its mistakes at once.
+ */
+final class EnvironmentReader {
+    private final Function<String, String> environment;
+    private final List<String> problems = new ArrayList<>();
+
+    /**
+     * Creates a reader over the given environment.
+     *
+     * @param environment Looks up an environment variable by name
+     */
+    EnvironmentReader(Function<String, String> environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Reads a required string.
+     *
+     * @param name The variable name
+     * @return The trimmed value, or null if missing
+     */
+    String required(String name) {
+        String value = string(name, null);
+        if (value == null) {
+            problem(name + " is required");
+        }
+        return value;
+    }
+
+    /**
+     * Reads an optional string.
+     *
+     * @param name         The variable name
+     * @param defaultValue The value used when the variable is unset or blank
+     * @return The trimmed value, or the default
+     */
+    String string(String name, String defaultValue) {
+        String value = environment.apply(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    /**
+     * Reads an integer within bounds.
+     *
+     * @param name         The variable name
+     * @param defaultValue The value used when the variable is unset
+     * @param min          The smallest allowed value
+     * @param max          The largest allowed value
+     * @return The value, or the default if unset or invalid
+     */
+    int integer(String name, int defaultValue, int min, int max) {
+        String value = string(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                problem(name + " must be between " + min + " and " + max + ", got " + parsed);
+                return defaultValue;
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            problem(name + " must be an integer, got '" + value + "'");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a non-negative duration in milliseconds.
+     *
+     * @param name          The variable name
+     * @param defaultMillis The value used when the variable is unset
+     * @return The duration, or the default if unset or invalid
+     */
+    Duration millis(String name, int defaultMillis) {
+        return Duration.ofMillis(integer(name, defaultMillis, 0, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads a number between 0 and 1.
+     *
+     * @param name         The variable name
+     * @param defaultValue The value used when the variable is unset
+     * @return The value, or the default if unset or invalid
+     */
+    double fraction(String name, double defaultValue) {
+        String value = string(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double parsed = Double.parseDouble(value);
+            if (!(parsed >= 0.0 && parsed <= 1.0)) {
+                problem(name + " must be between 0 and 1, got " + value);
+                return defaultValue;
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            problem(name + " must be a number, got '" + value + "'");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a boolean written as true or false.
+     *
+     * @param name         The variable name
+     * @param defaultValue The value used when the variable is unset
+     * @return The value, or the default if unset or invalid
+     */
+    boolean bool(String name, boolean defaultValue) {
+        String value = string(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        problem(name + " must be true or false, got '" + value + "'");
+        return defaultValue;
+    }
+
+    /**
+     * Reads an optional absolute URI.
+     *
+     * @param name The variable name
+     * @return The URI, or null if unset or invalid
+     */
+    URI uri(String name) {
+        String value = string(name, null);
+        if (value == null) {
+            return null;
+        }
+        try {
+            URI parsed = new URI(value);
+            if (!parsed.isAbsolute()) {
+                problem(name + " must be an absolute URI, got '" + value + "'");
+                return null;
+            }
+            return parsed;
+        } catch (URISyntaxException e) {
+            problem(name + " must be a URI, got '" + value + "'");
+            return null;
+        }
+    }
+
+    /**
+     * Reads an enum constant by name, ignoring case.
+     *
+     * @param <E>          The enum type
+     * @param name         The variable name
+     * @param type         The enum class
+     * @param defaultValue The value used when the variable is unset
+     * @return The constant, or the default if unset or invalid
+     */
+    <E extends Enum<E>> E enumeration(String name, Class<E> type, E defaultValue) {
+        String value = string(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        problem(name + " must be one of " + Arrays.toString(type.getEnumConstants()) + ", got '" + value + "'");
+        return defaultValue;
+    }
+
+    /**
+     * Records a problem.
+     *
+     * @param problem The description of the problem
+     */
+    void problem(String problem) {
+        problems.add(problem);
+    }
+
+    /**
+     * Throws if any problem was recorded.
+     *
+     * @throws IllegalStateException listing every problem
+     */
+    void failOnProblems() {
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration: " + String.join("; ", problems));
+        }
+    }
+}
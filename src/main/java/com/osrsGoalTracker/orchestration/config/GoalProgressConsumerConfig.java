@@ -0,0 +1,142 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.orchestration.model.ProgressCoalescing;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable configuration for the GoalProgressUpdateEvent consumer.
+ * Like OrchestrationConfig, it is read and validated once, when the handler is
+ * created.
+ */
+@Value
+@Builder(toBuilder = true)
+public class GoalProgressConsumerConfig {
+
+    static final String GOAL_PROGRESS_TABLE_NAME = "GOAL_PROGRESS_TABLE_NAME";
+    static final String AWS_REGION = "AWS_REGION";
+    static final String DYNAMODB_ENDPOINT = "DYNAMODB_ENDPOINT";
+    static final String PROGRESS_COALESCING = "PROGRESS_COALESCING";
+    static final String PROGRESS_WRITE_PARALLELISM = "PROGRESS_WRITE_PARALLELISM";
+    static final String PROGRESS_WRITE_MAX_ATTEMPTS = "PROGRESS_WRITE_MAX_ATTEMPTS";
+    static final String PROGRESS_WRITE_RETRY_BASE_DELAY_MS = "PROGRESS_WRITE_RETRY_BASE_DELAY_MS";
+    static final String PROGRESS_WRITE_RETRY_MAX_DELAY_MS = "PROGRESS_WRITE_RETRY_MAX_DELAY_MS";
+    static final String METRICS_ENABLED = "METRICS_ENABLED";
+    static final String METRICS_NAMESPACE = "METRICS_NAMESPACE";
+    static final String PROJECTION_ENABLED = "PROJECTION_ENABLED";
+    static final String PROJECTION_HALF_LIFE_HOURS = "PROJECTION_HALF_LIFE_HOURS";
+    static final String PROJECTION_MIN_OBSERVATIONS = "PROJECTION_MIN_OBSERVATIONS";
+    static final String EVENT_BUS_NAME = "EVENT_BUS_NAME";
+    static final String GOAL_AT_RISK_EVENT_DETAIL_TYPE = "GOAL_AT_RISK_EVENT_DETAIL_TYPE";
+    static final String EVENT_SOURCE = "EVENT_SOURCE";
+
+    private static final String DEFAULT_METRICS_NAMESPACE = "OsrsGoalTracker/Orchestration";
+    private static final String DEFAULT_AT_RISK_DETAIL_TYPE = "GoalAtRiskEvent";
+    private static final String DEFAULT_EVENT_SOURCE = "com.osrsGoalTracker.orchestration";
+    private static final int DEFAULT_HALF_LIFE_HOURS = 168;
+
+    /** The DynamoDB table holding the latest progress of each goal. */
+    String goalProgressTableName;
+
+    /** The AWS region, or null to use the SDK's default lookup. */
+    String region;
+
+    /** An endpoint override for DynamoDB, such as DynamoDB Local, or null for the regional endpoint. */
+    URI dynamoDbEndpoint;
+
+    /** How updates for the same goal within a batch are reduced to one. */
+    @Builder.Default
+    ProgressCoalescing coalescing = ProgressCoalescing.MAX;
+
+    /** The number of BatchWriteItem calls in flight at once. */
+    @Builder.Default
+    int writeParallelism = 4;
+
+    /** The maximum number of attempts per write, including the first. */
+    @Builder.Default
+    int writeMaxAttempts = 4;
+
+    /** The backoff ceiling for the first retry of unprocessed items. */
+    @Builder.Default
+    Duration writeRetryBaseDelay = Duration.ofMillis(50);
+
+    /** The upper bound for any retry delay. */
+    @Builder.Default
+    Duration writeRetryMaxDelay = Duration.ofSeconds(1);
+
+    /** Whether the consumer emits per-batch metrics in CloudWatch Embedded Metric Format. */
+    @Builder.Default
+    boolean metricsEnabled = true;
+
+    /** The CloudWatch namespace the consumer's metrics are recorded in. */
+    @Builder.Default
+    String metricsNamespace = DEFAULT_METRICS_NAMESPACE;
+
+    /** Whether goals are projected and reported when they fall behind their target date. */
+    @Builder.Default
+    boolean projectionEnabled = false;
+
+    /** How long it takes for progress to count half as much towards a goal's rate. */
+    @Builder.Default
+    Duration projectionHalfLife = Duration.ofHours(DEFAULT_HALF_LIFE_HOURS);
+
+    /** The number of progress updates needed before a goal can be at risk. */
+    @Builder.Default
+    int projectionMinObservations = 3;
+
+    /** The EventBridge bus at-risk events are published to, required when projection is enabled. */
+    String eventBusName;
+
+    /** The detail type of at-risk events. */
+    @Builder.Default
+    String atRiskEventDetailType = DEFAULT_AT_RISK_DETAIL_TYPE;
+
+    /** The source of at-risk events. */
+    @Builder.Default
+    String eventSource = DEFAULT_EVENT_SOURCE;
+
+    /**
+     * Reads and validates the configuration.
+     *
+     * @param environment Looks up an environment variable by name, returning null when unset
+     * @return The configuration
+     * @throws IllegalStateException listing every missing or invalid setting
+     */
+    public static GoalProgressConsumerConfig fromEnvironment(Function<String, String> environment) {
+        EnvironmentReader reader = new EnvironmentReader(environment);
+        GoalProgressConsumerConfig config = GoalProgressConsumerConfig.builder()
+                .goalProgressTableName(reader.required(GOAL_PROGRESS_TABLE_NAME))
+                .region(reader.string(AWS_REGION, null))
+                .dynamoDbEndpoint(reader.uri(DYNAMODB_ENDPOINT))
+                .coalescing(reader.enumeration(PROGRESS_COALESCING, ProgressCoalescing.class, ProgressCoalescing.MAX))
+                .writeParallelism(reader.integer(PROGRESS_WRITE_PARALLELISM, 4, 1, 64))
+                .writeMaxAttempts(reader.integer(PROGRESS_WRITE_MAX_ATTEMPTS, 4, 1, 20))
+                .writeRetryBaseDelay(reader.millis(PROGRESS_WRITE_RETRY_BASE_DELAY_MS, 50))
+                .writeRetryMaxDelay(reader.millis(PROGRESS_WRITE_RETRY_MAX_DELAY_MS, 1_000))
+                .metricsEnabled(reader.bool(METRICS_ENABLED, true))
+                .metricsNamespace(reader.string(METRICS_NAMESPACE, DEFAULT_METRICS_NAMESPACE))
+                .projectionEnabled(reader.bool(PROJECTION_ENABLED, false))
+                .projectionHalfLife(Duration.ofHours(
+                        reader.integer(PROJECTION_HALF_LIFE_HOURS, DEFAULT_HALF_LIFE_HOURS, 1, 8_760)))
+                .projectionMinObservations(reader.integer(PROJECTION_MIN_OBSERVATIONS, 3, 2, 1_000))
+                .eventBusName(reader.string(EVENT_BUS_NAME, null))
+                .atRiskEventDetailType(reader.string(GOAL_AT_RISK_EVENT_DETAIL_TYPE, DEFAULT_AT_RISK_DETAIL_TYPE))
+                .eventSource(reader.string(EVENT_SOURCE, DEFAULT_EVENT_SOURCE))
+                .build();
+
+        if (config.getWriteRetryMaxDelay().compareTo(config.getWriteRetryBaseDelay()) < 0) {
+            reader.problem(PROGRESS_WRITE_RETRY_MAX_DELAY_MS + " must not be less than "
+                    + PROGRESS_WRITE_RETRY_BASE_DELAY_MS);
+        }
+        if (config.isProjectionEnabled() && config.getEventBusName() == null) {
+            reader.problem(EVENT_BUS_NAME + " is required when " + PROJECTION_ENABLED + " is true");
+        }
+        reader.failOnProblems();
+        return config;
+    }
+}
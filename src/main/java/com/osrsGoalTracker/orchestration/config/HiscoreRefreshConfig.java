@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable configuration for the hiscore refresh job.
+ * Like OrchestrationConfig, it is read and validated once, when the handler is
+ * created.
+ */
+@Value
+@Builder(toBuilder = true)
+public class HiscoreRefreshConfig {
+
+    static final String GOALS_TABLE_NAME = "GOALS_TABLE_NAME";
+    static final String GOAL_PROGRESS_TABLE_NAME = "GOAL_PROGRESS_TABLE_NAME";
+    static final String REFRESH_CURSOR_TABLE_NAME = "REFRESH_CURSOR_TABLE_NAME";
+    static final String CHARACTER_SNAPSHOT_TABLE_NAME = "CHARACTER_SNAPSHOT_TABLE_NAME";
+    static final String EVENT_BUS_NAME = "EVENT_BUS_NAME";
+    static final String PROGRESS_DETAIL_TYPE = "GOAL_PROGRESS_UPDATE_EVENT_DETAIL_TYPE";
+    static final String EVENT_SOURCE = "EVENT_SOURCE";
+    static final String AWS_REGION = "AWS_REGION";
+    static final String DYNAMODB_ENDPOINT = "DYNAMODB_ENDPOINT";
+    static final String HISCORE_BASE_URL = "HISCORE_BASE_URL";
+    static final String HISCORE_REQUESTS_PER_SECOND = "HISCORE_REQUESTS_PER_SECOND";
+    static final String HISCORE_MAX_CONCURRENCY = "HISCORE_MAX_CONCURRENCY";
+    static final String HISCORE_TIMEOUT_MS = "HISCORE_TIMEOUT_MS";
+    static final String GOAL_PAGE_SIZE = "GOAL_PAGE_SIZE";
+    static final String REFRESH_DEADLINE_MARGIN_MS = "REFRESH_DEADLINE_MARGIN_MS";
+    static final String STALL_CHECK_INTERVAL_MS = "STALL_CHECK_INTERVAL_MS";
+
+    private static final String DEFAULT_PROGRESS_DETAIL_TYPE = "GoalProgressUpdateEvent";
+    private static final String DEFAULT_EVENT_SOURCE = "com.osrsGoalTracker.orchestration";
+    private static final URI DEFAULT_HISCORE_BASE_URI = URI.create("https://secure.runescape.com/m=hiscore_oldschool/");
+
+    /** The DynamoDB table holding goals. */
+    String goalsTableName;
+
+    /** The DynamoDB table the progress consumer writes each goal's latest progress to. */
+    String goalProgressTableName;
+
+    /** The DynamoDB table the refresh cursor is kept in, or null to keep it in the container. */
+    String refreshCursorTableName;
+
+    /** The DynamoDB table fetched hiscores are saved to as character snapshots, or null to save none. */
+    String characterSnapshotTableName;
+
+    /** The name of the event bus progress events are published to. */
+    String eventBusName;
+
+    /** The detail type of GoalProgressUpdateEvents. */
+    @Builder.Default
+    String progressDetailType = DEFAULT_PROGRESS_DETAIL_TYPE;
+
+    /** The source of published events. */
+    @Builder.Default
+    String eventSource = DEFAULT_EVENT_SOURCE;
+
+    /** The AWS region, or null to use the SDK's default lookup. */
+    String region;
+
+    /** An endpoint override for DynamoDB, such as DynamoDB Local, or null for the regional endpoint. */
+    URI dynamoDbEndpoint;
+
+    /** The hiscores base URI; point it at a stub server to test without the real hiscores. */
+    @Builder.Default
+    URI hiscoreBaseUri = DEFAULT_HISCORE_BASE_URI;
+
+    /** The global limit on hiscore requests per second. */
+    @Builder.Default
+    int hiscoreRequestsPerSecond = 10;
+
+    /** The maximum number of hiscore requests in flight. */
+    @Builder.Default
+    int hiscoreMaxConcurrency = 20;
+
+    /** The timeout for a single hiscore request. */
+    @Builder.Default
+    Duration hiscoreTimeout = Duration.ofSeconds(5);
+
+    /** The number of goals read per scan request. */
+    @Builder.Default
+    int goalPageSize = 500;
+
+    /** How long before the Lambda timeout the job stops starting new fetches. */
+    @Builder.Default
+    Duration deadlineMargin = Duration.ofSeconds(15);
+
+    /** How old a target-dated goal's unchanged progress gets before it is published again. */
+    @Builder.Default
+    Duration stallCheckInterval = Duration.ofDays(1);
+
+    /**
+     * Reads and validates the configuration.
+     *
+     * @param environment Looks up an environment variable by name, returning null when unset
+     * @return The configuration
+     * @throws IllegalStateException listing every missing or invalid setting
+     */
+    public static HiscoreRefreshConfig fromEnvironment(Function<String, String> environment) {
+        EnvironmentReader reader = new EnvironmentReader(environment);
+        URI hiscoreBaseUri = reader.uri(HISCORE_BASE_URL);
+        HiscoreRefreshConfig config = HiscoreRefreshConfig.builder()
+                .goalsTableName(reader.required(GOALS_TABLE_NAME))
+                .goalProgressTableName(reader.required(GOAL_PROGRESS_TABLE_NAME))
+                .refreshCursorTableName(reader.string(REFRESH_CURSOR_TABLE_NAME, null))
+                .characterSnapshotTableName(reader.string(CHARACTER_SNAPSHOT_TABLE_NAME, null))
+                .eventBusName(reader.required(EVENT_BUS_NAME))
+                .progressDetailType(reader.string(PROGRESS_DETAIL_TYPE, DEFAULT_PROGRESS_DETAIL_TYPE))
+                .eventSource(reader.string(EVENT_SOURCE, DEFAULT_EVENT_SOURCE))
+                .region(reader.string(AWS_REGION, null))
+                .dynamoDbEndpoint(reader.uri(DYNAMODB_ENDPOINT))
+                .hiscoreBaseUri(hiscoreBaseUri == null ? DEFAULT_HISCORE_BASE_URI : hiscoreBaseUri)
+                .hiscoreRequestsPerSecond(reader.integer(HISCORE_REQUESTS_PER_SECOND, 10, 1, 1_000))
+                .hiscoreMaxConcurrency(reader.integer(HISCORE_MAX_CONCURRENCY, 20, 1, 1_000))
+                .hiscoreTimeout(reader.millis(HISCORE_TIMEOUT_MS, 5_000))
+                .goalPageSize(reader.integer(GOAL_PAGE_SIZE, 500, 1, 10_000))
+                .deadlineMargin(reader.millis(REFRESH_DEADLINE_MARGIN_MS, 15_000))
+                .stallCheckInterval(reader.millis(STALL_CHECK_INTERVAL_MS, 86_400_000))
+                .build();
+        reader.failOnProblems();
+        return config;
+    }
+}
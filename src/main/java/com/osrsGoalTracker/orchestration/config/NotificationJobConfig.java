@@ -0,0 +1,129 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable configuration for the notification job.
+ * Like OrchestrationConfig, it is read and validated once, when the handler is
+ * created.
+ */
+@Value
+@Builder(toBuilder = true)
+public class NotificationJobConfig {
+
+    static final String GOALS_TABLE_NAME = "GOALS_TABLE_NAME";
+    static final String NOTIFICATION_SCHEDULE_TABLE_NAME = "NOTIFICATION_SCHEDULE_TABLE_NAME";
+    static final String REFRESH_CURSOR_TABLE_NAME = "REFRESH_CURSOR_TABLE_NAME";
+    static final String AWS_REGION = "AWS_REGION";
+    static final String DYNAMODB_ENDPOINT = "DYNAMODB_ENDPOINT";
+    static final String GOAL_PAGE_SIZE = "GOAL_PAGE_SIZE";
+    static final String NOTIFICATION_DEADLINE_MARGIN_MS = "NOTIFICATION_DEADLINE_MARGIN_MS";
+    static final String NOTIFICATION_TICK_MS = "NOTIFICATION_TICK_MS";
+    static final String NOTIFICATION_WHEEL_SIZE = "NOTIFICATION_WHEEL_SIZE";
+    static final String DISCORD_WEBHOOK_URL = "DISCORD_WEBHOOK_URL";
+    static final String DISCORD_REQUESTS_PER_MINUTE = "DISCORD_REQUESTS_PER_MINUTE";
+    static final String EMAIL_RELAY_URL = "EMAIL_RELAY_URL";
+    static final String EMAIL_REQUESTS_PER_MINUTE = "EMAIL_REQUESTS_PER_MINUTE";
+    static final String EMAIL_BATCH_SIZE = "EMAIL_BATCH_SIZE";
+    static final String NOTIFICATION_TIMEOUT_MS = "NOTIFICATION_TIMEOUT_MS";
+    static final String NOTIFICATION_MAX_ATTEMPTS = "NOTIFICATION_MAX_ATTEMPTS";
+    static final String NOTIFICATION_MAX_RETRY_AFTER_MS = "NOTIFICATION_MAX_RETRY_AFTER_MS";
+
+    /** The DynamoDB table holding goals. */
+    String goalsTableName;
+
+    /** The DynamoDB table the notification schedule is kept in. */
+    String notificationScheduleTableName;
+
+    /** The DynamoDB table the job's cursor over the goals is kept in, or null to keep it in the container. */
+    String refreshCursorTableName;
+
+    /** The AWS region, or null to use the SDK's default lookup. */
+    String region;
+
+    /** An endpoint override for DynamoDB, such as DynamoDB Local, or null for the regional endpoint. */
+    URI dynamoDbEndpoint;
+
+    /** The number of goals read per scan request. */
+    @Builder.Default
+    int goalPageSize = 500;
+
+    /** How long before the Lambda timeout the job stops reading goals, leaving time to send. */
+    @Builder.Default
+    Duration deadlineMargin = Duration.ofSeconds(30);
+
+    /** The resolution of due times. */
+    @Builder.Default
+    Duration tick = Duration.ofMinutes(1);
+
+    /** The number of buckets on each level of the timing wheel. */
+    @Builder.Default
+    int wheelSize = 60;
+
+    /** The Discord webhook digests are posted to, or null to drop Discord notifications. */
+    URI discordWebhookUri;
+
+    /** The limit on requests to the Discord webhook per minute. */
+    @Builder.Default
+    int discordRequestsPerMinute = 30;
+
+    /** The email relay digests are posted to, or null to drop email notifications. */
+    URI emailRelayUri;
+
+    /** The limit on requests to the email relay per minute. */
+    @Builder.Default
+    int emailRequestsPerMinute = 600;
+
+    /** The most messages the email relay accepts in one request. */
+    @Builder.Default
+    int emailBatchSize = 50;
+
+    /** The timeout for a single request to a channel. */
+    @Builder.Default
+    Duration channelTimeout = Duration.ofSeconds(5);
+
+    /** The maximum number of attempts per batch, including the first. */
+    @Builder.Default
+    int maxAttempts = 3;
+
+    /** The longest delay honoured before retrying a rate-limited batch. */
+    @Builder.Default
+    Duration maxRetryAfter = Duration.ofSeconds(10);
+
+    /**
+     * Reads and validates the configuration.
+     *
+     * @param environment Looks up an environment variable by name, returning null when unset
+     * @return The configuration
+     * @throws IllegalStateException listing every missing or invalid setting
+     */
+    public static NotificationJobConfig fromEnvironment(Function<String, String> environment) {
+        EnvironmentReader reader = new EnvironmentReader(environment);
+        NotificationJobConfig config = NotificationJobConfig.builder()
+                .goalsTableName(reader.required(GOALS_TABLE_NAME))
+                .notificationScheduleTableName(reader.required(NOTIFICATION_SCHEDULE_TABLE_NAME))
+                .refreshCursorTableName(reader.string(REFRESH_CURSOR_TABLE_NAME, null))
+                .region(reader.string(AWS_REGION, null))
+                .dynamoDbEndpoint(reader.uri(DYNAMODB_ENDPOINT))
+                .goalPageSize(reader.integer(GOAL_PAGE_SIZE, 500, 1, 10_000))
+                .deadlineMargin(reader.millis(NOTIFICATION_DEADLINE_MARGIN_MS, 30_000))
+                .tick(Duration.ofMillis(reader.integer(NOTIFICATION_TICK_MS, 60_000, 1_000, 86_400_000)))
+                .wheelSize(reader.integer(NOTIFICATION_WHEEL_SIZE, 60, 2, 4_096))
+                .discordWebhookUri(reader.uri(DISCORD_WEBHOOK_URL))
+                .discordRequestsPerMinute(reader.integer(DISCORD_REQUESTS_PER_MINUTE, 30, 1, 10_000))
+                .emailRelayUri(reader.uri(EMAIL_RELAY_URL))
+                .emailRequestsPerMinute(reader.integer(EMAIL_REQUESTS_PER_MINUTE, 600, 1, 100_000))
+                .emailBatchSize(reader.integer(EMAIL_BATCH_SIZE, 50, 1, 1_000))
+                .channelTimeout(reader.millis(NOTIFICATION_TIMEOUT_MS, 5_000))
+                .maxAttempts(reader.integer(NOTIFICATION_MAX_ATTEMPTS, 3, 1, 10))
+                .maxRetryAfter(reader.millis(NOTIFICATION_MAX_RETRY_AFTER_MS, 10_000))
+                .build();
+        reader.failOnProblems();
+        return config;
+    }
+}
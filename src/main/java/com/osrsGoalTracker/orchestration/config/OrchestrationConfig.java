@@ -0,0 +1,345 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.orchestration.model.EventTransport;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable configuration for the orchestration service.
+ * It is read from the environment once, when the handler is created, and every
+ * value is validated at that point. A missing or malformed setting stops the
+ * function from initializing instead of surfacing on the first request.
+ */
+@Value
+@Builder(toBuilder = true)
+public class OrchestrationConfig {
+
+    /** EventBridge accepts at most this many entries per PutEvents call. */
+    public static final int EVENTBRIDGE_MAX_ENTRIES_PER_REQUEST = 10;
+
+    static final String EVENT_BUS_NAME = "EVENT_BUS_NAME";
+    static final String DETAIL_TYPE = "GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE";
+    static final String EVENT_SOURCE = "EVENT_SOURCE";
+    static final String EVENT_ENVELOPE_ENABLED = "EVENT_ENVELOPE_ENABLED";
+    static final String AWS_REGION = "AWS_REGION";
+    static final String PUBLISH_BATCH_SIZE = "PUBLISH_BATCH_SIZE";
+    static final String MAX_BULK_ITEMS = "MAX_BULK_ITEMS";
+    static final String PUBLISH_MAX_ATTEMPTS = "PUBLISH_MAX_ATTEMPTS";
+    static final String PUBLISH_RETRY_BASE_DELAY_MS = "PUBLISH_RETRY_BASE_DELAY_MS";
+    static final String PUBLISH_RETRY_MAX_DELAY_MS = "PUBLISH_RETRY_MAX_DELAY_MS";
+    static final String TRANSPORT_CONNECTION_TIMEOUT_MS = "TRANSPORT_CONNECTION_TIMEOUT_MS";
+    static final String TRANSPORT_API_CALL_TIMEOUT_MS = "TRANSPORT_API_CALL_TIMEOUT_MS";
+    static final String TRANSPORT_MAX_CONCURRENCY = "TRANSPORT_MAX_CONCURRENCY";
+    static final String LOG_PAYLOAD_SAMPLE_RATE = "LOG_PAYLOAD_SAMPLE_RATE";
+    static final String PRIME_ON_INIT = "PRIME_ON_INIT";
+    static final String IDEMPOTENCY_ENABLED = "IDEMPOTENCY_ENABLED";
+    static final String IDEMPOTENCY_TABLE_NAME = "IDEMPOTENCY_TABLE_NAME";
+    static final String IDEMPOTENCY_TTL_SECONDS = "IDEMPOTENCY_TTL_SECONDS";
+    static final String IDEMPOTENCY_CLAIM_LEASE_SECONDS = "IDEMPOTENCY_CLAIM_LEASE_SECONDS";
+    static final String IDEMPOTENCY_CACHE_SIZE = "IDEMPOTENCY_CACHE_SIZE";
+    static final String SNAPSHOT_CACHE_ENABLED = "SNAPSHOT_CACHE_ENABLED";
+    static final String CHARACTER_SNAPSHOT_TABLE_NAME = "CHARACTER_SNAPSHOT_TABLE_NAME";
+    static final String SNAPSHOT_CACHE_TTL_SECONDS = "SNAPSHOT_CACHE_TTL_SECONDS";
+    static final String SNAPSHOT_CACHE_SIZE = "SNAPSHOT_CACHE_SIZE";
+    static final String DYNAMODB_ENDPOINT = "DYNAMODB_ENDPOINT";
+    static final String EVENT_TRANSPORT = "EVENT_TRANSPORT";
+    static final String SQS_QUEUE_URL = "SQS_QUEUE_URL";
+    static final String KINESIS_STREAM_NAME = "KINESIS_STREAM_NAME";
+    static final String EVENTBRIDGE_ENDPOINT = "EVENTBRIDGE_ENDPOINT";
+    static final String SQS_ENDPOINT = "SQS_ENDPOINT";
+    static final String KINESIS_ENDPOINT = "KINESIS_ENDPOINT";
+    static final String OUTBOX_TABLE_NAME = "OUTBOX_TABLE_NAME";
+    static final String OUTBOX_RETENTION_SECONDS = "OUTBOX_RETENTION_SECONDS";
+    static final String PUBLISH_RATE_INITIAL = "PUBLISH_RATE_INITIAL";
+    static final String PUBLISH_RATE_MIN = "PUBLISH_RATE_MIN";
+    static final String PUBLISH_RATE_MAX = "PUBLISH_RATE_MAX";
+    static final String PUBLISH_RATE_INCREASE = "PUBLISH_RATE_INCREASE";
+    static final String PUBLISH_RATE_DECREASE_FACTOR = "PUBLISH_RATE_DECREASE_FACTOR";
+    static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD = "CIRCUIT_BREAKER_FAILURE_THRESHOLD";
+    static final String CIRCUIT_BREAKER_OPEN_MS = "CIRCUIT_BREAKER_OPEN_MS";
+    static final String PUBLISH_DEADLINE_MARGIN_MS = "PUBLISH_DEADLINE_MARGIN_MS";
+    static final String METRICS_ENABLED = "METRICS_ENABLED";
+    static final String METRICS_NAMESPACE = "METRICS_NAMESPACE";
+    static final String SERVER_PORT = "SERVER_PORT";
+    static final String SERVER_REQUEST_TIMEOUT_MS = "SERVER_REQUEST_TIMEOUT_MS";
+    static final String SERVER_SHUTDOWN_GRACE_MS = "SERVER_SHUTDOWN_GRACE_MS";
+    static final String SERVER_MAX_BODY_BYTES = "SERVER_MAX_BODY_BYTES";
+
+    private static final String DEFAULT_EVENT_SOURCE = "com.osrsGoalTracker.orchestration";
+    private static final String DEFAULT_METRICS_NAMESPACE = "OsrsGoalTracker/Orchestration";
+    private static final int MAX_BULK_ITEMS_LIMIT = 1_000;
+
+    /** The transport goal events are published to. */
+    @Builder.Default
+    EventTransport eventTransport = EventTransport.EVENTBRIDGE;
+
+    /** The name of the event bus goal events are published to; required when the transport is EVENTBRIDGE. */
+    String eventBusName;
+
+    /** The detail type of GoalCreationRequestEvents. */
+    String detailType;
+
+    /** The source of published events. */
+    @Builder.Default
+    String eventSource = DEFAULT_EVENT_SOURCE;
+
+    /** The AWS region, or null to use the SDK's default lookup. */
+    String region;
+
+    /** The number of entries packed into each PutEvents call. */
+    @Builder.Default
+    int publishBatchSize = EVENTBRIDGE_MAX_ENTRIES_PER_REQUEST;
+
+    /** The maximum number of goals in a bulk request. */
+    @Builder.Default
+    int maxBulkItems = 100;
+
+    /** The maximum number of attempts per event, including the first. */
+    @Builder.Default
+    int publishMaxAttempts = 4;
+
+    /** The backoff ceiling for the first retry. */
+    @Builder.Default
+    Duration publishRetryBaseDelay = Duration.ofMillis(50);
+
+    /** The upper bound for any retry delay. */
+    @Builder.Default
+    Duration publishRetryMaxDelay = Duration.ofSeconds(1);
+
+    /** The timeout for opening a connection to the event transport. */
+    @Builder.Default
+    Duration transportConnectionTimeout = Duration.ofSeconds(2);
+
+    /** The timeout for a complete call to the event transport, including SDK retries. */
+    @Builder.Default
+    Duration transportApiCallTimeout = Duration.ofSeconds(5);
+
+    /** The maximum number of concurrent connections to the event transport. */
+    @Builder.Default
+    int transportMaxConcurrency = 50;
+
+    /** The fraction of requests whose full payload is logged. */
+    @Builder.Default
+    double payloadSampleRate = 0.01;
+
+    /** Whether goal events are published inside a versioned EventEnvelope rather than bare. */
+    @Builder.Default
+    boolean eventEnvelopeEnabled = false;
+
+    /** Whether the handler primes itself during construction. */
+    @Builder.Default
+    boolean primeOnInit = true;
+
+    /** Whether repeated requests are answered with the original response instead of being published again. */
+    @Builder.Default
+    boolean idempotencyEnabled = true;
+
+    /** The DynamoDB table holding idempotency records, or null to keep them in the container only. */
+    String idempotencyTableName;
+
+    /** How long a handled request suppresses duplicates. */
+    @Builder.Default
+    Duration idempotencyTtl = Duration.ofHours(24);
+
+    /** How long an in-progress request holds its key; a retry after this takes the key over. */
+    @Builder.Default
+    Duration idempotencyClaimLease = Duration.ofSeconds(30);
+
+    /** The number of idempotency records kept in the container. */
+    @Builder.Default
+    int idempotencyCacheSize = 1_000;
+
+    /** Whether a goal's currentValue is taken from the character's snapshot instead of the request. */
+    @Builder.Default
+    boolean snapshotCacheEnabled = false;
+
+    /** The DynamoDB table holding character snapshots, required when the snapshot cache is enabled. */
+    String characterSnapshotTableName;
+
+    /** How long a character snapshot is served from the container before it is read again. */
+    @Builder.Default
+    Duration snapshotCacheTtl = Duration.ofMinutes(5);
+
+    /** The number of character snapshots kept in the container. */
+    @Builder.Default
+    int snapshotCacheSize = 1_000;
+
+    /** An endpoint override for DynamoDB, such as DynamoDB Local, or null for the regional endpoint. */
+    URI dynamoDbEndpoint;
+
+    /** The URL of the queue goal events are sent to when the transport is SQS. */
+    String sqsQueueUrl;
+
+    /** The name of the stream goal events are put on when the transport is KINESIS. */
+    String kinesisStreamName;
+
+    /** The DynamoDB outbox table, or null to publish to the transport while handling the request. */
+    String outboxTableName;
+
+    /** How long outbox entries are kept before DynamoDB deletes them. */
+    @Builder.Default
+    Duration outboxRetention = Duration.ofDays(7);
+
+    /** The publish rate limit a container starts with, in publishes per second. */
+    @Builder.Default
+    int publishRateInitial = 100;
+
+    /** The lowest the publish rate limit is lowered to. */
+    @Builder.Default
+    int publishRateMin = 1;
+
+    /** The highest the publish rate limit is raised to. */
+    @Builder.Default
+    int publishRateMax = 1_000;
+
+    /** How much the publish rate limit grows for each second of clean publishes. */
+    @Builder.Default
+    int publishRateIncrease = 10;
+
+    /** What the publish rate limit is multiplied by when the transport throttles or fails a publish. */
+    @Builder.Default
+    double publishRateDecreaseFactor = 0.5;
+
+    /** The number of consecutive failed publishes that opens the circuit breaker. */
+    @Builder.Default
+    int circuitBreakerFailureThreshold = 5;
+
+    /** How long the circuit breaker stays open before it lets a probe publish through. */
+    @Builder.Default
+    Duration circuitBreakerOpenDuration = Duration.ofSeconds(10);
+
+    /** How long before the Lambda timeout the handler stops waiting on a publish. */
+    @Builder.Default
+    Duration publishDeadlineMargin = Duration.ofMillis(500);
+
+    /** Whether the handler emits per-invocation metrics in CloudWatch Embedded Metric Format. */
+    @Builder.Default
+    boolean metricsEnabled = true;
+
+    /** The CloudWatch namespace the handler's metrics are recorded in. */
+    @Builder.Default
+    String metricsNamespace = DEFAULT_METRICS_NAMESPACE;
+
+    /** The port the HTTP server listens on when the handler runs in a container. */
+    @Builder.Default
+    int serverPort = 8080;
+
+    /** The time the HTTP server gives each request, the counterpart of the Lambda timeout. */
+    @Builder.Default
+    Duration serverRequestTimeout = Duration.ofSeconds(10);
+
+    /** How long the HTTP server waits for in-flight requests when it shuts down. */
+    @Builder.Default
+    Duration serverShutdownGrace = Duration.ofSeconds(25);
+
+    /** The largest request body the HTTP server reads. */
+    @Builder.Default
+    int serverMaxBodyBytes = 1_048_576;
+
+    /** An endpoint override for EventBridge, such as LocalStack, or null for the regional endpoint. */
+    URI eventBridgeEndpoint;
+
+    /** An endpoint override for SQS, such as ElasticMQ or LocalStack, or null for the regional endpoint. */
+    URI sqsEndpoint;
+
+    /** An endpoint override for Kinesis, such as LocalStack, or null for the regional endpoint. */
+    URI kinesisEndpoint;
+
+    /**
+     * Reads and validates the configuration.
+     *
+     * @param environment Looks up an environment variable by name, returning null when unset
+     * @return The configuration
+     * @throws IllegalStateException listing every missing or invalid setting
+     */
+    public static OrchestrationConfig fromEnvironment(Function<String, String> environment) {
+        EnvironmentReader reader = new EnvironmentReader(environment);
+        EventTransport eventTransport = reader.enumeration(EVENT_TRANSPORT, EventTransport.class,
+                EventTransport.EVENTBRIDGE);
+        OrchestrationConfig config = OrchestrationConfig.builder()
+                .eventTransport(eventTransport)
+                .eventBusName(eventTransport == EventTransport.EVENTBRIDGE
+                        ? reader.required(EVENT_BUS_NAME)
+                        : reader.string(EVENT_BUS_NAME, null))
+                .detailType(reader.required(DETAIL_TYPE))
+                .eventSource(reader.string(EVENT_SOURCE, DEFAULT_EVENT_SOURCE))
+                .region(reader.string(AWS_REGION, null))
+                .publishBatchSize(reader.integer(PUBLISH_BATCH_SIZE, EVENTBRIDGE_MAX_ENTRIES_PER_REQUEST,
+                        1, EVENTBRIDGE_MAX_ENTRIES_PER_REQUEST))
+                .maxBulkItems(reader.integer(MAX_BULK_ITEMS, 100, 1, MAX_BULK_ITEMS_LIMIT))
+                .publishMaxAttempts(reader.integer(PUBLISH_MAX_ATTEMPTS, 4, 1, 20))
+                .publishRetryBaseDelay(reader.millis(PUBLISH_RETRY_BASE_DELAY_MS, 50))
+                .publishRetryMaxDelay(reader.millis(PUBLISH_RETRY_MAX_DELAY_MS, 1_000))
+                .transportConnectionTimeout(reader.millis(TRANSPORT_CONNECTION_TIMEOUT_MS, 2_000))
+                .transportApiCallTimeout(reader.millis(TRANSPORT_API_CALL_TIMEOUT_MS, 5_000))
+                .transportMaxConcurrency(reader.integer(TRANSPORT_MAX_CONCURRENCY, 50, 1, 1_000))
+                .payloadSampleRate(reader.fraction(LOG_PAYLOAD_SAMPLE_RATE, 0.01))
+                .eventEnvelopeEnabled(reader.bool(EVENT_ENVELOPE_ENABLED, false))
+                .primeOnInit(reader.bool(PRIME_ON_INIT, true))
+                .idempotencyEnabled(reader.bool(IDEMPOTENCY_ENABLED, true))
+                .idempotencyTableName(reader.string(IDEMPOTENCY_TABLE_NAME, null))
+                .idempotencyTtl(Duration.ofSeconds(reader.integer(IDEMPOTENCY_TTL_SECONDS, 86_400, 1, 604_800)))
+                .idempotencyClaimLease(Duration.ofSeconds(reader.integer(IDEMPOTENCY_CLAIM_LEASE_SECONDS, 30, 1,
+                        900)))
+                .idempotencyCacheSize(reader.integer(IDEMPOTENCY_CACHE_SIZE, 1_000, 1, 100_000))
+                .snapshotCacheEnabled(reader.bool(SNAPSHOT_CACHE_ENABLED, false))
+                .characterSnapshotTableName(reader.string(CHARACTER_SNAPSHOT_TABLE_NAME, null))
+                .snapshotCacheTtl(Duration.ofSeconds(reader.integer(SNAPSHOT_CACHE_TTL_SECONDS, 300, 1, 86_400)))
+                .snapshotCacheSize(reader.integer(SNAPSHOT_CACHE_SIZE, 1_000, 1, 100_000))
+                .dynamoDbEndpoint(reader.uri(DYNAMODB_ENDPOINT))
+                .sqsQueueUrl(reader.string(SQS_QUEUE_URL, null))
+                .kinesisStreamName(reader.string(KINESIS_STREAM_NAME, null))
+                .outboxTableName(reader.string(OUTBOX_TABLE_NAME, null))
+                .outboxRetention(Duration.ofSeconds(reader.integer(OUTBOX_RETENTION_SECONDS, 604_800, 3_600,
+                        2_592_000)))
+                .publishRateInitial(reader.integer(PUBLISH_RATE_INITIAL, 100, 1, 10_000))
+                .publishRateMin(reader.integer(PUBLISH_RATE_MIN, 1, 1, 10_000))
+                .publishRateMax(reader.integer(PUBLISH_RATE_MAX, 1_000, 1, 10_000))
+                .publishRateIncrease(reader.integer(PUBLISH_RATE_INCREASE, 10, 0, 10_000))
+                .publishRateDecreaseFactor(reader.fraction(PUBLISH_RATE_DECREASE_FACTOR, 0.5))
+                .circuitBreakerFailureThreshold(reader.integer(CIRCUIT_BREAKER_FAILURE_THRESHOLD, 5, 1, 1_000))
+                .circuitBreakerOpenDuration(reader.millis(CIRCUIT_BREAKER_OPEN_MS, 10_000))
+                .publishDeadlineMargin(reader.millis(PUBLISH_DEADLINE_MARGIN_MS, 500))
+                .metricsEnabled(reader.bool(METRICS_ENABLED, true))
+                .metricsNamespace(reader.string(METRICS_NAMESPACE, DEFAULT_METRICS_NAMESPACE))
+                .serverPort(reader.integer(SERVER_PORT, 8080, 1, 65_535))
+                .serverRequestTimeout(reader.millis(SERVER_REQUEST_TIMEOUT_MS, 10_000))
+                .serverShutdownGrace(reader.millis(SERVER_SHUTDOWN_GRACE_MS, 25_000))
+                .serverMaxBodyBytes(reader.integer(SERVER_MAX_BODY_BYTES, 1_048_576, 1_024, 10_485_760))
+                .eventBridgeEndpoint(reader.uri(EVENTBRIDGE_ENDPOINT))
+                .sqsEndpoint(reader.uri(SQS_ENDPOINT))
+                .kinesisEndpoint(reader.uri(KINESIS_ENDPOINT))
+                .build();
+
+        if (config.getPublishRetryMaxDelay().compareTo(config.getPublishRetryBaseDelay()) < 0) {
+            reader.problem(PUBLISH_RETRY_MAX_DELAY_MS + " must not be less than " + PUBLISH_RETRY_BASE_DELAY_MS);
+        }
+        if (config.getPublishRateMin() > config.getPublishRateInitial()
+                || config.getPublishRateInitial() > config.getPublishRateMax()) {
+            reader.problem(PUBLISH_RATE_MIN + " <= " + PUBLISH_RATE_INITIAL + " <= " + PUBLISH_RATE_MAX
+                    + " must hold");
+        }
+        if (config.getPublishRateDecreaseFactor() <= 0.0 || config.getPublishRateDecreaseFactor() >= 1.0) {
+            reader.problem(PUBLISH_RATE_DECREASE_FACTOR + " must be between 0 and 1, exclusive");
+        }
+        if (config.getEventTransport() == EventTransport.SQS && config.getSqsQueueUrl() == null) {
+            reader.problem(SQS_QUEUE_URL + " is required when " + EVENT_TRANSPORT + " is SQS");
+        }
+        if (config.getEventTransport() == EventTransport.KINESIS && config.getKinesisStreamName() == null) {
+            reader.problem(KINESIS_STREAM_NAME + " is required when " + EVENT_TRANSPORT + " is KINESIS");
+        }
+        if (config.getIdempotencyClaimLease().compareTo(config.getIdempotencyTtl()) > 0) {
+            reader.problem(IDEMPOTENCY_CLAIM_LEASE_SECONDS + " must not be more than " + IDEMPOTENCY_TTL_SECONDS);
+        }
+        if (config.isSnapshotCacheEnabled() && config.getCharacterSnapshotTableName() == null) {
+            reader.problem(CHARACTER_SNAPSHOT_TABLE_NAME + " is required when " + SNAPSHOT_CACHE_ENABLED + " is true");
+        }
+        reader.failOnProblems();
+        return config;
+    }
+}
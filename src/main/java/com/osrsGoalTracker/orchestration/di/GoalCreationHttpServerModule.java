@@ -0,0 +1,49 @@
+package com.osrsGoalTracker.orchestration.di;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.PerThreadMetricsRecorder;
+
+/**
+ * Guice module for the GoalCreationHttpServer, applied as an override of the
+ * GoalCreationRequestEventProducerModule. It replaces only the bindings that
+ * must change when one process serves many requests at once.
+ */
+public class GoalCreationHttpServerModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        // Bind dependencies here when needed
+    }
+
+    /**
+     * Provides the MetricsRecorder. Each request thread records into an EMF
+     * recorder of its own, so concurrent requests each write their own line.
+     * The extra Deployment dimension keeps the server's metrics apart from the
+     * Lambda's, so the two deployments can be compared. METRICS_ENABLED=false
+     * turns metrics off.
+     *
+     * @param config The orchestration configuration
+     * @return A singleton instance of MetricsRecorder
+     */
+    @Provides
+    @Singleton
+    public MetricsRecorder provideMetricsRecorder(OrchestrationConfig config) {
+        if (!config.isMetricsEnabled()) {
+            return MetricsRecorder.discarding();
+        }
+        Map<String, String> dimensions = new LinkedHashMap<>();
+        dimensions.put("Handler", "GoalCreationRequestEventProducer");
+        dimensions.put("Deployment", "HttpServer");
+        return new PerThreadMetricsRecorder(() -> new EmfMetricsRecorder(config.getMetricsNamespace(), dimensions,
+                System.out::println, Clock.systemUTC()));
+    }
+}
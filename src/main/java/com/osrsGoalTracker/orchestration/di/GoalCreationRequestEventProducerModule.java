@@ -1,11 +1,47 @@
 package com.osrsGoalTracker.orchestration.di;
 
-import com.amazonaws.services.eventbridge.AmazonEventBridge;
-import com.amazonaws.services.eventbridge.AmazonEventBridgeClientBuilder;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.handler.validation.GoalCreationRequestValidator;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbCharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbIdempotencyRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbOutboxRepository;
+import com.osrsGoalTracker.orchestration.repository.OutboxRepository;
+import com.osrsGoalTracker.orchestration.service.CharacterSnapshotCache;
+import com.osrsGoalTracker.orchestration.service.EventBridgeEventPublisher;
+import com.osrsGoalTracker.orchestration.service.EventPublisher;
+import com.osrsGoalTracker.orchestration.service.IdempotencyService;
+import com.osrsGoalTracker.orchestration.service.InMemoryEventPublisher;
+import com.osrsGoalTracker.orchestration.service.KinesisEventPublisher;
+import com.osrsGoalTracker.orchestration.service.OutboxEventPublisher;
+import com.osrsGoalTracker.orchestration.service.PublishGuard;
+import com.osrsGoalTracker.orchestration.service.SqsEventPublisher;
+import com.osrsGoalTracker.orchestration.util.AdaptiveRateLimiter;
+import com.osrsGoalTracker.orchestration.util.CircuitBreaker;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
 import com.osrsGoalTracker.orchestration.util.EnvUtil;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClientBuilder;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClientBuilder;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 
 /**
  * Guice module for the GoalCreationRequestEventProducerHandler.
@@ -13,6 +49,9 @@ import com.osrsGoalTracker.orchestration.util.EnvUtil;
  */
 public class GoalCreationRequestEventProducerModule extends AbstractModule {
 
+    /** Qualifies the EventPublisher that sends to the transport, bypassing the outbox. */
+    public static final String TRANSPORT = "transport";
+
     @Override
     protected void configure() {
         // Bind dependencies here when needed
@@ -30,13 +69,291 @@ public class GoalCreationRequestEventProducerModule extends AbstractModule {
     }
 
     /**
-     * Provides an instance of AmazonEventBridge.
+     * Provides the OrchestrationConfig, read and validated once from the
+     * environment.
+     *
+     * @param envUtil The utility for accessing environment variables
+     * @return A singleton instance of OrchestrationConfig
+     * @throws IllegalStateException if a setting is missing or invalid
+     */
+    @Provides
+    @Singleton
+    public OrchestrationConfig provideOrchestrationConfig(EnvUtil envUtil) {
+        return OrchestrationConfig.fromEnvironment(envUtil::getEnvVariable);
+    }
+
+    /**
+     * Provides the GoalCreationRequestValidator, which checks target dates
+     * against the system clock.
+     *
+     * @return A singleton instance of GoalCreationRequestValidator
+     */
+    @Provides
+    @Singleton
+    public GoalCreationRequestValidator provideGoalCreationRequestValidator() {
+        return new GoalCreationRequestValidator(Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of EventBridgeAsyncClient with the TRANSPORT_*
+     * client settings. The region is taken from AWS_REGION when it is set, which skips the
+     * slower default region lookup on cold start.
      * 
-     * @return A singleton instance of AmazonEventBridge
+     * @param config The orchestration configuration
+     * @return A singleton instance of EventBridgeAsyncClient
+     */
+    @Provides
+    @Singleton
+    public EventBridgeAsyncClient provideEventBridgeAsyncClient(OrchestrationConfig config) {
+        EventBridgeAsyncClientBuilder builder = EventBridgeAsyncClient.builder()
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(config.getTransportMaxConcurrency())
+                        .connectionTimeout(config.getTransportConnectionTimeout()))
+                .overrideConfiguration(override -> override.apiCallTimeout(config.getTransportApiCallTimeout()));
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getEventBridgeEndpoint() != null) {
+            builder.endpointOverride(config.getEventBridgeEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of SqsAsyncClient with the TRANSPORT_* client
+     * settings. SQS_ENDPOINT points it at a local stand-in when set.
+     *
+     * @param config The orchestration configuration
+     * @return A singleton instance of SqsAsyncClient
+     */
+    @Provides
+    @Singleton
+    public SqsAsyncClient provideSqsAsyncClient(OrchestrationConfig config) {
+        SqsAsyncClientBuilder builder = SqsAsyncClient.builder()
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(config.getTransportMaxConcurrency())
+                        .connectionTimeout(config.getTransportConnectionTimeout()))
+                .overrideConfiguration(override -> override.apiCallTimeout(config.getTransportApiCallTimeout()));
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getSqsEndpoint() != null) {
+            builder.endpointOverride(config.getSqsEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of KinesisAsyncClient with the TRANSPORT_* client
+     * settings. KINESIS_ENDPOINT points it at a local stand-in when set.
+     *
+     * @param config The orchestration configuration
+     * @return A singleton instance of KinesisAsyncClient
+     */
+    @Provides
+    @Singleton
+    public KinesisAsyncClient provideKinesisAsyncClient(OrchestrationConfig config) {
+        KinesisAsyncClientBuilder builder = KinesisAsyncClient.builder()
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(config.getTransportMaxConcurrency())
+                        .connectionTimeout(config.getTransportConnectionTimeout()))
+                .overrideConfiguration(override -> override.apiCallTimeout(config.getTransportApiCallTimeout()));
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getKinesisEndpoint() != null) {
+            builder.endpointOverride(config.getKinesisEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides the EventPublisher the handler publishes through: the outbox
+     * when OUTBOX_TABLE_NAME is set, otherwise the transport itself.
+     *
+     * @param config    The orchestration configuration
+     * @param transport Supplies the transport publisher
+     * @param outbox    Supplies the outbox repository
+     * @return A singleton instance of EventPublisher
+     */
+    @Provides
+    @Singleton
+    public EventPublisher provideEventPublisher(OrchestrationConfig config,
+            @Named(TRANSPORT) Provider<EventPublisher> transport, Provider<OutboxRepository> outbox) {
+        if (config.getOutboxTableName() == null) {
+            return transport.get();
+        }
+        return new OutboxEventPublisher(
+                outbox.get(),
+                Executors.newVirtualThreadPerTaskExecutor(),
+                new JitteredBackoff(config.getPublishRetryBaseDelay(), config.getPublishRetryMaxDelay()),
+                config.getPublishMaxAttempts(),
+                config.getOutboxRetention(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Provides the EventPublisher for the transport selected by
+     * EVENT_TRANSPORT. Only the client of the selected transport is created.
+     *
+     * @param config      The orchestration configuration
+     * @param eventBridge Supplies the EventBridge client
+     * @param sqs         Supplies the SQS client
+     * @param kinesis     Supplies the Kinesis client
+     * @return A singleton instance of the transport EventPublisher
+     */
+    @Provides
+    @Singleton
+    @Named(TRANSPORT)
+    public EventPublisher provideTransportPublisher(OrchestrationConfig config,
+            Provider<EventBridgeAsyncClient> eventBridge, Provider<SqsAsyncClient> sqs,
+            Provider<KinesisAsyncClient> kinesis) {
+        JitteredBackoff backoff = new JitteredBackoff(config.getPublishRetryBaseDelay(),
+                config.getPublishRetryMaxDelay());
+        return switch (config.getEventTransport()) {
+            case EVENTBRIDGE -> new EventBridgeEventPublisher(eventBridge.get(), config.getEventBusName(), backoff,
+                    config.getPublishMaxAttempts(), config.getPublishBatchSize());
+            case SQS -> new SqsEventPublisher(sqs.get(), config.getSqsQueueUrl(), backoff,
+                    config.getPublishMaxAttempts());
+            case KINESIS -> new KinesisEventPublisher(kinesis.get(), config.getKinesisStreamName(), backoff,
+                    config.getPublishMaxAttempts());
+            case IN_MEMORY -> new InMemoryEventPublisher();
+        };
+    }
+
+    /**
+     * Provides the PublishGuard that limits the handler's publishes. It is a
+     * singleton, so the rate limit and the circuit breaker carry over between
+     * invocations in the same container.
+     *
+     * @param config The orchestration configuration
+     * @return A singleton instance of PublishGuard
+     */
+    @Provides
+    @Singleton
+    public PublishGuard providePublishGuard(OrchestrationConfig config) {
+        Clock clock = Clock.systemUTC();
+        return new PublishGuard(
+                new AdaptiveRateLimiter(config.getPublishRateInitial(), config.getPublishRateMin(),
+                        config.getPublishRateMax(), config.getPublishRateIncrease(),
+                        config.getPublishRateDecreaseFactor(), clock),
+                new CircuitBreaker(config.getCircuitBreakerFailureThreshold(),
+                        config.getCircuitBreakerOpenDuration(), clock),
+                clock);
+    }
+
+    /**
+     * Provides the MetricsRecorder for the handler's per-invocation metrics.
+     * Metrics are written to standard output in CloudWatch Embedded Metric
+     * Format, where Lambda's log capture picks them up, unless METRICS_ENABLED
+     * is false.
+     *
+     * @param config The orchestration configuration
+     * @return A singleton instance of MetricsRecorder
+     */
+    @Provides
+    @Singleton
+    public MetricsRecorder provideMetricsRecorder(OrchestrationConfig config) {
+        if (!config.isMetricsEnabled()) {
+            return MetricsRecorder.discarding();
+        }
+        return new EmfMetricsRecorder(config.getMetricsNamespace(),
+                Map.of("Handler", "GoalCreationRequestEventProducer"), System.out::println, Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of DynamoDbClient.
+     * DYNAMODB_ENDPOINT points it at DynamoDB Local when set.
+     *
+     * @param config The orchestration configuration
+     * @return A singleton instance of DynamoDbClient
+     */
+    @Provides
+    @Singleton
+    public DynamoDbClient provideDynamoDbClient(OrchestrationConfig config) {
+        DynamoDbClientBuilder builder = DynamoDbClient.builder();
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getDynamoDbEndpoint() != null) {
+            builder.endpointOverride(config.getDynamoDbEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of DynamoDbEnhancedClient.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @return A singleton instance of DynamoDbEnhancedClient
+     */
+    @Provides
+    @Singleton
+    public DynamoDbEnhancedClient provideDynamoDbEnhancedClient(DynamoDbClient dynamoDb) {
+        return DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build();
+    }
+
+    /**
+     * Provides an instance of OutboxRepository.
+     *
+     * @param config         The orchestration configuration
+     * @param enhancedClient The DynamoDB enhanced client
+     * @return A singleton instance of OutboxRepository
+     * @throws IllegalStateException if OUTBOX_TABLE_NAME is not set
+     */
+    @Provides
+    @Singleton
+    public OutboxRepository provideOutboxRepository(OrchestrationConfig config,
+            DynamoDbEnhancedClient enhancedClient) {
+        if (config.getOutboxTableName() == null) {
+            throw new IllegalStateException("OUTBOX_TABLE_NAME is required for the outbox");
+        }
+        return new DynamoDbOutboxRepository(enhancedClient, config.getOutboxTableName());
+    }
+
+    /**
+     * Provides an instance of IdempotencyService.
+     * The DynamoDB tier is only created when IDEMPOTENCY_TABLE_NAME is set;
+     * otherwise duplicates are suppressed within the container only.
+     *
+     * @param config         The orchestration configuration
+     * @param enhancedClient Supplies the DynamoDB client when the table is configured
+     * @return A singleton instance of IdempotencyService
+     */
+    @Provides
+    @Singleton
+    public IdempotencyService provideIdempotencyService(OrchestrationConfig config,
+            Provider<DynamoDbEnhancedClient> enhancedClient) {
+        DynamoDbIdempotencyRepository repository = config.getIdempotencyTableName() == null
+                ? null
+                : new DynamoDbIdempotencyRepository(enhancedClient.get(), config.getIdempotencyTableName());
+        return new IdempotencyService(repository, config.getIdempotencyCacheSize(), config.getIdempotencyTtl(),
+                config.getIdempotencyClaimLease(), Clock.systemUTC());
+    }
+
+    /**
+     * Provides the CharacterSnapshotCache that fills in a goal's currentValue.
+     * It is a singleton, so snapshots carry over between invocations in the
+     * same container.
+     *
+     * @param config         The orchestration configuration
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param metrics        The recorder for the cache's hits, misses and lookup latency
+     * @return A singleton instance of CharacterSnapshotCache
+     * @throws IllegalStateException if CHARACTER_SNAPSHOT_TABLE_NAME is not set
      */
     @Provides
     @Singleton
-    public AmazonEventBridge provideAmazonEventBridge() {
-        return AmazonEventBridgeClientBuilder.defaultClient();
+    public CharacterSnapshotCache provideCharacterSnapshotCache(OrchestrationConfig config,
+            DynamoDbEnhancedClient enhancedClient, MetricsRecorder metrics) {
+        if (config.getCharacterSnapshotTableName() == null) {
+            throw new IllegalStateException("CHARACTER_SNAPSHOT_TABLE_NAME is required for the snapshot cache");
+        }
+        return new CharacterSnapshotCache(
+                new DynamoDbCharacterSnapshotRepository(enhancedClient, config.getCharacterSnapshotTableName()),
+                config.getSnapshotCacheSize(),
+                config.getSnapshotCacheTtl(),
+                Clock.systemUTC(),
+                metrics);
     }
-}
\ No newline at end of file
+}
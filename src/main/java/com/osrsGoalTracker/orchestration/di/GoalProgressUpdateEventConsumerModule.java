@@ -0,0 +1,187 @@
+package com.osrsGoalTracker.orchestration.di;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.orchestration.config.GoalProgressConsumerConfig;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbGoalProgressRepository;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.service.EventBridgeBatchPublisher;
+import com.osrsGoalTracker.orchestration.service.GoalProgressUpdateService;
+import com.osrsGoalTracker.orchestration.service.GoalProjectionService;
+import com.osrsGoalTracker.orchestration.service.GoalProjectionService.AtRiskEventTarget;
+import com.osrsGoalTracker.orchestration.service.GoalProjector;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.EnvUtil;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClientBuilder;
+
+/**
+ * Guice module for the GoalProgressUpdateEventConsumerHandler.
+ * This module binds all dependencies required by the handler.
+ */
+public class GoalProgressUpdateEventConsumerModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        // Bind dependencies here when needed
+    }
+
+    /**
+     * Provides an instance of EnvUtil.
+     *
+     * @return A singleton instance of EnvUtil
+     */
+    @Provides
+    @Singleton
+    public EnvUtil provideEnvUtil() {
+        return new EnvUtil();
+    }
+
+    /**
+     * Provides the GoalProgressConsumerConfig, read and validated once from the
+     * environment.
+     *
+     * @param envUtil The utility for accessing environment variables
+     * @return A singleton instance of GoalProgressConsumerConfig
+     * @throws IllegalStateException if a setting is missing or invalid
+     */
+    @Provides
+    @Singleton
+    public GoalProgressConsumerConfig provideGoalProgressConsumerConfig(EnvUtil envUtil) {
+        return GoalProgressConsumerConfig.fromEnvironment(envUtil::getEnvVariable);
+    }
+
+    /**
+     * Provides the MetricsRecorder for the consumer's per-batch metrics,
+     * written to standard output in CloudWatch Embedded Metric Format unless
+     * METRICS_ENABLED is false.
+     *
+     * @param config The consumer configuration
+     * @return A singleton instance of MetricsRecorder
+     */
+    @Provides
+    @Singleton
+    public MetricsRecorder provideMetricsRecorder(GoalProgressConsumerConfig config) {
+        if (!config.isMetricsEnabled()) {
+            return MetricsRecorder.discarding();
+        }
+        return new EmfMetricsRecorder(config.getMetricsNamespace(),
+                Map.of("Handler", "GoalProgressUpdateEventConsumer"), System.out::println, Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of DynamoDbClient.
+     * DYNAMODB_ENDPOINT points it at DynamoDB Local when set.
+     *
+     * @param config The consumer configuration
+     * @return A singleton instance of DynamoDbClient
+     */
+    @Provides
+    @Singleton
+    public DynamoDbClient provideDynamoDbClient(GoalProgressConsumerConfig config) {
+        DynamoDbClientBuilder builder = DynamoDbClient.builder();
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getDynamoDbEndpoint() != null) {
+            builder.endpointOverride(config.getDynamoDbEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of GoalProgressRepository.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The consumer configuration
+     * @return A singleton instance of GoalProgressRepository
+     */
+    @Provides
+    @Singleton
+    public GoalProgressRepository provideGoalProgressRepository(DynamoDbClient dynamoDb,
+            GoalProgressConsumerConfig config) {
+        return new DynamoDbGoalProgressRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getGoalProgressTableName(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of EventBridgeAsyncClient, for at-risk events.
+     *
+     * @param config The consumer configuration
+     * @return A singleton instance of EventBridgeAsyncClient
+     */
+    @Provides
+    @Singleton
+    public EventBridgeAsyncClient provideEventBridgeAsyncClient(GoalProgressConsumerConfig config) {
+        EventBridgeAsyncClientBuilder builder = EventBridgeAsyncClient.builder();
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of EventBridgeBatchPublisher.
+     *
+     * @param eventBridge The EventBridge client used to publish events
+     * @return A singleton instance of EventBridgeBatchPublisher
+     */
+    @Provides
+    @Singleton
+    public EventBridgeBatchPublisher provideEventBridgeBatchPublisher(EventBridgeAsyncClient eventBridge) {
+        return new EventBridgeBatchPublisher(eventBridge);
+    }
+
+    /**
+     * Provides an instance of GoalProgressUpdateService.
+     * Chunks run on a fixed number of virtual threads, so PROGRESS_WRITE_PARALLELISM
+     * bounds the BatchWriteItem calls in flight while a thread waiting on
+     * DynamoDB or on a retry delay costs no platform thread. The EventBridge
+     * publisher is only created when PROJECTION_ENABLED is true.
+     *
+     * @param repository The goal progress store
+     * @param config     The consumer configuration
+     * @param publisher  The publisher for at-risk events
+     * @return A singleton instance of GoalProgressUpdateService
+     */
+    @Provides
+    @Singleton
+    public GoalProgressUpdateService provideGoalProgressUpdateService(GoalProgressRepository repository,
+            GoalProgressConsumerConfig config, Provider<EventBridgeBatchPublisher> publisher) {
+        ExecutorService executor = Executors.newFixedThreadPool(config.getWriteParallelism(),
+                Thread.ofVirtual().name("progress-writer-", 0).factory());
+        GoalProjectionService projectionService = null;
+        if (config.isProjectionEnabled()) {
+            projectionService = new GoalProjectionService(
+                    repository,
+                    new GoalProjector(config.getProjectionHalfLife(), config.getProjectionMinObservations()),
+                    publisher.get(),
+                    new AtRiskEventTarget(config.getEventBusName(), config.getAtRiskEventDetailType(),
+                            config.getEventSource()),
+                    Clock.systemUTC());
+        }
+        return new GoalProgressUpdateService(
+                repository,
+                config.getCoalescing(),
+                executor,
+                new JitteredBackoff(config.getWriteRetryBaseDelay(), config.getWriteRetryMaxDelay()),
+                config.getWriteMaxAttempts(),
+                projectionService);
+    }
+}
@@ -0,0 +1,232 @@
+package com.osrsGoalTracker.orchestration.di;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.orchestration.config.HiscoreRefreshConfig;
+import com.osrsGoalTracker.orchestration.external.HiscoreClient;
+import com.osrsGoalTracker.orchestration.external.HttpHiscoreClient;
+import com.osrsGoalTracker.orchestration.repository.ActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbCharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbGoalProgressRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbRefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.repository.InMemoryRefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.repository.RefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.service.EventBridgeBatchPublisher;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService.GoalStores;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService.ProgressEventTarget;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService.RefreshSettings;
+import com.osrsGoalTracker.orchestration.util.EnvUtil;
+import com.osrsGoalTracker.orchestration.util.RateLimiter;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClientBuilder;
+
+/**
+ * Guice module for the HiscoreRefreshJobHandler.
+ * This module binds all dependencies required by the handler.
+ */
+public class HiscoreRefreshJobModule extends AbstractModule {
+
+    private static final String REFRESH_JOB_NAME = "hiscore-refresh";
+
+    @Override
+    protected void configure() {
+        // Bind dependencies here when needed
+    }
+
+    /**
+     * Provides an instance of EnvUtil.
+     *
+     * @return A singleton instance of EnvUtil
+     */
+    @Provides
+    @Singleton
+    public EnvUtil provideEnvUtil() {
+        return new EnvUtil();
+    }
+
+    /**
+     * Provides the HiscoreRefreshConfig, read and validated once from the
+     * environment.
+     *
+     * @param envUtil The utility for accessing environment variables
+     * @return A singleton instance of HiscoreRefreshConfig
+     * @throws IllegalStateException if a setting is missing or invalid
+     */
+    @Provides
+    @Singleton
+    public HiscoreRefreshConfig provideHiscoreRefreshConfig(EnvUtil envUtil) {
+        return HiscoreRefreshConfig.fromEnvironment(envUtil::getEnvVariable);
+    }
+
+    /**
+     * Provides an instance of DynamoDbClient.
+     * DYNAMODB_ENDPOINT points it at DynamoDB Local when set.
+     *
+     * @param config The job configuration
+     * @return A singleton instance of DynamoDbClient
+     */
+    @Provides
+    @Singleton
+    public DynamoDbClient provideDynamoDbClient(HiscoreRefreshConfig config) {
+        DynamoDbClientBuilder builder = DynamoDbClient.builder();
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getDynamoDbEndpoint() != null) {
+            builder.endpointOverride(config.getDynamoDbEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of ActiveGoalRepository.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The job configuration
+     * @return A singleton instance of ActiveGoalRepository
+     */
+    @Provides
+    @Singleton
+    public ActiveGoalRepository provideActiveGoalRepository(DynamoDbClient dynamoDb, HiscoreRefreshConfig config) {
+        return new DynamoDbActiveGoalRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getGoalsTableName(),
+                config.getGoalPageSize());
+    }
+
+    /**
+     * Provides an instance of GoalProgressRepository, from which the job reads
+     * the progress last written for each goal.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The job configuration
+     * @return A singleton instance of GoalProgressRepository
+     */
+    @Provides
+    @Singleton
+    public GoalProgressRepository provideGoalProgressRepository(DynamoDbClient dynamoDb,
+            HiscoreRefreshConfig config) {
+        return new DynamoDbGoalProgressRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getGoalProgressTableName(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of RefreshCursorRepository. Without
+     * REFRESH_CURSOR_TABLE_NAME the cursor only survives while the container
+     * stays warm.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The job configuration
+     * @return A singleton instance of RefreshCursorRepository
+     */
+    @Provides
+    @Singleton
+    public RefreshCursorRepository provideRefreshCursorRepository(DynamoDbClient dynamoDb,
+            HiscoreRefreshConfig config) {
+        if (config.getRefreshCursorTableName() == null) {
+            return new InMemoryRefreshCursorRepository();
+        }
+        return new DynamoDbRefreshCursorRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getRefreshCursorTableName(),
+                REFRESH_JOB_NAME,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of EventBridgeAsyncClient.
+     *
+     * @param config The job configuration
+     * @return A singleton instance of EventBridgeAsyncClient
+     */
+    @Provides
+    @Singleton
+    public EventBridgeAsyncClient provideEventBridgeAsyncClient(HiscoreRefreshConfig config) {
+        EventBridgeAsyncClientBuilder builder = EventBridgeAsyncClient.builder();
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of EventBridgeBatchPublisher.
+     *
+     * @param eventBridge The EventBridge client used to publish events
+     * @return A singleton instance of EventBridgeBatchPublisher
+     */
+    @Provides
+    @Singleton
+    public EventBridgeBatchPublisher provideEventBridgeBatchPublisher(EventBridgeAsyncClient eventBridge) {
+        return new EventBridgeBatchPublisher(eventBridge);
+    }
+
+    /**
+     * Provides an instance of HiscoreClient.
+     * The JDK client runs its callbacks on virtual threads; the job blocks on
+     * each response from a virtual thread of its own, so neither side holds a
+     * platform thread while waiting on the hiscores.
+     *
+     * @param config The job configuration
+     * @return A singleton instance of HiscoreClient
+     */
+    @Provides
+    @Singleton
+    public HiscoreClient provideHiscoreClient(HiscoreRefreshConfig config) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.getHiscoreTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        return new HttpHiscoreClient(httpClient, config.getHiscoreBaseUri(), config.getHiscoreTimeout());
+    }
+
+    /**
+     * Provides an instance of HiscoreRefreshService. Without
+     * CHARACTER_SNAPSHOT_TABLE_NAME no character snapshots are saved.
+     *
+     * @param goalRepository     The source of active goals
+     * @param progressRepository The store of the progress last written for each goal
+     * @param cursorRepository   The store of where the next run resumes
+     * @param dynamoDb           The DynamoDB client
+     * @param hiscoreClient      The hiscores client
+     * @param publisher          The publisher for progress events
+     * @param config             The job configuration
+     * @return A singleton instance of HiscoreRefreshService
+     */
+    @Provides
+    @Singleton
+    public HiscoreRefreshService provideHiscoreRefreshService(ActiveGoalRepository goalRepository,
+            GoalProgressRepository progressRepository, RefreshCursorRepository cursorRepository,
+            DynamoDbClient dynamoDb, HiscoreClient hiscoreClient, EventBridgeBatchPublisher publisher,
+            HiscoreRefreshConfig config) {
+        DynamoDbCharacterSnapshotRepository snapshotRepository = config.getCharacterSnapshotTableName() == null
+                ? null
+                : new DynamoDbCharacterSnapshotRepository(
+                        DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                        config.getCharacterSnapshotTableName());
+        return new HiscoreRefreshService(
+                new GoalStores(goalRepository, progressRepository, cursorRepository, snapshotRepository),
+                hiscoreClient,
+                new RateLimiter(config.getHiscoreRequestsPerSecond()),
+                publisher,
+                new ProgressEventTarget(config.getEventBusName(), config.getProgressDetailType(),
+                        config.getEventSource()),
+                new RefreshSettings(config.getHiscoreMaxConcurrency(), config.getStallCheckInterval()),
+                Clock.systemUTC());
+    }
+}
@@ -0,0 +1,201 @@
+package com.osrsGoalTracker.orchestration.di;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.orchestration.config.NotificationJobConfig;
+import com.osrsGoalTracker.orchestration.external.DiscordWebhookNotificationChannel;
+import com.osrsGoalTracker.orchestration.external.EmailRelayNotificationChannel;
+import com.osrsGoalTracker.orchestration.repository.ActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbNotificationScheduleRepository;
+import com.osrsGoalTracker.orchestration.repository.DynamoDbRefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.repository.InMemoryRefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.repository.NotificationScheduleRepository;
+import com.osrsGoalTracker.orchestration.repository.RefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.service.NotificationDispatcher;
+import com.osrsGoalTracker.orchestration.service.NotificationJobService;
+import com.osrsGoalTracker.orchestration.service.NotificationScheduler;
+import com.osrsGoalTracker.orchestration.util.EnvUtil;
+import com.osrsGoalTracker.orchestration.util.RateLimiter;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+
+/**
+ * Guice module for the NotificationJobHandler.
+ * This module binds all dependencies required by the handler.
+ */
+public class NotificationJobModule extends AbstractModule {
+
+    private static final String NOTIFICATION_JOB_NAME = "notification-sync";
+
+    @Override
+    protected void configure() {
+        // Bind dependencies here when needed
+    }
+
+    /**
+     * Provides an instance of EnvUtil.
+     *
+     * @return A singleton instance of EnvUtil
+     */
+    @Provides
+    @Singleton
+    public EnvUtil provideEnvUtil() {
+        return new EnvUtil();
+    }
+
+    /**
+     * Provides the NotificationJobConfig, read and validated once from the
+     * environment.
+     *
+     * @param envUtil The utility for accessing environment variables
+     * @return A singleton instance of NotificationJobConfig
+     * @throws IllegalStateException if a setting is missing or invalid
+     */
+    @Provides
+    @Singleton
+    public NotificationJobConfig provideNotificationJobConfig(EnvUtil envUtil) {
+        return NotificationJobConfig.fromEnvironment(envUtil::getEnvVariable);
+    }
+
+    /**
+     * Provides an instance of DynamoDbClient.
+     * DYNAMODB_ENDPOINT points it at DynamoDB Local when set.
+     *
+     * @param config The job configuration
+     * @return A singleton instance of DynamoDbClient
+     */
+    @Provides
+    @Singleton
+    public DynamoDbClient provideDynamoDbClient(NotificationJobConfig config) {
+        DynamoDbClientBuilder builder = DynamoDbClient.builder();
+        if (config.getRegion() != null) {
+            builder.region(Region.of(config.getRegion()));
+        }
+        if (config.getDynamoDbEndpoint() != null) {
+            builder.endpointOverride(config.getDynamoDbEndpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Provides an instance of ActiveGoalRepository.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The job configuration
+     * @return A singleton instance of ActiveGoalRepository
+     */
+    @Provides
+    @Singleton
+    public ActiveGoalRepository provideActiveGoalRepository(DynamoDbClient dynamoDb, NotificationJobConfig config) {
+        return new DynamoDbActiveGoalRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getGoalsTableName(),
+                config.getGoalPageSize());
+    }
+
+    /**
+     * Provides an instance of NotificationScheduleRepository.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The job configuration
+     * @return A singleton instance of NotificationScheduleRepository
+     */
+    @Provides
+    @Singleton
+    public NotificationScheduleRepository provideNotificationScheduleRepository(DynamoDbClient dynamoDb,
+            NotificationJobConfig config) {
+        return new DynamoDbNotificationScheduleRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getNotificationScheduleTableName());
+    }
+
+    /**
+     * Provides an instance of RefreshCursorRepository, kept under the job's
+     * own name so it does not disturb the hiscore refresh's cursor. Without
+     * REFRESH_CURSOR_TABLE_NAME the cursor only survives while the container
+     * stays warm.
+     *
+     * @param dynamoDb The DynamoDB client
+     * @param config   The job configuration
+     * @return A singleton instance of RefreshCursorRepository
+     */
+    @Provides
+    @Singleton
+    public RefreshCursorRepository provideRefreshCursorRepository(DynamoDbClient dynamoDb,
+            NotificationJobConfig config) {
+        if (config.getRefreshCursorTableName() == null) {
+            return new InMemoryRefreshCursorRepository();
+        }
+        return new DynamoDbRefreshCursorRepository(
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+                config.getRefreshCursorTableName(),
+                NOTIFICATION_JOB_NAME,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of NotificationScheduler, with a dispatcher for
+     * each channel that has an endpoint configured.
+     *
+     * @param scheduleRepository The store every due time is written to
+     * @param config             The job configuration
+     * @return A singleton instance of NotificationScheduler
+     */
+    @Provides
+    @Singleton
+    public NotificationScheduler provideNotificationScheduler(NotificationScheduleRepository scheduleRepository,
+            NotificationJobConfig config) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.getChannelTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        List<NotificationDispatcher> dispatchers = new ArrayList<>();
+        if (config.getDiscordWebhookUri() != null) {
+            dispatchers.add(new NotificationDispatcher(
+                    new DiscordWebhookNotificationChannel(httpClient, config.getDiscordWebhookUri(),
+                            config.getChannelTimeout()),
+                    new RateLimiter(config.getDiscordRequestsPerMinute() / 60.0),
+                    config.getMaxAttempts(),
+                    config.getMaxRetryAfter()));
+        }
+        if (config.getEmailRelayUri() != null) {
+            dispatchers.add(new NotificationDispatcher(
+                    new EmailRelayNotificationChannel(httpClient, config.getEmailRelayUri(),
+                            config.getChannelTimeout(), config.getEmailBatchSize()),
+                    new RateLimiter(config.getEmailRequestsPerMinute() / 60.0),
+                    config.getMaxAttempts(),
+                    config.getMaxRetryAfter()));
+        }
+        return new NotificationScheduler(dispatchers, config.getTick(), config.getWheelSize(), scheduleRepository,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Provides an instance of NotificationJobService.
+     *
+     * @param scheduler          The scheduler
+     * @param scheduleRepository The store the schedule is restored from
+     * @param goalRepository     The source of active goals
+     * @param cursorRepository   The store of where the next pass over the goals resumes
+     * @return A singleton instance of NotificationJobService
+     */
+    @Provides
+    @Singleton
+    public NotificationJobService provideNotificationJobService(NotificationScheduler scheduler,
+            NotificationScheduleRepository scheduleRepository, ActiveGoalRepository goalRepository,
+            RefreshCursorRepository cursorRepository) {
+        return new NotificationJobService(scheduler, scheduleRepository, goalRepository, cursorRepository,
+                Clock.systemUTC());
+    }
+}
@@ -0,0 +1,47 @@
+package com.osrsGoalTracker.orchestration.di;
+
+import java.time.Clock;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.repository.OutboxRepository;
+import com.osrsGoalTracker.orchestration.service.EventPublisher;
+import com.osrsGoalTracker.orchestration.service.OutboxDrainService;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+/**
+ * Guice module for the OutboxDrainerHandler.
+ * The drainer shares the producer's configuration and transport bindings, so
+ * it is deployed with the same environment as the producer.
+ */
+public class OutboxDrainerModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new GoalCreationRequestEventProducerModule());
+    }
+
+    /**
+     * Provides an instance of OutboxDrainService.
+     *
+     * @param repository The outbox
+     * @param transport  The publisher for the configured transport
+     * @param config     The orchestration configuration
+     * @return A singleton instance of OutboxDrainService
+     */
+    @Provides
+    @Singleton
+    public OutboxDrainService provideOutboxDrainService(OutboxRepository repository,
+            @Named(GoalCreationRequestEventProducerModule.TRANSPORT) EventPublisher transport,
+            OrchestrationConfig config) {
+        return new OutboxDrainService(
+                repository,
+                transport,
+                new JitteredBackoff(config.getPublishRetryBaseDelay(), config.getPublishRetryMaxDelay()),
+                config.getPublishMaxAttempts(),
+                Clock.systemUTC());
+    }
+}
@@ -0,0 +1,200 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * A versioned envelope around an event, as read by an EventEnvelopeReader.
+ * The header fields are read eagerly; the payload is kept as the bytes it
+ * arrived in and is only bound to an event class when asked for, so a
+ * consumer that routes or filters on the header never pays for binding the
+ * events it drops.
+ *
+ * On the wire an envelope is a JSON object with the header fields followed by
+ * the event itself:
+ *
+ * <pre>
+ * {"type":"GoalCreationRequestEvent","schemaVersion":1,"userId":"user123",
+ *  "correlationId":"...","emittedAt":1767225600.000000000,"payload":{...}}
+ * </pre>
+ *
+ * Events written without an envelope are read as an envelope with no type and
+ * schema version 1 whose payload is the whole document, so consumers can read
+ * both while producers move over.
+ */
+public final class EventEnvelope {
+
+    /** The field holding the event type. */
+    public static final String TYPE_FIELD = "type";
+
+    /** The field holding the schema version of the payload. */
+    public static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+
+    /** The field holding the user the event belongs to. */
+    public static final String USER_ID_FIELD = "userId";
+
+    /** The field holding the correlation ID of the invocation that emitted the event. */
+    public static final String CORRELATION_ID_FIELD = "correlationId";
+
+    /** The field holding when the event was emitted, in decimal epoch seconds. */
+    public static final String EMITTED_AT_FIELD = "emittedAt";
+
+    /** The field holding the event itself. */
+    public static final String PAYLOAD_FIELD = "payload";
+
+    /** The schema version of events written without an envelope. */
+    public static final int LEGACY_SCHEMA_VERSION = 1;
+
+    private final String type;
+    private final int schemaVersion;
+    private final String userId;
+    private final String correlationId;
+    private final Instant emittedAt;
+    private final byte[] source;
+    private final int payloadOffset;
+    private final int payloadLength;
+    private final EventEnvelopeReader reader;
+
+    /**
+     * Creates an envelope. Only the EventEnvelopeReader creates envelopes.
+     *
+     * @param type          The event type, or null for an event written without an envelope
+     * @param schemaVersion The schema version of the payload
+     * @param userId        The user the event belongs to, or null
+     * @param correlationId The correlation ID, or null
+     * @param emittedAt     When the event was emitted, or null
+     * @param source        The document the envelope was read from, which is not copied
+     * @param payloadOffset Where the payload starts in the document
+     * @param payloadLength The length of the payload
+     * @param reader        The reader that binds the payload
+     */
+    EventEnvelope(String type, int schemaVersion, String userId, String correlationId, Instant emittedAt,
+            byte[] source, int payloadOffset, int payloadLength, EventEnvelopeReader reader) {
+        this.type = type;
+        this.schemaVersion = schemaVersion;
+        this.userId = userId;
+        this.correlationId = correlationId;
+        this.emittedAt = emittedAt;
+        this.source = source;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+        this.reader = reader;
+    }
+
+    /**
+     * Gets the event type.
+     *
+     * @return The event type, or null for an event written without an envelope
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the schema version the payload was written with.
+     *
+     * @return The schema version
+     */
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Gets the user the event belongs to.
+     *
+     * @return The userId, or null if the header does not carry one
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the correlation ID of the invocation that emitted the event.
+     *
+     * @return The correlation ID, or null if the header does not carry one
+     */
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * Gets when the event was emitted.
+     *
+     * @return The emission time, or null if the header does not carry one
+     */
+    public Instant getEmittedAt() {
+        return emittedAt;
+    }
+
+    /**
+     * Checks whether the envelope holds an event of the given type.
+     *
+     * @param eventType The event type, such as GoalCreationRequestEvent.EVENT_TYPE
+     * @return true if the type matches
+     */
+    public boolean isType(String eventType) {
+        return eventType.equals(type);
+    }
+
+    /**
+     * Gets a copy of the payload exactly as it was written, for forwarding
+     * the event without binding it.
+     *
+     * @return The payload's JSON bytes
+     */
+    public byte[] getPayloadBytes() {
+        return Arrays.copyOfRange(source, payloadOffset, payloadOffset + payloadLength);
+    }
+
+    /**
+     * Binds the payload to an event class, upcasting it first if it was
+     * written with an older schema version. Each call binds the payload again.
+     *
+     * @param eventClass The event class
+     * @param <T>        The event type
+     * @return The event
+     * @throws IllegalArgumentException if the payload cannot be upcast or bound
+     */
+    public <T> T readPayload(Class<T> eventClass) {
+        return reader.readPayload(this, eventClass);
+    }
+
+    /**
+     * Gets the document the envelope was read from.
+     *
+     * @return The document, not copied
+     */
+    byte[] getSource() {
+        return source;
+    }
+
+    /**
+     * Gets where the payload starts in the document.
+     *
+     * @return The offset
+     */
+    int getPayloadOffset() {
+        return payloadOffset;
+    }
+
+    /**
+     * Gets the length of the payload.
+     *
+     * @return The length in bytes
+     */
+    int getPayloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * Describes the envelope's header, without the payload.
+     *
+     * @return The description
+     */
+    @Override
+    public String toString() {
+        return "EventEnvelope(type=" + type + ", schemaVersion=" + schemaVersion + ", userId=" + userId
+                + ", correlationId=" + correlationId + ", emittedAt=" + emittedAt + ", payloadLength="
+                + payloadLength + ")";
+    }
+}
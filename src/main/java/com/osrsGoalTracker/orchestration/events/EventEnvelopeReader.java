@@ -0,0 +1,219 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Reads EventEnvelopes with Jackson's streaming API. Only the header fields
+ * are decoded; the payload is stepped over token by token without building
+ * strings or objects, and its position is kept so it can be bound later with
+ * EventEnvelope.readPayload. Payloads written with an older schema version
+ * are passed through the upcasters first.
+ * Instances are immutable and thread-safe.
+ */
+public class EventEnvelopeReader {
+
+    private static final int NANO_DIGITS = 9;
+
+    private final ObjectMapper objectMapper;
+    private final EventUpcasters upcasters;
+
+    /**
+     * Creates a reader with no upcasters and an ObjectMapper that reads the
+     * published event classes.
+     */
+    public EventEnvelopeReader() {
+        this(EventUpcasters.none());
+    }
+
+    /**
+     * Creates a reader with the given upcasters and an ObjectMapper that reads
+     * the published event classes.
+     *
+     * @param upcasters The upcasters for older payloads
+     */
+    public EventEnvelopeReader(EventUpcasters upcasters) {
+        this(new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES), upcasters);
+    }
+
+    /**
+     * Creates a reader that binds payloads with the given ObjectMapper.
+     *
+     * @param objectMapper The mapper payloads are bound with
+     * @param upcasters    The upcasters for older payloads
+     */
+    public EventEnvelopeReader(ObjectMapper objectMapper, EventUpcasters upcasters) {
+        this.objectMapper = objectMapper;
+        this.upcasters = upcasters;
+    }
+
+    /**
+     * Reads an envelope's header.
+     *
+     * @param document The JSON document
+     * @return The envelope
+     * @throws IllegalArgumentException if the document is not an event
+     */
+    public EventEnvelope read(String document) {
+        return read(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads an envelope's header. The document is not copied, so it must not
+     * be changed while the envelope is in use.
+     *
+     * @param document The JSON document, in UTF-8
+     * @return The envelope
+     * @throws IllegalArgumentException if the document is not an event
+     */
+    public EventEnvelope read(byte[] document) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(document)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("An event must be a JSON object");
+            }
+            String type = null;
+            Integer schemaVersion = null;
+            String userId = null;
+            String correlationId = null;
+            Instant emittedAt = null;
+            int payloadOffset = -1;
+            int payloadLength = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case EventEnvelope.TYPE_FIELD -> type = readString(parser, field);
+                    case EventEnvelope.SCHEMA_VERSION_FIELD -> schemaVersion = readVersion(parser, value);
+                    case EventEnvelope.USER_ID_FIELD -> userId = readString(parser, field);
+                    case EventEnvelope.CORRELATION_ID_FIELD -> correlationId = readString(parser, field);
+                    case EventEnvelope.EMITTED_AT_FIELD -> emittedAt = readInstant(parser, value);
+                    case EventEnvelope.PAYLOAD_FIELD -> {
+                        if (value != JsonToken.START_OBJECT) {
+                            throw new IllegalArgumentException("The payload must be a JSON object");
+                        }
+                        payloadOffset = (int) parser.currentTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                        payloadLength = (int) parser.currentLocation().getByteOffset() - payloadOffset;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (payloadOffset < 0) {
+                return new EventEnvelope(null, EventEnvelope.LEGACY_SCHEMA_VERSION, userId, correlationId, null,
+                        document, 0, document.length, this);
+            }
+            if (type == null || schemaVersion == null) {
+                throw new IllegalArgumentException("An envelope must have a " + EventEnvelope.TYPE_FIELD + " and a "
+                        + EventEnvelope.SCHEMA_VERSION_FIELD);
+            }
+            return new EventEnvelope(type, schemaVersion, userId, correlationId, emittedAt, document,
+                    payloadOffset, payloadLength, this);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid event JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Binds an envelope's payload, upcasting it first if it is older than the
+     * current version of its type.
+     *
+     * @param envelope   The envelope
+     * @param eventClass The event class
+     * @param <T>        The event type
+     * @return The event
+     * @throws IllegalArgumentException if the payload cannot be upcast or bound
+     */
+    <T> T readPayload(EventEnvelope envelope, Class<T> eventClass) {
+        try {
+            if (!upcasters.needsUpcast(envelope.getType(), envelope.getSchemaVersion())) {
+                return objectMapper.readValue(envelope.getSource(), envelope.getPayloadOffset(),
+                        envelope.getPayloadLength(), eventClass);
+            }
+            JsonNode payload;
+            try (JsonParser parser = objectMapper.getFactory().createParser(envelope.getSource(),
+                    envelope.getPayloadOffset(), envelope.getPayloadLength())) {
+                payload = objectMapper.readTree(parser);
+            }
+            ObjectNode upcast = upcasters.upcast(envelope.getType(), envelope.getSchemaVersion(),
+                    (ObjectNode) payload);
+            return objectMapper.treeToValue(upcast, eventClass);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read " + envelope.getType() + " v"
+                    + envelope.getSchemaVersion() + " as " + eventClass.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a string header field.
+     *
+     * @param parser The parser, positioned on the value
+     * @param field  The field name, used in error messages
+     * @return The string, or null for a JSON null
+     * @throws IOException if the JSON cannot be read
+     */
+    private static String readString(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.currentToken().isScalarValue()) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Reads the schema version.
+     *
+     * @param parser The parser, positioned on the value
+     * @param value  The value's token
+     * @return The version
+     * @throws IOException if the JSON cannot be read
+     */
+    private static int readVersion(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT || parser.getLongValue() < EventEnvelope.LEGACY_SCHEMA_VERSION
+                || parser.getLongValue() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(EventEnvelope.SCHEMA_VERSION_FIELD + " must be a positive integer");
+        }
+        return parser.getIntValue();
+    }
+
+    /**
+     * Reads the emission time, written as decimal epoch seconds or as an
+     * ISO-8601 string.
+     *
+     * @param parser The parser, positioned on the value
+     * @param value  The value's token
+     * @return The instant, or null for a JSON null
+     * @throws IOException if the JSON cannot be read
+     */
+    private static Instant readInstant(JsonParser parser, JsonToken value) throws IOException {
+        try {
+            return switch (value) {
+                case VALUE_NULL -> null;
+                case VALUE_STRING -> Instant.parse(parser.getText());
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                    BigDecimal seconds = parser.getDecimalValue();
+                    yield Instant.ofEpochSecond(seconds.longValue(),
+                            seconds.remainder(BigDecimal.ONE).movePointRight(NANO_DIGITS).intValue());
+                }
+                default -> throw new IllegalArgumentException(EventEnvelope.EMITTED_AT_FIELD + " must be a time");
+            };
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException(EventEnvelope.EMITTED_AT_FIELD + " must be a time", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Measures, on the consumer side, how long a traced event took to arrive.
+ * Two latencies are recorded for each event: the lag from the bus or queue
+ * accepting the event to the consumer handling it, and the pipeline latency
+ * from the producer accepting the original request. Comparing the two shows
+ * whether an event was slow to be published or slow to be consumed.
+ *
+ * Clocks on different hosts drift, so a latency that comes out negative is
+ * recorded as zero.
+ */
+@Log4j2
+public class EventLatencyTracker {
+
+    /** The metric for the time from the bus accepting an event to the consumer handling it. */
+    public static final String BUS_LAG = "BusToConsumerLag";
+
+    /** The metric for the time from the producer accepting a request to the consumer handling its event. */
+    public static final String PIPELINE_LATENCY = "PipelineLatency";
+
+    private static final String SQS_SENT_TIMESTAMP = "SentTimestamp";
+
+    private final MetricsRecorder metrics;
+    private final Clock clock;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param metrics The recorder the latencies are recorded to
+     * @param clock   The clock the latencies are measured by
+     */
+    public EventLatencyTracker(MetricsRecorder metrics, Clock clock) {
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the bus lag and the pipeline latency of an event handled now.
+     * A latency whose start time is unknown is not recorded.
+     *
+     * @param event      The event
+     * @param enqueuedAt When the bus or queue accepted the event, or null if unknown
+     */
+    public void record(TracedEvent event, Instant enqueuedAt) {
+        Instant now = clock.instant();
+        Duration busLag = elapsed(enqueuedAt, now);
+        Duration pipelineLatency = elapsed(event.getIngestedAt(), now);
+        if (busLag != null) {
+            metrics.recordLatency(BUS_LAG, busLag.toNanos());
+        }
+        if (pipelineLatency != null) {
+            metrics.recordLatency(PIPELINE_LATENCY, pipelineLatency.toNanos());
+        }
+        log.debug("Event latency: correlationId={} traceContext={} busLag={} pipelineLatency={}",
+                event.getCorrelationId(), event.getTraceContext(), busLag, pipelineLatency);
+    }
+
+    /**
+     * Returns how long ago the bus or queue accepted an event.
+     *
+     * @param enqueuedAt When the event was accepted, or null if unknown
+     * @return The lag, or null if the time is unknown
+     */
+    public Duration busLag(Instant enqueuedAt) {
+        return elapsed(enqueuedAt, clock.instant());
+    }
+
+    /**
+     * Returns how long ago the producer accepted the request behind an event.
+     *
+     * @param event The event
+     * @return The latency, or null if the event carries no ingest time
+     */
+    public Duration pipelineLatency(TracedEvent event) {
+        return elapsed(event.getIngestedAt(), clock.instant());
+    }
+
+    /**
+     * Reads when SQS accepted a message from its SentTimestamp attribute.
+     *
+     * @param attributes The message attributes, possibly null
+     * @return The send time, or null if the attribute is missing or unreadable
+     */
+    public static Instant sqsSentAt(Map<String, String> attributes) {
+        String sentTimestamp = attributes == null ? null : attributes.get(SQS_SENT_TIMESTAMP);
+        if (sentTimestamp == null) {
+            return null;
+        }
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(sentTimestamp));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the time from a start to now, clamped at zero.
+     *
+     * @param start The start, or null if unknown
+     * @param now   The current time
+     * @return The elapsed time, or null if the start is unknown
+     */
+    private static Duration elapsed(Instant start, Instant now) {
+        if (start == null) {
+            return null;
+        }
+        Duration elapsed = Duration.between(start, now);
+        return elapsed.isNegative() ? Duration.ZERO : elapsed;
+    }
+}
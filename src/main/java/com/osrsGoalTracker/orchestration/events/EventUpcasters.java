@@ -0,0 +1,154 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Upgrades event payloads written with an older schema version to the version
+ * the consumer's event classes expect, so producers and consumers on different
+ * versions can coexist. Each upcaster moves a payload of one type up by one
+ * version, and upcasters are chained to cover larger gaps. A type's current
+ * version is one past its highest upcaster, or
+ * EventEnvelope.LEGACY_SCHEMA_VERSION if it has none.
+ *
+ * Payloads already at the current version are bound straight from their
+ * bytes; only older ones are read into a tree to be upcast. A payload newer
+ * than the current version is bound as it is, ignoring fields the event class
+ * does not know.
+ * Instances are immutable and thread-safe if the upcasters are.
+ */
+public final class EventUpcasters {
+
+    private static final EventUpcasters NONE = new EventUpcasters(Map.of());
+
+    private final Map<String, Map<Integer, UnaryOperator<ObjectNode>>> upcastersByType;
+
+    /**
+     * Creates the upcasters.
+     *
+     * @param upcastersByType The upcasters by event type and the version they upcast from
+     */
+    private EventUpcasters(Map<String, Map<Integer, UnaryOperator<ObjectNode>>> upcastersByType) {
+        this.upcastersByType = upcastersByType;
+    }
+
+    /**
+     * Gets upcasters for consumers whose event classes are all at their first
+     * schema version.
+     *
+     * @return Upcasters that upcast nothing
+     */
+    public static EventUpcasters none() {
+        return NONE;
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @return A builder with no upcasters
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the version payloads of a type are upcast to.
+     *
+     * @param type The event type
+     * @return The current schema version
+     */
+    public int currentVersion(String type) {
+        Map<Integer, UnaryOperator<ObjectNode>> upcasters = upcastersByType.get(type);
+        return upcasters == null ? EventEnvelope.LEGACY_SCHEMA_VERSION : EventEnvelope.LEGACY_SCHEMA_VERSION
+                + upcasters.size();
+    }
+
+    /**
+     * Checks whether a payload must be upcast before it is bound.
+     *
+     * @param type    The event type, or null for an event written without an envelope
+     * @param version The version the payload was written with
+     * @return true if the payload is older than the current version
+     */
+    public boolean needsUpcast(String type, int version) {
+        return type != null && version < currentVersion(type);
+    }
+
+    /**
+     * Upcasts a payload to the current version of its type.
+     *
+     * @param type    The event type
+     * @param version The version the payload was written with
+     * @param payload The payload, which the upcasters may change in place
+     * @return The payload at the current version
+     * @throws IllegalArgumentException if the version is below the first version
+     */
+    public ObjectNode upcast(String type, int version, ObjectNode payload) {
+        if (version < EventEnvelope.LEGACY_SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Invalid schema version " + version + " for " + type);
+        }
+        Map<Integer, UnaryOperator<ObjectNode>> upcasters = upcastersByType.getOrDefault(type, Map.of());
+        ObjectNode upcast = payload;
+        for (int from = version; from < currentVersion(type); from++) {
+            upcast = upcasters.get(from).apply(upcast);
+        }
+        return upcast;
+    }
+
+    /**
+     * Builds EventUpcasters.
+     */
+    public static final class Builder {
+
+        private final Map<String, Map<Integer, UnaryOperator<ObjectNode>>> upcastersByType = new HashMap<>();
+
+        /**
+         * Creates an empty builder.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Adds the upcaster from one version of a type to the next.
+         *
+         * @param type        The event type
+         * @param fromVersion The version the upcaster reads
+         * @param upcaster    Turns a payload at fromVersion into one at fromVersion + 1
+         * @return This builder
+         * @throws IllegalArgumentException if the type already has an upcaster from that version
+         */
+        public Builder register(String type, int fromVersion, UnaryOperator<ObjectNode> upcaster) {
+            if (fromVersion < EventEnvelope.LEGACY_SCHEMA_VERSION) {
+                throw new IllegalArgumentException("Invalid schema version " + fromVersion + " for " + type);
+            }
+            if (upcastersByType.computeIfAbsent(type, key -> new HashMap<>()).putIfAbsent(fromVersion, upcaster)
+                    != null) {
+                throw new IllegalArgumentException("Duplicate upcaster for " + type + " v" + fromVersion);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the upcasters.
+         *
+         * @return The upcasters
+         * @throws IllegalArgumentException if a type's upcasters leave a version uncovered
+         */
+        public EventUpcasters build() {
+            Map<String, Map<Integer, UnaryOperator<ObjectNode>>> copy = new HashMap<>();
+            upcastersByType.forEach((type, upcasters) -> {
+                for (int version = EventEnvelope.LEGACY_SCHEMA_VERSION;
+                        version < EventEnvelope.LEGACY_SCHEMA_VERSION + upcasters.size(); version++) {
+                    if (!upcasters.containsKey(version)) {
+                        throw new IllegalArgumentException("No upcaster for " + type + " v" + version);
+                    }
+                }
+                copy.put(type, Map.copyOf(upcasters));
+            });
+            return new EventUpcasters(Map.copyOf(copy));
+        }
+    }
+}
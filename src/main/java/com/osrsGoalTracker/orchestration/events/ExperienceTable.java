@@ -0,0 +1,174 @@
+package com.osrsGoalTracker.orchestration.events;
+
+/**
+ * The OSRS experience table, for turning the raw experience values of goals
+ * and progress events into levels and progress. The experience needed for
+ * each level is held in a precomputed table, so a level's experience is an
+ * array lookup and an experience value's level is a binary search over at
+ * most 126 entries. Nothing here allocates.
+ *
+ * Levels past 99 are virtual levels: the game shows 99, but experience keeps
+ * counting towards them up to level 126, the last one below the 200M cap.
+ */
+public final class ExperienceTable {
+
+    /** The lowest level of a skill. */
+    public static final int MIN_LEVEL = 1;
+
+    /** The highest level the game shows. */
+    public static final int MAX_LEVEL = 99;
+
+    /** The highest virtual level, the last one below the experience cap. */
+    public static final int MAX_VIRTUAL_LEVEL = 126;
+
+    /** The experience cap of a single skill. */
+    public static final int MAX_XP = 200_000_000;
+
+    /** The experience at which each level starts, ten levels per row, from level 1. */
+    private static final int[] XP_FOR_LEVEL = {
+        0, 83, 174, 276, 388, 512, 650, 801, 969, 1154,
+        1358, 1584, 1833, 2107, 2411, 2746, 3115, 3523, 3973, 4470,
+        5018, 5624, 6291, 7028, 7842, 8740, 9730, 10824, 12031, 13363,
+        14833, 16456, 18247, 20224, 22406, 24815, 27473, 30408, 33648, 37224,
+        41171, 45529, 50339, 55649, 61512, 67983, 75127, 83014, 91721, 101333,
+        111945, 123660, 136594, 150872, 166636, 184040, 203254, 224466, 247886, 273742,
+        302288, 333804, 368599, 407015, 449428, 496254, 547953, 605032, 668051, 737627,
+        814445, 899257, 992895, 1096278, 1210421, 1336443, 1475581, 1629200, 1798808, 1986068,
+        2192818, 2421087, 2673114, 2951373, 3258594, 3597792, 3972294, 4385776, 4842295, 5346332,
+        5902831, 6517253, 7195629, 7944614, 8771558, 9684577, 10692629, 11805606, 13034431, 14391160,
+        15889109, 17542976, 19368992, 21385073, 23611006, 26068632, 28782069, 31777943, 35085654, 38737661,
+        42769801, 47221641, 52136869, 57563718, 63555443, 70170840, 77474828, 85539082, 94442737, 104273167,
+        115126838, 127110260, 140341028, 154948977, 171077457, 188884740
+    };
+
+    /**
+     * Not instantiable.
+     */
+    private ExperienceTable() {
+    }
+
+    /**
+     * Gets the experience at which a level starts.
+     *
+     * @param level The level, from 1 to 126
+     * @return The experience
+     * @throws IllegalArgumentException if the level is out of range
+     */
+    public static int xpForLevel(int level) {
+        if (level < MIN_LEVEL || level > MAX_VIRTUAL_LEVEL) {
+            throw new IllegalArgumentException("Level must be between " + MIN_LEVEL + " and " + MAX_VIRTUAL_LEVEL
+                    + ": " + level);
+        }
+        return XP_FOR_LEVEL[level - 1];
+    }
+
+    /**
+     * Gets the level the game shows for an amount of experience, which stops
+     * at 99.
+     *
+     * @param xp The experience, from 0 to 200M
+     * @return The level, from 1 to 99
+     * @throws IllegalArgumentException if the experience is out of range
+     */
+    public static int levelForXp(long xp) {
+        return Math.min(virtualLevelForXp(xp), MAX_LEVEL);
+    }
+
+    /**
+     * Gets the virtual level for an amount of experience, which carries on
+     * past 99 up to 126.
+     *
+     * @param xp The experience, from 0 to 200M
+     * @return The level, from 1 to 126
+     * @throws IllegalArgumentException if the experience is out of range
+     */
+    public static int virtualLevelForXp(long xp) {
+        checkXp(xp);
+        // The last level whose starting experience is at most xp.
+        int low = 0;
+        int high = XP_FOR_LEVEL.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (XP_FOR_LEVEL[middle] <= xp) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low + 1;
+    }
+
+    /**
+     * Gets the experience still needed to reach the next virtual level.
+     *
+     * @param xp The experience, from 0 to 200M
+     * @return The experience to the next level, or 0 at level 126 and above
+     * @throws IllegalArgumentException if the experience is out of range
+     */
+    public static long xpToNextLevel(long xp) {
+        int level = virtualLevelForXp(xp);
+        return level == MAX_VIRTUAL_LEVEL ? 0 : XP_FOR_LEVEL[level] - xp;
+    }
+
+    /**
+     * Gets the experience still needed to reach a target.
+     *
+     * @param currentXp The current experience, from 0 to 200M
+     * @param targetXp  The target experience, from 0 to 200M
+     * @return The experience remaining, or 0 once the target is reached
+     * @throws IllegalArgumentException if either value is out of range
+     */
+    public static long xpRemaining(long currentXp, long targetXp) {
+        checkXp(currentXp);
+        checkXp(targetXp);
+        return Math.max(0, targetXp - currentXp);
+    }
+
+    /**
+     * Gets how much of a target's experience has been gained, counted from
+     * zero experience.
+     *
+     * @param currentXp The current experience, from 0 to 200M
+     * @param targetXp  The target experience, from 0 to 200M
+     * @return The percentage, from 0 to 100
+     * @throws IllegalArgumentException if either value is out of range
+     */
+    public static double percentComplete(long currentXp, long targetXp) {
+        return percentComplete(0, currentXp, targetXp);
+    }
+
+    /**
+     * Gets how much of the experience between a starting point, such as the
+     * experience a goal was created at, and a target has been gained.
+     *
+     * @param startXp   The starting experience, from 0 to 200M
+     * @param currentXp The current experience, from 0 to 200M
+     * @param targetXp  The target experience, from 0 to 200M
+     * @return The percentage, from 0 to 100; 100 if the target is not above the start
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    public static double percentComplete(long startXp, long currentXp, long targetXp) {
+        checkXp(startXp);
+        checkXp(currentXp);
+        checkXp(targetXp);
+        if (targetXp <= startXp || currentXp >= targetXp) {
+            return 100.0;
+        }
+        if (currentXp <= startXp) {
+            return 0.0;
+        }
+        return 100.0 * (currentXp - startXp) / (targetXp - startXp);
+    }
+
+    /**
+     * Checks that an experience value is within the cap.
+     *
+     * @param xp The experience
+     * @throws IllegalArgumentException if the experience is negative or above 200M
+     */
+    private static void checkXp(long xp) {
+        if (xp < 0 || xp > MAX_XP) {
+            throw new IllegalArgumentException("Experience must be between 0 and " + MAX_XP + ": " + xp);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event published when a goal's projected completion slips past its target
+ * date. It is published once, when the goal falls behind; a goal that catches
+ * up and falls behind again is published again.
+ */
+@Data
+@NoArgsConstructor
+public class GoalAtRiskEvent implements TracedEvent {
+    /**
+     * The ID of the user who owns the goal.
+     */
+    private String userId;
+
+    /**
+     * The name of the character the goal is for.
+     */
+    private String characterName;
+
+    /**
+     * The goal.
+     */
+    private String goalId;
+
+    /**
+     * The progress the projection was made from.
+     */
+    private long progressValue;
+
+    /**
+     * The target value of the goal.
+     */
+    private long targetValue;
+
+    /**
+     * The deadline of the goal.
+     */
+    private Instant targetDate;
+
+    /**
+     * When the goal is projected to be completed at its recent rate; omitted
+     * when progress has stalled and the goal would never be completed.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant projectedCompletion;
+
+    /**
+     * The recent rate of progress, per day.
+     */
+    private double progressPerDay;
+
+    /**
+     * When the progress event the projection was made from was ingested; omitted from the JSON when absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant ingestedAt;
+
+    /**
+     * The ID of the invocation that produced the progress event; omitted from the JSON when absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String correlationId;
+
+    /**
+     * The trace header of the progress event; omitted from the JSON when absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String traceContext;
+}
@@ -3,6 +3,7 @@ package com.osrsGoalTracker.orchestration.events;
 import java.time.Instant;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
@@ -12,13 +13,24 @@ import lombok.Data;
 /**
  * Event published when a goal is requested to be created.
  * Contains all necessary information to create a goal and set its initial
- * progress.
+ * progress, and the trace fields stamped on it when it was accepted.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonDeserialize(builder = GoalCreationRequestEvent.GoalCreationRequestEventBuilder.class)
-public class GoalCreationRequestEvent {
+public class GoalCreationRequestEvent implements TracedEvent {
+    /**
+     * The type of this event in an EventEnvelope.
+     */
+    public static final String EVENT_TYPE = "GoalCreationRequestEvent";
+
+    /**
+     * The schema version of this event class, which is what an EventEnvelope
+     * payload is upcast to.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
     /**
      * The ID of the user who owns this goal.
      */
@@ -64,6 +76,24 @@ public class GoalCreationRequestEvent {
      */
     private final String frequency;
 
+    /**
+     * When the request was accepted; omitted from the JSON when absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Instant ingestedAt;
+
+    /**
+     * The Lambda request ID of the invocation that accepted the request; omitted from the JSON when absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String correlationId;
+
+    /**
+     * The trace header of the request that created this event; omitted from the JSON when absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String traceContext;
+
     /**
      * Builder for GoalCreationRequestEvent.
      */
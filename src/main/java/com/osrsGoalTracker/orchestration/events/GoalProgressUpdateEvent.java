@@ -1,16 +1,32 @@
 package com.osrsGoalTracker.orchestration.events;
 
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
  * Request model for when a goal progress is updated.
+ * The goal's target value and date are carried when the producer knows them,
+ * so consumers can project the goal's completion without reading the goal.
  */
 @Data
 @NoArgsConstructor
-public class GoalProgressUpdateEvent {
+public class GoalProgressUpdateEvent implements TracedEvent {
   private String userId;
   private String characterName;
   private String goalId;
   private long progressValue;
-}
\ No newline at end of file
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long targetValue;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Instant targetDate;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Instant ingestedAt;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String correlationId;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String traceContext;
+}
@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Instant;
+
+/**
+ * An event that carries the trace fields its producer stamps on it, so
+ * consumers can measure how long it took to reach them and tie it back to the
+ * request that caused it.
+ */
+public interface TracedEvent {
+
+    /**
+     * Returns when the event entered the pipeline.
+     *
+     * @return The ingest time, or null if the producer did not stamp it
+     */
+    Instant getIngestedAt();
+
+    /**
+     * Returns the ID of the invocation that produced the event.
+     *
+     * @return The correlation ID, or null if the producer did not stamp it
+     */
+    String getCorrelationId();
+
+    /**
+     * Returns the trace header of the request that produced the event, such as
+     * a W3C traceparent or an X-Ray trace header.
+     *
+     * @return The trace context, or null if there was none
+     */
+    String getTraceContext();
+}
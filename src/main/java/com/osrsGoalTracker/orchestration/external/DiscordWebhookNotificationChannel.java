@@ -0,0 +1,77 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+
+/**
+ * Delivers digests to a Discord webhook. Each digest becomes one embed, and a
+ * webhook message carries at most ten embeds, so a batch is at most ten
+ * digests.
+ */
+public class DiscordWebhookNotificationChannel extends HttpNotificationChannel {
+
+    /** The most embeds Discord accepts in one webhook message. */
+    public static final int MAX_EMBEDS_PER_MESSAGE = 10;
+
+    /**
+     * Creates a channel.
+     *
+     * @param httpClient     The HTTP client
+     * @param webhookUri     The webhook URI
+     * @param requestTimeout The timeout for a single request
+     */
+    public DiscordWebhookNotificationChannel(HttpClient httpClient, URI webhookUri, Duration requestTimeout) {
+        super(httpClient, webhookUri, requestTimeout);
+    }
+
+    /**
+     * Returns the channel this implementation delivers through.
+     *
+     * @return The channel type
+     */
+    @Override
+    public NotificationChannelType type() {
+        return NotificationChannelType.DISCORD;
+    }
+
+    /**
+     * Returns the largest number of digests one request may carry.
+     *
+     * @return The maximum batch size
+     */
+    @Override
+    public int maxBatchSize() {
+        return MAX_EMBEDS_PER_MESSAGE;
+    }
+
+    /**
+     * Builds a webhook message with one embed per digest.
+     *
+     * @param digests The digests in the batch
+     * @return The message body
+     */
+    @Override
+    protected Object payload(List<NotificationDigest> digests) {
+        List<Map<String, Object>> embeds = new ArrayList<>(digests.size());
+        for (NotificationDigest digest : digests) {
+            StringBuilder description = new StringBuilder();
+            for (GoalNotification notification : digest.getNotifications()) {
+                description.append("- ").append(notification.getCharacterName())
+                        .append(": ").append(notification.getTargetAttribute()).append('\n');
+            }
+            embeds.add(Map.of(
+                    "title", "Goal progress for " + digest.getUserId(),
+                    "description", description.toString(),
+                    "timestamp", digest.getSentAt().toString()));
+        }
+        return Map.of("embeds", embeds);
+    }
+}
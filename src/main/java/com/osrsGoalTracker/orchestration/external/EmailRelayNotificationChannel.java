@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+
+/**
+ * Delivers digests to an HTTP email relay, which accepts a JSON array of
+ * messages and resolves each userId to an address itself.
+ */
+public class EmailRelayNotificationChannel extends HttpNotificationChannel {
+
+    private final int maxBatchSize;
+
+    /**
+     * Creates a channel.
+     *
+     * @param httpClient     The HTTP client
+     * @param relayUri       The relay URI
+     * @param requestTimeout The timeout for a single request
+     * @param maxBatchSize   The most messages the relay accepts in one request
+     */
+    public EmailRelayNotificationChannel(HttpClient httpClient, URI relayUri, Duration requestTimeout,
+            int maxBatchSize) {
+        super(httpClient, relayUri, requestTimeout);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the channel this implementation delivers through.
+     *
+     * @return The channel type
+     */
+    @Override
+    public NotificationChannelType type() {
+        return NotificationChannelType.EMAIL;
+    }
+
+    /**
+     * Returns the largest number of digests one request may carry.
+     *
+     * @return The maximum batch size
+     */
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Builds one relay message per digest.
+     *
+     * @param digests The digests in the batch
+     * @return The message array
+     */
+    @Override
+    protected Object payload(List<NotificationDigest> digests) {
+        List<Map<String, Object>> messages = new ArrayList<>(digests.size());
+        for (NotificationDigest digest : digests) {
+            List<Map<String, String>> goals = new ArrayList<>(digest.getNotifications().size());
+            for (GoalNotification notification : digest.getNotifications()) {
+                goals.add(Map.of(
+                        "goalId", notification.getGoalId(),
+                        "characterName", notification.getCharacterName(),
+                        "targetAttribute", notification.getTargetAttribute()));
+            }
+            messages.add(Map.of(
+                    "userId", digest.getUserId(),
+                    "subject", "Your goal progress",
+                    "goals", goals));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,20 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.CharacterHiscores;
+
+/**
+ * Client for the Old School RuneScape hiscores.
+ */
+public interface HiscoreClient {
+
+    /**
+     * Fetches the hiscores of a character.
+     *
+     * @param characterName The character name
+     * @return The hiscores, or empty if the character is not on the hiscores
+     * @throws HiscoreUnavailableException if the hiscores could not be fetched
+     */
+    Optional<CharacterHiscores> fetch(String characterName);
+}
@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.orchestration.external;
+
+/**
+ * Thrown when the hiscores cannot be fetched, for example because the service
+ * is down, rate limited the request or timed out.
+ */
+public class HiscoreUnavailableException extends RuntimeException {
+
+    /**
+     * Creates an exception with the given message.
+     *
+     * @param message The detail message
+     */
+    public HiscoreUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates an exception with the given message and cause.
+     *
+     * @param message The detail message
+     * @param cause   The cause
+     */
+    public HiscoreUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
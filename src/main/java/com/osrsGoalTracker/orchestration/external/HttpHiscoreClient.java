@@ -0,0 +1,150 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.orchestration.model.CharacterHiscores;
+
+/**
+ * HiscoreClient for the JSON hiscore endpoint, index_lite.json.
+ * Entry names are turned into attribute names by upper-casing them and
+ * replacing anything that is not a letter or digit with an underscore, so
+ * "Woodcutting" becomes WOODCUTTING and "Clue Scrolls (all)" becomes
+ * CLUE_SCROLLS_ALL. Skills are reported as experience and activities as
+ * scores; unranked entries are left out.
+ */
+public class HttpHiscoreClient implements HiscoreClient {
+
+    /** The public Old School hiscores. */
+    public static final URI DEFAULT_BASE_URI = URI.create("https://secure.runescape.com/m=hiscore_oldschool/");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+
+    /**
+     * Creates a client.
+     *
+     * @param httpClient     The HTTP client
+     * @param baseUri        The hiscores base URI
+     * @param requestTimeout The timeout for a single request
+     */
+    public HttpHiscoreClient(HttpClient httpClient, URI baseUri, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri.toString().endsWith("/") ? baseUri : URI.create(baseUri + "/");
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Fetches the hiscores of a character.
+     *
+     * @param characterName The character name
+     * @return The hiscores, or empty if the character is not on the hiscores
+     * @throws HiscoreUnavailableException if the hiscores could not be fetched
+     */
+    @Override
+    public Optional<CharacterHiscores> fetch(String characterName) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(
+                        "index_lite.json?player=" + URLEncoder.encode(characterName, StandardCharsets.UTF_8)))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new HiscoreUnavailableException("Failed to fetch hiscores for " + characterName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HiscoreUnavailableException("Interrupted fetching hiscores for " + characterName, e);
+        }
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == HTTP_NOT_FOUND) {
+                return Optional.empty();
+            }
+            if (response.statusCode() / 100 != 2) {
+                throw new HiscoreUnavailableException(
+                        "Hiscores returned " + response.statusCode() + " for " + characterName);
+            }
+            return Optional.of(parse(characterName, OBJECT_MAPPER.readTree(body)));
+        } catch (IOException e) {
+            throw new HiscoreUnavailableException("Failed to read hiscores for " + characterName, e);
+        }
+    }
+
+    /**
+     * Converts an index_lite.json document into CharacterHiscores.
+     *
+     * @param characterName The character name
+     * @param root          The parsed document
+     * @return The hiscores
+     */
+    static CharacterHiscores parse(String characterName, JsonNode root) {
+        Map<String, Long> values = new HashMap<>();
+        for (JsonNode skill : root.path("skills")) {
+            put(values, skill.path("name").asText(), skill.path("xp").asLong(-1));
+        }
+        for (JsonNode activity : root.path("activities")) {
+            put(values, activity.path("name").asText(), activity.path("score").asLong(-1));
+        }
+        return CharacterHiscores.builder()
+                .characterName(characterName)
+                .values(values)
+                .build();
+    }
+
+    /**
+     * Turns a hiscore entry name into an attribute name.
+     *
+     * @param name The entry name, such as "Clue Scrolls (all)"
+     * @return The attribute name, such as CLUE_SCROLLS_ALL
+     */
+    public static String attributeName(String name) {
+        StringBuilder attribute = new StringBuilder(name.length());
+        boolean pendingSeparator = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSeparator && attribute.length() > 0) {
+                    attribute.append('_');
+                }
+                attribute.append(Character.toUpperCase(c));
+                pendingSeparator = false;
+            } else {
+                pendingSeparator = true;
+            }
+        }
+        return attribute.toString();
+    }
+
+    /**
+     * Records a ranked entry.
+     *
+     * @param values The values collected so far
+     * @param name   The entry name
+     * @param value  The entry value, negative when unranked
+     */
+    private static void put(Map<String, Long> values, String name, long value) {
+        if (!name.isEmpty() && value >= 0) {
+            values.put(attributeName(name), value);
+        }
+    }
+}
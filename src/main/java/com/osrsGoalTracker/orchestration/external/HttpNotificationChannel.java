@@ -0,0 +1,113 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+
+/**
+ * Base for channels that deliver a batch as one JSON POST. A 429 response is
+ * reported with the delay from its Retry-After header, in seconds; any other
+ * non-2xx response is reported as a failure.
+ */
+public abstract class HttpNotificationChannel implements NotificationChannel {
+
+    /** Shared by subclasses to build payloads. */
+    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final Duration requestTimeout;
+
+    /**
+     * Creates a channel.
+     *
+     * @param httpClient     The HTTP client
+     * @param endpoint       The URI batches are posted to
+     * @param requestTimeout The timeout for a single request
+     */
+    protected HttpNotificationChannel(HttpClient httpClient, URI endpoint, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.endpoint = endpoint;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Builds the request body for a batch.
+     *
+     * @param digests The digests in the batch
+     * @return The body, ready to serialize
+     */
+    protected abstract Object payload(List<NotificationDigest> digests);
+
+    /**
+     * Posts a batch of digests.
+     *
+     * @param digests The digests, no more than maxBatchSize
+     * @throws NotificationDeliveryException if the batch could not be delivered
+     */
+    @Override
+    public void send(List<NotificationDigest> digests) {
+        if (digests.size() > maxBatchSize()) {
+            throw new IllegalArgumentException(
+                    "A " + type() + " batch holds at most " + maxBatchSize() + " digests, got " + digests.size());
+        }
+        String body;
+        try {
+            body = OBJECT_MAPPER.writeValueAsString(payload(digests));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + type() + " payload", e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new NotificationDeliveryException("Failed to reach the " + type() + " endpoint", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationDeliveryException("Interrupted sending to the " + type() + " endpoint", e);
+        }
+
+        if (response.statusCode() == HTTP_TOO_MANY_REQUESTS) {
+            throw new NotificationDeliveryException("The " + type() + " endpoint rate limited the request",
+                    retryAfter(response).orElse(null));
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new NotificationDeliveryException(
+                    "The " + type() + " endpoint returned " + response.statusCode());
+        }
+    }
+
+    /**
+     * Reads the Retry-After header, which Discord sends as fractional seconds.
+     *
+     * @param response The 429 response
+     * @return The delay, or empty if the header is missing or unreadable
+     */
+    private static Optional<Duration> retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After").flatMap(value -> {
+            try {
+                double seconds = Double.parseDouble(value.trim());
+                return seconds < 0 ? Optional.empty() : Optional.of(Duration.ofMillis((long) (seconds * 1000)));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        });
+    }
+}
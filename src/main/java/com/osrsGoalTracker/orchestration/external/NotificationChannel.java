@@ -0,0 +1,34 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+
+/**
+ * Delivers notification digests through one channel.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Returns the channel this implementation delivers through.
+     *
+     * @return The channel type
+     */
+    NotificationChannelType type();
+
+    /**
+     * Returns the largest number of digests one call to send may carry.
+     *
+     * @return The maximum batch size
+     */
+    int maxBatchSize();
+
+    /**
+     * Delivers a batch of digests in one request.
+     *
+     * @param digests The digests, no more than maxBatchSize
+     * @throws NotificationDeliveryException if the batch could not be delivered
+     */
+    void send(List<NotificationDigest> digests);
+}
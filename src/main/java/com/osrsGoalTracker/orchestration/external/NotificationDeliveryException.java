@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a notification channel does not accept a batch. When the
+ * channel rate limited the request, retryAfter says how long it asked the
+ * caller to wait.
+ */
+public class NotificationDeliveryException extends RuntimeException {
+
+    private final transient Duration retryAfter;
+
+    /**
+     * Creates an exception with the given message.
+     *
+     * @param message The detail message
+     */
+    public NotificationDeliveryException(String message) {
+        this(message, (Duration) null);
+    }
+
+    /**
+     * Creates an exception for a rate-limited request.
+     *
+     * @param message    The detail message
+     * @param retryAfter How long the channel asked the caller to wait, or null if it did not say
+     */
+    public NotificationDeliveryException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Creates an exception with the given message and cause.
+     *
+     * @param message The detail message
+     * @param cause   The cause
+     */
+    public NotificationDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = null;
+    }
+
+    /**
+     * Returns how long the channel asked the caller to wait before retrying.
+     *
+     * @return The delay, or null if the request was not rate limited
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,60 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * CRaC resource that primes a handler before a SnapStart snapshot is taken and
+ * refreshes it after the snapshot is restored.
+ * The CRaC global context only keeps weak references, so the owning handler
+ * must hold on to its primer.
+ */
+@Log4j2
+public class CheckpointPrimer implements Resource {
+
+    private final Runnable beforeCheckpointAction;
+    private final Runnable afterRestoreAction;
+
+    /**
+     * Creates a primer.
+     *
+     * @param beforeCheckpointAction The action that warms the handler before a checkpoint
+     * @param afterRestoreAction     The action that refreshes the handler after a restore
+     */
+    public CheckpointPrimer(Runnable beforeCheckpointAction, Runnable afterRestoreAction) {
+        this.beforeCheckpointAction = beforeCheckpointAction;
+        this.afterRestoreAction = afterRestoreAction;
+    }
+
+    /**
+     * Registers this primer with the CRaC global context.
+     */
+    public void register() {
+        Core.getGlobalContext().register(this);
+    }
+
+    /**
+     * Primes the handler so the snapshot captures a fully warm handler.
+     *
+     * @param context The CRaC context
+     */
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        log.info("Priming handler before checkpoint");
+        beforeCheckpointAction.run();
+    }
+
+    /**
+     * Refreshes state that does not survive a snapshot, such as open connections.
+     *
+     * @param context The CRaC context
+     */
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        log.info("Refreshing handler after restore");
+        afterRestoreAction.run();
+    }
+}
@@ -0,0 +1,454 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.di.GoalCreationHttpServerModule;
+import com.osrsGoalTracker.orchestration.di.GoalCreationRequestEventProducerModule;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Long-running HTTP entry point for the goal creation route, for deployments
+ * where a container is cheaper than Lambda. Each request is turned into the
+ * APIGatewayProxyRequestEvent that API Gateway would send and handed to the
+ * same GoalCreationRequestEventProducerHandler the Lambda runs, so parsing,
+ * validation, idempotency and publishing are identical in both deployments.
+ * One handler, and with it one injector and one set of warm clients, serves
+ * every request, each on a virtual thread of its own.
+ *
+ * Routes:
+ * <ul>
+ *   <li>{@code POST /users/{userId}/characters/{name}/goals} creates one goal, or several from an array body</li>
+ *   <li>{@code GET /health} answers 200 while serving and 503 once shutdown has begun</li>
+ * </ul>
+ *
+ * On shutdown the server stops taking goal requests, answering them 503 so a
+ * load balancer retries elsewhere, and waits up to the grace period for the
+ * requests in flight, including their publishes, before it closes.
+ */
+@Log4j2
+public class GoalCreationHttpServer {
+
+    static final String GOALS_RESOURCE = "/users/{userId}/characters/{name}/goals";
+    static final String HEALTH_PATH = "/health";
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final Pattern GOALS_PATH = Pattern.compile("^/users/([^/]+)/characters/([^/]+)/goals/?$");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String POST = "POST";
+    private static final String GET = "GET";
+
+    private final GoalCreationRequestEventProducerHandler handler;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration requestTimeout;
+    private final Duration shutdownGrace;
+    private final int maxBodyBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private int inFlight;
+    private volatile boolean draining;
+
+    /**
+     * Creates a server bound to the given address. It does not accept requests
+     * until it is started.
+     *
+     * @param handler        The handler that serves goal requests
+     * @param address        The address to listen on; port 0 picks a free port
+     * @param requestTimeout The time each request is given, as the Lambda timeout would
+     * @param shutdownGrace  How long shutdown waits for requests in flight
+     * @param maxBodyBytes   The largest request body accepted
+     * @throws IOException if the address cannot be bound
+     */
+    public GoalCreationHttpServer(GoalCreationRequestEventProducerHandler handler, InetSocketAddress address,
+            Duration requestTimeout, Duration shutdownGrace, int maxBodyBytes) throws IOException {
+        this.handler = handler;
+        this.requestTimeout = requestTimeout;
+        this.shutdownGrace = shutdownGrace;
+        this.maxBodyBytes = maxBodyBytes;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts the server from the environment, with the same settings as the
+     * Lambda plus the SERVER_* settings, and stops it gracefully when the JVM
+     * is asked to exit, as on SIGTERM from the container runtime.
+     *
+     * @param args Unused
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        Injector injector = Guice.createInjector(Modules.override(new GoalCreationRequestEventProducerModule())
+                .with(new GoalCreationHttpServerModule()));
+        OrchestrationConfig config = injector.getInstance(OrchestrationConfig.class);
+        GoalCreationRequestEventProducerHandler handler = new GoalCreationRequestEventProducerHandler(injector);
+        GoalCreationHttpServer server = new GoalCreationHttpServer(handler,
+                new InetSocketAddress(config.getServerPort()), config.getServerRequestTimeout(),
+                config.getServerShutdownGrace(), config.getServerMaxBodyBytes());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "goal-creation-server-shutdown"));
+        server.start();
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        log.info("Goal creation server listening on port {}", port());
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server. Goal requests that arrive from now on are answered
+     * 503, requests in flight are given up to the grace period to finish, and
+     * then the listener and the request threads are closed. Only the first
+     * call does anything.
+     *
+     * @return true if every request in flight finished within the grace period
+     */
+    public boolean stop() {
+        if (!stopped.compareAndSet(false, true)) {
+            return inFlight() == 0;
+        }
+        draining = true;
+        log.info("Goal creation server draining {} requests in flight", inFlight());
+        boolean drained = awaitIdle(shutdownGrace);
+        if (!drained) {
+            log.warn("Goal creation server stopping with {} requests still in flight", inFlight());
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Goal creation server stopped");
+        return drained;
+    }
+
+    /**
+     * Routes one exchange.
+     *
+     * @param exchange The HTTP exchange
+     */
+    private void handle(HttpExchange exchange) {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (HEALTH_PATH.equals(path)) {
+                handleHealth(exchange);
+                return;
+            }
+            Matcher goals = GOALS_PATH.matcher(path);
+            if (!goals.matches()) {
+                sendError(exchange, HTTP_NOT_FOUND, "No route for " + path);
+                return;
+            }
+            if (!POST.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", POST);
+                sendError(exchange, HTTP_BAD_METHOD, "Method " + exchange.getRequestMethod() + " not allowed");
+                return;
+            }
+            handleGoals(exchange, goals.group(1), goals.group(2));
+        } catch (IOException e) {
+            log.warn("Failed to answer {} {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Answers a health check.
+     *
+     * @param exchange The HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        if (!GET.equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", GET);
+            sendError(exchange, HTTP_BAD_METHOD, "Method " + exchange.getRequestMethod() + " not allowed");
+            return;
+        }
+        send(exchange, draining ? HTTP_UNAVAILABLE : HTTP_OK, Map.of("Content-Type", "application/json"),
+                draining ? "{\"status\":\"DRAINING\"}" : "{\"status\":\"UP\"}");
+    }
+
+    /**
+     * Serves a goal creation request through the handler, counting it as in
+     * flight until its response is written.
+     *
+     * @param exchange The HTTP exchange
+     * @param userId   The userId path segment
+     * @param name     The character name path segment
+     * @throws IOException if the request cannot be read or the response written
+     */
+    private void handleGoals(HttpExchange exchange, String userId, String name) throws IOException {
+        if (!begin()) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            exchange.getResponseHeaders().set("Connection", "close");
+            sendError(exchange, HTTP_UNAVAILABLE, "Server is shutting down");
+            return;
+        }
+        try {
+            byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                sendError(exchange, HTTP_ENTITY_TOO_LARGE, "Request body exceeds " + maxBodyBytes + " bytes");
+                return;
+            }
+            String requestId = exchange.getRequestHeaders().getFirst(REQUEST_ID_HEADER);
+            if (requestId == null || requestId.isBlank()) {
+                requestId = UUID.randomUUID().toString();
+            }
+            exchange.getResponseHeaders().set(REQUEST_ID_HEADER, requestId);
+
+            APIGatewayProxyResponseEvent response;
+            try {
+                response = handler.handleRequest(toRequest(exchange, userId, name, body),
+                        new ServerRequestContext(requestId, requestTimeout));
+            } catch (RuntimeException e) {
+                log.error("Unhandled error serving request {}: {}", requestId, e.getMessage(), e);
+                sendError(exchange, HTTP_INTERNAL_ERROR, "Internal server error");
+                return;
+            }
+            send(exchange, response.getStatusCode(), response.getHeaders(), response.getBody());
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Builds the API Gateway request for an exchange, as the proxy integration
+     * of the goal creation resource would.
+     *
+     * @param exchange The HTTP exchange
+     * @param userId   The userId path segment
+     * @param name     The character name path segment
+     * @param body     The request body
+     * @return The request
+     */
+    static APIGatewayProxyRequestEvent toRequest(HttpExchange exchange, String userId, String name, byte[] body) {
+        Map<String, String> headers = new HashMap<>();
+        Map<String, List<String>> multiValueHeaders = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!header.getValue().isEmpty()) {
+                headers.put(header.getKey(), header.getValue().get(header.getValue().size() - 1));
+                multiValueHeaders.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", userId);
+        pathParameters.put("name", name);
+
+        return new APIGatewayProxyRequestEvent()
+                .withResource(GOALS_RESOURCE)
+                .withPath(exchange.getRequestURI().getPath())
+                .withHttpMethod(exchange.getRequestMethod())
+                .withHeaders(headers)
+                .withMultiValueHeaders(multiValueHeaders)
+                .withPathParameters(pathParameters)
+                .withQueryStringParameters(queryParameters(exchange.getRequestURI().getRawQuery()))
+                .withBody(body.length == 0 ? null : new String(body, StandardCharsets.UTF_8))
+                .withIsBase64Encoded(false);
+    }
+
+    /**
+     * Parses a raw query string. A parameter given several times keeps its last
+     * value, as API Gateway does.
+     *
+     * @param rawQuery The raw query string, or null
+     * @return The parameters, or null when there are none
+     */
+    static Map<String, String> queryParameters(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+        Map<String, String> parameters = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters.isEmpty() ? null : parameters;
+    }
+
+    /**
+     * Reads a request body up to the size limit.
+     *
+     * @param in The body stream
+     * @return The body, or null if it is larger than the limit
+     * @throws IOException if the body cannot be read
+     */
+    private byte[] readBody(InputStream in) throws IOException {
+        try (in) {
+            byte[] body = in.readNBytes(maxBodyBytes + 1);
+            return body.length > maxBodyBytes ? null : body;
+        }
+    }
+
+    /**
+     * Counts a request as in flight, unless the server is draining.
+     *
+     * @return false if the server is draining and the request must be refused
+     */
+    private boolean begin() {
+        lock.lock();
+        try {
+            if (draining) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Counts a request as finished.
+     */
+    private void end() {
+        lock.lock();
+        try {
+            inFlight--;
+            if (inFlight == 0) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of requests in flight.
+     *
+     * @return The number of requests
+     */
+    private int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until no request is in flight.
+     *
+     * @param timeout The longest time to wait
+     * @return true if no request is in flight
+     */
+    private boolean awaitIdle(Duration timeout) {
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (inFlight > 0) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = idle.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return inFlight == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a JSON error response in the handler's error format.
+     *
+     * @param exchange   The HTTP exchange
+     * @param statusCode The HTTP status code
+     * @param message    The error message
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        String body;
+        try {
+            body = OBJECT_MAPPER.writeValueAsString(Map.of("error", message));
+        } catch (JsonProcessingException e) {
+            body = "{\"error\":\"Internal server error\"}";
+        }
+        send(exchange, statusCode, Map.of("Content-Type", "application/json"), body);
+    }
+
+    /**
+     * Writes a response.
+     *
+     * @param exchange   The HTTP exchange
+     * @param statusCode The HTTP status code
+     * @param headers    The response headers, or null
+     * @param body       The response body, or null for none
+     * @throws IOException if the response cannot be written
+     */
+    private static void send(HttpExchange exchange, int statusCode, Map<String, String> headers, String body)
+            throws IOException {
+        Headers responseHeaders = exchange.getResponseHeaders();
+        if (headers != null) {
+            headers.forEach(responseHeaders::set);
+        }
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -1,36 +1,84 @@
 package com.osrsGoalTracker.orchestration.handler;
 
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
-import com.amazonaws.services.eventbridge.AmazonEventBridge;
-import com.amazonaws.services.eventbridge.model.PutEventsRequest;
-import com.amazonaws.services.eventbridge.model.PutEventsRequestEntry;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
 import com.osrsGoalTracker.orchestration.di.GoalCreationRequestEventProducerModule;
 import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
-import com.osrsGoalTracker.orchestration.handler.model.request.GoalCreationRequestEventProducerRequestBody;
-import com.osrsGoalTracker.orchestration.util.EnvUtil;
+import com.osrsGoalTracker.orchestration.handler.codec.GoalCreationRequestCodec;
+import com.osrsGoalTracker.orchestration.handler.model.response.BulkGoalCreationResponse;
+import com.osrsGoalTracker.orchestration.handler.model.response.GoalCreationItemResult;
+import com.osrsGoalTracker.orchestration.handler.model.response.GoalCreationItemStatus;
+import com.osrsGoalTracker.orchestration.handler.validation.GoalCreationRequestValidator;
+import com.osrsGoalTracker.orchestration.handler.validation.GoalValidationException;
+import com.osrsGoalTracker.orchestration.model.EventTrace;
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.IdempotencyOutcome;
+import com.osrsGoalTracker.orchestration.model.IdempotencyRecord;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.service.EventPublisher;
+import com.osrsGoalTracker.orchestration.service.CharacterSnapshotCache;
+import com.osrsGoalTracker.orchestration.service.IdempotencyService;
+import com.osrsGoalTracker.orchestration.service.PublishGuard;
+import com.osrsGoalTracker.orchestration.service.PublishRejectedException;
+import com.osrsGoalTracker.orchestration.util.CircuitBreaker;
+import com.osrsGoalTracker.orchestration.util.LogSampler;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.TraceHeaders;
 
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.util.Unbox;
 
 /**
  * Lambda handler for producing GoalCreationRequestEvents.
  * This handler is responsible for receiving goal creation requests via API
- * Gateway and publishing them as events.
+ * Gateway and publishing them as events. A request body may hold a single goal
+ * or an array of goals, in which case each goal gets its own result.
+ * Publishing goes through a PublishGuard: while the transport is throttling
+ * or failing, requests are answered with a 503 and a Retry-After header
+ * instead of waiting on it, and no publish is waited on past the Lambda
+ * timeout. Each invocation emits its metrics (stage latencies, counts of
+ * validation errors, publish failures and cold starts) through a
+ * MetricsRecorder in one batch. Every published event is stamped with the
+ * time the request was accepted, the Lambda request ID as its correlation ID
+ * and the request's trace header, so consumers can measure how long it took
+ * to reach them. When the snapshot cache is enabled, each goal's currentValue
+ * is taken from the character's latest hiscore snapshot where one is known,
+ * since clients often send 0 or a stale value.
  */
 @Log4j2
 public class GoalCreationRequestEventProducerHandler
@@ -39,36 +87,216 @@ public class GoalCreationRequestEventProducerHandler
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final GoalCreationRequestCodec CODEC = new GoalCreationRequestCodec(OBJECT_MAPPER.getFactory());
+    private static final Clock CLOCK = Clock.systemUTC();
+    private static final int HTTP_MULTI_STATUS = 207;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final String AMZN_TRACE_ID_HEADER = "X-Amzn-Trace-Id";
+    private static final long CLASS_LOADED_NANOS = System.nanoTime();
+    static final String REQUEST_LATENCY = "RequestLatency";
+    static final String PARSE_LATENCY = "ParseLatency";
+    static final String SERIALIZE_LATENCY = "SerializeLatency";
+    static final String PUBLISH_LATENCY = "PublishLatency";
+    static final String RESPONSE_LATENCY = "ResponseLatency";
+    static final String INIT_LATENCY = "InitLatency";
+    static final String COLD_START = "ColdStart";
+    static final String VALIDATION_ERRORS = "ValidationErrors";
+    static final String PUBLISH_FAILURES = "PublishFailures";
+    static final String PUBLISH_REJECTED = "PublishRejected";
+    static final String GOALS_ACCEPTED = "GoalsAccepted";
+    static final String CIRCUIT_OPEN = "CircuitOpen";
+    static final String PUBLISH_RATE = "PublishRate";
+    private static final String PRIMING_BODY = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\","
+            + "\"targetValue\":13034431,\"currentValue\":0,\"targetDate\":\"2099-01-01T00:00:00Z\","
+            + "\"notificationChannelType\":\"DISCORD\",\"frequency\":\"DAILY\"}";
     private final Injector injector;
-    private final AmazonEventBridge eventBridge;
-    private final EnvUtil envUtil;
+    private final EventPublisher publisher;
+    private final OrchestrationConfig config;
+    private final LogSampler payloadSampler;
+    private final IdempotencyService idempotency;
+    private final PublishGuard publishGuard;
+    private final MetricsRecorder metrics;
+    private final CharacterSnapshotCache snapshots;
+    private final GoalCreationRequestValidator validator;
+    private final CheckpointPrimer checkpointPrimer;
+    private final long initNanos;
+    private final AtomicBoolean coldStart = new AtomicBoolean(true);
 
     /**
      * Default constructor for AWS Lambda.
      */
     public GoalCreationRequestEventProducerHandler() {
-        this.injector = Guice.createInjector(new GoalCreationRequestEventProducerModule());
-        this.eventBridge = injector.getInstance(AmazonEventBridge.class);
-        this.envUtil = injector.getInstance(EnvUtil.class);
+        this(Guice.createInjector(new GoalCreationRequestEventProducerModule()));
+    }
+
+    /**
+     * Constructor that resolves dependencies from the given injector and does all
+     * one-time work up front. Unless PRIME_ON_INIT is set to false, the handler
+     * is primed during construction so the first request finds warm serializers
+     * and an open connection to the event transport. The OrchestrationConfig is resolved
+     * here, so a missing or invalid setting fails initialization. The handler also registers CRaC hooks
+     * so SnapStart snapshots a fully primed handler.
+     *
+     * @param injector The Guice injector for dependency injection
+     */
+    public GoalCreationRequestEventProducerHandler(Injector injector) {
+        this.injector = injector;
+        this.publisher = injector.getInstance(EventPublisher.class);
+        this.config = injector.getInstance(OrchestrationConfig.class);
+        this.payloadSampler = new LogSampler(config.getPayloadSampleRate());
+        this.idempotency = config.isIdempotencyEnabled() ? injector.getInstance(IdempotencyService.class) : null;
+        this.publishGuard = injector.getInstance(PublishGuard.class);
+        this.metrics = injector.getInstance(MetricsRecorder.class);
+        this.snapshots = config.isSnapshotCacheEnabled() ? injector.getInstance(CharacterSnapshotCache.class) : null;
+        this.validator = injector.getInstance(GoalCreationRequestValidator.class);
+        this.checkpointPrimer = new CheckpointPrimer(this::prime, this::warmUpEventBus);
+        this.checkpointPrimer.register();
+        if (config.isPrimeOnInit()) {
+            prime();
+        }
+        this.initNanos = System.nanoTime() - CLASS_LOADED_NANOS;
         log.info("GoalCreationRequestEventProducerHandler initialized");
     }
 
     /**
-     * Constructor with dependencies for testing.
+     * Constructor with dependencies for testing, without idempotency.
+     * 
+     * @param injector    The Guice injector for dependency injection
+     * @param publisher   The publisher for the configured event transport
+     * @param config      The orchestration configuration
+     */
+    public GoalCreationRequestEventProducerHandler(Injector injector, EventPublisher publisher,
+            OrchestrationConfig config) {
+        this(injector, publisher, config, null);
+    }
+
+    /**
+     * Constructor with dependencies for testing, without a rate limit or a
+     * circuit breaker on publishing.
      * 
      * @param injector    The Guice injector for dependency injection
-     * @param eventBridge The EventBridge client for publishing events
-     * @param envUtil     The utility for accessing environment variables
+     * @param publisher   The publisher for the configured event transport
+     * @param config      The orchestration configuration
+     * @param idempotency The service that suppresses repeated requests, or null to publish every request
+     */
+    public GoalCreationRequestEventProducerHandler(Injector injector, EventPublisher publisher,
+            OrchestrationConfig config, IdempotencyService idempotency) {
+        this(injector, publisher, config, idempotency, new PublishGuard(null, null, CLOCK));
+    }
+
+    /**
+     * Constructor with dependencies for testing, without metrics.
+     * 
+     * @param injector     The Guice injector for dependency injection
+     * @param publisher    The publisher for the configured event transport
+     * @param config       The orchestration configuration
+     * @param idempotency  The service that suppresses repeated requests, or null to publish every request
+     * @param publishGuard The guard that limits publishing
      */
-    public GoalCreationRequestEventProducerHandler(Injector injector, AmazonEventBridge eventBridge, EnvUtil envUtil) {
+    public GoalCreationRequestEventProducerHandler(Injector injector, EventPublisher publisher,
+            OrchestrationConfig config, IdempotencyService idempotency, PublishGuard publishGuard) {
+        this(injector, publisher, config, idempotency, publishGuard, MetricsRecorder.discarding());
+    }
+
+    /**
+     * Constructor with dependencies for testing, without the snapshot cache.
+     * 
+     * @param injector     The Guice injector for dependency injection
+     * @param publisher    The publisher for the configured event transport
+     * @param config       The orchestration configuration
+     * @param idempotency  The service that suppresses repeated requests, or null to publish every request
+     * @param publishGuard The guard that limits publishing
+     * @param metrics      The recorder for per-invocation metrics
+     */
+    public GoalCreationRequestEventProducerHandler(Injector injector, EventPublisher publisher,
+            OrchestrationConfig config, IdempotencyService idempotency, PublishGuard publishGuard,
+            MetricsRecorder metrics) {
+        this(injector, publisher, config, idempotency, publishGuard, metrics, null);
+    }
+
+    /**
+     * Constructor with dependencies for testing. The validator is taken from
+     * the injector, so a test can pin the time a targetDate must lie after.
+     * 
+     * @param injector     The Guice injector for dependency injection
+     * @param publisher    The publisher for the configured event transport
+     * @param config       The orchestration configuration
+     * @param idempotency  The service that suppresses repeated requests, or null to publish every request
+     * @param publishGuard The guard that limits publishing
+     * @param metrics      The recorder for per-invocation metrics
+     * @param snapshots    The cache currentValue is taken from, or null to keep the requested value
+     */
+    public GoalCreationRequestEventProducerHandler(Injector injector, EventPublisher publisher,
+            OrchestrationConfig config, IdempotencyService idempotency, PublishGuard publishGuard,
+            MetricsRecorder metrics, CharacterSnapshotCache snapshots) {
+        long constructionStart = System.nanoTime();
         this.injector = injector;
-        this.eventBridge = eventBridge;
-        this.envUtil = envUtil;
+        this.publisher = publisher;
+        this.config = config;
+        this.payloadSampler = new LogSampler(config.getPayloadSampleRate());
+        this.idempotency = idempotency;
+        this.publishGuard = publishGuard;
+        this.metrics = metrics;
+        this.snapshots = snapshots;
+        this.validator = injector.getInstance(GoalCreationRequestValidator.class);
+        this.checkpointPrimer = null;
+        this.initNanos = System.nanoTime() - constructionStart;
         log.info("GoalCreationRequestEventProducerHandler initialized with injector");
     }
 
+    /**
+     * Primes the handler by running the parsing, serialization and response
+     * paths once with a sample goal and by opening a connection to the event transport
+     * (and, when the snapshot cache is enabled, to the snapshot table).
+     * This moves Jackson's lazy serializer construction and the SDK's credential,
+     * region and connection setup out of the first request.
+     */
+    public void prime() {
+        try {
+            APIGatewayProxyRequestEvent primingRequest = new APIGatewayProxyRequestEvent()
+                    .withPathParameters(Map.of("userId", "priming-user", "name", "priming-character"))
+                    .withBody(PRIMING_BODY);
+            GoalCreationRequestEvent event = parseAndValidateInput(primingRequest);
+            writeDetail(event);
+            parseBulkItem(0, OBJECT_MAPPER.readTree("[" + PRIMING_BODY + "]").get(0), "priming-user",
+                    "priming-character");
+            OBJECT_MAPPER.writeValueAsString(BulkGoalCreationResponse.builder()
+                    .acceptedCount(1)
+                    .results(List.of(itemResult(0, GoalCreationItemStatus.ACCEPTED, null)))
+                    .build());
+            createSuccessResponse("Goal creation request received successfully");
+            createErrorResponse(HTTP_BAD_REQUEST, "Priming request");
+        } catch (Exception e) {
+            log.warn("Failed to prime serializers: {}", e.getMessage(), e);
+        }
+        warmUpEventBus();
+    }
+
+    /**
+     * Gets the CRaC resource the handler registered, for checking its hooks in
+     * tests.
+     *
+     * @return The primer, or null if the handler was built with the testing constructor
+     */
+    CheckpointPrimer getCheckpointPrimer() {
+        return checkpointPrimer;
+    }
+
+    /**
+     * Opens a connection to the configured event transport.
+     */
+    private void warmUpEventBus() {
+        publisher.warmUp();
+    }
+
     /**
      * Handles the Lambda request from API Gateway.
+     * Each request produces one summary line. The full request is logged for a
+     * sample of requests, set by LOG_PAYLOAD_SAMPLE_RATE, and for every request
+     * that fails.
      *
      * @param request The API Gateway request
      * @param context The Lambda execution context
@@ -76,53 +304,582 @@ public class GoalCreationRequestEventProducerHandler
      */
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
-        log.info("Received request: {}", request);
+        long startNanos = System.nanoTime();
+        if (payloadSampler.sample()) {
+            log.info("Sampled goal creation request: {}", request);
+        }
+        boolean firstInvocation = coldStart.compareAndSet(true, false);
+        metrics.count(COLD_START, firstInvocation ? 1 : 0);
+        if (firstInvocation) {
+            metrics.recordLatency(INIT_LATENCY, initNanos);
+        }
+
+        APIGatewayProxyResponseEvent response = processRequest(request, eventTrace(request, context),
+                deadline(context));
 
+        PublishGuard.Snapshot guardState = publishGuard.snapshot();
+        recordInvocation(request, context, response, guardState, System.nanoTime() - startNanos);
+        log.info("Goal creation request handled: requestId={} status={} bulk={} bodyChars={} durationMicros={} "
+                        + "circuit={} publishRate={}",
+                context == null ? null : context.getAwsRequestId(),
+                Unbox.box(response.getStatusCode()),
+                Unbox.box(isBulkRequest(request)),
+                Unbox.box(request == null || request.getBody() == null ? 0 : request.getBody().length()),
+                Unbox.box((System.nanoTime() - startNanos) / 1_000),
+                guardState.getCircuitState(),
+                Unbox.box(guardState.getPublishRate()));
+        return response;
+    }
+
+    /**
+     * Records the invocation-wide metrics and emits everything recorded for
+     * the invocation. A failure to emit metrics never fails the request.
+     *
+     * @param request      The API Gateway request
+     * @param context      The Lambda execution context, or null outside Lambda
+     * @param response     The response
+     * @param guardState   The state of the publish guard after the request
+     * @param requestNanos The time spent handling the request
+     */
+    private void recordInvocation(APIGatewayProxyRequestEvent request, Context context,
+            APIGatewayProxyResponseEvent response, PublishGuard.Snapshot guardState, long requestNanos) {
         try {
-            // Step 1: Parse and validate input
-            GoalCreationRequestEvent event = parseAndValidateInput(request);
+            metrics.recordLatency(REQUEST_LATENCY, requestNanos);
+            metrics.gauge(CIRCUIT_OPEN, guardState.getCircuitState() == CircuitBreaker.State.CLOSED ? 0 : 1);
+            metrics.gauge(PUBLISH_RATE, guardState.getPublishRate());
+            metrics.property("requestId", context == null ? null : context.getAwsRequestId());
+            metrics.property("statusCode", response.getStatusCode());
+            metrics.property("bulk", isBulkRequest(request));
+            metrics.flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to emit metrics: {}", e.getMessage(), e);
+        }
+    }
 
-            // Step 2: Execute business logic
+    /**
+     * Builds the trace fields for the events of a request. A W3C traceparent
+     * header is preferred, then the X-Ray header API Gateway forwards, then the
+     * trace header of the Lambda invocation.
+     *
+     * @param request The API Gateway request
+     * @param context The Lambda execution context, or null outside Lambda
+     * @return The trace fields
+     */
+    private static EventTrace eventTrace(APIGatewayProxyRequestEvent request, Context context) {
+        Map<String, String> headers = request == null ? null : request.getHeaders();
+        String traceContext = header(headers, TRACEPARENT_HEADER);
+        if (traceContext == null) {
+            traceContext = header(headers, AMZN_TRACE_ID_HEADER);
+        }
+        if (traceContext == null) {
+            traceContext = TraceHeaders.current();
+        }
+        return EventTrace.builder()
+                .ingestedAt(CLOCK.instant())
+                .correlationId(context == null ? null : context.getAwsRequestId())
+                .traceContext(traceContext)
+                .build();
+    }
 
-            String detailType = envUtil.getEnvVariable("GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE");
-            String eventBusName = envUtil.getEnvVariable("EVENT_BUS_NAME");
-            String eventDetail = OBJECT_MAPPER.writeValueAsString(event);
+    /**
+     * Stamps a goal with the trace fields of its request.
+     *
+     * @param goal  The validated goal
+     * @param trace The trace fields
+     * @return The event to publish
+     */
+    private static GoalCreationRequestEvent stamp(GoalCreationRequestEvent goal, EventTrace trace) {
+        return goal.toBuilder()
+                .ingestedAt(trace.getIngestedAt())
+                .correlationId(trace.getCorrelationId())
+                .traceContext(trace.getTraceContext())
+                .build();
+    }
+
+    /**
+     * Writes the detail of a goal event, wrapped in a versioned envelope when
+     * EVENT_ENVELOPE_ENABLED is true.
+     *
+     * @param event The event to publish
+     * @return The event detail
+     */
+    private String writeDetail(GoalCreationRequestEvent event) {
+        if (config.isEventEnvelopeEnabled()) {
+            return CODEC.writeEnvelope(event, CLOCK.instant());
+        }
+        return CODEC.writeEvent(event);
+    }
 
-            log.info("Event Detail Type: {}", detailType);
-            log.info("Event Bus Name: {}", eventBusName);
-            log.info("Event Detail: {}", eventDetail);
+    /**
+     * Runs a stage of request handling and records how long it took, whether
+     * or not it succeeded.
+     *
+     * @param <T>    The type of the stage result
+     * @param metric The latency metric of the stage
+     * @param stage  The stage
+     * @return The stage result
+     */
+    private <T> T timed(String metric, Supplier<T> stage) {
+        long start = System.nanoTime();
+        try {
+            return stage.get();
+        } finally {
+            metrics.recordLatency(metric, System.nanoTime() - start);
+        }
+    }
 
-            PutEventsRequestEntry eventEntry = new PutEventsRequestEntry()
-                    .withDetail(eventDetail)
-                    .withDetailType(detailType)
-                    .withEventBusName(eventBusName)
-                    .withSource("com.osrsGoalTracker.orchestration");
+    /**
+     * Computes the time after which the handler stops waiting on a publish.
+     *
+     * @param context The Lambda execution context, or null outside Lambda
+     * @return The deadline
+     */
+    Instant deadline(Context context) {
+        if (context == null) {
+            return Instant.MAX;
+        }
+        return CLOCK.instant().plusMillis(context.getRemainingTimeInMillis()).minus(config.getPublishDeadlineMargin());
+    }
 
-            log.info("Event Entry: {}", eventEntry);
+    /**
+     * Validates and publishes a single or bulk request. A request that repeats
+     * one already handled is answered with the original response instead of
+     * being published again.
+     *
+     * @param request  The API Gateway request
+     * @param trace    The trace fields stamped on the request's events
+     * @param deadline The time after which the handler stops waiting on a publish
+     * @return An API Gateway response
+     */
+    private APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent request, EventTrace trace,
+            Instant deadline) {
+        try {
+            if (isBulkRequest(request)) {
+                return handleIdempotently(idempotencyKey(request, null),
+                        () -> handleBulkRequest(request, trace, deadline));
+            }
 
-            // Step 4: Send the message
-            eventBridge.putEvents(new PutEventsRequest()
-                    .withEntries(eventEntry));
+            // Step 1: Parse and validate input
+            GoalCreationRequestEvent goal = timed(PARSE_LATENCY, () -> parseAndValidateInput(request));
+            GoalCreationRequestEvent event = stamp(goal, trace);
+            String detail = timed(SERIALIZE_LATENCY, () -> writeDetail(event));
 
-            // Step 3: Create and return response
-            return createSuccessResponse("Goal creation request received successfully");
+            // Step 2: Execute business logic
+            return handleIdempotently(idempotencyKey(request, goal),
+                    () -> publishSingle(event.getUserId(), detail, request, deadline));
+        } catch (PublishRejectedException e) {
+            metrics.count(PUBLISH_REJECTED, 1);
+            log.warn("Publish rejected: {} retryAfterMillis={}",
+                    e.getMessage(), Unbox.box(e.getRetryAfter().toMillis()));
+            return createUnavailableResponse(e);
+        } catch (GoalValidationException e) {
+            metrics.count(VALIDATION_ERRORS, 1);
+            log.warn("Invalid goal: {} request={}", e.getMessage(), request);
+            return createValidationErrorResponse(e);
         } catch (IllegalArgumentException e) {
-            log.error("Validation error: {}", e.getMessage(), e);
+            metrics.count(VALIDATION_ERRORS, 1);
+            log.error("Validation error: {} request={}", e.getMessage(), request, e);
             return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
         } catch (Exception e) {
-            log.error("Unexpected error processing request: {}", e.getMessage(), e);
+            log.error("Unexpected error processing request: {} request={}", e.getMessage(), request, e);
             return createErrorResponse(HTTP_INTERNAL_ERROR, "Internal server error: " + e.getMessage());
         }
     }
 
+    /**
+     * Publishes a single goal.
+     *
+     * @param userId   The ID of the user the goal belongs to
+     * @param detail   The serialized GoalCreationRequestEvent
+     * @param request  The API Gateway request, for logging
+     * @param deadline The time after which the handler stops waiting on the publish
+     * @return An API Gateway response
+     * @throws PublishRejectedException if the publish is refused or does not finish in time
+     */
+    private APIGatewayProxyResponseEvent publishSingle(String userId, String detail,
+            APIGatewayProxyRequestEvent request, Instant deadline) {
+        OutboundEvent event = createEvent(userId, detail);
+        PublishResult publishResult;
+        try {
+            publishResult = timed(PUBLISH_LATENCY,
+                    () -> publishGuard.publish(publisher, session -> session.add(event), deadline));
+        } catch (CompletionException e) {
+            metrics.count(PUBLISH_FAILURES, 1);
+            throw e;
+        }
+        if (!publishResult.isSuccessful()) {
+            FailedEvent failedEvent = publishResult.getFailedEvents().get(0);
+            metrics.count(PUBLISH_FAILURES, 1);
+            log.error("Failed to publish goal creation request: {} {} request={}",
+                    failedEvent.getErrorCode(), failedEvent.getErrorMessage(), request);
+            return createErrorResponse(HTTP_INTERNAL_ERROR, "Failed to publish goal creation request");
+        }
+        metrics.count(GOALS_ACCEPTED, 1);
+        return timed(RESPONSE_LATENCY, () -> createSuccessResponse("Goal creation request received successfully"));
+    }
+
+    /**
+     * Runs a request under its idempotency key. The first request with a key is
+     * handled and its response recorded; a repeat gets the recorded response back,
+     * and a repeat that arrives while the first is still running gets a 409.
+     * Server errors are not recorded, so the client can retry them. A publish
+     * given up at the deadline after its events were sent keeps the claim until
+     * its lease lapses, since those events may still be delivered; a retry in
+     * the meantime gets a 409 rather than sending the goal a second time.
+     *
+     * @param key    The idempotency key, or null to handle the request unconditionally
+     * @param handle Handles the request
+     * @return An API Gateway response
+     * @throws Exception if handling the request fails
+     */
+    private APIGatewayProxyResponseEvent handleIdempotently(String key,
+            Callable<APIGatewayProxyResponseEvent> handle) throws Exception {
+        if (key == null) {
+            return handle.call();
+        }
+
+        IdempotencyOutcome outcome = idempotency.claim(key);
+        switch (outcome.getDecision()) {
+            case REPLAY:
+                return createReplayResponse(outcome.getRecord());
+            case IN_PROGRESS:
+                return createErrorResponse(HTTP_CONFLICT, "A request with the same idempotency key is in progress");
+            default:
+                break;
+        }
+
+        APIGatewayProxyResponseEvent response;
+        try {
+            response = handle.call();
+        } catch (PublishRejectedException e) {
+            if (e.isSent()) {
+                log.warn("Keeping idempotency key {} claimed, the publish may still be delivered", key);
+            } else {
+                idempotency.release(key, outcome.getClaimExpiresAt());
+            }
+            throw e;
+        } catch (Exception e) {
+            idempotency.release(key, outcome.getClaimExpiresAt());
+            throw e;
+        }
+        if (response.getStatusCode() >= HTTP_INTERNAL_ERROR) {
+            idempotency.release(key, outcome.getClaimExpiresAt());
+        } else {
+            idempotency.complete(key, response.getStatusCode(), response.getBody());
+        }
+        return response;
+    }
+
+    /**
+     * Derives the idempotency key of a request. An Idempotency-Key header is
+     * used when present, scoped to the user so clients cannot collide; otherwise
+     * the key is a hash of the user, the character and the goal. The goal is
+     * hashed before it is stamped, so retries of the same goal share a key. When
+     * the snapshot cache is enabled, currentValue is left out of the hash, since
+     * a snapshot refreshed between retries may change it.
+     *
+     * @param request The API Gateway request
+     * @param goal    The goal of a single request, or null for a bulk request
+     * @return The key, or null if idempotency is disabled or the request has no user
+     */
+    private String idempotencyKey(APIGatewayProxyRequestEvent request, GoalCreationRequestEvent goal) {
+        Map<String, String> pathParams = request.getPathParameters();
+        if (idempotency == null || pathParams == null || pathParams.get("userId") == null) {
+            return null;
+        }
+        String userId = pathParams.get("userId").trim();
+        String headerKey = header(request.getHeaders(), IDEMPOTENCY_KEY_HEADER);
+        if (headerKey != null) {
+            return IdempotencyService.contentKey("header", userId, headerKey);
+        }
+        if (goal != null) {
+            GoalCreationRequestEvent keyed = snapshots == null ? goal : goal.toBuilder().currentValue(0).build();
+            return IdempotencyService.contentKey("goal", CODEC.writeEvent(keyed));
+        }
+        return IdempotencyService.contentKey("bulk", userId, pathParams.get("name"), request.getBody());
+    }
+
+    /**
+     * Looks up a header by name, ignoring case.
+     *
+     * @param headers The request headers, possibly null
+     * @param name    The header name
+     * @return The trimmed value, or null if the header is missing or blank
+     */
+    private static String header(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isBlank()) {
+                return header.getValue().trim();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Handles a bulk request whose body is an array of goal creation bodies.
+     * Items are validated independently, every valid item is published in as
+     * few PutEvents calls as possible, and the response reports a status for
+     * each item.
+     *
+     * @param request  The API Gateway request
+     * @param trace    The trace fields stamped on the request's events
+     * @param deadline The time after which the handler stops waiting on the publish
+     * @return An API Gateway response with one result per item
+     * @throws JsonProcessingException  if the response cannot be serialized
+     * @throws PublishRejectedException if the publish is refused or does not finish in time
+     */
+    private APIGatewayProxyResponseEvent handleBulkRequest(APIGatewayProxyRequestEvent request, EventTrace trace,
+            Instant deadline) throws JsonProcessingException {
+        // Step 1: Parse and validate input
+        List<BulkItem> items = timed(PARSE_LATENCY, () -> parseAndValidateBulkInput(request));
+
+        // Step 2: Execute business logic
+        BulkGoalCreationResponse response = publishBulkItems(items, trace, deadline);
+
+        // Step 3: Create and return response
+        long responseStart = System.nanoTime();
+        APIGatewayProxyResponseEvent bulkResponse = createBulkResponse(response);
+        metrics.recordLatency(RESPONSE_LATENCY, System.nanoTime() - responseStart);
+        return bulkResponse;
+    }
+
+    /**
+     * Determines whether the request body is a JSON array of goal bodies.
+     *
+     * @param request The API Gateway request
+     * @return true if the body is a JSON array
+     */
+    private boolean isBulkRequest(APIGatewayProxyRequestEvent request) {
+        if (request == null || request.getBody() == null) {
+            return false;
+        }
+        String body = request.getBody();
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses and validates a bulk request. Each item is validated on a virtual
+     * thread of its own, so the snapshot lookups of different characters'
+     * items overlap; the items' metrics are propagated to this invocation's
+     * recorder. Invalid items are recorded with their error instead of failing
+     * the whole request.
+     *
+     * @param request The API Gateway request
+     * @return The parsed items, in request order
+     * @throws IllegalArgumentException if the path or the array itself is invalid
+     */
+    private List<BulkItem> parseAndValidateBulkInput(APIGatewayProxyRequestEvent request) {
+        Map<String, String> pathParams = request.getPathParameters();
+        validatePathParameters(pathParams);
+
+        String userId = validateAndGetUserId(pathParams);
+        String characterName = validateAndGetCharacterName(pathParams);
+
+        JsonNode bodies = parseBulkRequestBody(request.getBody());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<BulkItem>> items = IntStream.range(0, bodies.size())
+                    .mapToObj(index -> CompletableFuture.supplyAsync(metrics.propagate(
+                            () -> parseBulkItem(index, bodies.get(index), userId, characterName)), executor))
+                    .toList();
+            return items.stream().map(GoalCreationRequestEventProducerHandler::joinItem).toList();
+        }
+    }
+
+    /**
+     * Waits for a bulk item to be validated, rethrowing what its validation threw.
+     *
+     * @param item The item being validated
+     * @return The parsed item
+     */
+    private static BulkItem joinItem(CompletableFuture<BulkItem> item) {
+        try {
+            return item.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parses the bulk request body into an array node.
+     *
+     * @param body The request body as a string
+     * @return The array of goal bodies
+     * @throws IllegalArgumentException if the body is invalid, empty or too large
+     */
+    private JsonNode parseBulkRequestBody(String body) {
+        JsonNode bodies;
+        try {
+            bodies = OBJECT_MAPPER.readTree(body);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse bulk request body: {}", e.getMessage(), e);
+            throw new IllegalArgumentException("Invalid request body: " + e.getMessage());
+        }
+        if (bodies.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request body must contain at least one goal");
+        }
+        if (bodies.size() > config.getMaxBulkItems()) {
+            throw new IllegalArgumentException(
+                    "Bulk request body cannot contain more than " + config.getMaxBulkItems() + " goals");
+        }
+        return bodies;
+    }
+
+    /**
+     * Parses a single item of a bulk request.
+     *
+     * @param index         The position of the item in the request
+     * @param body          The item body
+     * @param userId        The userId
+     * @param characterName The characterName
+     * @return The parsed item, carrying either the event or the validation error
+     */
+    private BulkItem parseBulkItem(int index, JsonNode body, String userId, String characterName) {
+        try {
+            GoalCreationRequestEvent event = validateWithSnapshotValue(
+                    CODEC.readEvent(body.traverse(), userId, characterName));
+            return new BulkItem(index, event, null);
+        } catch (IOException e) {
+            return new BulkItem(index, null, "Invalid goal: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return new BulkItem(index, null, e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes the valid items of a bulk request and builds the per-item results.
+     * Each batch is sent as soon as it is full, so later items are serialized
+     * while earlier batches are in flight; the publish latency recorded for the
+     * request leaves out the time spent serializing.
+     *
+     * @param items    The parsed items
+     * @param trace    The trace fields stamped on the items' events
+     * @param deadline The time after which the handler stops waiting on the publish
+     * @return The bulk response
+     * @throws PublishRejectedException if the publish is refused or does not finish in time
+     */
+    private BulkGoalCreationResponse publishBulkItems(List<BulkItem> items, EventTrace trace, Instant deadline) {
+        GoalCreationItemResult[] results = new GoalCreationItemResult[items.size()];
+        List<BulkItem> validItems = new ArrayList<>(items.size());
+        List<Integer> entryItemIndexes = new ArrayList<>(items.size());
+
+        for (BulkItem item : items) {
+            if (item.getError() != null) {
+                results[item.getIndex()] = itemResult(item.getIndex(), GoalCreationItemStatus.INVALID, item.getError());
+            } else {
+                validItems.add(item);
+                entryItemIndexes.add(item.getIndex());
+            }
+        }
+
+        metrics.count(VALIDATION_ERRORS, items.size() - validItems.size());
+
+        if (!validItems.isEmpty()) {
+            long[] serializeNanos = new long[1];
+            long publishStart = System.nanoTime();
+            PublishResult publishResult;
+            try {
+                publishResult = publishGuard.publish(publisher, session -> {
+                    for (BulkItem item : validItems) {
+                        long serializeStart = System.nanoTime();
+                        String detail = writeDetail(stamp(item.getEvent(), trace));
+                        serializeNanos[0] += System.nanoTime() - serializeStart;
+                        session.add(createEvent(item.getEvent().getUserId(), detail));
+                    }
+                }, deadline);
+            } catch (CompletionException e) {
+                metrics.count(PUBLISH_FAILURES, validItems.size());
+                throw e;
+            } finally {
+                metrics.recordLatency(SERIALIZE_LATENCY, serializeNanos[0]);
+                metrics.recordLatency(PUBLISH_LATENCY, System.nanoTime() - publishStart - serializeNanos[0]);
+            }
+            metrics.count(PUBLISH_FAILURES, publishResult.getFailedEvents().size());
+            for (FailedEvent failedEvent : publishResult.getFailedEvents()) {
+                int itemIndex = entryItemIndexes.get(failedEvent.getIndex());
+                log.error("Failed to publish goal {} of bulk request: {} {}",
+                        itemIndex, failedEvent.getErrorCode(), failedEvent.getErrorMessage());
+                results[itemIndex] = itemResult(itemIndex, GoalCreationItemStatus.FAILED,
+                        "Failed to publish goal creation request");
+            }
+        }
+
+        int acceptedCount = 0;
+        for (int index : entryItemIndexes) {
+            if (results[index] == null) {
+                results[index] = itemResult(index, GoalCreationItemStatus.ACCEPTED, null);
+                acceptedCount++;
+            }
+        }
+
+        metrics.count(GOALS_ACCEPTED, acceptedCount);
+        return BulkGoalCreationResponse.builder()
+                .acceptedCount(acceptedCount)
+                .rejectedCount(items.size() - acceptedCount)
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Builds the outbound event for a GoalCreationRequestEvent. Events are
+     * partitioned by user, so transports that order by partition keep each
+     * user's goals in order. Each event gets its own ID, so two identical
+     * goals in one bulk request are not deduplicated into one by the transport.
+     *
+     * @param userId The ID of the user the goal belongs to
+     * @param detail The serialized GoalCreationRequestEvent
+     * @return The outbound event
+     */
+    private OutboundEvent createEvent(String userId, String detail) {
+        OutboundEvent event = OutboundEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .partitionKey(userId)
+                .detailType(config.getDetailType())
+                .source(config.getEventSource())
+                .detail(detail)
+                .build();
+
+        log.debug("Outbound event: {}", event);
+        return event;
+    }
+
+    /**
+     * Creates a result for a single item of a bulk request.
+     *
+     * @param index  The position of the item in the request
+     * @param status The item status
+     * @param error  The error message, or null if the item was accepted
+     * @return The item result
+     */
+    private GoalCreationItemResult itemResult(int index, GoalCreationItemStatus status, String error) {
+        return GoalCreationItemResult.builder()
+                .index(index)
+                .status(status)
+                .error(error)
+                .build();
+    }
+
     /**
      * Parses and validates the input request.
      *
      * @param request The API Gateway request
      * @return A GoalCreationRequestEvent
+     * @throws GoalValidationException  if the goal breaks a validation rule
      * @throws IllegalArgumentException if the input is invalid
      */
-    private GoalCreationRequestEvent parseAndValidateInput(APIGatewayProxyRequestEvent request)
+    GoalCreationRequestEvent parseAndValidateInput(APIGatewayProxyRequestEvent request)
             throws IllegalArgumentException {
         validateRequest(request);
 
@@ -132,9 +889,30 @@ public class GoalCreationRequestEventProducerHandler
         String userId = validateAndGetUserId(pathParams);
         String characterName = validateAndGetCharacterName(pathParams);
 
-        GoalCreationRequestEventProducerRequestBody requestBody = parseRequestBody(request.getBody());
+        return validateWithSnapshotValue(parseRequestBody(request.getBody(), userId, characterName));
+    }
 
-        return buildGoalCreationRequestEvent(userId, characterName, requestBody);
+    /**
+     * Replaces a goal's currentValue with the value of its targetAttribute in
+     * the character's snapshot, then validates the goal. The requested value
+     * is kept when the snapshot cache is disabled or the snapshot does not
+     * know the attribute. A goal the snapshot shows as already reached is
+     * rejected as such rather than for its currentValue.
+     *
+     * @param event The parsed goal
+     * @return The goal with its currentValue resolved and its coded fields in canonical spelling
+     * @throws IllegalArgumentException if the goal is invalid
+     */
+    private GoalCreationRequestEvent validateWithSnapshotValue(GoalCreationRequestEvent event) {
+        Long value = snapshots == null || event.getCharacterName() == null
+                ? null
+                : snapshots.get(event.getCharacterName())
+                        .map(snapshot -> snapshot.valueOf(event.getTargetAttribute()))
+                        .orElse(null);
+        GoalCreationRequestEvent resolved = value == null || value == event.getCurrentValue()
+                ? event
+                : event.toBuilder().currentValue(value).build();
+        return validator.validate(resolved, value != null);
     }
 
     /**
@@ -192,51 +970,28 @@ public class GoalCreationRequestEventProducerHandler
     }
 
     /**
-     * Parses the request body into a GoalCreationRequestEventProducerRequestBody
-     * object.
+     * Parses the request body straight into a GoalCreationRequestEvent, taking
+     * the userId and characterName from the path.
      *
-     * @param body The request body as a string
-     * @return The parsed GoalCreationRequestEventProducerRequestBody
+     * @param body          The request body as a string
+     * @param userId        The userId
+     * @param characterName The characterName
+     * @return The GoalCreationRequestEvent
      * @throws IllegalArgumentException if the body is missing or invalid
      */
-    private GoalCreationRequestEventProducerRequestBody parseRequestBody(String body) {
+    private GoalCreationRequestEvent parseRequestBody(String body, String userId, String characterName) {
         if (body == null || body.trim().isEmpty()) {
             throw new IllegalArgumentException("Missing request body");
         }
 
         try {
-            return OBJECT_MAPPER.readValue(body, GoalCreationRequestEventProducerRequestBody.class);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse request body: {}", e.getMessage(), e);
+            return CODEC.readEvent(body, userId, characterName);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to parse request body: {}", e.getMessage());
             throw new IllegalArgumentException("Invalid request body: " + e.getMessage());
         }
     }
 
-    /**
-     * Builds a GoalCreationRequestEvent from the validated inputs.
-     *
-     * @param userId        The userId
-     * @param characterName The characterName
-     * @param requestBody   The request body
-     * @return A GoalCreationRequestEvent
-     */
-    private GoalCreationRequestEvent buildGoalCreationRequestEvent(
-            String userId,
-            String characterName,
-            GoalCreationRequestEventProducerRequestBody requestBody) {
-        return GoalCreationRequestEvent.builder()
-                .userId(userId)
-                .characterName(characterName)
-                .targetAttribute(requestBody.getTargetAttribute())
-                .targetType(requestBody.getTargetType())
-                .targetValue(requestBody.getTargetValue())
-                .currentValue(requestBody.getCurrentValue())
-                .targetDate(requestBody.getTargetDate())
-                .notificationChannelType(requestBody.getNotificationChannelType())
-                .frequency(requestBody.getFrequency())
-                .build();
-    }
-
     /**
      * Executes the business logic for the request.
      *
@@ -257,7 +1012,7 @@ public class GoalCreationRequestEventProducerHandler
      * @param message The success message
      * @return An API Gateway response
      */
-    private APIGatewayProxyResponseEvent createSuccessResponse(String message) {
+    APIGatewayProxyResponseEvent createSuccessResponse(String message) {
         Map<String, String> headers = new HashMap<>();
         headers.put("Content-Type", "application/json");
 
@@ -276,6 +1031,86 @@ public class GoalCreationRequestEventProducerHandler
                 .withIsBase64Encoded(false);
     }
 
+    /**
+     * Creates the response for a bulk request. The status is 200 when every item
+     * was accepted and 207 when at least one item was rejected.
+     *
+     * @param response The bulk response
+     * @return An API Gateway response
+     * @throws JsonProcessingException if the response cannot be serialized
+     */
+    private APIGatewayProxyResponseEvent createBulkResponse(BulkGoalCreationResponse response)
+            throws JsonProcessingException {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(response.getRejectedCount() == 0 ? HTTP_OK : HTTP_MULTI_STATUS)
+                .withHeaders(headers)
+                .withBody(OBJECT_MAPPER.writeValueAsString(response))
+                .withIsBase64Encoded(false);
+    }
+
+    /**
+     * Creates the 503 response for a publish the PublishGuard refused or gave
+     * up on, telling the client when to retry.
+     *
+     * @param exception The rejection
+     * @return An API Gateway response
+     */
+    private APIGatewayProxyResponseEvent createUnavailableResponse(PublishRejectedException exception) {
+        APIGatewayProxyResponseEvent response = createErrorResponse(HTTP_UNAVAILABLE, exception.getMessage());
+        long retryAfterSeconds = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1_000);
+        response.getHeaders().put(RETRY_AFTER_HEADER, Long.toString(retryAfterSeconds));
+        return response;
+    }
+
+    /**
+     * Creates the response to a repeated request from the recorded original.
+     *
+     * @param record The recorded response
+     * @return An API Gateway response
+     */
+    private APIGatewayProxyResponseEvent createReplayResponse(IdempotencyRecord record) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put(IDEMPOTENT_REPLAYED_HEADER, "true");
+
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(record.getStatusCode())
+                .withHeaders(headers)
+                .withBody(record.getResponseBody())
+                .withIsBase64Encoded(false);
+    }
+
+    /**
+     * Creates the 400 response for a goal that breaks validation rules, listing
+     * every violation.
+     *
+     * @param exception The validation failure
+     * @return An API Gateway response
+     */
+    private APIGatewayProxyResponseEvent createValidationErrorResponse(GoalValidationException exception) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+
+        String responseBody;
+        try {
+            responseBody = OBJECT_MAPPER.writeValueAsString(Map.of(
+                    "error", exception.getMessage(),
+                    "violations", exception.getViolations()));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize validation error response body: {}", e.getMessage(), e);
+            return createErrorResponse(HTTP_BAD_REQUEST, exception.getMessage());
+        }
+
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_BAD_REQUEST)
+                .withHeaders(headers)
+                .withBody(responseBody)
+                .withIsBase64Encoded(false);
+    }
+
     /**
      * Creates an error response with the given status code and message.
      *
@@ -283,7 +1118,7 @@ public class GoalCreationRequestEventProducerHandler
      * @param message    The error message
      * @return An API Gateway response
      */
-    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+    APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
         Map<String, String> headers = new HashMap<>();
         headers.put("Content-Type", "application/json");
 
@@ -301,4 +1136,15 @@ public class GoalCreationRequestEventProducerHandler
                 .withBody(responseBody)
                 .withIsBase64Encoded(false);
     }
-}
\ No newline at end of file
+
+    /**
+     * A parsed item of a bulk request, carrying either the event or the reason
+     * the item was rejected.
+     */
+    @Value
+    private static class BulkItem {
+        int index;
+        GoalCreationRequestEvent event;
+        String error;
+    }
+}
@@ -0,0 +1,258 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse.BatchItemFailure;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent.SQSMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.orchestration.di.GoalProgressUpdateEventConsumerModule;
+import com.osrsGoalTracker.orchestration.events.EventLatencyTracker;
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.service.GoalProgressUpdateService;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Lambda handler for consuming GoalProgressUpdateEvents from SQS.
+ * Each batch is coalesced to one update per goal and written in parallel.
+ * The handler reports partial batch failures, so only the messages of goals
+ * that could not be written, and messages that could not be read, are
+ * returned to the queue. The function's event source mapping must enable
+ * ReportBatchItemFailures. For every update written, the handler records the
+ * lag since the queue (or, without the SQS send time, the event bus) accepted
+ * it and the latency since the producer stamped it.
+ */
+@Log4j2
+public class GoalProgressUpdateEventConsumerHandler implements RequestHandler<SQSEvent, SQSBatchResponse> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final GoalProgressUpdateService progressService;
+    private final MetricsRecorder metrics;
+    private final EventLatencyTracker latencyTracker;
+
+    /**
+     * Default constructor for AWS Lambda.
+     */
+    public GoalProgressUpdateEventConsumerHandler() {
+        this(Guice.createInjector(new GoalProgressUpdateEventConsumerModule()));
+    }
+
+    /**
+     * Constructor that resolves dependencies from the given injector.
+     *
+     * @param injector The Guice injector for dependency injection
+     */
+    public GoalProgressUpdateEventConsumerHandler(Injector injector) {
+        this(injector.getInstance(GoalProgressUpdateService.class), injector.getInstance(MetricsRecorder.class),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Constructor with dependencies for testing, without metrics.
+     *
+     * @param progressService The service that writes progress updates
+     */
+    public GoalProgressUpdateEventConsumerHandler(GoalProgressUpdateService progressService) {
+        this(progressService, MetricsRecorder.discarding(), Clock.systemUTC());
+    }
+
+    /**
+     * Constructor with dependencies for testing.
+     *
+     * @param progressService The service that writes progress updates
+     * @param metrics         The recorder for per-batch metrics
+     * @param clock           The clock latencies are measured by
+     */
+    public GoalProgressUpdateEventConsumerHandler(GoalProgressUpdateService progressService,
+            MetricsRecorder metrics, Clock clock) {
+        this.progressService = progressService;
+        this.metrics = metrics;
+        this.latencyTracker = new EventLatencyTracker(metrics, clock);
+        log.info("GoalProgressUpdateEventConsumerHandler initialized");
+    }
+
+    /**
+     * Handles a batch of SQS messages.
+     *
+     * @param event   The SQS batch
+     * @param context The Lambda execution context
+     * @return The messages that failed and should be retried
+     */
+    @Override
+    public SQSBatchResponse handleRequest(SQSEvent event, Context context) {
+        List<SQSMessage> messages = event == null || event.getRecords() == null ? List.of() : event.getRecords();
+        List<BatchItemFailure> failures = new ArrayList<>();
+        List<GoalProgressUpdateEvent> updates = new ArrayList<>(messages.size());
+        List<ReceivedUpdate> received = new ArrayList<>(messages.size());
+        Map<String, List<String>> messageIdsByGoal = new HashMap<>();
+
+        for (SQSMessage message : messages) {
+            try {
+                ReceivedUpdate receivedUpdate = receive(message);
+                GoalProgressUpdateEvent update = receivedUpdate.getUpdate();
+                updates.add(update);
+                received.add(receivedUpdate);
+                messageIdsByGoal.computeIfAbsent(GoalProgressUpdateService.goalKey(update), key -> new ArrayList<>())
+                        .add(message.getMessageId());
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid goal progress message {}: {}", message.getMessageId(), e.getMessage());
+                failures.add(new BatchItemFailure(message.getMessageId()));
+            }
+        }
+
+        Set<String> failedGoals = updates.isEmpty() ? Set.of() : progressService.write(updates);
+        for (String goal : failedGoals) {
+            for (String messageId : messageIdsByGoal.get(goal)) {
+                failures.add(new BatchItemFailure(messageId));
+            }
+        }
+
+        recordLatencies(received, failedGoals);
+
+        log.info("Goal progress batch handled: requestId={} messages={} goals={} failedMessages={}",
+                context == null ? null : context.getAwsRequestId(),
+                Unbox.box(messages.size()),
+                Unbox.box(messageIdsByGoal.size()),
+                Unbox.box(failures.size()));
+        return new SQSBatchResponse(failures);
+    }
+
+    /**
+     * Records the latencies of the updates that were written, then emits the
+     * batch's metrics. A failure to emit metrics never fails the batch.
+     *
+     * @param received    The updates read from the batch
+     * @param failedGoals The keys of the goals that could not be written
+     */
+    private void recordLatencies(List<ReceivedUpdate> received, Set<String> failedGoals) {
+        try {
+            for (ReceivedUpdate receivedUpdate : received) {
+                if (!failedGoals.contains(GoalProgressUpdateService.goalKey(receivedUpdate.getUpdate()))) {
+                    latencyTracker.record(receivedUpdate.getUpdate(), receivedUpdate.getEnqueuedAt());
+                }
+            }
+            metrics.flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to emit metrics: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a message into a GoalProgressUpdateEvent and the time it was
+     * enqueued: the SQS send time, which has millisecond precision, or else
+     * the EventBridge envelope's time, which has second precision.
+     *
+     * @param message The SQS message
+     * @return The validated event and its enqueue time
+     * @throws IllegalArgumentException if the body is not a valid event
+     */
+    private ReceivedUpdate receive(SQSMessage message) {
+        JsonNode root = readBody(message.getBody());
+        Instant enqueuedAt = EventLatencyTracker.sqsSentAt(message.getAttributes());
+        if (enqueuedAt == null && root.path("time").isTextual()) {
+            try {
+                enqueuedAt = Instant.parse(root.get("time").asText());
+            } catch (DateTimeParseException e) {
+                log.debug("Unreadable envelope time on message {}", message.getMessageId());
+            }
+        }
+        return new ReceivedUpdate(toUpdate(root), enqueuedAt);
+    }
+
+    /**
+     * Parses a message body into a GoalProgressUpdateEvent. The body may be the
+     * event itself or an EventBridge envelope carrying it as its detail.
+     *
+     * @param body The message body
+     * @return The validated event
+     * @throws IllegalArgumentException if the body is not a valid event
+     */
+    GoalProgressUpdateEvent parseMessage(String body) {
+        return toUpdate(readBody(body));
+    }
+
+    /**
+     * Reads a message body as JSON.
+     *
+     * @param body The message body
+     * @return The JSON tree
+     * @throws IllegalArgumentException if the body is missing or malformed
+     */
+    private static JsonNode readBody(String body) {
+        if (body == null || body.isBlank()) {
+            throw new IllegalArgumentException("Missing message body");
+        }
+        try {
+            return OBJECT_MAPPER.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Binds a message body, or the detail of an EventBridge envelope, to a
+     * GoalProgressUpdateEvent and validates it.
+     *
+     * @param root The message body as JSON
+     * @return The validated event
+     * @throws IllegalArgumentException if the body is not a valid event
+     */
+    private static GoalProgressUpdateEvent toUpdate(JsonNode root) {
+        GoalProgressUpdateEvent update;
+        try {
+            JsonNode detail = root.path("detail").isObject() ? root.get("detail") : root;
+            update = OBJECT_MAPPER.treeToValue(detail, GoalProgressUpdateEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+
+        if (update == null || isBlank(update.getUserId()) || isBlank(update.getGoalId())) {
+            throw new IllegalArgumentException("userId and goalId are required");
+        }
+        if (update.getProgressValue() < 0) {
+            throw new IllegalArgumentException("progressValue cannot be negative");
+        }
+        return update;
+    }
+
+    /**
+     * Checks whether a value is null or blank.
+     *
+     * @param value The value
+     * @return true if the value is null or blank
+     */
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * An update read from a message, with the time it was enqueued.
+     */
+    @Value
+    private static class ReceivedUpdate {
+        GoalProgressUpdateEvent update;
+        Instant enqueuedAt;
+    }
+}
@@ -0,0 +1,91 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.orchestration.config.HiscoreRefreshConfig;
+import com.osrsGoalTracker.orchestration.di.HiscoreRefreshJobModule;
+import com.osrsGoalTracker.orchestration.model.HiscoreRefreshSummary;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for the scheduled hiscore refresh.
+ * An EventBridge schedule invokes it; each run reads the active goals, fetches
+ * the hiscores of their characters and publishes a GoalProgressUpdateEvent for
+ * every goal whose progress changed, with the Lambda request ID as the
+ * events' correlation ID. The run stops starting new fetches a configurable
+ * margin before the Lambda timeout.
+ */
+@Log4j2
+public class HiscoreRefreshJobHandler implements RequestHandler<ScheduledEvent, HiscoreRefreshSummary> {
+
+    private final HiscoreRefreshService refreshService;
+    private final Duration deadlineMargin;
+    private final Clock clock;
+
+    /**
+     * Default constructor for AWS Lambda.
+     */
+    public HiscoreRefreshJobHandler() {
+        this(Guice.createInjector(new HiscoreRefreshJobModule()));
+    }
+
+    /**
+     * Constructor that resolves dependencies from the given injector.
+     *
+     * @param injector The Guice injector for dependency injection
+     */
+    public HiscoreRefreshJobHandler(Injector injector) {
+        this(injector.getInstance(HiscoreRefreshService.class),
+                injector.getInstance(HiscoreRefreshConfig.class).getDeadlineMargin(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Constructor with dependencies for testing.
+     *
+     * @param refreshService The service that runs the refresh
+     * @param deadlineMargin How long before the Lambda timeout to stop starting fetches
+     * @param clock          The clock used to compute the deadline
+     */
+    public HiscoreRefreshJobHandler(HiscoreRefreshService refreshService, Duration deadlineMargin, Clock clock) {
+        this.refreshService = refreshService;
+        this.deadlineMargin = deadlineMargin;
+        this.clock = clock;
+        log.info("HiscoreRefreshJobHandler initialized");
+    }
+
+    /**
+     * Handles a scheduled invocation.
+     *
+     * @param event   The scheduled event
+     * @param context The Lambda execution context
+     * @return The outcome of the run
+     */
+    @Override
+    public HiscoreRefreshSummary handleRequest(ScheduledEvent event, Context context) {
+        return refreshService.refresh(deadline(context), context == null ? null : context.getAwsRequestId());
+    }
+
+    /**
+     * Computes the time after which no new hiscore request is started.
+     *
+     * @param context The Lambda execution context, or null outside Lambda
+     * @return The deadline
+     */
+    Instant deadline(Context context) {
+        Instant now = clock.instant();
+        if (context == null) {
+            return Instant.MAX;
+        }
+        return now.plusMillis(context.getRemainingTimeInMillis()).minus(deadlineMargin);
+    }
+}
@@ -0,0 +1,90 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.orchestration.config.NotificationJobConfig;
+import com.osrsGoalTracker.orchestration.di.NotificationJobModule;
+import com.osrsGoalTracker.orchestration.model.NotificationTickSummary;
+import com.osrsGoalTracker.orchestration.service.NotificationJobService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for the scheduled goal notifications.
+ * An EventBridge schedule invokes it; each run picks up new and changed goals
+ * from the goals table and sends the notifications that have fallen due. The
+ * schedule lives in the container between runs and in DynamoDB across cold
+ * starts, so the function must run with a reserved concurrency of 1.
+ */
+@Log4j2
+public class NotificationJobHandler implements RequestHandler<ScheduledEvent, NotificationTickSummary> {
+
+    private final NotificationJobService jobService;
+    private final Duration deadlineMargin;
+    private final Clock clock;
+
+    /**
+     * Default constructor for AWS Lambda.
+     */
+    public NotificationJobHandler() {
+        this(Guice.createInjector(new NotificationJobModule()));
+    }
+
+    /**
+     * Constructor that resolves dependencies from the given injector.
+     *
+     * @param injector The Guice injector for dependency injection
+     */
+    public NotificationJobHandler(Injector injector) {
+        this(injector.getInstance(NotificationJobService.class),
+                injector.getInstance(NotificationJobConfig.class).getDeadlineMargin(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Constructor with dependencies for testing.
+     *
+     * @param jobService     The service that runs the job
+     * @param deadlineMargin How long before the Lambda timeout to stop reading goals
+     * @param clock          The clock used to compute the deadline
+     */
+    public NotificationJobHandler(NotificationJobService jobService, Duration deadlineMargin, Clock clock) {
+        this.jobService = jobService;
+        this.deadlineMargin = deadlineMargin;
+        this.clock = clock;
+        log.info("NotificationJobHandler initialized");
+    }
+
+    /**
+     * Handles a scheduled invocation.
+     *
+     * @param event   The scheduled event
+     * @param context The Lambda execution context
+     * @return The outcome of the scheduler's tick
+     */
+    @Override
+    public NotificationTickSummary handleRequest(ScheduledEvent event, Context context) {
+        return jobService.run(deadline(context));
+    }
+
+    /**
+     * Computes the time after which no new page of goals is read.
+     *
+     * @param context The Lambda execution context, or null outside Lambda
+     * @return The deadline
+     */
+    Instant deadline(Context context) {
+        Instant now = clock.instant();
+        if (context == null) {
+            return Instant.MAX;
+        }
+        return now.plusMillis(context.getRemainingTimeInMillis()).minus(deadlineMargin);
+    }
+}
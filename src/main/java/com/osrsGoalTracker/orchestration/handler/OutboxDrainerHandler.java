@@ -0,0 +1,108 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse.BatchItemFailure;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.orchestration.di.OutboxDrainerModule;
+import com.osrsGoalTracker.orchestration.model.OutboxDrainSummary;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+import com.osrsGoalTracker.orchestration.service.OutboxDrainService;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Lambda handler that drains the outbox table from its DynamoDB stream.
+ * Each batch of stream records is published in one pass: the new entries are
+ * read back, sent to the configured transport in as few calls as it allows,
+ * and marked sent. Records of entries that could not be published are
+ * reported as batch item failures, so Lambda retries from the first of them;
+ * entries already sent by then are skipped. The event source mapping must
+ * enable ReportBatchItemFailures, and the stream only needs keys.
+ */
+@Log4j2
+public class OutboxDrainerHandler implements RequestHandler<DynamodbEvent, StreamsEventResponse> {
+
+    private static final String INSERT = "INSERT";
+    private static final String PARTITION_KEY = "partitionKey";
+    private static final String EVENT_ID = "eventId";
+
+    private final OutboxDrainService drainService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     */
+    public OutboxDrainerHandler() {
+        this(Guice.createInjector(new OutboxDrainerModule()));
+    }
+
+    /**
+     * Constructor that resolves dependencies from the given injector.
+     *
+     * @param injector The Guice injector for dependency injection
+     */
+    public OutboxDrainerHandler(Injector injector) {
+        this(injector.getInstance(OutboxDrainService.class));
+    }
+
+    /**
+     * Constructor with dependencies for testing.
+     *
+     * @param drainService The service that publishes outbox entries
+     */
+    public OutboxDrainerHandler(OutboxDrainService drainService) {
+        this.drainService = drainService;
+        log.info("OutboxDrainerHandler initialized");
+    }
+
+    /**
+     * Handles a batch of stream records. Only inserts are drained; the
+     * updates that mark entries sent and the deletes made by TTL are ignored.
+     *
+     * @param event   The stream batch
+     * @param context The Lambda execution context
+     * @return The records whose entries could not be published
+     */
+    @Override
+    public StreamsEventResponse handleRequest(DynamodbEvent event, Context context) {
+        List<DynamodbStreamRecord> records = event == null || event.getRecords() == null
+                ? List.of()
+                : event.getRecords();
+        Map<OutboxKey, String> sequenceNumbers = new LinkedHashMap<>();
+        for (DynamodbStreamRecord record : records) {
+            if (INSERT.equals(record.getEventName())) {
+                Map<String, AttributeValue> keys = record.getDynamodb().getKeys();
+                OutboxKey key = OutboxKey.builder()
+                        .partitionKey(keys.get(PARTITION_KEY).getS())
+                        .eventId(keys.get(EVENT_ID).getS())
+                        .build();
+                sequenceNumbers.putIfAbsent(key, record.getDynamodb().getSequenceNumber());
+            }
+        }
+
+        OutboxDrainSummary summary = drainService.drain(new ArrayList<>(sequenceNumbers.keySet()));
+        List<BatchItemFailure> failures = new ArrayList<>();
+        for (OutboxKey failedKey : summary.getFailedKeys()) {
+            failures.add(new BatchItemFailure(sequenceNumbers.get(failedKey)));
+        }
+
+        log.info("Outbox batch handled: requestId={} records={} published={} skipped={} failed={}",
+                context == null ? null : context.getAwsRequestId(),
+                Unbox.box(records.size()),
+                Unbox.box(summary.getPublishedCount()),
+                Unbox.box(summary.getSkippedCount()),
+                Unbox.box(failures.size()));
+        return new StreamsEventResponse(failures);
+    }
+}
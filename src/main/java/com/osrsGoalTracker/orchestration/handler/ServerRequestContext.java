@@ -0,0 +1,161 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+/**
+ * Lambda context of a request served outside Lambda, by the HTTP server or the
+ * load test. The remaining time counts down from the request timeout from the
+ * moment the context is created, as it does in Lambda, so the handler's publish
+ * deadline behaves the same in both deployments.
+ */
+public class ServerRequestContext implements Context {
+
+    private static final LambdaLogger DISCARDING_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+
+    private final String awsRequestId;
+    private final long deadlineNanos;
+
+    /**
+     * Creates a context with a generated request ID whose time starts now.
+     *
+     * @param timeout The request timeout
+     */
+    public ServerRequestContext(Duration timeout) {
+        this(UUID.randomUUID().toString(), timeout);
+    }
+
+    /**
+     * Creates a context whose time starts now.
+     *
+     * @param requestId The request ID
+     * @param timeout   The request timeout
+     */
+    public ServerRequestContext(String requestId, Duration timeout) {
+        this.awsRequestId = requestId;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Gets the request ID.
+     *
+     * @return The request ID
+     */
+    @Override
+    public String getAwsRequestId() {
+        return awsRequestId;
+    }
+
+    /**
+     * Gets the log group name.
+     *
+     * @return A fixed name
+     */
+    @Override
+    public String getLogGroupName() {
+        return "/ecs/goal-creation-server";
+    }
+
+    /**
+     * Gets the log stream name.
+     *
+     * @return A fixed name
+     */
+    @Override
+    public String getLogStreamName() {
+        return "goal-creation-server";
+    }
+
+    /**
+     * Gets the function name.
+     *
+     * @return A fixed name
+     */
+    @Override
+    public String getFunctionName() {
+        return "goalCreationRequestEventProducer";
+    }
+
+    /**
+     * Gets the function version.
+     *
+     * @return The unpublished version
+     */
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    /**
+     * Gets the function ARN.
+     *
+     * @return A fixed ARN
+     */
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:us-east-1:000000000000:function:goalCreationRequestEventProducer";
+    }
+
+    /**
+     * Gets the Cognito identity.
+     *
+     * @return null, as HTTP requests carry none
+     */
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    /**
+     * Gets the client context.
+     *
+     * @return null, as HTTP requests carry none
+     */
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    /**
+     * Gets the time left before the request times out.
+     *
+     * @return The remaining time in milliseconds, never negative
+     */
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    /**
+     * Gets the memory limit.
+     *
+     * @return A fixed limit in megabytes
+     */
+    @Override
+    public int getMemoryLimitInMB() {
+        return 1_024;
+    }
+
+    /**
+     * Gets a logger that drops everything; the handler logs through log4j2.
+     *
+     * @return The logger
+     */
+    @Override
+    public LambdaLogger getLogger() {
+        return DISCARDING_LOGGER;
+    }
+}
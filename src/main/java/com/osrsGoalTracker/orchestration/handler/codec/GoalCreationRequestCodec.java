@@ -0,0 +1,506 @@
+package com.osrsGoalTracker.orchestration.handler.codec;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.osrsGoalTracker.orchestration.events.EventEnvelope;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+
+/**
+ * Reads goal creation request bodies straight into GoalCreationRequestEvents
+ * and writes the event detail, using Jackson's streaming API.
+ * The body is read once without an intermediate request DTO or reflective
+ * binding, and the output matches what an ObjectMapper with the JavaTimeModule
+ * writes for the same event, so consumers see the same JSON. The event can
+ * also be written as the payload of a versioned EventEnvelope. The trace fields
+ * are written only when set and are never read from a request body, so
+ * clients cannot set them.
+ * Instances are immutable and thread-safe.
+ */
+public class GoalCreationRequestCodec {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int NANO_DIGITS = 9;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final String ZERO_NANOS = "000000000";
+
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString CHARACTER_NAME = new SerializedString("characterName");
+    private static final SerializedString TARGET_ATTRIBUTE = new SerializedString("targetAttribute");
+    private static final SerializedString TARGET_TYPE = new SerializedString("targetType");
+    private static final SerializedString TARGET_VALUE = new SerializedString("targetValue");
+    private static final SerializedString CURRENT_VALUE = new SerializedString("currentValue");
+    private static final SerializedString TARGET_DATE = new SerializedString("targetDate");
+    private static final SerializedString NOTIFICATION_CHANNEL_TYPE = new SerializedString("notificationChannelType");
+    private static final SerializedString FREQUENCY = new SerializedString("frequency");
+    private static final SerializedString INGESTED_AT = new SerializedString("ingestedAt");
+    private static final SerializedString CORRELATION_ID = new SerializedString("correlationId");
+    private static final SerializedString TRACE_CONTEXT = new SerializedString("traceContext");
+    private static final SerializedString ENVELOPE_TYPE = new SerializedString(EventEnvelope.TYPE_FIELD);
+    private static final SerializedString ENVELOPE_SCHEMA_VERSION =
+            new SerializedString(EventEnvelope.SCHEMA_VERSION_FIELD);
+    private static final SerializedString ENVELOPE_EMITTED_AT = new SerializedString(EventEnvelope.EMITTED_AT_FIELD);
+    private static final SerializedString ENVELOPE_PAYLOAD = new SerializedString(EventEnvelope.PAYLOAD_FIELD);
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Creates a codec with a default JsonFactory.
+     */
+    public GoalCreationRequestCodec() {
+        this(new JsonFactory());
+    }
+
+    /**
+     * Creates a codec that uses the given JsonFactory.
+     *
+     * @param jsonFactory The factory used to create parsers and generators
+     */
+    public GoalCreationRequestCodec(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Reads a request body into a GoalCreationRequestEvent.
+     *
+     * @param body          The request body, a JSON object
+     * @param userId        The userId from the path
+     * @param characterName The characterName from the path
+     * @return The GoalCreationRequestEvent
+     * @throws IllegalArgumentException if the body is not a valid goal
+     */
+    public GoalCreationRequestEvent readEvent(String body, String userId, String characterName) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readEvent(parser, userId, characterName);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable body: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the next JSON object of a parser into a GoalCreationRequestEvent.
+     * The parser is left on the END_OBJECT token of the goal, even when the goal
+     * is invalid, so callers can keep reading the enclosing document.
+     *
+     * @param parser        The parser, either fresh or positioned on the START_OBJECT token
+     * @param userId        The userId from the path
+     * @param characterName The characterName from the path
+     * @return The GoalCreationRequestEvent
+     * @throws IOException              if the JSON cannot be read
+     * @throws IllegalArgumentException if the goal is not a JSON object or has invalid fields
+     */
+    public GoalCreationRequestEvent readEvent(JsonParser parser, String userId, String characterName)
+            throws IOException {
+        JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            throw new IllegalArgumentException("Goal must be a JSON object");
+        }
+
+        GoalCreationRequestEvent.GoalCreationRequestEventBuilder builder = GoalCreationRequestEvent.builder()
+                .userId(userId)
+                .characterName(characterName);
+        String error = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            try {
+                readField(parser, field, builder);
+            } catch (IllegalArgumentException e) {
+                if (error == null) {
+                    error = e.getMessage();
+                }
+                parser.skipChildren();
+            }
+        }
+
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes a GoalCreationRequestEvent as JSON.
+     *
+     * @param event The event to write
+     * @return The JSON representation of the event
+     */
+    public String writeEvent(GoalCreationRequestEvent event) {
+        return write(generator -> writeEvent(generator, event), "GoalCreationRequestEvent");
+    }
+
+    /**
+     * Writes a GoalCreationRequestEvent as the payload of a versioned
+     * EventEnvelope. The header comes first, so a reader can route on it
+     * before reaching the payload.
+     *
+     * @param event     The event to write
+     * @param emittedAt When the event is emitted
+     * @return The JSON representation of the envelope
+     */
+    public String writeEnvelope(GoalCreationRequestEvent event, Instant emittedAt) {
+        return write(generator -> {
+            generator.writeStartObject();
+            writeString(generator, ENVELOPE_TYPE, GoalCreationRequestEvent.EVENT_TYPE);
+            generator.writeFieldName(ENVELOPE_SCHEMA_VERSION);
+            generator.writeNumber(GoalCreationRequestEvent.SCHEMA_VERSION);
+            writeString(generator, USER_ID, event.getUserId());
+            if (event.getCorrelationId() != null) {
+                writeString(generator, CORRELATION_ID, event.getCorrelationId());
+            }
+            generator.writeFieldName(ENVELOPE_EMITTED_AT);
+            writeInstant(generator, emittedAt);
+            generator.writeFieldName(ENVELOPE_PAYLOAD);
+            writeEvent(generator, event);
+            generator.writeEndObject();
+        }, "GoalCreationRequestEvent envelope");
+    }
+
+    /**
+     * Writes JSON to a string through a generator from the factory, which
+     * recycles the generator's buffers itself.
+     *
+     * @param content     Writes the document to the generator
+     * @param description What is written, for the error message
+     * @return The JSON document
+     */
+    private String write(JsonContent content, String description) {
+        StringWriter writer = new StringWriter(INITIAL_BUFFER_SIZE);
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            content.writeTo(generator);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write " + description, e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes a GoalCreationRequestEvent to a generator as a JSON object.
+     *
+     * @param generator The generator to write to
+     * @param event     The event to write
+     * @throws IOException if the generator fails
+     */
+    public void writeEvent(JsonGenerator generator, GoalCreationRequestEvent event) throws IOException {
+        generator.writeStartObject();
+        writeString(generator, USER_ID, event.getUserId());
+        writeString(generator, CHARACTER_NAME, event.getCharacterName());
+        writeString(generator, TARGET_ATTRIBUTE, event.getTargetAttribute());
+        writeString(generator, TARGET_TYPE, event.getTargetType());
+        generator.writeFieldName(TARGET_VALUE);
+        generator.writeNumber(event.getTargetValue());
+        generator.writeFieldName(CURRENT_VALUE);
+        generator.writeNumber(event.getCurrentValue());
+        generator.writeFieldName(TARGET_DATE);
+        writeInstant(generator, event.getTargetDate());
+        writeString(generator, NOTIFICATION_CHANNEL_TYPE, event.getNotificationChannelType());
+        writeString(generator, FREQUENCY, event.getFrequency());
+        if (event.getIngestedAt() != null) {
+            generator.writeFieldName(INGESTED_AT);
+            writeInstant(generator, event.getIngestedAt());
+        }
+        if (event.getCorrelationId() != null) {
+            writeString(generator, CORRELATION_ID, event.getCorrelationId());
+        }
+        if (event.getTraceContext() != null) {
+            writeString(generator, TRACE_CONTEXT, event.getTraceContext());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the value of a single field into the builder. Unknown fields are
+     * skipped.
+     *
+     * @param parser  The parser, positioned on the field value
+     * @param field   The field name
+     * @param builder The builder to populate
+     * @throws IOException if the JSON cannot be read
+     */
+    private void readField(JsonParser parser, String field,
+            GoalCreationRequestEvent.GoalCreationRequestEventBuilder builder) throws IOException {
+        switch (field) {
+            case "targetAttribute" -> builder.targetAttribute(readString(parser, field));
+            case "targetType" -> builder.targetType(readString(parser, field));
+            case "targetValue" -> builder.targetValue(readLong(parser, field));
+            case "currentValue" -> builder.currentValue(readLong(parser, field));
+            case "targetDate" -> builder.targetDate(readInstant(parser, field));
+            case "notificationChannelType" -> builder.notificationChannelType(readString(parser, field));
+            case "frequency" -> builder.frequency(readString(parser, field));
+            default -> parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads a string value. Scalars are coerced to text, as the ObjectMapper does.
+     *
+     * @param parser The parser, positioned on the value
+     * @param field  The field name, used in error messages
+     * @return The string, or null for a JSON null
+     * @throws IOException if the JSON cannot be read
+     */
+    private static String readString(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw invalidField(field, "expected a string");
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Reads a long value from a number or a numeric string. A null reads as 0, as
+     * it does for primitive fields bound by the ObjectMapper.
+     *
+     * @param parser The parser, positioned on the value
+     * @param field  The field name, used in error messages
+     * @return The long value
+     * @throws IOException if the JSON cannot be read
+     */
+    private static long readLong(JsonParser parser, String field) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    throw invalidField(field, "number out of range");
+                }
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return (long) parser.getDoubleValue();
+            case VALUE_NULL:
+                return 0L;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return 0L;
+                }
+                try {
+                    return Long.parseLong(text);
+                } catch (NumberFormatException e) {
+                    throw invalidField(field, "expected a number");
+                }
+            default:
+                throw invalidField(field, "expected a number");
+        }
+    }
+
+    /**
+     * Reads an instant from an ISO-8601 string or from epoch seconds, with an
+     * optional fraction for nanoseconds.
+     *
+     * @param parser The parser, positioned on the value
+     * @param field  The field name, used in error messages
+     * @return The instant, or null for a JSON null or empty string
+     * @throws IOException if the JSON cannot be read
+     */
+    private static Instant readInstant(JsonParser parser, String field) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_NUMBER_INT:
+                return Instant.ofEpochSecond(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT:
+                return fromDecimalSeconds(parser.getDecimalValue());
+            case VALUE_STRING:
+                return parseInstant(parser.getText().trim(), field);
+            default:
+                throw invalidField(field, "expected an ISO-8601 timestamp");
+        }
+    }
+
+    /**
+     * Parses an instant from text. The UTC form clients send is parsed by hand;
+     * other ISO-8601 forms and epoch seconds go through java.time.
+     *
+     * @param text  The trimmed text
+     * @param field The field name, used in error messages
+     * @return The instant, or null for empty text
+     */
+    private static Instant parseInstant(String text, String field) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        Instant instant = parseUtcInstant(text);
+        if (instant != null) {
+            return instant;
+        }
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            // Fall through to the offset and epoch forms below.
+        }
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException e) {
+            // Fall through to the epoch form below.
+        }
+        try {
+            return fromDecimalSeconds(new BigDecimal(text));
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw invalidField(field, "expected an ISO-8601 timestamp");
+        }
+    }
+
+    /**
+     * Parses a timestamp of the form yyyy-MM-ddTHH:mm:ss[.fraction]Z without
+     * going through a DateTimeFormatter.
+     *
+     * @param text The text to parse
+     * @return The instant, or null if the text is not in that form
+     */
+    private static Instant parseUtcInstant(String text) {
+        int length = text.length();
+        if (length < 20 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':' || text.charAt(length - 1) != 'Z') {
+            return null;
+        }
+        int nanos = 0;
+        if (length > 20) {
+            int fractionDigits = length - 21;
+            if (text.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > NANO_DIGITS) {
+                return null;
+            }
+            nanos = digits(text, 20, length - 1);
+            if (nanos < 0) {
+                return null;
+            }
+            for (int i = fractionDigits; i < NANO_DIGITS; i++) {
+                nanos *= 10;
+            }
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        int hour = digits(text, 11, 13);
+        int minute = digits(text, 14, 16);
+        int second = digits(text, 17, 19);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || hour > 23
+                || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        try {
+            long epochDay = LocalDate.of(year, month, day).toEpochDay();
+            return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second, nanos);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a run of decimal digits.
+     *
+     * @param text  The text
+     * @param start The index of the first digit
+     * @param end   The index after the last digit
+     * @return The value, or -1 if the run contains a non-digit
+     */
+    private static int digits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Converts decimal epoch seconds into an instant.
+     *
+     * @param seconds The epoch seconds, with nanoseconds as the fraction
+     * @return The instant
+     */
+    private static Instant fromDecimalSeconds(BigDecimal seconds) {
+        long wholeSeconds = seconds.longValue();
+        int nanos = seconds.subtract(BigDecimal.valueOf(wholeSeconds)).movePointRight(9).intValue();
+        return Instant.ofEpochSecond(wholeSeconds, nanos);
+    }
+
+    /**
+     * Writes a string field, or a null if the value is absent.
+     *
+     * @param generator The generator to write to
+     * @param name      The field name
+     * @param value     The value
+     * @throws IOException if the generator fails
+     */
+    private static void writeString(JsonGenerator generator, SerializedString name, String value)
+            throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    /**
+     * Writes an instant as decimal epoch seconds with nine fraction digits, which
+     * is the JavaTimeModule default. Instants before the epoch are left to
+     * DecimalUtils.
+     *
+     * @param generator The generator to write to
+     * @param value     The instant, may be null
+     * @throws IOException if the generator fails
+     */
+    private static void writeInstant(JsonGenerator generator, Instant value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value.getEpochSecond() < 0) {
+            generator.writeNumber(DecimalUtils.toBigDecimal(value.getEpochSecond(), value.getNano()));
+        } else {
+            String nanos = Integer.toString(value.getNano());
+            generator.writeNumber(new StringBuilder(30)
+                    .append(value.getEpochSecond())
+                    .append('.')
+                    .append(ZERO_NANOS, 0, NANO_DIGITS - nanos.length())
+                    .append(nanos)
+                    .toString());
+        }
+    }
+
+    /**
+     * Creates the exception for an invalid field value.
+     *
+     * @param field  The field name
+     * @param reason The reason the value is invalid
+     * @return The exception
+     */
+    private static IllegalArgumentException invalidField(String field, String reason) {
+        return new IllegalArgumentException("Invalid value for " + field + ": " + reason);
+    }
+
+    /**
+     * Writes a JSON document to a generator.
+     */
+    @FunctionalInterface
+    private interface JsonContent {
+        /**
+         * Writes the document.
+         *
+         * @param generator The generator to write to
+         * @throws IOException if the generator fails
+         */
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+}
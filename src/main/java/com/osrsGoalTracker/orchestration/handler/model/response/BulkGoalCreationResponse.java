@@ -0,0 +1,28 @@
+package com.osrsGoalTracker.orchestration.handler.model.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response body for a bulk goal creation request.
+ */
+@Value
+@Builder
+public class BulkGoalCreationResponse {
+    /**
+     * The number of goals that were published.
+     */
+    int acceptedCount;
+
+    /**
+     * The number of goals that were rejected or failed to publish.
+     */
+    int rejectedCount;
+
+    /**
+     * One result per goal, in request order.
+     */
+    List<GoalCreationItemResult> results;
+}
@@ -0,0 +1,29 @@
+package com.osrsGoalTracker.orchestration.handler.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Result for a single goal in a bulk goal creation request.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GoalCreationItemResult {
+    /**
+     * The position of the goal in the request body.
+     */
+    int index;
+
+    /**
+     * The status of the goal.
+     */
+    GoalCreationItemStatus status;
+
+    /**
+     * The reason the goal was rejected, absent for accepted goals.
+     */
+    String error;
+}
@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.orchestration.handler.model.response;
+
+/**
+ * Status of a single goal in a bulk goal creation request.
+ */
+public enum GoalCreationItemStatus {
+    /**
+     * The goal was published as a GoalCreationRequestEvent.
+     */
+    ACCEPTED,
+
+    /**
+     * The goal failed validation and was not published.
+     */
+    INVALID,
+
+    /**
+     * The goal was valid but could not be published.
+     */
+    FAILED
+}
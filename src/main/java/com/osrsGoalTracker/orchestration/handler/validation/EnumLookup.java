@@ -0,0 +1,87 @@
+package com.osrsGoalTracker.orchestration.handler.validation;
+
+import java.lang.reflect.Array;
+
+/**
+ * Maps strings to the constants of an enum, ignoring case, without allocating.
+ * The constants are laid out once in an open-addressing table keyed on a
+ * case-folded hash of their names; a lookup hashes the input in place and
+ * compares with equalsIgnoreCase, so neither step creates a string.
+ * Instances are immutable and thread-safe.
+ *
+ * @param <E> The enum type
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final E[] slots;
+    private final int mask;
+
+    /**
+     * Builds the table for an enum.
+     *
+     * @param type The enum class
+     */
+    @SuppressWarnings("unchecked")
+    public EnumLookup(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        int capacity = Integer.highestOneBit(Math.max(constants.length, 1) * 4 - 1) << 1;
+        this.slots = (E[]) Array.newInstance(type, capacity);
+        this.mask = capacity - 1;
+        for (E constant : constants) {
+            int slot = hash(constant.name(), 0, constant.name().length()) & mask;
+            while (slots[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = constant;
+        }
+    }
+
+    /**
+     * Looks up a constant by name, ignoring case and surrounding whitespace.
+     *
+     * @param name The name, possibly null
+     * @return The constant, or null if no constant has that name
+     */
+    public E find(String name) {
+        if (name == null) {
+            return null;
+        }
+        int start = 0;
+        int end = name.length();
+        while (start < end && Character.isWhitespace(name.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(name.charAt(end - 1))) {
+            end--;
+        }
+        int length = end - start;
+        if (length == 0) {
+            return null;
+        }
+        int slot = hash(name, start, end) & mask;
+        for (E candidate = slots[slot]; candidate != null; candidate = slots[slot]) {
+            String candidateName = candidate.name();
+            if (candidateName.length() == length && candidateName.regionMatches(true, 0, name, start, length)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Hashes a region of a string as if it were upper case.
+     *
+     * @param text  The text
+     * @param start The index of the first character
+     * @param end   The index after the last character
+     * @return The hash
+     */
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + Character.toUpperCase(text.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,167 @@
+package com.osrsGoalTracker.orchestration.handler.validation;
+
+/**
+ * Every hiscore entry a goal can target, with its type and the largest value
+ * the hiscores can show for it. Constant names match the attribute names the
+ * hiscore client derives from entry names, so "Clue Scrolls (all)" is
+ * CLUE_SCROLLS_ALL and "Kree'Arra" is KREE_ARRA.
+ */
+public enum GoalAttribute {
+    // Skills, in experience. Overall is the sum of every skill.
+    OVERALL(TargetType.SKILL, GoalAttribute.MAX_OVERALL_XP),
+    ATTACK(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    DEFENCE(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    STRENGTH(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    HITPOINTS(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    RANGED(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    PRAYER(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    MAGIC(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    COOKING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    WOODCUTTING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    FLETCHING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    FISHING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    FIREMAKING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    CRAFTING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    SMITHING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    MINING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    HERBLORE(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    AGILITY(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    THIEVING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    SLAYER(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    FARMING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    RUNECRAFT(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    HUNTER(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    CONSTRUCTION(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+    SAILING(TargetType.SKILL, GoalAttribute.MAX_SKILL_XP),
+
+    // Activities, in score.
+    LEAGUE_POINTS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DEADMAN_POINTS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    BOUNTY_HUNTER_HUNTER(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    BOUNTY_HUNTER_ROGUE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    BOUNTY_HUNTER_LEGACY_HUNTER(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    BOUNTY_HUNTER_LEGACY_ROGUE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_ALL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_BEGINNER(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_EASY(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_MEDIUM(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_HARD(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_ELITE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CLUE_SCROLLS_MASTER(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    LMS_RANK(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    PVP_ARENA_RANK(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SOUL_WARS_ZEAL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    RIFTS_CLOSED(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    COLOSSEUM_GLORY(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    COLLECTIONS_LOGGED(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+
+    // Bosses and raids, in kill count.
+    ABYSSAL_SIRE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    ALCHEMICAL_HYDRA(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    AMOXLIATL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    ARAXXOR(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    ARTIO(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    BARROWS_CHESTS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    BRYOPHYTA(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CALLISTO(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CALVAR_ION(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CERBERUS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CHAMBERS_OF_XERIC(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CHAMBERS_OF_XERIC_CHALLENGE_MODE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CHAOS_ELEMENTAL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CHAOS_FANATIC(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    COMMANDER_ZILYANA(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CORPOREAL_BEAST(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    CRAZY_ARCHAEOLOGIST(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DAGANNOTH_PRIME(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DAGANNOTH_REX(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DAGANNOTH_SUPREME(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DERANGED_ARCHAEOLOGIST(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DOOM_OF_MOKHAIOTL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    DUKE_SUCELLUS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    GENERAL_GRAARDOR(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    GIANT_MOLE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    GROTESQUE_GUARDIANS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    HESPORI(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    KALPHITE_QUEEN(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    KING_BLACK_DRAGON(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    KRAKEN(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    KREE_ARRA(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    K_RIL_TSUTSAROTH(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    LUNAR_CHESTS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    MIMIC(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    NEX(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    NIGHTMARE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    PHOSANI_S_NIGHTMARE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    OBOR(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    PHANTOM_MUSPAH(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SARACHNIS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SCORPIA(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SCURRIUS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SKOTIZO(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SOL_HEREDIT(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    SPINDEL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    TEMPOROSS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THE_GAUNTLET(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THE_CORRUPTED_GAUNTLET(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THE_HUEYCOATL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THE_LEVIATHAN(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THE_ROYAL_TITANS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THE_WHISPERER(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THEATRE_OF_BLOOD(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THEATRE_OF_BLOOD_HARD_MODE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    THERMONUCLEAR_SMOKE_DEVIL(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    TOMBS_OF_AMASCUT(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    TOMBS_OF_AMASCUT_EXPERT_MODE(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    TZKAL_ZUK(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    TZTOK_JAD(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    VARDORVIS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    VENENATIS(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    VET_ION(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    VORKATH(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    WINTERTODT(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    YAMA(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    ZALCANO(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE),
+    ZULRAH(TargetType.ACTIVITY, GoalAttribute.MAX_SCORE);
+
+    /** The experience cap of a single skill. */
+    public static final long MAX_SKILL_XP = 200_000_000L;
+
+    /** The experience cap of every skill together. */
+    public static final long MAX_OVERALL_XP = MAX_SKILL_XP * 24;
+
+    /** The hiscores store scores as 32-bit integers. */
+    public static final long MAX_SCORE = Integer.MAX_VALUE;
+
+    private final TargetType targetType;
+    private final long maxValue;
+
+    /**
+     * Creates an attribute.
+     *
+     * @param targetType The kind of entry
+     * @param maxValue   The largest value the hiscores can show
+     */
+    GoalAttribute(TargetType targetType, long maxValue) {
+        this.targetType = targetType;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Returns the kind of entry.
+     *
+     * @return The target type
+     */
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Returns the largest value the hiscores can show for the entry.
+     *
+     * @return The maximum value
+     */
+    public long getMaxValue() {
+        return maxValue;
+    }
+}
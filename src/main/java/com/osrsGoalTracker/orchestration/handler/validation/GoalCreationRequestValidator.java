@@ -0,0 +1,174 @@
+package com.osrsGoalTracker.orchestration.handler.validation;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+
+/**
+ * Checks a parsed goal against the rules every consumer relies on, before
+ * anything is serialized or published. The free-form string fields are mapped
+ * to enum constants through precomputed lookup tables, and the attribute's
+ * type and value bounds come from the GoalAttribute table, so a valid goal is
+ * checked without allocating. Every violation is collected, so a client can
+ * fix a request in one round trip. A valid goal comes back with those fields
+ * spelled as the enum constants, so consumers never parse them again.
+ * Instances are immutable and thread-safe.
+ */
+public class GoalCreationRequestValidator {
+
+    private static final EnumLookup<GoalAttribute> ATTRIBUTES = new EnumLookup<>(GoalAttribute.class);
+    private static final EnumLookup<TargetType> TARGET_TYPES = new EnumLookup<>(TargetType.class);
+    private static final EnumLookup<NotificationChannelType> CHANNELS =
+            new EnumLookup<>(NotificationChannelType.class);
+    private static final EnumLookup<NotificationFrequency> FREQUENCIES =
+            new EnumLookup<>(NotificationFrequency.class);
+
+    /**
+     * The frequencies each channel supports. Every channel currently takes
+     * every frequency; a channel that cannot is restricted here.
+     */
+    private static final Map<NotificationChannelType, Set<NotificationFrequency>> CHANNEL_FREQUENCIES =
+            new EnumMap<>(Map.of(
+                    NotificationChannelType.DISCORD, EnumSet.allOf(NotificationFrequency.class),
+                    NotificationChannelType.EMAIL, EnumSet.allOf(NotificationFrequency.class)));
+
+    private static final String TARGET_TYPE_VIOLATION =
+            "targetType must be one of " + Arrays.toString(TargetType.values());
+    private static final String CHANNEL_VIOLATION =
+            "notificationChannelType must be one of " + Arrays.toString(NotificationChannelType.values());
+    private static final String FREQUENCY_VIOLATION =
+            "frequency must be one of " + Arrays.toString(NotificationFrequency.values());
+
+    private final Clock clock;
+
+    /**
+     * Creates a validator.
+     *
+     * @param clock The clock a targetDate must lie after
+     */
+    public GoalCreationRequestValidator(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Validates a goal whose currentValue came from the request.
+     *
+     * @param event The parsed goal
+     * @return The goal with its coded fields in canonical spelling
+     * @throws GoalValidationException listing every rule the goal breaks
+     */
+    public GoalCreationRequestEvent validate(GoalCreationRequestEvent event) {
+        return validate(event, false);
+    }
+
+    /**
+     * Validates a goal. When its currentValue was taken from the character's
+     * hiscores rather than the request, a goal at or past its target is
+     * reported as already reached, since the client never sent the value.
+     *
+     * @param event                    The parsed goal
+     * @param currentValueFromHiscores Whether currentValue was taken from the character's hiscores
+     * @return The goal with its coded fields in canonical spelling
+     * @throws GoalValidationException listing every rule the goal breaks
+     */
+    public GoalCreationRequestEvent validate(GoalCreationRequestEvent event, boolean currentValueFromHiscores) {
+        List<String> violations = null;
+
+        GoalAttribute attribute = ATTRIBUTES.find(event.getTargetAttribute());
+        if (attribute == null) {
+            violations = add(violations, event.getTargetAttribute() == null
+                    ? "targetAttribute is required"
+                    : "targetAttribute must be an OSRS skill or activity, got " + event.getTargetAttribute());
+        }
+
+        TargetType targetType = TARGET_TYPES.find(event.getTargetType());
+        if (targetType == null) {
+            violations = add(violations, TARGET_TYPE_VIOLATION);
+        } else if (attribute != null && attribute.getTargetType() != targetType) {
+            violations = add(violations, "targetType of " + attribute + " must be " + attribute.getTargetType());
+        }
+
+        long maxValue = attribute == null ? Long.MAX_VALUE : attribute.getMaxValue();
+        if (event.getTargetValue() < 1 || event.getTargetValue() > maxValue) {
+            violations = add(violations, "targetValue must be between 1 and " + maxValue);
+        }
+        if (event.getCurrentValue() < 0 || event.getCurrentValue() > maxValue) {
+            violations = add(violations, "currentValue must be between 0 and " + maxValue);
+        } else if (event.getCurrentValue() >= event.getTargetValue()) {
+            violations = add(violations, currentValueFromHiscores
+                    ? "targetValue is already reached: " + (attribute != null ? attribute : event.getTargetAttribute())
+                            + " is " + event.getCurrentValue() + " on the hiscores"
+                    : "currentValue must be less than targetValue");
+        }
+
+        if (event.getTargetDate() != null && !event.getTargetDate().isAfter(clock.instant())) {
+            violations = add(violations, "targetDate must be in the future");
+        }
+
+        NotificationChannelType channel = CHANNELS.find(event.getNotificationChannelType());
+        if (channel == null) {
+            violations = add(violations, CHANNEL_VIOLATION);
+        }
+        NotificationFrequency frequency = FREQUENCIES.find(event.getFrequency());
+        if (frequency == null) {
+            violations = add(violations, FREQUENCY_VIOLATION);
+        } else if (channel != null && !CHANNEL_FREQUENCIES.get(channel).contains(frequency)) {
+            violations = add(violations, channel + " notifications cannot be sent " + frequency);
+        }
+
+        if (violations != null) {
+            throw new GoalValidationException(violations);
+        }
+        return canonical(event, attribute, targetType, channel, frequency);
+    }
+
+    /**
+     * Spells a valid goal's coded fields as their enum constants. A goal that
+     * already uses the canonical spellings is returned as is.
+     *
+     * @param event      The valid goal
+     * @param attribute  The resolved targetAttribute
+     * @param targetType The resolved targetType
+     * @param channel    The resolved notificationChannelType
+     * @param frequency  The resolved frequency
+     * @return The goal in canonical spelling
+     */
+    private static GoalCreationRequestEvent canonical(GoalCreationRequestEvent event, GoalAttribute attribute,
+            TargetType targetType, NotificationChannelType channel, NotificationFrequency frequency) {
+        if (attribute.name().equals(event.getTargetAttribute())
+                && targetType.name().equals(event.getTargetType())
+                && channel.name().equals(event.getNotificationChannelType())
+                && frequency.name().equals(event.getFrequency())) {
+            return event;
+        }
+        return event.toBuilder()
+                .targetAttribute(attribute.name())
+                .targetType(targetType.name())
+                .notificationChannelType(channel.name())
+                .frequency(frequency.name())
+                .build();
+    }
+
+    /**
+     * Records a violation, creating the list on the first one so that valid
+     * goals allocate nothing.
+     *
+     * @param violations The violations so far, or null if there are none
+     * @param violation  The violation to add
+     * @return The violations
+     */
+    private static List<String> add(List<String> violations, String violation) {
+        List<String> list = violations == null ? new ArrayList<>(4) : violations;
+        list.add(violation);
+        return list;
+    }
+}
@@ -0,0 +1,31 @@
+package com.osrsGoalTracker.orchestration.handler.validation;
+
+import java.util.List;
+
+/**
+ * Thrown when a goal breaks one or more validation rules. The message joins
+ * every violation, so callers that only read the message still see them all.
+ */
+public class GoalValidationException extends IllegalArgumentException {
+
+    private final List<String> violations;
+
+    /**
+     * Creates an exception for the given violations.
+     *
+     * @param violations The rules the goal breaks, in field order
+     */
+    public GoalValidationException(List<String> violations) {
+        super(String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    /**
+     * Returns the rules the goal breaks.
+     *
+     * @return The violations, in field order
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,12 @@
+package com.osrsGoalTracker.orchestration.handler.validation;
+
+/**
+ * The kinds of hiscore entry a goal can target.
+ */
+public enum TargetType {
+    /** A skill, measured in experience. */
+    SKILL,
+
+    /** An activity or boss, measured in score or kill count. */
+    ACTIVITY
+}
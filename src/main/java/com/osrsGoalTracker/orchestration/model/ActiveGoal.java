@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A goal that is still being tracked, with the progress last recorded for it.
+ */
+@Value
+@Builder
+public class ActiveGoal {
+    /**
+     * The user that owns the goal.
+     */
+    String userId;
+
+    /**
+     * The goal.
+     */
+    String goalId;
+
+    /**
+     * The character the goal is tracked for.
+     */
+    String characterName;
+
+    /**
+     * The hiscore entry the goal tracks, such as WOODCUTTING.
+     */
+    String targetAttribute;
+
+    /**
+     * The progress last recorded for the goal.
+     */
+    long currentValue;
+
+    /**
+     * The value the goal aims for, or null if the goal item does not carry it.
+     */
+    Long targetValue;
+
+    /**
+     * The deadline of the goal, or null for a goal without one.
+     */
+    Instant targetDate;
+
+    /**
+     * The channel the goal's progress notification is sent through, or null if the goal has none.
+     */
+    NotificationChannelType notificationChannelType;
+
+    /**
+     * How often the goal's progress notification is sent, or null if the goal has none.
+     */
+    NotificationFrequency frequency;
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One page of active goals, with the cursor a later pass resumes from once
+ * the page has been handled.
+ */
+@Value
+@Builder
+public class ActiveGoalPage {
+    /**
+     * The active goals on the page, which may be none when every goal the
+     * page covered was filtered out.
+     */
+    List<ActiveGoal> goals;
+
+    /**
+     * The cursor that starts a pass after this page, or null if this is the
+     * last page.
+     */
+    String nextCursor;
+}
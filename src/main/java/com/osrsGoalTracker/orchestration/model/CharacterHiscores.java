@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The hiscore values of a character, keyed by attribute name such as
+ * WOODCUTTING or ZULRAH. Skills hold experience and activities hold scores.
+ */
+@Value
+@Builder
+public class CharacterHiscores {
+    /**
+     * The character the hiscores belong to.
+     */
+    String characterName;
+
+    /**
+     * The value of each ranked attribute. Unranked attributes are absent.
+     */
+    Map<String, Long> values;
+}
@@ -0,0 +1,42 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The hiscore values of a character as of a point in time, keyed by attribute
+ * name such as WOODCUTTING or ZULRAH. Skills hold experience and activities
+ * hold scores.
+ */
+@Value
+@Builder
+public class CharacterSnapshot {
+    /**
+     * The character the snapshot belongs to.
+     */
+    String characterName;
+
+    /**
+     * The value of each ranked attribute. Unranked attributes are absent.
+     */
+    Map<String, Long> values;
+
+    /**
+     * When the values were read from the hiscores.
+     */
+    Instant capturedAt;
+
+    /**
+     * Gets the value of an attribute.
+     *
+     * @param attribute The attribute name, matched case-insensitively
+     * @return The value, or null if the attribute is unranked or unknown
+     */
+    public Long valueOf(String attribute) {
+        return values == null || attribute == null ? null : values.get(attribute.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,28 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The trace fields a producer stamps on the events of one invocation.
+ */
+@Value
+@Builder
+public class EventTrace {
+    /**
+     * When the invocation accepted the request.
+     */
+    Instant ingestedAt;
+
+    /**
+     * The Lambda request ID of the invocation, or null outside Lambda.
+     */
+    String correlationId;
+
+    /**
+     * The trace header of the request, or null if there was none.
+     */
+    String traceContext;
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.orchestration.model;
+
+/**
+ * The transports goal events can be published to.
+ */
+public enum EventTransport {
+    /**
+     * An EventBridge event bus.
+     */
+    EVENTBRIDGE,
+
+    /**
+     * An SQS queue; FIFO queues keep each user's events in order.
+     */
+    SQS,
+
+    /**
+     * A Kinesis data stream, partitioned by user.
+     */
+    KINESIS,
+
+    /**
+     * A list kept in memory, for local runs and tests.
+     */
+    IN_MEMORY
+}
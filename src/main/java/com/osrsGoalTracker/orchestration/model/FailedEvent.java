@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Describes an event that could not be published after all retry attempts.
+ */
+@Value
+@Builder
+public class FailedEvent {
+    /**
+     * The position of the event in the list that was handed to the publisher.
+     */
+    int index;
+
+    /**
+     * The error code reported by the event bus for the last attempt.
+     */
+    String errorCode;
+
+    /**
+     * The error message reported by the event bus for the last attempt.
+     */
+    String errorMessage;
+}
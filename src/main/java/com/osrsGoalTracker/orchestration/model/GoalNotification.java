@@ -0,0 +1,41 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A recurring progress notification for one goal.
+ */
+@Value
+@Builder
+public class GoalNotification {
+    /**
+     * The user that owns the goal and receives the notification.
+     */
+    String userId;
+
+    /**
+     * The goal.
+     */
+    String goalId;
+
+    /**
+     * The character the goal is tracked for.
+     */
+    String characterName;
+
+    /**
+     * The hiscore entry the goal tracks, such as WOODCUTTING.
+     */
+    String targetAttribute;
+
+    /**
+     * The channel the notification is delivered through.
+     */
+    NotificationChannelType channelType;
+
+    /**
+     * How often the notification is sent.
+     */
+    NotificationFrequency frequency;
+}
@@ -0,0 +1,52 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The state kept for projecting when a goal will be completed. It has the
+ * same size however long the goal has been tracked: the last progress seen
+ * and an exponentially weighted rate of progress, which each progress update
+ * replaces in constant time.
+ */
+@Value
+@Builder(toBuilder = true)
+public class GoalProjection {
+    /**
+     * The user that owns the goal.
+     */
+    String userId;
+
+    /**
+     * The goal.
+     */
+    String goalId;
+
+    /**
+     * The progress last seen.
+     */
+    long value;
+
+    /**
+     * When the progress last seen was observed.
+     */
+    Instant observedAt;
+
+    /**
+     * The weighted recent rate of progress, per day.
+     */
+    double ratePerDay;
+
+    /**
+     * The number of progress updates the rate was built from.
+     */
+    int observations;
+
+    /**
+     * Whether the goal was last projected to miss its target date, so it is
+     * reported only when it falls behind.
+     */
+    boolean atRisk;
+}
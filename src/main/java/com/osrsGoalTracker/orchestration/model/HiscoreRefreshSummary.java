@@ -0,0 +1,51 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of one run of the hiscore refresh job.
+ */
+@Value
+@Builder
+public class HiscoreRefreshSummary {
+    /**
+     * The number of active goals read.
+     */
+    int goalCount;
+
+    /**
+     * The number of distinct characters those goals belong to.
+     */
+    int characterCount;
+
+    /**
+     * The number of characters whose hiscores were fetched.
+     */
+    int fetchedCount;
+
+    /**
+     * The number of characters that are not on the hiscores.
+     */
+    int notFoundCount;
+
+    /**
+     * The number of characters whose fetch failed.
+     */
+    int failedCount;
+
+    /**
+     * The number of characters skipped because the run reached its deadline.
+     */
+    int skippedCount;
+
+    /**
+     * The number of GoalProgressUpdateEvents published.
+     */
+    int publishedCount;
+
+    /**
+     * The number of GoalProgressUpdateEvents that could not be published.
+     */
+    int publishFailedCount;
+}
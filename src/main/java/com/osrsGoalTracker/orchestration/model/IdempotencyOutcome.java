@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The result of claiming an idempotency key before handling a request.
+ */
+@Value
+@Builder
+public class IdempotencyOutcome {
+
+    /**
+     * What the caller should do with the request.
+     */
+    public enum Decision {
+        /**
+         * The key was claimed; handle the request and record its response.
+         */
+        PROCEED,
+
+        /**
+         * The request was already handled; return the recorded response.
+         */
+        REPLAY,
+
+        /**
+         * A request with the same key is still being handled elsewhere.
+         */
+        IN_PROGRESS
+    }
+
+    /**
+     * What the caller should do with the request.
+     */
+    Decision decision;
+
+    /**
+     * The recorded request when the decision is REPLAY, otherwise null.
+     */
+    IdempotencyRecord record;
+
+    /**
+     * The end of the caller's claim when the decision is PROCEED, otherwise
+     * null. Releasing the claim only removes a claim that still ends then.
+     */
+    Instant claimExpiresAt;
+}
@@ -0,0 +1,49 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A request recorded under an idempotency key, together with its response once
+ * the request has completed.
+ */
+@Value
+@Builder(toBuilder = true)
+public class IdempotencyRecord {
+    /**
+     * The idempotency key.
+     */
+    String key;
+
+    /**
+     * The state of the request.
+     */
+    IdempotencyStatus status;
+
+    /**
+     * The HTTP status code of the recorded response, or 0 while in progress.
+     */
+    int statusCode;
+
+    /**
+     * The body of the recorded response, or null while in progress.
+     */
+    String responseBody;
+
+    /**
+     * The time after which the record no longer suppresses duplicates.
+     */
+    Instant expiresAt;
+
+    /**
+     * Indicates whether the record has expired.
+     *
+     * @param now The current time
+     * @return true if the record no longer applies
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
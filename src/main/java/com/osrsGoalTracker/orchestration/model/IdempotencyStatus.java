@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.orchestration.model;
+
+/**
+ * State of a request recorded under an idempotency key.
+ */
+public enum IdempotencyStatus {
+    /**
+     * A request with this key has started and has not finished yet.
+     */
+    IN_PROGRESS,
+
+    /**
+     * A request with this key finished and its response was recorded.
+     */
+    COMPLETED
+}
@@ -0,0 +1,12 @@
+package com.osrsGoalTracker.orchestration.model;
+
+/**
+ * The channels progress notifications are delivered through.
+ */
+public enum NotificationChannelType {
+    /** A Discord webhook. */
+    DISCORD,
+
+    /** An email relay. */
+    EMAIL
+}
@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The notifications of one user on one channel that fell due together, sent
+ * as a single message.
+ */
+@Value
+@Builder
+public class NotificationDigest {
+    /**
+     * The user receiving the digest.
+     */
+    String userId;
+
+    /**
+     * The channel the digest is delivered through.
+     */
+    NotificationChannelType channelType;
+
+    /**
+     * The time the digest was assembled.
+     */
+    Instant sentAt;
+
+    /**
+     * The notifications in the digest, in the order they fell due.
+     */
+    List<GoalNotification> notifications;
+}
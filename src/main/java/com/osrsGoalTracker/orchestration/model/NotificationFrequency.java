@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * How often a goal's progress notification is sent. Periods are counted in
+ * UTC, so a monthly notification keeps its day of the month, falling back to
+ * the last day of shorter months.
+ */
+public enum NotificationFrequency {
+    /** Once a day. */
+    DAILY,
+
+    /** Once a week. */
+    WEEKLY,
+
+    /** Once a month. */
+    MONTHLY;
+
+    /**
+     * Computes the due time one period after the given time.
+     *
+     * @param from The previous due time
+     * @return The next due time
+     */
+    public Instant next(Instant from) {
+        ZonedDateTime time = from.atZone(ZoneOffset.UTC);
+        return switch (this) {
+            case DAILY -> time.plusDays(1).toInstant();
+            case WEEKLY -> time.plusWeeks(1).toInstant();
+            case MONTHLY -> time.plusMonths(1).toInstant();
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of one tick of the notification scheduler.
+ */
+@Value
+@Builder
+public class NotificationTickSummary {
+    /**
+     * The number of notifications that fell due.
+     */
+    int dueCount;
+
+    /**
+     * The number of digests those notifications were grouped into.
+     */
+    int digestCount;
+
+    /**
+     * The number of digests delivered.
+     */
+    int sentCount;
+
+    /**
+     * The number of digests that could not be delivered.
+     */
+    int failedCount;
+
+    /**
+     * The number of notifications still scheduled after the tick.
+     */
+    int scheduledCount;
+}
@@ -0,0 +1,39 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * An event on its way to the configured transport, independent of which
+ * transport that is.
+ */
+@Value
+@Builder(toBuilder = true)
+public class OutboundEvent {
+    /**
+     * The ID of this event, unique to it and kept when its send is retried.
+     * Transports that deduplicate, such as a FIFO queue, deduplicate on it.
+     */
+    String eventId;
+
+    /**
+     * The key that orders events; events with the same key are delivered in
+     * order by transports that support it. Goal events use the user ID.
+     */
+    String partitionKey;
+
+    /**
+     * The detail type of the event, such as GoalCreationRequestEvent.
+     */
+    String detailType;
+
+    /**
+     * The source of the event.
+     */
+    String source;
+
+    /**
+     * The serialized event.
+     */
+    String detail;
+}
@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of draining a set of outbox entries.
+ */
+@Value
+@Builder
+public class OutboxDrainSummary {
+    /**
+     * The number of entries that were still pending and were handed to the transport.
+     */
+    int pendingCount;
+
+    /**
+     * The number of entries that were published and marked sent.
+     */
+    int publishedCount;
+
+    /**
+     * The number of entries skipped because they were already sent or no longer exist.
+     */
+    int skippedCount;
+
+    /**
+     * The entries that could not be published and stay pending.
+     */
+    List<OutboxKey> failedKeys;
+}
@@ -0,0 +1,44 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * An event written to the outbox, waiting to be published or already
+ * published by the drainer.
+ */
+@Value
+@Builder(toBuilder = true)
+public class OutboxEntry {
+    /**
+     * The key of the entry.
+     */
+    OutboxKey key;
+
+    /**
+     * The event to publish.
+     */
+    OutboundEvent event;
+
+    /**
+     * Whether the event has been published.
+     */
+    OutboxStatus status;
+
+    /**
+     * The time the event was written to the outbox.
+     */
+    Instant createdAt;
+
+    /**
+     * The time the event was published, or null while pending.
+     */
+    Instant sentAt;
+
+    /**
+     * The time after which the entry is deleted.
+     */
+    Instant expiresAt;
+}
@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Identifies an event in the outbox.
+ */
+@Value
+@Builder
+public class OutboxKey {
+    /**
+     * The partition key of the event, the user ID for goal events.
+     */
+    String partitionKey;
+
+    /**
+     * The ID of the event, which sorts in the order events were written.
+     */
+    String eventId;
+}
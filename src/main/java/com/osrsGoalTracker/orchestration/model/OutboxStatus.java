@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.orchestration.model;
+
+/**
+ * The state of an event in the outbox.
+ */
+public enum OutboxStatus {
+    /**
+     * The event is waiting for the drainer.
+     */
+    PENDING,
+
+    /**
+     * The drainer has published the event.
+     */
+    SENT
+}
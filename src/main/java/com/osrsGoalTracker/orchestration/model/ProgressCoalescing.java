@@ -0,0 +1,13 @@
+package com.osrsGoalTracker.orchestration.model;
+
+/**
+ * How several progress updates for the same goal within one batch are reduced
+ * to the single update that is written.
+ */
+public enum ProgressCoalescing {
+    /** Keep the update ingested last, or the one that arrived last if an update has no ingestion time. */
+    LATEST,
+
+    /** Keep the update with the highest progress value. */
+    MAX
+}
@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of publishing a list of events, including the events that failed for
+ * good.
+ */
+@Value
+@Builder
+public class PublishResult {
+    /**
+     * The number of events handed to the publisher.
+     */
+    int eventCount;
+
+    /**
+     * The number of requests made to the event bus, including retries.
+     */
+    int requestCount;
+
+    /**
+     * The events that could not be published, ordered by index.
+     */
+    List<FailedEvent> failedEvents;
+
+    /**
+     * Indicates whether every event was published.
+     *
+     * @return true if no event failed
+     */
+    public boolean isSuccessful() {
+        return failedEvents.isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.osrsGoalTracker.orchestration.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A goal notification and the time it next falls due.
+ */
+@Value
+@Builder
+public class ScheduledNotification {
+    /**
+     * The notification.
+     */
+    GoalNotification notification;
+
+    /**
+     * The time the notification next falls due.
+     */
+    Instant dueAt;
+}
@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+
+/**
+ * Read access to the goals that are still being tracked.
+ */
+public interface ActiveGoalRepository {
+
+    /**
+     * Pages through the active goals, starting after the page a cursor was
+     * taken from. Pages are read lazily as the stream is consumed, so the
+     * caller can start work on the first page before the last one is read.
+     *
+     * @param now    The current time; goals whose target date has passed are skipped
+     * @param cursor The nextCursor of the page to resume after, or null to start from the first goal
+     * @return The pages of active goals
+     * @throws IllegalArgumentException if the cursor was not produced by this repository
+     */
+    Stream<ActiveGoalPage> activeGoalPages(Instant now, String cursor);
+}
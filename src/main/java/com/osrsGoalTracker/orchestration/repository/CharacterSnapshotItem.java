@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.Map;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for a character snapshot.
+ */
+@Data
+@NoArgsConstructor
+public class CharacterSnapshotItem {
+    /**
+     * The normalized character name, which is the partition key.
+     */
+    private String characterKey;
+
+    /**
+     * The character name as it was last written.
+     */
+    private String characterName;
+
+    /**
+     * The value of each ranked attribute, keyed by attribute name.
+     */
+    private Map<String, Long> attributeValues;
+
+    /**
+     * When the values were read from the hiscores, in epoch milliseconds.
+     */
+    private Long capturedAt;
+}
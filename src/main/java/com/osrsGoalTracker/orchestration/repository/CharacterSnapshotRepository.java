@@ -0,0 +1,29 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+
+/**
+ * Durable store of the latest hiscore snapshot of each character. Snapshots
+ * are stored under a character key that folds away the differences the
+ * hiscores ignore, so writers and readers must derive it the same way.
+ */
+public interface CharacterSnapshotRepository {
+
+    /**
+     * Finds the snapshot stored under a character key.
+     *
+     * @param characterKey The normalized character name
+     * @return The snapshot, or empty if none exists
+     */
+    Optional<CharacterSnapshot> find(String characterKey);
+
+    /**
+     * Stores a snapshot, replacing the one stored under the same key.
+     *
+     * @param characterKey The normalized character name
+     * @param snapshot     The snapshot
+     */
+    void save(String characterKey, CharacterSnapshot snapshot);
+}
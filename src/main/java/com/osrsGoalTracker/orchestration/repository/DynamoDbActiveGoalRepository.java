@@ -0,0 +1,185 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * ActiveGoalRepository backed by a scan of the goals table.
+ * Only the attributes the refresh and the notification job need are projected,
+ * and expired goals are filtered out on the server, so each page carries as
+ * little as possible.
+ * A page's cursor is the key the scan stopped on, so a pass resumed from it
+ * continues where the page ended.
+ */
+public class DynamoDbActiveGoalRepository implements ActiveGoalRepository {
+
+    static final TableSchema<GoalItem> TABLE_SCHEMA = StaticTableSchema.builder(GoalItem.class)
+            .newItemSupplier(GoalItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("userId")
+                    .getter(GoalItem::getUserId)
+                    .setter(GoalItem::setUserId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("goalId")
+                    .getter(GoalItem::getGoalId)
+                    .setter(GoalItem::setGoalId)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, attribute -> attribute.name("characterName")
+                    .getter(GoalItem::getCharacterName)
+                    .setter(GoalItem::setCharacterName))
+            .addAttribute(String.class, attribute -> attribute.name("targetAttribute")
+                    .getter(GoalItem::getTargetAttribute)
+                    .setter(GoalItem::setTargetAttribute))
+            .addAttribute(Long.class, attribute -> attribute.name("currentValue")
+                    .getter(GoalItem::getCurrentValue)
+                    .setter(GoalItem::setCurrentValue))
+            .addAttribute(Long.class, attribute -> attribute.name("targetValue")
+                    .getter(GoalItem::getTargetValue)
+                    .setter(GoalItem::setTargetValue))
+            .addAttribute(Long.class, attribute -> attribute.name("targetDate")
+                    .getter(GoalItem::getTargetDate)
+                    .setter(GoalItem::setTargetDate))
+            .addAttribute(String.class, attribute -> attribute.name("notificationChannelType")
+                    .getter(GoalItem::getNotificationChannelType)
+                    .setter(GoalItem::setNotificationChannelType))
+            .addAttribute(String.class, attribute -> attribute.name("frequency")
+                    .getter(GoalItem::getFrequency)
+                    .setter(GoalItem::setFrequency))
+            .build();
+
+    private static final List<String> PROJECTION = List.of("userId", "goalId", "characterName",
+            "targetAttribute", "currentValue", "targetValue", "targetDate", "notificationChannelType", "frequency");
+    private static final char CURSOR_SEPARATOR = '\u0000';
+    private static final String ACTIVE_FILTER = "attribute_not_exists(targetDate) OR targetDate > :now";
+
+    private final DynamoDbTable<GoalItem> table;
+    private final int pageSize;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the goals table
+     * @param pageSize       The number of items evaluated per scan request
+     */
+    public DynamoDbActiveGoalRepository(DynamoDbEnhancedClient enhancedClient, String tableName, int pageSize) {
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Scans the goals table one page at a time, starting after the key a
+     * cursor was taken from.
+     *
+     * @param now    The current time; goals whose target date has passed are skipped
+     * @param cursor The nextCursor of the page to resume after, or null to start from the first goal
+     * @return The pages of active goals
+     * @throws IllegalArgumentException if the cursor was not produced by this repository
+     */
+    @Override
+    public Stream<ActiveGoalPage> activeGoalPages(Instant now, String cursor) {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .exclusiveStartKey(cursor == null ? null : toStartKey(cursor))
+                .limit(pageSize)
+                .attributesToProject(PROJECTION)
+                .filterExpression(Expression.builder()
+                        .expression(ACTIVE_FILTER)
+                        .putExpressionValue(":now", AttributeValue.fromN(Long.toString(now.getEpochSecond())))
+                        .build())
+                .build();
+        return table.scan(request).stream()
+                .map(page -> ActiveGoalPage.builder()
+                        .goals(page.items().stream()
+                                .filter(item -> item.getCharacterName() != null && item.getTargetAttribute() != null)
+                                .map(DynamoDbActiveGoalRepository::toActiveGoal)
+                                .toList())
+                        .nextCursor(toCursor(page.lastEvaluatedKey()))
+                        .build());
+    }
+
+    /**
+     * Encodes the key a scan page ended on as a cursor.
+     *
+     * @param lastEvaluatedKey The key, or null or empty if the page was the last
+     * @return The cursor, or null if the page was the last
+     */
+    private static String toCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        return lastEvaluatedKey.get("userId").s() + CURSOR_SEPARATOR + lastEvaluatedKey.get("goalId").s();
+    }
+
+    /**
+     * Decodes a cursor into the key a scan starts after.
+     *
+     * @param cursor The cursor
+     * @return The exclusive start key
+     * @throws IllegalArgumentException if the cursor was not produced by toCursor
+     */
+    private static Map<String, AttributeValue> toStartKey(String cursor) {
+        int separator = cursor.indexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed goal cursor");
+        }
+        return Map.of(
+                "userId", AttributeValue.fromS(cursor.substring(0, separator)),
+                "goalId", AttributeValue.fromS(cursor.substring(separator + 1)));
+    }
+
+    /**
+     * Converts an item into an ActiveGoal.
+     *
+     * @param item The item
+     * @return The active goal
+     */
+    private static ActiveGoal toActiveGoal(GoalItem item) {
+        return ActiveGoal.builder()
+                .userId(item.getUserId())
+                .goalId(item.getGoalId())
+                .characterName(item.getCharacterName())
+                .targetAttribute(item.getTargetAttribute())
+                .currentValue(item.getCurrentValue() == null ? 0 : item.getCurrentValue())
+                .targetValue(item.getTargetValue())
+                .targetDate(item.getTargetDate() == null ? null : Instant.ofEpochSecond(item.getTargetDate()))
+                .notificationChannelType(enumValue(NotificationChannelType.class, item.getNotificationChannelType()))
+                .frequency(enumValue(NotificationFrequency.class, item.getFrequency()))
+                .build();
+    }
+
+    /**
+     * Reads an enum attribute written with the constant's name.
+     *
+     * @param <E>   The enum type
+     * @param type  The enum class
+     * @param value The attribute value, or null if the item does not carry it
+     * @return The constant, or null if the value is missing or not a constant's name
+     */
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
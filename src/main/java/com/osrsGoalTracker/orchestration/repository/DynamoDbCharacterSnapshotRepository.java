@@ -0,0 +1,91 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * CharacterSnapshotRepository backed by a DynamoDB table with one item per
+ * character. The attribute values are stored as a DynamoDB map, so a single
+ * GetItem returns every attribute of the character.
+ */
+public class DynamoDbCharacterSnapshotRepository implements CharacterSnapshotRepository {
+
+    static final TableSchema<CharacterSnapshotItem> TABLE_SCHEMA = StaticTableSchema
+            .builder(CharacterSnapshotItem.class)
+            .newItemSupplier(CharacterSnapshotItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("characterKey")
+                    .getter(CharacterSnapshotItem::getCharacterKey)
+                    .setter(CharacterSnapshotItem::setCharacterKey)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("characterName")
+                    .getter(CharacterSnapshotItem::getCharacterName)
+                    .setter(CharacterSnapshotItem::setCharacterName))
+            .addAttribute(EnhancedType.mapOf(String.class, Long.class), attribute -> attribute.name("attributeValues")
+                    .getter(CharacterSnapshotItem::getAttributeValues)
+                    .setter(CharacterSnapshotItem::setAttributeValues))
+            .addAttribute(Long.class, attribute -> attribute.name("capturedAt")
+                    .getter(CharacterSnapshotItem::getCapturedAt)
+                    .setter(CharacterSnapshotItem::setCapturedAt))
+            .build();
+
+    private final DynamoDbTable<CharacterSnapshotItem> table;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the character snapshot table
+     */
+    public DynamoDbCharacterSnapshotRepository(DynamoDbEnhancedClient enhancedClient, String tableName) {
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+    }
+
+    /**
+     * Finds the snapshot stored under a character key with an eventually
+     * consistent read, which is half the cost of a strongly consistent one and
+     * is at most a moment behind a snapshot that is itself minutes old.
+     *
+     * @param characterKey The normalized character name
+     * @return The snapshot, or empty if none exists
+     */
+    @Override
+    public Optional<CharacterSnapshot> find(String characterKey) {
+        CharacterSnapshotItem item = table.getItem(Key.builder().partitionValue(characterKey).build());
+        if (item == null) {
+            return Optional.empty();
+        }
+        return Optional.of(CharacterSnapshot.builder()
+                .characterName(item.getCharacterName())
+                .values(item.getAttributeValues() == null ? Map.of() : Map.copyOf(item.getAttributeValues()))
+                .capturedAt(item.getCapturedAt() == null ? null : Instant.ofEpochMilli(item.getCapturedAt()))
+                .build());
+    }
+
+    /**
+     * Stores a snapshot, replacing the one stored under the same key.
+     *
+     * @param characterKey The normalized character name
+     * @param snapshot     The snapshot
+     */
+    @Override
+    public void save(String characterKey, CharacterSnapshot snapshot) {
+        CharacterSnapshotItem item = new CharacterSnapshotItem();
+        item.setCharacterKey(characterKey);
+        item.setCharacterName(snapshot.getCharacterName());
+        item.setAttributeValues(snapshot.getValues());
+        item.setCapturedAt(snapshot.getCapturedAt() == null ? null : snapshot.getCapturedAt().toEpochMilli());
+        table.putItem(item);
+    }
+}
@@ -0,0 +1,262 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+/**
+ * GoalProgressRepository backed by a DynamoDB table keyed on userId and goalId.
+ * Each goal is written with a conditional UpdateItem that carries the time
+ * its progress was ingested, and the condition rejects a write older than
+ * the stored one. A redelivered or reordered update therefore never moves a
+ * goal back, and of two consumers that read the same projection and race to
+ * write it, only the one with the newer progress wins. A goal's projection
+ * is kept on the same item as its progress, so it is read with one
+ * BatchGetItem request per chunk and written with the progress at no extra
+ * cost.
+ */
+@Log4j2
+public class DynamoDbGoalProgressRepository implements GoalProgressRepository {
+
+    static final TableSchema<GoalProgressItem> TABLE_SCHEMA = StaticTableSchema.builder(GoalProgressItem.class)
+            .newItemSupplier(GoalProgressItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("userId")
+                    .getter(GoalProgressItem::getUserId)
+                    .setter(GoalProgressItem::setUserId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("goalId")
+                    .getter(GoalProgressItem::getGoalId)
+                    .setter(GoalProgressItem::setGoalId)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, attribute -> attribute.name("characterName")
+                    .getter(GoalProgressItem::getCharacterName)
+                    .setter(GoalProgressItem::setCharacterName))
+            .addAttribute(Long.class, attribute -> attribute.name("progressValue")
+                    .getter(GoalProgressItem::getProgressValue)
+                    .setter(GoalProgressItem::setProgressValue))
+            .addAttribute(Long.class, attribute -> attribute.name("updatedAt")
+                    .getter(GoalProgressItem::getUpdatedAt)
+                    .setter(GoalProgressItem::setUpdatedAt))
+            .addAttribute(Long.class, attribute -> attribute.name("ingestedAt")
+                    .getter(GoalProgressItem::getIngestedAt)
+                    .setter(GoalProgressItem::setIngestedAt))
+            .addAttribute(Double.class, attribute -> attribute.name("progressRate")
+                    .getter(GoalProgressItem::getProgressRate)
+                    .setter(GoalProgressItem::setProgressRate))
+            .addAttribute(Long.class, attribute -> attribute.name("observedAt")
+                    .getter(GoalProgressItem::getObservedAt)
+                    .setter(GoalProgressItem::setObservedAt))
+            .addAttribute(Integer.class, attribute -> attribute.name("observations")
+                    .getter(GoalProgressItem::getObservations)
+                    .setter(GoalProgressItem::setObservations))
+            .addAttribute(Boolean.class, attribute -> attribute.name("atRisk")
+                    .getter(GoalProgressItem::getAtRisk)
+                    .setter(GoalProgressItem::setAtRisk))
+            .build();
+
+    private static final String IN_ORDER_CONDITION = "attribute_not_exists(ingestedAt) OR ingestedAt <= :ingestedAt";
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<GoalProgressItem> table;
+    private final Clock clock;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the goal progress table
+     * @param clock          The clock used to stamp writes
+     */
+    public DynamoDbGoalProgressRepository(DynamoDbEnhancedClient enhancedClient, String tableName, Clock clock) {
+        this.enhancedClient = enhancedClient;
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+        this.clock = clock;
+    }
+
+    /**
+     * Writes each update with a conditional UpdateItem request that only
+     * succeeds when the goal's stored progress was not ingested after it. An
+     * update that fails the condition is stale and is dropped; one that
+     * DynamoDB rejects for any other reason, usually throttling, is handed
+     * back to the caller to retry.
+     *
+     * @param updates     The updates to write, at most MAX_BATCH_SIZE and for distinct goals
+     * @param projections The new projections, by goalKey
+     * @return The updates that were not written and may be retried
+     * @throws IllegalArgumentException if there are more than MAX_BATCH_SIZE updates
+     */
+    @Override
+    public List<GoalProgressUpdateEvent> writeBatch(List<GoalProgressUpdateEvent> updates,
+            Map<String, GoalProjection> projections) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        checkBatchSize(updates);
+
+        long now = clock.millis();
+        List<GoalProgressUpdateEvent> unprocessed = new ArrayList<>();
+        int stale = 0;
+        for (GoalProgressUpdateEvent update : updates) {
+            String key = GoalProgressRepository.goalKey(update.getUserId(), update.getGoalId());
+            GoalProgressItem item = toItem(update, now, projections.get(key));
+            try {
+                table.updateItem(UpdateItemEnhancedRequest.builder(GoalProgressItem.class)
+                        .item(item)
+                        .conditionExpression(Expression.builder()
+                                .expression(IN_ORDER_CONDITION)
+                                .putExpressionValue(":ingestedAt",
+                                        AttributeValue.fromN(Long.toString(item.getIngestedAt())))
+                                .build())
+                        .build());
+            } catch (ConditionalCheckFailedException e) {
+                stale++;
+            } catch (DynamoDbException e) {
+                log.warn("Failed to write progress of goal {}: {}", update.getGoalId(), e.getMessage());
+                unprocessed.add(update);
+            }
+        }
+        if (stale > 0) {
+            log.info("Dropped {} progress updates older than the stored progress", stale);
+        }
+        return unprocessed;
+    }
+
+    /**
+     * Reads the goals' items with one BatchGetItem request.
+     *
+     * @param updates The updates whose goals to read, at most MAX_BATCH_SIZE and for distinct goals
+     * @return The projections of the goals that have an item
+     * @throws IllegalArgumentException if there are more than MAX_BATCH_SIZE updates
+     */
+    @Override
+    public List<GoalProjection> readProjections(List<GoalProgressUpdateEvent> updates) {
+        checkBatchSize(updates);
+        return readItems(updates.stream()
+                .map(update -> Key.builder().partitionValue(update.getUserId()).sortValue(update.getGoalId()).build())
+                .toList());
+    }
+
+    /**
+     * Reads the goals' items with one BatchGetItem request.
+     *
+     * @param goals The goals to read, at most MAX_BATCH_SIZE and distinct
+     * @return The projections of the goals that have an item
+     * @throws IllegalArgumentException if there are more than MAX_BATCH_SIZE goals
+     */
+    @Override
+    public List<GoalProjection> readStoredProgress(List<ActiveGoal> goals) {
+        checkBatchSize(goals);
+        return readItems(goals.stream()
+                .map(goal -> Key.builder().partitionValue(goal.getUserId()).sortValue(goal.getGoalId()).build())
+                .toList());
+    }
+
+    /**
+     * Reads items with one BatchGetItem request. Keys DynamoDB leaves
+     * unprocessed are fetched by the enhanced client as further pages.
+     *
+     * @param keys The keys of the items, at most MAX_BATCH_SIZE and distinct
+     * @return The projections of the items found
+     */
+    private List<GoalProjection> readItems(List<Key> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        ReadBatch.Builder<GoalProgressItem> batch = ReadBatch.builder(GoalProgressItem.class)
+                .mappedTableResource(table);
+        keys.forEach(batch::addGetItem);
+        return enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder()
+                        .readBatches(batch.build())
+                        .build())
+                .resultsForTable(table)
+                .stream()
+                .map(DynamoDbGoalProgressRepository::toProjection)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Checks that the goals fit in one batch request.
+     *
+     * @param goals The updates or goals
+     * @throws IllegalArgumentException if there are more than MAX_BATCH_SIZE
+     */
+    private static void checkBatchSize(List<?> goals) {
+        if (goals.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch holds at most " + MAX_BATCH_SIZE + " goals");
+        }
+    }
+
+    /**
+     * Converts an item into its goal's projection. An item written before the
+     * goal was projected counts as one observation of its progress at the
+     * time it was written.
+     *
+     * @param item The item
+     * @return The projection, or null if the item has no time to project from
+     */
+    private static GoalProjection toProjection(GoalProgressItem item) {
+        Long observedAt = item.getObservedAt() != null ? item.getObservedAt() : item.getUpdatedAt();
+        if (observedAt == null || item.getProgressValue() == null) {
+            return null;
+        }
+        return GoalProjection.builder()
+                .userId(item.getUserId())
+                .goalId(item.getGoalId())
+                .value(item.getProgressValue())
+                .observedAt(Instant.ofEpochMilli(observedAt))
+                .ratePerDay(item.getProgressRate() != null ? item.getProgressRate() : 0)
+                .observations(item.getObservations() != null ? item.getObservations() : 1)
+                .atRisk(Boolean.TRUE.equals(item.getAtRisk()))
+                .build();
+    }
+
+    /**
+     * Converts an update into an item.
+     *
+     * @param update     The update
+     * @param now        The write time in epoch milliseconds, which stands in for an unknown ingestion time
+     * @param projection The goal's new projection, or null to write the progress alone
+     * @return The item
+     */
+    private static GoalProgressItem toItem(GoalProgressUpdateEvent update, long now, GoalProjection projection) {
+        GoalProgressItem item = new GoalProgressItem();
+        item.setUserId(update.getUserId());
+        item.setGoalId(update.getGoalId());
+        item.setCharacterName(update.getCharacterName());
+        item.setProgressValue(update.getProgressValue());
+        item.setUpdatedAt(now);
+        item.setIngestedAt(update.getIngestedAt() != null ? update.getIngestedAt().toEpochMilli() : now);
+        if (projection != null) {
+            item.setProgressRate(projection.getRatePerDay());
+            item.setObservedAt(projection.getObservedAt().toEpochMilli());
+            item.setObservations(projection.getObservations());
+            item.setAtRisk(projection.isAtRisk());
+        }
+        return item;
+    }
+}
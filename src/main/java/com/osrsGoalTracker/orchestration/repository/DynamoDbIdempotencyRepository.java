@@ -0,0 +1,165 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.IdempotencyRecord;
+import com.osrsGoalTracker.orchestration.model.IdempotencyStatus;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+/**
+ * IdempotencyRepository backed by a DynamoDB table.
+ * Keys are claimed with a conditional write, so exactly one of several
+ * concurrent requests with the same key wins. The expiresAt attribute doubles
+ * as the table's TTL attribute; since DynamoDB deletes expired items lazily,
+ * expired records are also treated as absent when claiming.
+ * The schema is declared statically rather than introspected from the bean,
+ * since the repository is built while the producer handler initializes.
+ */
+public class DynamoDbIdempotencyRepository implements IdempotencyRepository {
+
+    static final TableSchema<IdempotencyItem> TABLE_SCHEMA = StaticTableSchema.builder(IdempotencyItem.class)
+            .newItemSupplier(IdempotencyItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("idempotencyKey")
+                    .getter(IdempotencyItem::getIdempotencyKey)
+                    .setter(IdempotencyItem::setIdempotencyKey)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("status")
+                    .getter(IdempotencyItem::getStatus)
+                    .setter(IdempotencyItem::setStatus))
+            .addAttribute(Integer.class, attribute -> attribute.name("statusCode")
+                    .getter(IdempotencyItem::getStatusCode)
+                    .setter(IdempotencyItem::setStatusCode))
+            .addAttribute(String.class, attribute -> attribute.name("responseBody")
+                    .getter(IdempotencyItem::getResponseBody)
+                    .setter(IdempotencyItem::setResponseBody))
+            .addAttribute(Long.class, attribute -> attribute.name("expiresAt")
+                    .getter(IdempotencyItem::getExpiresAt)
+                    .setter(IdempotencyItem::setExpiresAt))
+            .build();
+
+    private static final String CLAIM_CONDITION = "attribute_not_exists(idempotencyKey) OR expiresAt <= :now";
+    private static final String RELEASE_CONDITION = "#status = :inProgress AND expiresAt = :claimExpiresAt";
+
+    private final DynamoDbTable<IdempotencyItem> table;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the idempotency table
+     */
+    public DynamoDbIdempotencyRepository(DynamoDbEnhancedClient enhancedClient, String tableName) {
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+    }
+
+    /**
+     * Claims a key with a conditional write that only succeeds when no record
+     * exists or the existing record has expired.
+     *
+     * @param key       The idempotency key
+     * @param expiresAt The time after which the claim no longer applies
+     * @param now       The current time
+     * @return true if the key was claimed, false if a live record already exists
+     */
+    @Override
+    public boolean tryClaim(String key, Instant expiresAt, Instant now) {
+        IdempotencyItem item = new IdempotencyItem();
+        item.setIdempotencyKey(key);
+        item.setStatus(IdempotencyStatus.IN_PROGRESS.name());
+        item.setExpiresAt(expiresAt.getEpochSecond());
+        try {
+            table.putItem(PutItemEnhancedRequest.builder(IdempotencyItem.class)
+                    .item(item)
+                    .conditionExpression(Expression.builder()
+                            .expression(CLAIM_CONDITION)
+                            .putExpressionValue(":now", AttributeValue.fromN(Long.toString(now.getEpochSecond())))
+                            .build())
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the record stored under a key with a strongly consistent read.
+     *
+     * @param key The idempotency key
+     * @return The record, or empty if none exists
+     */
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        IdempotencyItem item = table.getItem(GetItemEnhancedRequest.builder()
+                .key(Key.builder().partitionValue(key).build())
+                .consistentRead(true)
+                .build());
+        if (item == null) {
+            return Optional.empty();
+        }
+        return Optional.of(IdempotencyRecord.builder()
+                .key(item.getIdempotencyKey())
+                .status(IdempotencyStatus.valueOf(item.getStatus()))
+                .statusCode(item.getStatusCode() == null ? 0 : item.getStatusCode())
+                .responseBody(item.getResponseBody())
+                .expiresAt(Instant.ofEpochSecond(item.getExpiresAt()))
+                .build());
+    }
+
+    /**
+     * Stores a completed record, replacing the in-progress claim.
+     *
+     * @param record The completed record
+     */
+    @Override
+    public void complete(IdempotencyRecord record) {
+        IdempotencyItem item = new IdempotencyItem();
+        item.setIdempotencyKey(record.getKey());
+        item.setStatus(IdempotencyStatus.COMPLETED.name());
+        item.setStatusCode(record.getStatusCode());
+        item.setResponseBody(record.getResponseBody());
+        item.setExpiresAt(record.getExpiresAt().getEpochSecond());
+        table.putItem(item);
+    }
+
+    /**
+     * Deletes the caller's claim with a conditional delete that only succeeds
+     * while the record is still in progress with the expiry the caller wrote.
+     *
+     * @param key            The idempotency key
+     * @param claimExpiresAt The expiry the caller's claim was written with
+     * @return true if the claim was deleted, false if the record is no longer the caller's claim
+     */
+    @Override
+    public boolean release(String key, Instant claimExpiresAt) {
+        AttributeValue inProgress = AttributeValue.fromS(IdempotencyStatus.IN_PROGRESS.name());
+        try {
+            table.deleteItem(DeleteItemEnhancedRequest.builder()
+                    .key(Key.builder().partitionValue(key).build())
+                    .conditionExpression(Expression.builder()
+                            .expression(RELEASE_CONDITION)
+                            .putExpressionName("#status", "status")
+                            .putExpressionValue(":inProgress", inProgress)
+                            .putExpressionValue(":claimExpiresAt",
+                                    AttributeValue.fromN(Long.toString(claimExpiresAt.getEpochSecond())))
+                            .build())
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+}
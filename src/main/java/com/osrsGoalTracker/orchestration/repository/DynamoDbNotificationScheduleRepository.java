@@ -0,0 +1,133 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+import com.osrsGoalTracker.orchestration.model.ScheduledNotification;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+/**
+ * NotificationScheduleRepository backed by a DynamoDB table keyed on userId
+ * and goalId, with one item per goal. Only the notification job writes the
+ * table, one run at a time, so items are replaced without a condition. The
+ * whole table is read once, when a job container starts.
+ */
+public class DynamoDbNotificationScheduleRepository implements NotificationScheduleRepository {
+
+    static final TableSchema<NotificationScheduleItem> TABLE_SCHEMA = StaticTableSchema
+            .builder(NotificationScheduleItem.class)
+            .newItemSupplier(NotificationScheduleItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("userId")
+                    .getter(NotificationScheduleItem::getUserId)
+                    .setter(NotificationScheduleItem::setUserId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("goalId")
+                    .getter(NotificationScheduleItem::getGoalId)
+                    .setter(NotificationScheduleItem::setGoalId)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, attribute -> attribute.name("characterName")
+                    .getter(NotificationScheduleItem::getCharacterName)
+                    .setter(NotificationScheduleItem::setCharacterName))
+            .addAttribute(String.class, attribute -> attribute.name("targetAttribute")
+                    .getter(NotificationScheduleItem::getTargetAttribute)
+                    .setter(NotificationScheduleItem::setTargetAttribute))
+            .addAttribute(String.class, attribute -> attribute.name("channelType")
+                    .getter(NotificationScheduleItem::getChannelType)
+                    .setter(NotificationScheduleItem::setChannelType))
+            .addAttribute(String.class, attribute -> attribute.name("frequency")
+                    .getter(NotificationScheduleItem::getFrequency)
+                    .setter(NotificationScheduleItem::setFrequency))
+            .addAttribute(Long.class, attribute -> attribute.name("dueAt")
+                    .getter(NotificationScheduleItem::getDueAt)
+                    .setter(NotificationScheduleItem::setDueAt))
+            .build();
+
+    private final DynamoDbTable<NotificationScheduleItem> table;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the notification schedule table
+     */
+    public DynamoDbNotificationScheduleRepository(DynamoDbEnhancedClient enhancedClient, String tableName) {
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+    }
+
+    /**
+     * Scans the whole table with strongly consistent reads, so a container
+     * starting right after another one stopped sees its last writes.
+     *
+     * @return Every scheduled notification
+     */
+    @Override
+    public List<ScheduledNotification> findAll() {
+        return table.scan(ScanEnhancedRequest.builder().consistentRead(true).build())
+                .items()
+                .stream()
+                .map(DynamoDbNotificationScheduleRepository::toScheduledNotification)
+                .toList();
+    }
+
+    /**
+     * Replaces the item of the notification's goal.
+     *
+     * @param scheduled The scheduled notification
+     */
+    @Override
+    public void save(ScheduledNotification scheduled) {
+        GoalNotification notification = scheduled.getNotification();
+        NotificationScheduleItem item = new NotificationScheduleItem();
+        item.setUserId(notification.getUserId());
+        item.setGoalId(notification.getGoalId());
+        item.setCharacterName(notification.getCharacterName());
+        item.setTargetAttribute(notification.getTargetAttribute());
+        item.setChannelType(notification.getChannelType().name());
+        item.setFrequency(notification.getFrequency().name());
+        item.setDueAt(scheduled.getDueAt().toEpochMilli());
+        table.putItem(item);
+    }
+
+    /**
+     * Deletes the item of a goal, if there is one.
+     *
+     * @param userId The user that owns the goal
+     * @param goalId The goal
+     */
+    @Override
+    public void delete(String userId, String goalId) {
+        table.deleteItem(Key.builder().partitionValue(userId).sortValue(goalId).build());
+    }
+
+    /**
+     * Converts an item into a ScheduledNotification.
+     *
+     * @param item The item
+     * @return The scheduled notification
+     */
+    private static ScheduledNotification toScheduledNotification(NotificationScheduleItem item) {
+        return ScheduledNotification.builder()
+                .notification(GoalNotification.builder()
+                        .userId(item.getUserId())
+                        .goalId(item.getGoalId())
+                        .characterName(item.getCharacterName())
+                        .targetAttribute(item.getTargetAttribute())
+                        .channelType(NotificationChannelType.valueOf(item.getChannelType()))
+                        .frequency(NotificationFrequency.valueOf(item.getFrequency()))
+                        .build())
+                .dueAt(Instant.ofEpochMilli(item.getDueAt()))
+                .build();
+    }
+}
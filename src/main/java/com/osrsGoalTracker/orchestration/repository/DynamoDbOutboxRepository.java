@@ -0,0 +1,238 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+import com.osrsGoalTracker.orchestration.model.OutboxStatus;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+
+/**
+ * OutboxRepository backed by a DynamoDB table keyed on partitionKey and
+ * eventId. Event IDs sort in write order, so a stream on the table delivers
+ * each user's events in order. The expiresAt attribute is the table's TTL
+ * attribute, which clears out entries once they are no longer needed.
+ */
+@Log4j2
+public class DynamoDbOutboxRepository implements OutboxRepository {
+
+    static final TableSchema<OutboxItem> TABLE_SCHEMA = StaticTableSchema.builder(OutboxItem.class)
+            .newItemSupplier(OutboxItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("partitionKey")
+                    .getter(OutboxItem::getPartitionKey)
+                    .setter(OutboxItem::setPartitionKey)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("eventId")
+                    .getter(OutboxItem::getEventId)
+                    .setter(OutboxItem::setEventId)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, attribute -> attribute.name("detailType")
+                    .getter(OutboxItem::getDetailType)
+                    .setter(OutboxItem::setDetailType))
+            .addAttribute(String.class, attribute -> attribute.name("source")
+                    .getter(OutboxItem::getSource)
+                    .setter(OutboxItem::setSource))
+            .addAttribute(String.class, attribute -> attribute.name("detail")
+                    .getter(OutboxItem::getDetail)
+                    .setter(OutboxItem::setDetail))
+            .addAttribute(String.class, attribute -> attribute.name("status")
+                    .getter(OutboxItem::getStatus)
+                    .setter(OutboxItem::setStatus))
+            .addAttribute(Long.class, attribute -> attribute.name("createdAt")
+                    .getter(OutboxItem::getCreatedAt)
+                    .setter(OutboxItem::setCreatedAt))
+            .addAttribute(Long.class, attribute -> attribute.name("sentAt")
+                    .getter(OutboxItem::getSentAt)
+                    .setter(OutboxItem::setSentAt))
+            .addAttribute(Long.class, attribute -> attribute.name("expiresAt")
+                    .getter(OutboxItem::getExpiresAt)
+                    .setter(OutboxItem::setExpiresAt))
+            .build();
+
+    /** The most keys DynamoDB accepts in one BatchGetItem request. */
+    static final int MAX_READ_BATCH_SIZE = 100;
+
+    private static final String ADD_CONDITION = "attribute_not_exists(eventId)";
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<OutboxItem> table;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the outbox table
+     */
+    public DynamoDbOutboxRepository(DynamoDbEnhancedClient enhancedClient, String tableName) {
+        this.enhancedClient = enhancedClient;
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+    }
+
+    /**
+     * Writes an entry with a conditional put that fails if the key is taken.
+     *
+     * @param entry The entry
+     */
+    @Override
+    public void add(OutboxEntry entry) {
+        table.putItem(PutItemEnhancedRequest.builder(OutboxItem.class)
+                .item(toItem(entry))
+                .conditionExpression(Expression.builder().expression(ADD_CONDITION).build())
+                .build());
+    }
+
+    /**
+     * Writes the entries with one BatchWriteItem request.
+     *
+     * @param entries The entries to write, at most MAX_BATCH_SIZE and with distinct keys
+     * @return The entries DynamoDB left unprocessed
+     * @throws IllegalArgumentException if there are more than MAX_BATCH_SIZE entries
+     */
+    @Override
+    public List<OutboxEntry> writeBatch(List<OutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        if (entries.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch holds at most " + MAX_BATCH_SIZE + " entries");
+        }
+
+        Map<String, OutboxEntry> entriesByKey = new HashMap<>();
+        WriteBatch.Builder<OutboxItem> batch = WriteBatch.builder(OutboxItem.class).mappedTableResource(table);
+        for (OutboxEntry entry : entries) {
+            entriesByKey.put(key(entry.getKey().getPartitionKey(), entry.getKey().getEventId()), entry);
+            batch.addPutItem(toItem(entry));
+        }
+
+        BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                .writeBatches(batch.build())
+                .build());
+        return result.unprocessedPutItemsForTable(table).stream()
+                .map(item -> entriesByKey.get(key(item.getPartitionKey(), item.getEventId())))
+                .toList();
+    }
+
+    /**
+     * Reads the entries with consistent BatchGetItem requests of up to 100
+     * keys. The SDK resubmits keys DynamoDB leaves unprocessed.
+     *
+     * @param keys The keys of the entries
+     * @return The pending entries, in the order of the keys
+     */
+    @Override
+    public List<OutboxEntry> findPending(List<OutboxKey> keys) {
+        Map<String, OutboxItem> itemsByKey = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += MAX_READ_BATCH_SIZE) {
+            ReadBatch.Builder<OutboxItem> batch = ReadBatch.builder(OutboxItem.class).mappedTableResource(table);
+            for (OutboxKey key : keys.subList(from, Math.min(from + MAX_READ_BATCH_SIZE, keys.size()))) {
+                batch.addGetItem(GetItemEnhancedRequest.builder()
+                        .key(Key.builder().partitionValue(key.getPartitionKey()).sortValue(key.getEventId()).build())
+                        .consistentRead(true)
+                        .build());
+            }
+            enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder().readBatches(batch.build()).build())
+                    .resultsForTable(table)
+                    .forEach(item -> itemsByKey.put(key(item.getPartitionKey(), item.getEventId()), item));
+        }
+
+        List<OutboxEntry> pending = new ArrayList<>(itemsByKey.size());
+        for (OutboxKey key : keys) {
+            OutboxItem item = itemsByKey.remove(key(key.getPartitionKey(), key.getEventId()));
+            if (item != null && OutboxStatus.PENDING.name().equals(item.getStatus())) {
+                pending.add(toEntry(item));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Describes the table to open a connection.
+     */
+    @Override
+    public void warmUp() {
+        try {
+            table.describeTable();
+        } catch (RuntimeException e) {
+            log.debug("Outbox warm-up call failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Converts an entry into an item.
+     *
+     * @param entry The entry
+     * @return The item
+     */
+    private static OutboxItem toItem(OutboxEntry entry) {
+        OutboxItem item = new OutboxItem();
+        item.setPartitionKey(entry.getKey().getPartitionKey());
+        item.setEventId(entry.getKey().getEventId());
+        item.setDetailType(entry.getEvent().getDetailType());
+        item.setSource(entry.getEvent().getSource());
+        item.setDetail(entry.getEvent().getDetail());
+        item.setStatus(entry.getStatus().name());
+        item.setCreatedAt(entry.getCreatedAt().toEpochMilli());
+        item.setSentAt(entry.getSentAt() == null ? null : entry.getSentAt().toEpochMilli());
+        item.setExpiresAt(entry.getExpiresAt().getEpochSecond());
+        return item;
+    }
+
+    /**
+     * Converts an item into an entry.
+     *
+     * @param item The item
+     * @return The entry
+     */
+    private static OutboxEntry toEntry(OutboxItem item) {
+        return OutboxEntry.builder()
+                .key(OutboxKey.builder()
+                        .partitionKey(item.getPartitionKey())
+                        .eventId(item.getEventId())
+                        .build())
+                .event(OutboundEvent.builder()
+                        .eventId(item.getEventId())
+                        .partitionKey(item.getPartitionKey())
+                        .detailType(item.getDetailType())
+                        .source(item.getSource())
+                        .detail(item.getDetail())
+                        .build())
+                .status(OutboxStatus.valueOf(item.getStatus()))
+                .createdAt(Instant.ofEpochMilli(item.getCreatedAt()))
+                .sentAt(item.getSentAt() == null ? null : Instant.ofEpochMilli(item.getSentAt()))
+                .expiresAt(Instant.ofEpochSecond(item.getExpiresAt()))
+                .build();
+    }
+
+    /**
+     * Builds the lookup key of an item.
+     *
+     * @param partitionKey The partition key
+     * @param eventId      The event ID
+     * @return The key
+     */
+    private static String key(String partitionKey, String eventId) {
+        return partitionKey + '\u0000' + eventId;
+    }
+}
@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+
+/**
+ * RefreshCursorRepository backed by a DynamoDB table keyed on jobName, in
+ * which each job keeps a single item. Runs of a job are scheduled one after
+ * another, so the item is read and replaced without a condition.
+ */
+public class DynamoDbRefreshCursorRepository implements RefreshCursorRepository {
+
+    static final TableSchema<RefreshCursorItem> TABLE_SCHEMA = StaticTableSchema.builder(RefreshCursorItem.class)
+            .newItemSupplier(RefreshCursorItem::new)
+            .addAttribute(String.class, attribute -> attribute.name("jobName")
+                    .getter(RefreshCursorItem::getJobName)
+                    .setter(RefreshCursorItem::setJobName)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, attribute -> attribute.name("cursor")
+                    .getter(RefreshCursorItem::getCursor)
+                    .setter(RefreshCursorItem::setCursor))
+            .addAttribute(Long.class, attribute -> attribute.name("updatedAt")
+                    .getter(RefreshCursorItem::getUpdatedAt)
+                    .setter(RefreshCursorItem::setUpdatedAt))
+            .build();
+
+    private final DynamoDbTable<RefreshCursorItem> table;
+    private final String jobName;
+    private final Clock clock;
+
+    /**
+     * Creates a repository for the given table.
+     *
+     * @param enhancedClient The DynamoDB enhanced client
+     * @param tableName      The name of the cursor table
+     * @param jobName        The job whose cursor is kept
+     * @param clock          The clock used to stamp writes
+     */
+    public DynamoDbRefreshCursorRepository(DynamoDbEnhancedClient enhancedClient, String tableName, String jobName,
+            Clock clock) {
+        this.table = enhancedClient.table(tableName, TABLE_SCHEMA);
+        this.jobName = jobName;
+        this.clock = clock;
+    }
+
+    /**
+     * Loads the job's cursor with a strongly consistent read, so a run sees
+     * the cursor the run before it saved.
+     *
+     * @return The cursor, or empty to start from the first goal
+     */
+    @Override
+    public Optional<String> load() {
+        RefreshCursorItem item = table.getItem(GetItemEnhancedRequest.builder()
+                .key(Key.builder().partitionValue(jobName).build())
+                .consistentRead(true)
+                .build());
+        return item == null ? Optional.empty() : Optional.ofNullable(item.getCursor());
+    }
+
+    /**
+     * Replaces the job's cursor.
+     *
+     * @param cursor The cursor, or null to start from the first goal
+     */
+    @Override
+    public void save(String cursor) {
+        RefreshCursorItem item = new RefreshCursorItem();
+        item.setJobName(jobName);
+        item.setCursor(cursor);
+        item.setUpdatedAt(clock.millis());
+        table.putItem(item);
+    }
+}
@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for a goal, holding the attributes the hiscore refresh and the
+ * notification job read.
+ */
+@Data
+@NoArgsConstructor
+public class GoalItem {
+    /**
+     * The user that owns the goal, which is the partition key.
+     */
+    private String userId;
+
+    /**
+     * The goal, which is the sort key.
+     */
+    private String goalId;
+
+    /**
+     * The character the goal is tracked for.
+     */
+    private String characterName;
+
+    /**
+     * The hiscore entry the goal tracks.
+     */
+    private String targetAttribute;
+
+    /**
+     * The progress last recorded for the goal.
+     */
+    private Long currentValue;
+
+    /**
+     * The value the goal aims for.
+     */
+    private Long targetValue;
+
+    /**
+     * The target date in epoch seconds, or null for a goal without a deadline.
+     */
+    private Long targetDate;
+
+    /**
+     * The channel the goal's progress notification is sent through, or null for none.
+     */
+    private String notificationChannelType;
+
+    /**
+     * How often the goal's progress notification is sent, or null for none.
+     */
+    private String frequency;
+}
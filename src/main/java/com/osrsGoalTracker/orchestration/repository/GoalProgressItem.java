@@ -0,0 +1,64 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for the latest progress of a goal.
+ */
+@Data
+@NoArgsConstructor
+public class GoalProgressItem {
+    /**
+     * The user that owns the goal, which is the partition key.
+     */
+    private String userId;
+
+    /**
+     * The goal, which is the sort key.
+     */
+    private String goalId;
+
+    /**
+     * The character the goal is tracked for.
+     */
+    private String characterName;
+
+    /**
+     * The latest progress value.
+     */
+    private Long progressValue;
+
+    /**
+     * The time of the write in epoch milliseconds.
+     */
+    private Long updatedAt;
+
+    /**
+     * When the latest progress was ingested in epoch milliseconds, which
+     * orders writes so that older progress never replaces newer.
+     */
+    private Long ingestedAt;
+
+    /**
+     * The weighted recent rate of progress per day, or null if the goal has
+     * not been projected.
+     */
+    private Double progressRate;
+
+    /**
+     * When the progress the projection last saw was observed, in epoch
+     * milliseconds, or null if the goal has not been projected.
+     */
+    private Long observedAt;
+
+    /**
+     * The number of progress updates the rate was built from.
+     */
+    private Integer observations;
+
+    /**
+     * Whether the goal was last projected to miss its target date.
+     */
+    private Boolean atRisk;
+}
@@ -0,0 +1,72 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+
+/**
+ * Store of the latest progress of each goal, and of the projection of when
+ * it will be completed.
+ */
+public interface GoalProgressRepository {
+
+    /** The most updates a single writeBatch or readProjections call accepts. */
+    int MAX_BATCH_SIZE = 25;
+
+    /**
+     * Identifies a goal.
+     *
+     * @param userId The user that owns the goal
+     * @param goalId The goal
+     * @return A key that is equal for the same goal
+     */
+    static String goalKey(String userId, String goalId) {
+        return userId + '\u0000' + goalId;
+    }
+
+    /**
+     * Writes up to MAX_BATCH_SIZE updates. The updates must be for distinct
+     * goals. An update ingested before the progress already stored for its
+     * goal is dropped, so goals never move back to older progress.
+     *
+     * @param updates The updates to write
+     * @return The updates that were not written and may be retried
+     */
+    default List<GoalProgressUpdateEvent> writeBatch(List<GoalProgressUpdateEvent> updates) {
+        return writeBatch(updates, Map.of());
+    }
+
+    /**
+     * Writes up to MAX_BATCH_SIZE updates, each with its goal's new projection
+     * when there is one. The updates must be for distinct goals. An update
+     * ingested before the progress already stored for its goal is dropped
+     * with its projection, so goals never move back to older progress.
+     *
+     * @param updates     The updates to write
+     * @param projections The new projections, by goalKey
+     * @return The updates that were not written and may be retried
+     */
+    List<GoalProgressUpdateEvent> writeBatch(List<GoalProgressUpdateEvent> updates,
+            Map<String, GoalProjection> projections);
+
+    /**
+     * Reads the projections of up to MAX_BATCH_SIZE goals in one request. The
+     * updates must be for distinct goals.
+     *
+     * @param updates The updates whose goals to read
+     * @return The projections of the goals that have progress stored, in no particular order
+     */
+    List<GoalProjection> readProjections(List<GoalProgressUpdateEvent> updates);
+
+    /**
+     * Reads the stored progress of up to MAX_BATCH_SIZE goals in one request.
+     * The goals must be distinct.
+     *
+     * @param goals The goals to read
+     * @return The projections of the goals that have progress stored, in no particular order
+     */
+    List<GoalProjection> readStoredProgress(List<ActiveGoal> goals);
+}
@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for an idempotency record.
+ */
+@Data
+@NoArgsConstructor
+public class IdempotencyItem {
+    /**
+     * The idempotency key, which is the partition key.
+     */
+    private String idempotencyKey;
+
+    /**
+     * The name of the IdempotencyStatus.
+     */
+    private String status;
+
+    /**
+     * The HTTP status code of the recorded response.
+     */
+    private Integer statusCode;
+
+    /**
+     * The body of the recorded response.
+     */
+    private String responseBody;
+
+    /**
+     * The expiry time in epoch seconds, used as the table's TTL attribute.
+     */
+    private Long expiresAt;
+}
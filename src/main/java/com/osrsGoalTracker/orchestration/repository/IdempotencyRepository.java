@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.IdempotencyRecord;
+
+/**
+ * Durable store of requests recorded under idempotency keys, shared by every
+ * container of the function.
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * Claims a key by recording an in-progress request, unless a record that has
+     * not expired already exists.
+     *
+     * @param key       The idempotency key
+     * @param expiresAt The time after which the claim no longer applies
+     * @param now       The current time, used to treat expired records as absent
+     * @return true if the key was claimed, false if a live record already exists
+     */
+    boolean tryClaim(String key, Instant expiresAt, Instant now);
+
+    /**
+     * Finds the record stored under a key.
+     *
+     * @param key The idempotency key
+     * @return The record, or empty if none exists
+     */
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * Stores a completed record, replacing the in-progress claim.
+     *
+     * @param record The completed record
+     */
+    void complete(IdempotencyRecord record);
+
+    /**
+     * Removes the caller's claim on a key, so a later retry can be handled. If
+     * the claim's lease lapsed and another request claimed the key, or the key
+     * was completed, the record is left alone.
+     *
+     * @param key            The idempotency key
+     * @param claimExpiresAt The expiry the caller's claim was written with
+     * @return true if the claim was removed, false if the record is no longer the caller's claim
+     */
+    boolean release(String key, Instant claimExpiresAt);
+}
@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.Optional;
+
+/**
+ * RefreshCursorRepository that keeps the cursor in the container. The cursor
+ * is lost when Lambda starts a new container, after which the pass begins
+ * again from the first goal.
+ */
+public class InMemoryRefreshCursorRepository implements RefreshCursorRepository {
+
+    private volatile String cursor;
+
+    /**
+     * Loads the cursor saved in this container.
+     *
+     * @return The cursor, or empty to start from the first goal
+     */
+    @Override
+    public Optional<String> load() {
+        return Optional.ofNullable(cursor);
+    }
+
+    /**
+     * Saves the cursor in this container.
+     *
+     * @param cursor The cursor, or null to start from the first goal
+     */
+    @Override
+    public void save(String cursor) {
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for a goal's scheduled notification.
+ */
+@Data
+@NoArgsConstructor
+public class NotificationScheduleItem {
+    /**
+     * The user that owns the goal, which is the partition key.
+     */
+    private String userId;
+
+    /**
+     * The goal, which is the sort key.
+     */
+    private String goalId;
+
+    /**
+     * The character the goal is tracked for.
+     */
+    private String characterName;
+
+    /**
+     * The hiscore entry the goal tracks.
+     */
+    private String targetAttribute;
+
+    /**
+     * The channel the notification is sent through.
+     */
+    private String channelType;
+
+    /**
+     * How often the notification is sent.
+     */
+    private String frequency;
+
+    /**
+     * The time the notification next falls due, in epoch milliseconds.
+     */
+    private Long dueAt;
+}
@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.ScheduledNotification;
+
+/**
+ * Durable store of the notification schedule, holding the next due time of
+ * every goal's notification, so a scheduler that starts fresh picks up where
+ * the last one stopped.
+ */
+public interface NotificationScheduleRepository {
+
+    /**
+     * Loads the whole schedule.
+     *
+     * @return Every scheduled notification
+     */
+    List<ScheduledNotification> findAll();
+
+    /**
+     * Stores a notification's next due time, replacing the one stored for the same goal.
+     *
+     * @param scheduled The scheduled notification
+     */
+    void save(ScheduledNotification scheduled);
+
+    /**
+     * Removes a goal's notification from the schedule.
+     *
+     * @param userId The user that owns the goal
+     * @param goalId The goal
+     */
+    void delete(String userId, String goalId);
+}
@@ -0,0 +1,56 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for an outbox entry.
+ */
+@Data
+@NoArgsConstructor
+public class OutboxItem {
+    /**
+     * The partition key of the event, which is the partition key of the table.
+     */
+    private String partitionKey;
+
+    /**
+     * The time-ordered event ID, which is the sort key.
+     */
+    private String eventId;
+
+    /**
+     * The detail type of the event.
+     */
+    private String detailType;
+
+    /**
+     * The source of the event.
+     */
+    private String source;
+
+    /**
+     * The serialized event.
+     */
+    private String detail;
+
+    /**
+     * The name of the OutboxStatus.
+     */
+    private String status;
+
+    /**
+     * The time the event was written, in epoch milliseconds.
+     */
+    private Long createdAt;
+
+    /**
+     * The time the event was published, in epoch milliseconds, or null while pending.
+     */
+    private Long sentAt;
+
+    /**
+     * The expiry time in epoch seconds, used as the table's TTL attribute.
+     */
+    private Long expiresAt;
+}
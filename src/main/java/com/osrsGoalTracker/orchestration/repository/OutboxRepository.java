@@ -0,0 +1,49 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+
+/**
+ * Durable store of events waiting to be published, written by the producer
+ * and drained by the outbox drainer.
+ */
+public interface OutboxRepository {
+
+    /** The most entries a single writeBatch call accepts, matching DynamoDB's BatchWriteItem limit. */
+    int MAX_BATCH_SIZE = 25;
+
+    /**
+     * Writes a single entry, failing rather than replacing an existing entry
+     * with the same key.
+     *
+     * @param entry The entry
+     * @throws RuntimeException if the entry could not be written
+     */
+    void add(OutboxEntry entry);
+
+    /**
+     * Writes up to MAX_BATCH_SIZE entries in one request, replacing entries
+     * with the same keys. The entries must have distinct keys.
+     *
+     * @param entries The entries to write
+     * @return The entries that were not written and may be retried
+     */
+    List<OutboxEntry> writeBatch(List<OutboxEntry> entries);
+
+    /**
+     * Reads the given entries with strongly consistent reads and keeps those
+     * still pending.
+     *
+     * @param keys The keys of the entries
+     * @return The pending entries, in the order of the keys
+     */
+    List<OutboxEntry> findPending(List<OutboxKey> keys);
+
+    /**
+     * Makes a cheap call to the table so credentials, region and a pooled
+     * connection are resolved before the first write. Failures are ignored.
+     */
+    void warmUp();
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DynamoDB item for the cursor of a job's pass over the goals.
+ */
+@Data
+@NoArgsConstructor
+public class RefreshCursorItem {
+    /**
+     * The job the cursor belongs to, which is the partition key.
+     */
+    private String jobName;
+
+    /**
+     * Where the job's next run resumes, or null to start from the first goal.
+     */
+    private String cursor;
+
+    /**
+     * The time the cursor was saved in epoch milliseconds.
+     */
+    private Long updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import java.util.Optional;
+
+/**
+ * Store of where a job's next run resumes its pass over the goals.
+ */
+public interface RefreshCursorRepository {
+
+    /**
+     * Loads the cursor the next run starts from.
+     *
+     * @return The cursor, or empty to start from the first goal
+     */
+    Optional<String> load();
+
+    /**
+     * Saves the cursor the next run starts from.
+     *
+     * @param cursor The cursor, or null to start from the first goal
+     */
+    void save(String cursor);
+}
@@ -0,0 +1,474 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * Base class for transports that accept events in batches and report a result
+ * per entry, such as EventBridge PutEvents, SQS SendMessageBatch and Kinesis
+ * PutRecords. Entries are packed into batches up to the transport's count and
+ * size limits, each batch is sent as soon as it is full, and entries the
+ * transport rejects with a transient error are resubmitted with jittered
+ * backoff. Everything else is reported as a failed event.
+ * Callers that already hold transport entries can publish them directly with
+ * publishEntries or an entry session.
+ *
+ * @param <E> The transport's request entry type
+ */
+@Log4j2
+public abstract class BatchingEventPublisher<E> implements EventPublisher {
+
+    static final String ENTRY_TOO_LARGE = "EntryTooLarge";
+    static final String INVALID_ENTRY = "InvalidEntry";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String transportName;
+    private final JitteredBackoff backoff;
+    private final int maxAttempts;
+    private final int maxEntriesPerBatch;
+    private final int maxBatchBytes;
+    private final int maxEntryBytes;
+
+    /**
+     * Creates a publisher.
+     *
+     * @param transportName      The name of the transport, for logging
+     * @param backoff            The backoff applied between attempts
+     * @param maxAttempts        The maximum number of attempts per entry
+     * @param maxEntriesPerBatch The maximum number of entries per call
+     * @param maxBatchBytes      The maximum combined size of the entries of a call
+     * @param maxEntryBytes      The maximum size of a single entry
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    protected BatchingEventPublisher(String transportName, JitteredBackoff backoff, int maxAttempts,
+            int maxEntriesPerBatch, int maxBatchBytes, int maxEntryBytes) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (maxEntriesPerBatch < 1 || maxBatchBytes < 1 || maxEntryBytes < 1) {
+            throw new IllegalArgumentException("batch limits must be positive");
+        }
+        this.transportName = transportName;
+        this.backoff = backoff;
+        this.maxAttempts = maxAttempts;
+        this.maxEntriesPerBatch = maxEntriesPerBatch;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * Converts an event into a request entry.
+     *
+     * @param event The event
+     * @return The request entry
+     * @throws IllegalArgumentException if the transport cannot carry the event
+     */
+    protected abstract E toEntry(OutboundEvent event);
+
+    /**
+     * Calculates the size of an entry the way the transport does when
+     * enforcing its limits.
+     *
+     * @param entry The entry
+     * @return The size in bytes
+     */
+    protected abstract int entrySize(E entry);
+
+    /**
+     * Sends a batch of entries in one call.
+     *
+     * @param entries The entries to send
+     * @return A future for the outcome of each entry, in request order; an element is null when the entry succeeded
+     */
+    protected abstract CompletableFuture<List<EntryError>> send(List<E> entries);
+
+    /**
+     * Starts a session that sends each batch as soon as it is full.
+     *
+     * @return A new session
+     */
+    @Override
+    public EntrySession<E> newSession() {
+        return new BatchSession();
+    }
+
+    /**
+     * Publishes the given transport entries and waits for the result.
+     *
+     * @param entries The entries to publish
+     * @return The publish result, listing every entry that failed for good
+     */
+    public PublishResult publishEntries(List<E> entries) {
+        return publishEntriesAsync(entries).join();
+    }
+
+    /**
+     * Publishes the given transport entries without blocking.
+     *
+     * @param entries The entries to publish
+     * @return A future for the publish result, listing every entry that failed for good
+     */
+    public CompletableFuture<PublishResult> publishEntriesAsync(List<E> entries) {
+        EntrySession<E> session = newSession();
+        for (E entry : entries) {
+            session.addEntry(entry);
+        }
+        return session.complete();
+    }
+
+    /**
+     * Serializes an event into the envelope that SQS messages and Kinesis
+     * records carry. It has the detail-type, source and detail fields of an
+     * EventBridge event, so consumers can read events the same way whichever
+     * transport delivered them.
+     *
+     * @param event The event
+     * @return The envelope JSON
+     */
+    protected static String envelope(OutboundEvent event) {
+        StringWriter writer = new StringWriter(event.getDetail().length() + 128);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("detail-type", event.getDetailType());
+            generator.writeStringField("source", event.getSource());
+            generator.writeFieldName("detail");
+            generator.writeRawValue(event.getDetail());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize event envelope", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Counts the UTF-8 encoded length of a string without encoding it.
+     *
+     * @param value The string to measure, may be null
+     * @return The encoded length in bytes
+     */
+    static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Sends the pending entries of a batch and schedules a retry for entries that
+     * failed with a transient error.
+     *
+     * @param batch   The batch being sent
+     * @param pending The positions within the batch of the entries to send
+     * @param attempt The attempt number, starting at 1
+     * @param state   The state shared by every batch of a session
+     * @return A future that completes once every entry of the batch succeeded or failed for good
+     */
+    private CompletableFuture<Void> sendBatch(Batch<E> batch, List<Integer> pending, int attempt,
+            SessionState state) {
+        boolean lastAttempt = attempt == maxAttempts;
+        state.requestCount.incrementAndGet();
+
+        CompletableFuture<List<EntryError>> call;
+        try {
+            call = send(batch.entries(pending));
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        return call
+                .handle((errors, error) -> error == null
+                        ? collectFailures(batch, pending, errors, lastAttempt, state)
+                        : failAll(batch, pending, error, state))
+                .thenCompose(retry -> {
+                    if (retry.isEmpty()) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    log.warn("Retrying {} {} entries (attempt {} of {})",
+                            retry.size(), transportName, attempt + 1, maxAttempts);
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            backoff.delayMillis(attempt), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(ignored -> sendBatch(batch, retry, attempt + 1, state));
+                });
+    }
+
+    /**
+     * Sorts the failed entries of a call into retries and permanent failures.
+     *
+     * @param batch       The batch that was sent
+     * @param pending     The positions within the batch of the entries that were sent
+     * @param errors      The outcome of each entry that was sent
+     * @param lastAttempt Whether this was the last attempt for the batch
+     * @param state       Collects the entries that failed for good
+     * @return The positions within the batch of the entries to resubmit
+     */
+    private List<Integer> collectFailures(Batch<E> batch, List<Integer> pending, List<EntryError> errors,
+            boolean lastAttempt, SessionState state) {
+        List<Integer> retry = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            EntryError entryError = errors.get(i);
+            if (entryError == null) {
+                continue;
+            }
+            if (!lastAttempt && entryError.isRetryable()) {
+                retry.add(pending.get(i));
+            } else {
+                state.addFailure(failedEvent(batch.index(pending.get(i)), entryError.getErrorCode(),
+                        entryError.getErrorMessage()));
+            }
+        }
+        return retry;
+    }
+
+    /**
+     * Records every pending entry of a batch as failed after the whole call
+     * failed. The SDK has already retried the call by the time it fails.
+     *
+     * @param batch   The batch that was sent
+     * @param pending The positions within the batch of the entries that were sent
+     * @param error   The error the call failed with
+     * @param state   Collects the entries that failed for good
+     * @return An empty list, since nothing is resubmitted
+     */
+    private List<Integer> failAll(Batch<E> batch, List<Integer> pending, Throwable error, SessionState state) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String errorCode = cause instanceof AwsServiceException serviceException
+                && serviceException.awsErrorDetails() != null
+                        ? serviceException.awsErrorDetails().errorCode()
+                        : cause.getClass().getSimpleName();
+        log.error("{} call failed for {} entries: {}", transportName, pending.size(), cause.getMessage(), cause);
+        for (int position : pending) {
+            state.addFailure(failedEvent(batch.index(position), errorCode, cause.getMessage()));
+        }
+        return List.of();
+    }
+
+    /**
+     * Creates a failed event.
+     *
+     * @param index        The index of the entry
+     * @param errorCode    The error code
+     * @param errorMessage The error message
+     * @return The failed event
+     */
+    private static FailedEvent failedEvent(int index, String errorCode, String errorMessage) {
+        return FailedEvent.builder()
+                .index(index)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    /**
+     * The outcome of an entry the transport did not accept.
+     */
+    @Value
+    protected static class EntryError {
+        /**
+         * The error code reported by the transport.
+         */
+        String errorCode;
+
+        /**
+         * The error message reported by the transport.
+         */
+        String errorMessage;
+
+        /**
+         * Whether resubmitting the entry may succeed.
+         */
+        boolean retryable;
+    }
+
+    /**
+     * A session that also accepts entries already in the transport's format.
+     *
+     * @param <E> The transport's request entry type
+     */
+    public interface EntrySession<E> extends Session {
+
+        /**
+         * Adds a transport entry, sending a batch if one is full.
+         *
+         * @param entry The entry to publish
+         * @return The index of the entry within this session
+         */
+        int addEntry(E entry);
+    }
+
+    /**
+     * Accumulates entries and sends a batch as soon as it is full.
+     */
+    private final class BatchSession implements EntrySession<E> {
+        private final SessionState state = new SessionState();
+        private final List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        private List<E> batchEntries = new ArrayList<>();
+        private List<Integer> batchIndexes = new ArrayList<>();
+        private int batchSize;
+        private int eventCount;
+
+        /**
+         * Adds an event as a transport entry.
+         *
+         * @param event The event to publish
+         * @return The index of the event within this session
+         */
+        @Override
+        public int add(OutboundEvent event) {
+            E entry;
+            try {
+                entry = toEntry(event);
+            } catch (IllegalArgumentException e) {
+                int index = eventCount++;
+                state.addFailure(failedEvent(index, INVALID_ENTRY, e.getMessage()));
+                return index;
+            }
+            return addEntry(entry);
+        }
+
+        /**
+         * Adds an entry, sending the current batch first if the entry would not
+         * fit and sending the batch right away once it is full.
+         *
+         * @param entry The entry to publish
+         * @return The index of the entry within this session
+         */
+        @Override
+        public int addEntry(E entry) {
+            int index = eventCount++;
+            int size = entrySize(entry);
+            if (size > maxEntryBytes) {
+                state.addFailure(failedEvent(index, ENTRY_TOO_LARGE,
+                        "Entry exceeds the " + maxEntryBytes + " byte " + transportName + " limit"));
+                return index;
+            }
+            if (batchSize + size > maxBatchBytes) {
+                flush();
+            }
+            batchEntries.add(entry);
+            batchIndexes.add(index);
+            batchSize += size;
+            if (batchEntries.size() == maxEntriesPerBatch) {
+                flush();
+            }
+            return index;
+        }
+
+        /**
+         * Sends the remaining entries and combines the results of every batch.
+         *
+         * @return A future for the publish result of the session
+         */
+        @Override
+        public CompletableFuture<PublishResult> complete() {
+            flush();
+            return CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> state.toResult(eventCount));
+        }
+
+        /**
+         * Sends the current batch, if any.
+         */
+        private void flush() {
+            if (batchEntries.isEmpty()) {
+                return;
+            }
+            Batch<E> batch = new Batch<>(batchEntries, batchIndexes);
+            List<Integer> positions = new ArrayList<>(batchEntries.size());
+            for (int i = 0; i < batchEntries.size(); i++) {
+                positions.add(i);
+            }
+            inFlight.add(sendBatch(batch, positions, 1, state));
+            batchEntries = new ArrayList<>();
+            batchIndexes = new ArrayList<>();
+            batchSize = 0;
+        }
+    }
+
+    /**
+     * A batch of entries that fits in one call, with the session index of each
+     * entry.
+     *
+     * @param <T> The transport's request entry type
+     */
+    private static final class Batch<T> {
+        private final List<T> entries;
+        private final List<Integer> indexes;
+
+        private Batch(List<T> entries, List<Integer> indexes) {
+            this.entries = entries;
+            this.indexes = indexes;
+        }
+
+        private int index(int position) {
+            return indexes.get(position);
+        }
+
+        private List<T> entries(List<Integer> positions) {
+            List<T> selected = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                selected.add(entries.get(position));
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * Failures and request count shared by the batches of a session. Batches
+     * complete on SDK threads, so updates are synchronized.
+     */
+    private static final class SessionState {
+        private final List<FailedEvent> failedEvents = new ArrayList<>();
+        private final AtomicInteger requestCount = new AtomicInteger();
+
+        private synchronized void addFailure(FailedEvent failedEvent) {
+            failedEvents.add(failedEvent);
+        }
+
+        private synchronized PublishResult toResult(int eventCount) {
+            List<FailedEvent> sorted = new ArrayList<>(failedEvents);
+            sorted.sort(Comparator.comparingInt(FailedEvent::getIndex));
+            return PublishResult.builder()
+                    .eventCount(eventCount)
+                    .requestCount(requestCount.get())
+                    .failedEvents(sorted)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+import com.osrsGoalTracker.orchestration.repository.CharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Read-through cache of character snapshots in front of a
+ * CharacterSnapshotRepository. Snapshots live in a bounded LRU in the
+ * container for a fixed time, so goals created for the same character in
+ * quick succession are answered without a network call. Characters with no
+ * stored snapshot are cached as absent for the same time.
+ * Lookups are single-flight: while a character is being read from the
+ * repository, concurrent lookups for it wait on that read rather than
+ * starting their own, so a bulk request for one character costs at most one
+ * read. If the repository is unavailable, the lookup finds nothing and
+ * nothing is cached, so the next lookup tries again.
+ * Each lookup counts as a hit or a miss and records its latency, from which
+ * the hit rate can be derived.
+ */
+@Log4j2
+public class CharacterSnapshotCache {
+
+    static final String SNAPSHOT_CACHE_HITS = "SnapshotCacheHits";
+    static final String SNAPSHOT_CACHE_MISSES = "SnapshotCacheMisses";
+    static final String SNAPSHOT_LOOKUP_FAILURES = "SnapshotLookupFailures";
+    static final String SNAPSHOT_LOOKUP_LATENCY = "SnapshotLookupLatency";
+
+    private final CharacterSnapshotRepository repository;
+    private final Map<String, CachedSnapshot> cache;
+    private final Map<String, CompletableFuture<Optional<CharacterSnapshot>>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Clock clock;
+    private final MetricsRecorder metrics;
+
+    /**
+     * Creates a character snapshot cache.
+     *
+     * @param repository The repository snapshots are read from on a miss
+     * @param cacheSize  The maximum number of characters kept in the container
+     * @param ttl        How long a snapshot is served before it is read again
+     * @param clock      The clock used to expire snapshots
+     * @param metrics    The recorder for hits, misses and lookup latency
+     */
+    public CharacterSnapshotCache(CharacterSnapshotRepository repository, int cacheSize, Duration ttl, Clock clock,
+            MetricsRecorder metrics) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be at least 1");
+        }
+        this.repository = repository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSnapshot> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.ttl = ttl;
+        this.clock = clock;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the snapshot of a character, reading it from the repository if the
+     * container holds no live copy.
+     *
+     * @param characterName The character name, in any of the spellings the hiscores treat alike
+     * @return The snapshot, or empty if the character has none or the repository is unavailable
+     */
+    public Optional<CharacterSnapshot> get(String characterName) {
+        long start = System.nanoTime();
+        try {
+            String key = HiscoreRefreshService.characterKey(characterName);
+            Optional<CharacterSnapshot> cached = lookUpLocally(key);
+            if (cached != null) {
+                metrics.count(SNAPSHOT_CACHE_HITS, 1);
+                return cached;
+            }
+            metrics.count(SNAPSHOT_CACHE_MISSES, 1);
+            return load(key);
+        } finally {
+            metrics.recordLatency(SNAPSHOT_LOOKUP_LATENCY, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reads a character from the repository, or waits on the read already in
+     * flight for it.
+     *
+     * @param key The character key
+     * @return The snapshot, or empty if the character has none or the repository is unavailable
+     */
+    private Optional<CharacterSnapshot> load(String key) {
+        CompletableFuture<Optional<CharacterSnapshot>> read = new CompletableFuture<>();
+        CompletableFuture<Optional<CharacterSnapshot>> existing = inFlight.putIfAbsent(key, read);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            // A read that finished between the local lookup and the claim has already filled the cache.
+            Optional<CharacterSnapshot> snapshot = lookUpLocally(key);
+            if (snapshot == null) {
+                snapshot = repository.find(key);
+                remember(key, snapshot);
+            }
+            read.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            metrics.count(SNAPSHOT_LOOKUP_FAILURES, 1);
+            log.warn("Character snapshot store unavailable, keeping the requested value: {}", e.getMessage());
+            read.complete(Optional.empty());
+            return Optional.empty();
+        } finally {
+            inFlight.remove(key, read);
+        }
+    }
+
+    /**
+     * Returns the live local copy of a character's snapshot.
+     *
+     * @param key The character key
+     * @return The snapshot, empty if the character is cached as absent, or null if the container holds no live copy
+     */
+    private Optional<CharacterSnapshot> lookUpLocally(String key) {
+        synchronized (cache) {
+            CachedSnapshot cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (!clock.instant().isBefore(cached.expiresAt)) {
+                cache.remove(key);
+                return null;
+            }
+            return cached.snapshot;
+        }
+    }
+
+    /**
+     * Stores a character's snapshot, or its absence, in the local cache.
+     *
+     * @param key      The character key
+     * @param snapshot The snapshot, or empty if the character has none
+     */
+    private void remember(String key, Optional<CharacterSnapshot> snapshot) {
+        CachedSnapshot cached = new CachedSnapshot(snapshot, clock.instant().plus(ttl));
+        synchronized (cache) {
+            cache.put(key, cached);
+        }
+    }
+
+    /**
+     * A snapshot held in the local cache, with the time it stops being served.
+     */
+    private static final class CachedSnapshot {
+        private final Optional<CharacterSnapshot> snapshot;
+        private final Instant expiresAt;
+
+        /**
+         * Creates a cached snapshot.
+         *
+         * @param snapshot  The snapshot, or empty if the character has none
+         * @param expiresAt The time the snapshot stops being served
+         */
+        CachedSnapshot(Optional<CharacterSnapshot> snapshot, Instant expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
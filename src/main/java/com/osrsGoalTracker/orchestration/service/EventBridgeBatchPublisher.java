@@ -0,0 +1,207 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+/**
+ * Publishes events to EventBridge in as few PutEvents calls as possible.
+ * Entries are packed into requests up to the EventBridge limits of 10 entries
+ * and 256 KB; batching and retries are left to BatchingEventPublisher.
+ * Callers that build their own PutEvents entries, with the event bus of each
+ * entry set, publish them with publishEntries. Events are sent to the event
+ * bus this publisher was created for, or the account's default bus if none.
+ */
+@Log4j2
+public class EventBridgeBatchPublisher extends BatchingEventPublisher<PutEventsRequestEntry> {
+
+    static final int MAX_ENTRIES_PER_REQUEST = 10;
+    static final int MAX_REQUEST_SIZE_BYTES = 256 * 1024;
+    static final int DEFAULT_MAX_ATTEMPTS = 4;
+    static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(50);
+    static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+
+    private static final String DEFAULT_EVENT_BUS_NAME = "default";
+    private static final int TIME_FIELD_SIZE_BYTES = 14;
+    private static final Set<String> RETRYABLE_ERROR_CODES = Set.of(
+            "ThrottlingException",
+            "InternalException",
+            "InternalFailure",
+            "ServiceUnavailable");
+
+    private final EventBridgeAsyncClient eventBridge;
+    private final String eventBusName;
+
+    /**
+     * Creates a publisher with the default retry budget.
+     *
+     * @param eventBridge The EventBridge client used to publish events
+     */
+    public EventBridgeBatchPublisher(EventBridgeAsyncClient eventBridge) {
+        this(eventBridge, new JitteredBackoff(DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY), DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Creates a publisher with a custom retry budget.
+     *
+     * @param eventBridge The EventBridge client used to publish events
+     * @param backoff     The backoff applied between attempts
+     * @param maxAttempts The maximum number of attempts per entry
+     */
+    public EventBridgeBatchPublisher(EventBridgeAsyncClient eventBridge, JitteredBackoff backoff, int maxAttempts) {
+        this(eventBridge, backoff, maxAttempts, MAX_ENTRIES_PER_REQUEST);
+    }
+
+    /**
+     * Creates a publisher with a custom retry budget and batch size.
+     *
+     * @param eventBridge          The EventBridge client used to publish events
+     * @param backoff              The backoff applied between attempts
+     * @param maxAttempts          The maximum number of attempts per entry
+     * @param maxEntriesPerRequest The maximum number of entries per PutEvents call, at most 10
+     */
+    public EventBridgeBatchPublisher(EventBridgeAsyncClient eventBridge, JitteredBackoff backoff, int maxAttempts,
+            int maxEntriesPerRequest) {
+        this(eventBridge, null, backoff, maxAttempts, maxEntriesPerRequest);
+    }
+
+    /**
+     * Creates a publisher that sends events to the given event bus.
+     *
+     * @param eventBridge          The EventBridge client used to publish events
+     * @param eventBusName         The name of the event bus, or null for the default bus
+     * @param backoff              The backoff applied between attempts
+     * @param maxAttempts          The maximum number of attempts per entry
+     * @param maxEntriesPerRequest The maximum number of entries per PutEvents call, at most 10
+     */
+    protected EventBridgeBatchPublisher(EventBridgeAsyncClient eventBridge, String eventBusName,
+            JitteredBackoff backoff, int maxAttempts, int maxEntriesPerRequest) {
+        super("EventBridge", backoff, maxAttempts, checkEntriesPerRequest(maxEntriesPerRequest),
+                MAX_REQUEST_SIZE_BYTES, MAX_REQUEST_SIZE_BYTES);
+        this.eventBridge = eventBridge;
+        this.eventBusName = eventBusName;
+    }
+
+    /**
+     * Makes a cheap call to the event bus so credentials, region, the signer and
+     * a pooled HTTP connection are resolved before the first real publish.
+     */
+    @Override
+    public void warmUp() {
+        warmUp(eventBusName != null ? eventBusName : DEFAULT_EVENT_BUS_NAME);
+    }
+
+    /**
+     * Makes a cheap call to the given event bus so credentials, region, the
+     * signer and a pooled HTTP connection are resolved before the first real
+     * publish. Any service error is ignored, since the call only exists for its
+     * side effects.
+     *
+     * @param eventBusName The name of the event bus to describe
+     */
+    public void warmUp(String eventBusName) {
+        try {
+            eventBridge.describeEventBus(DescribeEventBusRequest.builder().name(eventBusName).build()).join();
+        } catch (RuntimeException e) {
+            log.debug("EventBridge warm-up call failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the PutEvents entry for an event. EventBridge has no partitions,
+     * so the partition key is not sent.
+     *
+     * @param event The event
+     * @return The PutEvents entry
+     */
+    @Override
+    protected PutEventsRequestEntry toEntry(OutboundEvent event) {
+        return PutEventsRequestEntry.builder()
+                .detail(event.getDetail())
+                .detailType(event.getDetailType())
+                .eventBusName(eventBusName)
+                .source(event.getSource())
+                .build();
+    }
+
+    /**
+     * Calculates the size of an entry the way EventBridge does when enforcing the
+     * request size limit.
+     *
+     * @param entry The entry to measure
+     * @return The entry size in bytes
+     */
+    @Override
+    protected int entrySize(PutEventsRequestEntry entry) {
+        int size = entry.time() != null ? TIME_FIELD_SIZE_BYTES : 0;
+        size += utf8Length(entry.source());
+        size += utf8Length(entry.detailType());
+        size += utf8Length(entry.detail());
+        for (String resource : entry.resources()) {
+            size += utf8Length(resource);
+        }
+        return size;
+    }
+
+    /**
+     * Sends a batch of entries in one PutEvents call.
+     *
+     * @param entries The entries to send
+     * @return A future for the outcome of each entry, in request order
+     */
+    @Override
+    protected CompletableFuture<List<EntryError>> send(List<PutEventsRequestEntry> entries) {
+        return eventBridge.putEvents(PutEventsRequest.builder().entries(entries).build())
+                .thenApply(response -> toErrors(response, entries.size()));
+    }
+
+    /**
+     * Reads the outcome of each entry from a PutEvents response. EventBridge
+     * returns one result entry per request entry, in request order.
+     *
+     * @param response   The PutEvents response
+     * @param entryCount The number of entries that were sent
+     * @return The outcome of each entry; an element is null when the entry succeeded
+     */
+    private static List<EntryError> toErrors(PutEventsResponse response, int entryCount) {
+        List<EntryError> errors = new ArrayList<>(entryCount);
+        Integer failedEntryCount = response == null ? null : response.failedEntryCount();
+        for (int i = 0; i < entryCount; i++) {
+            PutEventsResultEntry resultEntry = failedEntryCount == null || failedEntryCount == 0
+                    ? null
+                    : response.entries().get(i);
+            String errorCode = resultEntry == null ? null : resultEntry.errorCode();
+            errors.add(errorCode == null
+                    ? null
+                    : new EntryError(errorCode, resultEntry.errorMessage(), RETRYABLE_ERROR_CODES.contains(errorCode)));
+        }
+        return errors;
+    }
+
+    /**
+     * Checks the configured batch size against the PutEvents limit.
+     *
+     * @param maxEntriesPerRequest The maximum number of entries per PutEvents call
+     * @return The batch size
+     * @throws IllegalArgumentException if the batch size is not between 1 and 10
+     */
+    private static int checkEntriesPerRequest(int maxEntriesPerRequest) {
+        if (maxEntriesPerRequest < 1 || maxEntriesPerRequest > MAX_ENTRIES_PER_REQUEST) {
+            throw new IllegalArgumentException("maxEntriesPerRequest must be between 1 and " + MAX_ENTRIES_PER_REQUEST);
+        }
+        return maxEntriesPerRequest;
+    }
+}
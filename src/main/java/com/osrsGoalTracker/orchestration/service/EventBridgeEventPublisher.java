@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+
+/**
+ * EventPublisher for a named EventBridge event bus. Batching and retries are
+ * those of EventBridgeBatchPublisher; every event is sent to the configured
+ * event bus.
+ */
+public class EventBridgeEventPublisher extends EventBridgeBatchPublisher {
+
+    /**
+     * Creates a publisher with the default retry budget.
+     *
+     * @param eventBridge  The EventBridge client used to publish events
+     * @param eventBusName The name of the event bus
+     */
+    public EventBridgeEventPublisher(EventBridgeAsyncClient eventBridge, String eventBusName) {
+        this(eventBridge, eventBusName, new JitteredBackoff(DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY),
+                DEFAULT_MAX_ATTEMPTS, MAX_ENTRIES_PER_REQUEST);
+    }
+
+    /**
+     * Creates a publisher with a custom retry budget and batch size.
+     *
+     * @param eventBridge          The EventBridge client used to publish events
+     * @param eventBusName         The name of the event bus
+     * @param backoff              The backoff applied between attempts
+     * @param maxAttempts          The maximum number of attempts per entry
+     * @param maxEntriesPerRequest The maximum number of entries per PutEvents call, at most 10
+     */
+    public EventBridgeEventPublisher(EventBridgeAsyncClient eventBridge, String eventBusName,
+            JitteredBackoff backoff, int maxAttempts, int maxEntriesPerRequest) {
+        super(eventBridge, eventBusName, backoff, maxAttempts, maxEntriesPerRequest);
+    }
+}
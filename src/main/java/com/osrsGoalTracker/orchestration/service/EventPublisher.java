@@ -0,0 +1,77 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+
+/**
+ * Publishes events to a transport. Implementations batch events as their
+ * transport allows, retry transient failures and report every event that
+ * failed for good in the PublishResult instead of throwing.
+ * The transport is chosen with EVENT_TRANSPORT.
+ */
+public interface EventPublisher {
+
+    /**
+     * Starts a session that sends each batch as soon as it is full, so callers
+     * can keep serializing events while earlier batches are in flight.
+     *
+     * @return A new session
+     */
+    Session newSession();
+
+    /**
+     * Makes a cheap call to the transport so credentials, region and a pooled
+     * connection are resolved before the first real publish. Failures are
+     * ignored.
+     */
+    void warmUp();
+
+    /**
+     * Publishes the given events and waits for the result.
+     *
+     * @param events The events to publish
+     * @return The publish result, listing every event that failed for good
+     */
+    default PublishResult publish(List<OutboundEvent> events) {
+        return publishAsync(events).join();
+    }
+
+    /**
+     * Publishes the given events without blocking.
+     *
+     * @param events The events to publish
+     * @return A future for the publish result, listing every event that failed for good
+     */
+    default CompletableFuture<PublishResult> publishAsync(List<OutboundEvent> events) {
+        Session session = newSession();
+        for (OutboundEvent event : events) {
+            session.add(event);
+        }
+        return session.complete();
+    }
+
+    /**
+     * Accumulates events and sends them in batches. A session is meant to be
+     * fed from a single thread.
+     */
+    interface Session {
+
+        /**
+         * Adds an event, sending a batch if one is full.
+         *
+         * @param event The event to publish
+         * @return The index of the event within this session
+         */
+        int add(OutboundEvent event);
+
+        /**
+         * Sends the remaining events and combines the results of every batch.
+         *
+         * @return A future for the publish result of the session
+         */
+        CompletableFuture<PublishResult> complete();
+    }
+}
@@ -0,0 +1,210 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+import com.osrsGoalTracker.orchestration.model.ProgressCoalescing;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.service.GoalProjectionService.ProjectedChunk;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes batches of goal progress updates.
+ * Updates for the same goal are first coalesced into one, so a burst of N
+ * updates for a goal costs one write. The coalesced updates are then split
+ * into chunks of up to MAX_BATCH_SIZE goals that are written in parallel,
+ * each goal with its own conditional write. Because every goal appears
+ * exactly once after coalescing, it lands in exactly one chunk, so parallel
+ * chunks never race on the same goal. When goal projection is on, each chunk is projected
+ * before it is written and the projections are written with the progress.
+ */
+@Log4j2
+public class GoalProgressUpdateService {
+
+    private final GoalProgressRepository repository;
+    private final ProgressCoalescing coalescing;
+    private final Executor executor;
+    private final JitteredBackoff backoff;
+    private final int maxAttempts;
+    private final GoalProjectionService projectionService;
+
+    /**
+     * Creates a service that writes progress without projecting it.
+     *
+     * @param repository  The store the updates are written to
+     * @param coalescing  How updates for the same goal are reduced to one
+     * @param executor    Runs the chunks; its parallelism bounds the writes in flight
+     * @param backoff     The delay between retries of unprocessed updates
+     * @param maxAttempts The maximum number of attempts per chunk, including the first
+     */
+    public GoalProgressUpdateService(GoalProgressRepository repository, ProgressCoalescing coalescing,
+            Executor executor, JitteredBackoff backoff, int maxAttempts) {
+        this(repository, coalescing, executor, backoff, maxAttempts, null);
+    }
+
+    /**
+     * Creates a service.
+     *
+     * @param repository        The store the updates are written to
+     * @param coalescing        How updates for the same goal are reduced to one
+     * @param executor          Runs the chunks; its parallelism bounds the writes in flight
+     * @param backoff           The delay between retries of unprocessed updates
+     * @param maxAttempts       The maximum number of attempts per chunk, including the first
+     * @param projectionService Projects each chunk before it is written, or null to write progress alone
+     */
+    public GoalProgressUpdateService(GoalProgressRepository repository, ProgressCoalescing coalescing,
+            Executor executor, JitteredBackoff backoff, int maxAttempts, GoalProjectionService projectionService) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.repository = repository;
+        this.coalescing = coalescing;
+        this.executor = executor;
+        this.backoff = backoff;
+        this.maxAttempts = maxAttempts;
+        this.projectionService = projectionService;
+    }
+
+    /**
+     * Identifies the goal an update belongs to.
+     *
+     * @param update The update
+     * @return A key that is equal for updates of the same goal
+     */
+    public static String goalKey(GoalProgressUpdateEvent update) {
+        return GoalProgressRepository.goalKey(update.getUserId(), update.getGoalId());
+    }
+
+    /**
+     * Reduces the updates to one per goal, keeping the goals in the order they
+     * first appeared.
+     *
+     * @param updates The updates, in arrival order
+     * @return One update per goal
+     */
+    public List<GoalProgressUpdateEvent> coalesce(List<GoalProgressUpdateEvent> updates) {
+        Map<String, GoalProgressUpdateEvent> byGoal = new LinkedHashMap<>();
+        for (GoalProgressUpdateEvent update : updates) {
+            byGoal.merge(goalKey(update), update, this::pick);
+        }
+        return new ArrayList<>(byGoal.values());
+    }
+
+    /**
+     * Coalesces and writes the updates.
+     *
+     * @param updates The updates, in arrival order
+     * @return The goal keys whose update could not be written
+     */
+    public Set<String> write(List<GoalProgressUpdateEvent> updates) {
+        List<GoalProgressUpdateEvent> coalesced = coalesce(updates);
+        List<CompletableFuture<List<GoalProgressUpdateEvent>>> chunks = new ArrayList<>();
+        for (int from = 0; from < coalesced.size(); from += GoalProgressRepository.MAX_BATCH_SIZE) {
+            List<GoalProgressUpdateEvent> chunk = coalesced.subList(from,
+                    Math.min(from + GoalProgressRepository.MAX_BATCH_SIZE, coalesced.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> writeChunk(chunk), executor));
+        }
+
+        Set<String> failedGoals = new HashSet<>();
+        for (CompletableFuture<List<GoalProgressUpdateEvent>> chunk : chunks) {
+            for (GoalProgressUpdateEvent failed : chunk.join()) {
+                failedGoals.add(goalKey(failed));
+            }
+        }
+        log.info("Wrote progress for {} of {} goals from {} updates in {} batches",
+                coalesced.size() - failedGoals.size(), coalesced.size(), updates.size(), chunks.size());
+        return failedGoals;
+    }
+
+    /**
+     * Picks which of two updates for the same goal to keep. The queue does not
+     * keep order, so LATEST keeps the update ingested last, falling back to
+     * the order of arrival when either has no ingestion time.
+     *
+     * @param current The update kept so far
+     * @param next    The update that arrived after it
+     * @return The update to keep
+     */
+    private GoalProgressUpdateEvent pick(GoalProgressUpdateEvent current, GoalProgressUpdateEvent next) {
+        if (coalescing == ProgressCoalescing.MAX) {
+            return current.getProgressValue() > next.getProgressValue() ? current : next;
+        }
+        if (current.getIngestedAt() != null && next.getIngestedAt() != null
+                && current.getIngestedAt().isAfter(next.getIngestedAt())) {
+            return current;
+        }
+        return next;
+    }
+
+    /**
+     * Projects and writes a chunk. A chunk that cannot be projected is not
+     * written at all, and an update whose at-risk event could not be
+     * published is left unwritten, so both are retried as a whole.
+     *
+     * @param chunk The updates to write, for distinct goals
+     * @return The updates that were not written
+     */
+    private List<GoalProgressUpdateEvent> writeChunk(List<GoalProgressUpdateEvent> chunk) {
+        if (projectionService == null) {
+            return writeChunk(chunk, null);
+        }
+        ProjectedChunk projected;
+        try {
+            projected = projectionService.project(chunk);
+        } catch (RuntimeException e) {
+            log.warn("Failed to project {} goals: {}", chunk.size(), e.getMessage());
+            return chunk;
+        }
+        if (projected.getUnpublished().isEmpty()) {
+            return writeChunk(chunk, projected.getProjections());
+        }
+        Set<String> unpublished = new HashSet<>();
+        for (GoalProgressUpdateEvent update : projected.getUnpublished()) {
+            unpublished.add(goalKey(update));
+        }
+        List<GoalProgressUpdateEvent> unwritten = new ArrayList<>(projected.getUnpublished());
+        unwritten.addAll(writeChunk(chunk.stream().filter(update -> !unpublished.contains(goalKey(update))).toList(),
+                projected.getProjections()));
+        return unwritten;
+    }
+
+    /**
+     * Writes a chunk, retrying the updates DynamoDB leaves unprocessed.
+     *
+     * @param chunk       The updates to write, for distinct goals
+     * @param projections The goals' new projections by goalKey, or null to write progress alone
+     * @return The updates that were still not written after the last attempt
+     */
+    private List<GoalProgressUpdateEvent> writeChunk(List<GoalProgressUpdateEvent> chunk,
+            Map<String, GoalProjection> projections) {
+        List<GoalProgressUpdateEvent> pending = chunk;
+        for (int attempt = 1;; attempt++) {
+            try {
+                pending = projections == null ? repository.writeBatch(pending)
+                        : repository.writeBatch(pending, projections);
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} progress updates (attempt {} of {}): {}",
+                        pending.size(), attempt, maxAttempts, e.getMessage());
+            }
+            if (pending.isEmpty() || attempt == maxAttempts) {
+                return pending;
+            }
+            try {
+                Thread.sleep(backoff.delayMillis(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return pending;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.orchestration.events.GoalAtRiskEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+
+/**
+ * Keeps each goal's completion projection up to date as its progress arrives
+ * and publishes a GoalAtRiskEvent when a goal falls behind its target date.
+ * For a chunk of updates, one per goal, it reads the goals' projections with
+ * one request, folds each update in with the GoalProjector, and publishes the
+ * goals that have just fallen behind. The new projections are then written
+ * with the progress, so a goal's progress and projection stay one item.
+ *
+ * A goal is reported when it moves from on track to at risk, not on every
+ * update while it stays behind. The event is published before the projection
+ * that records it is written, so a failure between the two repeats the event
+ * rather than losing it.
+ */
+@Log4j2
+public class GoalProjectionService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final GoalProgressRepository repository;
+    private final GoalProjector projector;
+    private final EventBridgeBatchPublisher publisher;
+    private final AtRiskEventTarget target;
+    private final Clock clock;
+
+    /**
+     * Creates a service.
+     *
+     * @param repository The store the projections are read from
+     * @param projector  Folds progress into projections
+     * @param publisher  The publisher for at-risk events
+     * @param target     Where at-risk events are published
+     * @param clock      The clock for updates that carry no ingestion time
+     */
+    public GoalProjectionService(GoalProgressRepository repository, GoalProjector projector,
+            EventBridgeBatchPublisher publisher, AtRiskEventTarget target, Clock clock) {
+        this.repository = repository;
+        this.projector = projector;
+        this.publisher = publisher;
+        this.target = target;
+        this.clock = clock;
+    }
+
+    /**
+     * Projects a chunk of updates and publishes the goals that fell behind.
+     *
+     * @param updates The updates, at most MAX_BATCH_SIZE and for distinct goals
+     * @return The new projections, and the updates whose at-risk event could not be published
+     */
+    public ProjectedChunk project(List<GoalProgressUpdateEvent> updates) {
+        Map<String, GoalProjection> previous = new HashMap<>();
+        for (GoalProjection projection : repository.readProjections(updates)) {
+            previous.put(GoalProgressRepository.goalKey(projection.getUserId(), projection.getGoalId()), projection);
+        }
+
+        Map<String, GoalProjection> projections = new HashMap<>();
+        List<GoalProgressUpdateEvent> fellBehind = new ArrayList<>();
+        List<PutEventsRequestEntry> entries = new ArrayList<>();
+        for (GoalProgressUpdateEvent update : updates) {
+            String key = GoalProgressRepository.goalKey(update.getUserId(), update.getGoalId());
+            Instant observedAt = update.getIngestedAt() != null ? update.getIngestedAt() : clock.instant();
+            GoalProjection projection = projector.observe(previous.get(key), update.getUserId(), update.getGoalId(),
+                    update.getProgressValue(), observedAt);
+            if (update.getTargetValue() != null) {
+                boolean atRisk = projector.isAtRisk(projection, update.getTargetValue(), update.getTargetDate());
+                if (atRisk && !projection.isAtRisk()) {
+                    fellBehind.add(update);
+                    entries.add(createEventEntry(update, projection));
+                }
+                if (atRisk != projection.isAtRisk()) {
+                    projection = projection.toBuilder().atRisk(atRisk).build();
+                }
+            }
+            projections.put(key, projection);
+        }
+
+        List<GoalProgressUpdateEvent> unpublished = new ArrayList<>();
+        if (!entries.isEmpty()) {
+            PublishResult result = publisher.publishEntries(entries);
+            for (FailedEvent failed : result.getFailedEvents()) {
+                unpublished.add(fellBehind.get(failed.getIndex()));
+            }
+            log.info("Published {} of {} goals that fell behind their target date",
+                    entries.size() - unpublished.size(), entries.size());
+        }
+        return new ProjectedChunk(projections, unpublished);
+    }
+
+    /**
+     * Creates the at-risk event entry for a goal that fell behind, carrying
+     * the trace of the update that put it behind.
+     *
+     * @param update     The update
+     * @param projection The goal's new projection
+     * @return The event entry
+     */
+    private PutEventsRequestEntry createEventEntry(GoalProgressUpdateEvent update, GoalProjection projection) {
+        GoalAtRiskEvent event = new GoalAtRiskEvent();
+        event.setUserId(update.getUserId());
+        event.setCharacterName(update.getCharacterName());
+        event.setGoalId(update.getGoalId());
+        event.setProgressValue(projection.getValue());
+        event.setTargetValue(update.getTargetValue());
+        event.setTargetDate(update.getTargetDate());
+        event.setProjectedCompletion(projector.projectedCompletion(projection, update.getTargetValue()));
+        event.setProgressPerDay(projection.getRatePerDay());
+        event.setIngestedAt(update.getIngestedAt());
+        event.setCorrelationId(update.getCorrelationId());
+        event.setTraceContext(update.getTraceContext());
+        try {
+            return PutEventsRequestEntry.builder()
+                    .detail(OBJECT_MAPPER.writeValueAsString(event))
+                    .detailType(target.getDetailType())
+                    .eventBusName(target.getEventBusName())
+                    .source(target.getEventSource())
+                    .traceHeader(update.getTraceContext())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize GoalAtRiskEvent", e);
+        }
+    }
+
+    /**
+     * Where at-risk events are published.
+     */
+    @Value
+    public static class AtRiskEventTarget {
+        String eventBusName;
+        String detailType;
+        String eventSource;
+    }
+
+    /**
+     * The outcome of projecting a chunk of updates.
+     */
+    @Value
+    public static class ProjectedChunk {
+        /**
+         * The goals' new projections, by goalKey.
+         */
+        Map<String, GoalProjection> projections;
+
+        /**
+         * The updates whose goal fell behind but could not be reported, which
+         * must not be written so that they are projected and reported again.
+         */
+        List<GoalProgressUpdateEvent> unpublished;
+    }
+}
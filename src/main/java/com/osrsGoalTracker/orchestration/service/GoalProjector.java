@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+
+/**
+ * Projects when goals will be completed from their recent rate of progress.
+ * Each progress update folds into an exponentially weighted rate whose weight
+ * grows with the time the update covers, so refreshes that arrive at uneven
+ * intervals are weighted by how long they span, and progress made one half
+ * life ago counts half as much as progress made today. Folding in an update
+ * takes constant time and only the goal's previous projection.
+ */
+public class GoalProjector {
+
+    private static final double NANOS_PER_DAY = Duration.ofDays(1).toNanos();
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+    /** Completions projected further out than this are treated as never. */
+    private static final double MAX_PROJECTION_DAYS = 36_500;
+
+    private final double halfLifeDays;
+    private final int minObservations;
+
+    /**
+     * Creates a projector.
+     *
+     * @param halfLife        How long it takes for progress to count half as much towards the rate
+     * @param minObservations The number of progress updates needed before a goal can be at risk
+     */
+    public GoalProjector(Duration halfLife, int minObservations) {
+        if (halfLife == null || halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("Half life must be positive");
+        }
+        if (minObservations < 2) {
+            throw new IllegalArgumentException("At least two observations are needed for a rate");
+        }
+        this.halfLifeDays = halfLife.toNanos() / NANOS_PER_DAY;
+        this.minObservations = minObservations;
+    }
+
+    /**
+     * Folds a progress update into a goal's projection. The first update only
+     * records the progress; the second sets the rate to the progress made
+     * between them; later ones move the rate towards the latest progress by a
+     * weight of {@code 1 - 2^(-elapsed / halfLife)}. Progress that went down,
+     * such as a hiscore correction, counts as no progress. An update observed
+     * no later than the last one is stale or a redelivery and is ignored.
+     *
+     * @param previous   The goal's projection, or null if it has none yet
+     * @param userId     The user that owns the goal
+     * @param goalId     The goal
+     * @param value      The goal's progress
+     * @param observedAt When the progress was observed
+     * @return The new projection, not yet flagged at risk or back on track
+     */
+    public GoalProjection observe(GoalProjection previous, String userId, String goalId, long value,
+            Instant observedAt) {
+        if (previous == null) {
+            return GoalProjection.builder()
+                    .userId(userId)
+                    .goalId(goalId)
+                    .value(value)
+                    .observedAt(observedAt)
+                    .observations(1)
+                    .build();
+        }
+        if (!observedAt.isAfter(previous.getObservedAt())) {
+            return previous;
+        }
+        double elapsedDays = Duration.between(previous.getObservedAt(), observedAt).toNanos() / NANOS_PER_DAY;
+        double rate = Math.max(0, value - previous.getValue()) / elapsedDays;
+        double ratePerDay = rate;
+        if (previous.getObservations() > 1) {
+            double weight = 1 - Math.pow(2, -elapsedDays / halfLifeDays);
+            ratePerDay = previous.getRatePerDay() + weight * (rate - previous.getRatePerDay());
+        }
+        return previous.toBuilder()
+                .value(value)
+                .observedAt(observedAt)
+                .ratePerDay(ratePerDay)
+                .observations(previous.getObservations() + 1)
+                .build();
+    }
+
+    /**
+     * Projects when a goal will reach its target at its recent rate.
+     *
+     * @param projection  The goal's projection
+     * @param targetValue The goal's target
+     * @return When the goal will be completed, when it was observed if it
+     *         already is, or null if it has stalled or is a century or more away
+     */
+    public Instant projectedCompletion(GoalProjection projection, long targetValue) {
+        long remaining = targetValue - projection.getValue();
+        if (remaining <= 0) {
+            return projection.getObservedAt();
+        }
+        if (projection.getRatePerDay() <= 0) {
+            return null;
+        }
+        double days = remaining / projection.getRatePerDay();
+        if (days > MAX_PROJECTION_DAYS) {
+            return null;
+        }
+        return projection.getObservedAt().plusMillis((long) (days * MILLIS_PER_DAY));
+    }
+
+    /**
+     * Checks whether a goal is projected to miss its target date. A goal with
+     * no target date, one already completed, or one with too few updates for
+     * a steady rate is never at risk.
+     *
+     * @param projection  The goal's projection
+     * @param targetValue The goal's target
+     * @param targetDate  The goal's target date, or null if it has none
+     * @return Whether the goal will not be completed by its target date
+     */
+    public boolean isAtRisk(GoalProjection projection, long targetValue, Instant targetDate) {
+        if (targetDate == null || projection.getObservations() < minObservations
+                || projection.getValue() >= targetValue) {
+            return false;
+        }
+        Instant completion = projectedCompletion(projection, targetValue);
+        return completion == null || completion.isAfter(targetDate);
+    }
+}
@@ -0,0 +1,571 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.external.HiscoreClient;
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+import com.osrsGoalTracker.orchestration.model.CharacterHiscores;
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+import com.osrsGoalTracker.orchestration.model.EventTrace;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+import com.osrsGoalTracker.orchestration.model.HiscoreRefreshSummary;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.ActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.CharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.repository.RefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.util.RateLimiter;
+import com.osrsGoalTracker.orchestration.util.TraceHeaders;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+
+/**
+ * Refreshes the progress of every active goal from the hiscores.
+ * Goals are collapsed to distinct characters while they are paged in, so a
+ * character with many goals is fetched once, and each character is fetched on
+ * its own virtual thread as soon as it is first seen. Fetches share a global
+ * rate limit and a cap on requests in flight. A GoalProgressUpdateEvent is
+ * published only for goals whose hiscore value differs from the last progress
+ * written to the progress table, read in batches once the fetches are done;
+ * a goal with no progress stored yet is compared with the value it was
+ * created with. A goal with a target date is also published unchanged when it
+ * has no progress stored yet, and again whenever its stored progress is a
+ * stall check interval old, so the consumer sees a player who stopped making
+ * progress and can flag the goal at risk. The run stops starting new fetches
+ * at its deadline, so it ends inside the Lambda timeout. Each character's
+ * fetched hiscores are also saved as its snapshot, from which new goals take
+ * their currentValue. Pages are read only as fast as fetches free up,
+ * and the run saves the cursor after the last page whose characters were all
+ * fetched, so the next run resumes there and a pass over the goals spans as
+ * many runs as it needs; a run that finishes the pass saves no cursor and the
+ * next one starts over. Progress events are stamped with the time they were published,
+ * the run's correlation ID and its trace header.
+ */
+@Log4j2
+public class HiscoreRefreshService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final ActiveGoalRepository goalRepository;
+    private final GoalProgressRepository progressRepository;
+    private final RefreshCursorRepository cursorRepository;
+    private final CharacterSnapshotRepository snapshotRepository;
+    private final HiscoreClient hiscoreClient;
+    private final RateLimiter rateLimiter;
+    private final EventBridgeBatchPublisher publisher;
+    private final ProgressEventTarget target;
+    private final int maxConcurrency;
+    private final Duration stallCheckInterval;
+    private final Clock clock;
+
+    /**
+     * Creates a service.
+     *
+     * @param stores         The stores of goals, their progress and the refresh cursor
+     * @param hiscoreClient  The hiscores client
+     * @param rateLimiter    The global limit on hiscore requests
+     * @param publisher      The publisher for progress events
+     * @param target         Where progress events are published
+     * @param settings       The limit on requests in flight and the stall check interval
+     * @param clock          The clock used for the deadline and for expiring goals
+     */
+    public HiscoreRefreshService(GoalStores stores, HiscoreClient hiscoreClient, RateLimiter rateLimiter,
+            EventBridgeBatchPublisher publisher, ProgressEventTarget target, RefreshSettings settings, Clock clock) {
+        if (settings.getMaxConcurrency() < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        if (settings.getStallCheckInterval() == null || settings.getStallCheckInterval().isNegative()
+                || settings.getStallCheckInterval().isZero()) {
+            throw new IllegalArgumentException("stallCheckInterval must be positive");
+        }
+        this.goalRepository = stores.getGoals();
+        this.progressRepository = stores.getProgress();
+        this.cursorRepository = stores.getCursor();
+        this.snapshotRepository = stores.getSnapshots();
+        this.hiscoreClient = hiscoreClient;
+        this.rateLimiter = rateLimiter;
+        this.publisher = publisher;
+        this.target = target;
+        this.maxConcurrency = settings.getMaxConcurrency();
+        this.stallCheckInterval = settings.getStallCheckInterval();
+        this.clock = clock;
+    }
+
+    /**
+     * Identifies a character. The hiscores treat names case-insensitively and
+     * treat spaces, non-breaking spaces, underscores and hyphens alike, so
+     * those differences are folded away.
+     *
+     * @param characterName The character name
+     * @return A key that is equal for names of the same character
+     */
+    public static String characterKey(String characterName) {
+        return characterName.trim().toLowerCase(Locale.ROOT)
+                .replace('_', ' ')
+                .replace('-', ' ')
+                .replace('\u00A0', ' ');
+    }
+
+    /**
+     * Runs one refresh without a correlation ID.
+     *
+     * @param deadline The time after which no new hiscore request is started
+     * @return The outcome of the run
+     */
+    public HiscoreRefreshSummary refresh(Instant deadline) {
+        return refresh(deadline, null);
+    }
+
+    /**
+     * Runs one refresh.
+     *
+     * @param deadline      The time after which no new hiscore request is started
+     * @param correlationId The ID stamped on the run's progress events, or null for none
+     * @return The outcome of the run
+     */
+    public HiscoreRefreshSummary refresh(Instant deadline, String correlationId) {
+        String startCursor = loadCursor();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                Stream<ActiveGoalPage> pages = goalRepository.activeGoalPages(clock.instant(), startCursor)) {
+            Run run = new Run(executor, new Semaphore(maxConcurrency, true), deadline);
+            Iterator<ActiveGoalPage> pageIterator = pages.iterator();
+            boolean stopped = false;
+            while (!stopped && clock.instant().isBefore(deadline) && pageIterator.hasNext()) {
+                stopped = !readPage(run, pageIterator.next());
+            }
+
+            HiscoreRefreshSummary summary = publishChanges(run, correlationId);
+            String nextCursor = nextCursor(run, startCursor);
+            if (nextCursor != null) {
+                log.info("Hiscore refresh stopped before the end of its pass; the next run resumes from there");
+            }
+            saveCursor(nextCursor);
+            return summary;
+        }
+    }
+
+    /**
+     * Groups a page's goals by character and starts a fetch for each character
+     * not seen before, waiting for a free permit before each one.
+     *
+     * @param run  The state of the run
+     * @param page The page
+     * @return Whether the whole page was read, or false if the run reached its deadline first
+     */
+    private boolean readPage(Run run, ActiveGoalPage page) {
+        Set<String> characterKeys = new HashSet<>();
+        for (ActiveGoal goal : page.getGoals()) {
+            String key = characterKey(goal.getCharacterName());
+            if (!run.fetches.containsKey(key) && !startFetch(run, key, goal.getCharacterName())) {
+                return false;
+            }
+            run.goalCount++;
+            characterKeys.add(key);
+            run.goalsByCharacter.computeIfAbsent(key, k -> new ArrayList<>()).add(goal);
+        }
+        run.pagesRead.add(new PageRead(characterKeys, page.getNextCursor()));
+        return true;
+    }
+
+    /**
+     * Starts the fetch of a character once a permit is free, unless the run
+     * reaches its deadline while waiting.
+     *
+     * @param run           The state of the run
+     * @param key           The character key
+     * @param characterName The character name
+     * @return Whether the fetch was started
+     */
+    private boolean startFetch(Run run, String key, String characterName) {
+        try {
+            run.inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (!clock.instant().isBefore(run.deadline)) {
+            run.inFlight.release();
+            return false;
+        }
+        run.fetches.put(key, CompletableFuture.supplyAsync(
+                () -> fetch(characterName, run.deadline, run.inFlight), run.executor));
+        return true;
+    }
+
+    /**
+     * Finds where the next run resumes: after the last page of the unbroken
+     * run of pages, from the start, whose characters were all fetched.
+     *
+     * @param run         The state of the run, with every fetch finished
+     * @param startCursor The cursor the run started from
+     * @return The cursor to resume from, or null to start the next pass from the first goal
+     */
+    private static String nextCursor(Run run, String startCursor) {
+        String cursor = startCursor;
+        for (PageRead page : run.pagesRead) {
+            for (String key : page.getCharacterKeys()) {
+                if (run.fetches.get(key).join().getStatus() == FetchStatus.SKIPPED) {
+                    return cursor;
+                }
+            }
+            cursor = page.getNextCursor();
+        }
+        return cursor;
+    }
+
+    /**
+     * Loads the cursor the run starts from.
+     *
+     * @return The cursor, or null to start from the first goal
+     */
+    private String loadCursor() {
+        try {
+            return cursorRepository.load().orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load the refresh cursor, starting from the first goal: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the cursor the next run starts from. If it cannot be saved, the
+     * next run repeats this one's pages.
+     *
+     * @param cursor The cursor, or null to start from the first goal
+     */
+    private void saveCursor(String cursor) {
+        try {
+            cursorRepository.save(cursor);
+        } catch (RuntimeException e) {
+            log.warn("Failed to save the refresh cursor: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the fetches, compares each goal with its character's hiscores
+     * and publishes the goals that changed.
+     *
+     * @param run           The state of the run
+     * @param correlationId The ID stamped on the progress events, or null for none
+     * @return The outcome of the run
+     */
+    private HiscoreRefreshSummary publishChanges(Run run, String correlationId) {
+        int[] counts = new int[FetchStatus.values().length];
+        List<Observation> observations = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<Fetch>> fetchEntry : run.fetches.entrySet()) {
+            Fetch fetch = fetchEntry.getValue().join();
+            counts[fetch.getStatus().ordinal()]++;
+            if (fetch.getStatus() != FetchStatus.FOUND) {
+                continue;
+            }
+            Map<String, Long> values = fetch.getHiscores().getValues();
+            for (ActiveGoal goal : run.goalsByCharacter.get(fetchEntry.getKey())) {
+                Long value = values.get(goal.getTargetAttribute());
+                if (value != null) {
+                    observations.add(new Observation(goal, value));
+                }
+            }
+        }
+
+        List<CompletableFuture<List<Observation>>> chunks = new ArrayList<>();
+        for (int from = 0; from < observations.size(); from += GoalProgressRepository.MAX_BATCH_SIZE) {
+            List<Observation> chunk = observations.subList(from,
+                    Math.min(from + GoalProgressRepository.MAX_BATCH_SIZE, observations.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> changed(chunk, run.inFlight), run.executor));
+        }
+        List<PutEventsRequestEntry> entries = new ArrayList<>();
+        EventTrace trace = EventTrace.builder()
+                .ingestedAt(clock.instant())
+                .correlationId(correlationId)
+                .traceContext(TraceHeaders.current())
+                .build();
+        for (CompletableFuture<List<Observation>> chunk : chunks) {
+            for (Observation changed : chunk.join()) {
+                entries.add(createEventEntry(changed.getGoal(), changed.getValue(), trace));
+            }
+        }
+
+        PublishResult publishResult = entries.isEmpty() ? null : publisher.publishEntries(entries);
+        int publishFailedCount = publishResult == null ? 0 : publishResult.getFailedEvents().size();
+        HiscoreRefreshSummary summary = HiscoreRefreshSummary.builder()
+                .goalCount(run.goalCount)
+                .characterCount(run.fetches.size())
+                .fetchedCount(counts[FetchStatus.FOUND.ordinal()])
+                .notFoundCount(counts[FetchStatus.NOT_FOUND.ordinal()])
+                .failedCount(counts[FetchStatus.FAILED.ordinal()])
+                .skippedCount(counts[FetchStatus.SKIPPED.ordinal()])
+                .publishedCount(entries.size() - publishFailedCount)
+                .publishFailedCount(publishFailedCount)
+                .build();
+        log.info("Hiscore refresh finished: {}", summary);
+        return summary;
+    }
+
+    /**
+     * Picks the observations to publish: those whose value differs from the
+     * progress last written for their goal, and those of target-dated goals
+     * whose progress is due a stall check. If the stored progress cannot be
+     * read, every observation is kept, since publishing an unchanged value only
+     * costs a redundant write.
+     *
+     * @param chunk    The observations, at most MAX_BATCH_SIZE and for distinct goals
+     * @param inFlight The permits for requests in flight
+     * @return The observations to publish
+     */
+    private List<Observation> changed(List<Observation> chunk, Semaphore inFlight) {
+        Map<String, GoalProjection> stored = new HashMap<>();
+        try {
+            inFlight.acquire();
+            try {
+                for (GoalProjection progress : progressRepository.readStoredProgress(
+                        chunk.stream().map(Observation::getGoal).toList())) {
+                    stored.put(GoalProgressRepository.goalKey(progress.getUserId(), progress.getGoalId()), progress);
+                }
+            } finally {
+                inFlight.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return chunk;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read the stored progress of {} goals, publishing them all: {}",
+                    chunk.size(), e.getMessage());
+            return chunk;
+        }
+        Instant stallCheckBefore = clock.instant().minus(stallCheckInterval);
+        return chunk.stream()
+                .filter(observation -> isDue(observation, stored.get(GoalProgressRepository.goalKey(
+                        observation.getGoal().getUserId(), observation.getGoal().getGoalId())), stallCheckBefore))
+                .toList();
+    }
+
+    /**
+     * Decides whether an observation is published. A goal with a target date
+     * and no progress stored is published to start its projection, and one
+     * whose stored progress was observed before the stall check cut-off is
+     * published unchanged so its rate reflects the time without progress.
+     * Goals already at risk or at their target need no stall check.
+     *
+     * @param observation      The observation
+     * @param stored           The progress last written for the goal, or null if none
+     * @param stallCheckBefore Stored progress observed before this time is due a stall check
+     * @return Whether to publish the observation
+     */
+    private static boolean isDue(Observation observation, GoalProjection stored, Instant stallCheckBefore) {
+        ActiveGoal goal = observation.getGoal();
+        if (stored == null) {
+            return observation.getValue() != goal.getCurrentValue() || goal.getTargetDate() != null;
+        }
+        if (observation.getValue() != stored.getValue()) {
+            return true;
+        }
+        if (goal.getTargetDate() == null || stored.isAtRisk()
+                || goal.getTargetValue() != null && stored.getValue() >= goal.getTargetValue()) {
+            return false;
+        }
+        return stored.getObservedAt().isBefore(stallCheckBefore);
+    }
+
+    /**
+     * Fetches the hiscores of one character within the rate limit, holding a
+     * permit the caller acquired and releasing it when done.
+     *
+     * @param characterName The character name
+     * @param deadline      The time after which the request is skipped
+     * @param inFlight      The permits for requests in flight
+     * @return The outcome of the fetch
+     */
+    private Fetch fetch(String characterName, Instant deadline, Semaphore inFlight) {
+        try {
+            rateLimiter.acquire();
+            if (!clock.instant().isBefore(deadline)) {
+                return new Fetch(FetchStatus.SKIPPED, null);
+            }
+            Optional<CharacterHiscores> hiscores = hiscoreClient.fetch(characterName);
+            hiscores.ifPresent(found -> saveSnapshot(characterName, found));
+            return hiscores.map(found -> new Fetch(FetchStatus.FOUND, found))
+                    .orElseGet(() -> new Fetch(FetchStatus.NOT_FOUND, null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Fetch(FetchStatus.SKIPPED, null);
+        } catch (RuntimeException e) {
+            log.warn("Failed to fetch hiscores for {}: {}", characterName, e.getMessage());
+            return new Fetch(FetchStatus.FAILED, null);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Saves a character's hiscores as its snapshot. If the snapshot cannot be
+     * saved, new goals keep taking their currentValue from the previous one.
+     *
+     * @param characterName The character name
+     * @param hiscores      The character's hiscores
+     */
+    private void saveSnapshot(String characterName, CharacterHiscores hiscores) {
+        if (snapshotRepository == null) {
+            return;
+        }
+        try {
+            snapshotRepository.save(characterKey(characterName), CharacterSnapshot.builder()
+                    .characterName(characterName)
+                    .values(hiscores.getValues())
+                    .capturedAt(clock.instant())
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to save the snapshot of {}: {}", characterName, e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the EventBridge entry for a goal's new progress.
+     *
+     * @param goal  The goal
+     * @param value The progress read from the hiscores
+     * @param trace The trace fields stamped on the event
+     * @return The PutEvents entry
+     */
+    private PutEventsRequestEntry createEventEntry(ActiveGoal goal, long value, EventTrace trace) {
+        GoalProgressUpdateEvent event = new GoalProgressUpdateEvent();
+        event.setUserId(goal.getUserId());
+        event.setCharacterName(goal.getCharacterName());
+        event.setGoalId(goal.getGoalId());
+        event.setProgressValue(value);
+        event.setTargetValue(goal.getTargetValue());
+        event.setTargetDate(goal.getTargetDate());
+        event.setIngestedAt(trace.getIngestedAt());
+        event.setCorrelationId(trace.getCorrelationId());
+        event.setTraceContext(trace.getTraceContext());
+        try {
+            return PutEventsRequestEntry.builder()
+                    .detail(OBJECT_MAPPER.writeValueAsString(event))
+                    .detailType(target.getDetailType())
+                    .eventBusName(target.getEventBusName())
+                    .source(target.getEventSource())
+                    .traceHeader(trace.getTraceContext())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize GoalProgressUpdateEvent", e);
+        }
+    }
+
+    /**
+     * The stores the refresh reads goals and progress from, keeps its cursor
+     * in and saves character snapshots to; snapshots may be null to save none.
+     */
+    @Value
+    public static class GoalStores {
+        ActiveGoalRepository goals;
+        GoalProgressRepository progress;
+        RefreshCursorRepository cursor;
+        CharacterSnapshotRepository snapshots;
+    }
+
+    /**
+     * How hard the refresh may press on the hiscores and the progress table,
+     * and how often an unchanged goal is published for a stall check.
+     */
+    @Value
+    public static class RefreshSettings {
+        int maxConcurrency;
+        Duration stallCheckInterval;
+    }
+
+    /**
+     * Where progress events are published.
+     */
+    @Value
+    public static class ProgressEventTarget {
+        String eventBusName;
+        String detailType;
+        String eventSource;
+    }
+
+    /**
+     * The outcomes of a character fetch.
+     */
+    private enum FetchStatus {
+        FOUND,
+        NOT_FOUND,
+        FAILED,
+        SKIPPED
+    }
+
+    /**
+     * The outcome of a character fetch, with the hiscores when found.
+     */
+    @Value
+    private static class Fetch {
+        FetchStatus status;
+        CharacterHiscores hiscores;
+    }
+
+    /**
+     * The characters on a page that was read in full, and the cursor that
+     * resumes after it.
+     */
+    @Value
+    private static class PageRead {
+        Set<String> characterKeys;
+        String nextCursor;
+    }
+
+    /**
+     * The state of one run.
+     */
+    private static final class Run {
+        private final Map<String, List<ActiveGoal>> goalsByCharacter = new HashMap<>();
+        private final Map<String, CompletableFuture<Fetch>> fetches = new HashMap<>();
+        private final List<PageRead> pagesRead = new ArrayList<>();
+        private final ExecutorService executor;
+        private final Semaphore inFlight;
+        private final Instant deadline;
+        private int goalCount;
+
+        /**
+         * Creates the state of a run.
+         *
+         * @param executor Runs the fetches and the reads of the stored progress
+         * @param inFlight The permits for requests in flight, handed out in arrival order
+         * @param deadline The time after which no new hiscore request is started
+         */
+        Run(ExecutorService executor, Semaphore inFlight, Instant deadline) {
+            this.executor = executor;
+            this.inFlight = inFlight;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * A goal's value read from its character's hiscores.
+     */
+    @Value
+    private static class Observation {
+        ActiveGoal goal;
+        long value;
+    }
+}
@@ -0,0 +1,275 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.IdempotencyOutcome;
+import com.osrsGoalTracker.orchestration.model.IdempotencyOutcome.Decision;
+import com.osrsGoalTracker.orchestration.model.IdempotencyRecord;
+import com.osrsGoalTracker.orchestration.model.IdempotencyStatus;
+import com.osrsGoalTracker.orchestration.repository.IdempotencyRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Suppresses duplicate requests, such as client retries after a timeout.
+ * A request is claimed under its idempotency key before it is handled, and its
+ * response is recorded afterwards so a repeat can be answered without doing
+ * the work again.
+ * Records live in two tiers: a bounded LRU in the container, which answers
+ * repeats that land on the same container without a network call, and an
+ * optional shared IdempotencyRepository, which catches repeats that land on
+ * another container. If the shared tier is unavailable, requests are handled
+ * rather than rejected.
+ * A claim only holds its key for a short lease, about as long as a request
+ * may take, so a request that dies between claim and completion does not
+ * lock its key: once the lease lapses, a retry takes the key over. Only a
+ * completed response is kept for the full time to live.
+ */
+@Log4j2
+public class IdempotencyService {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final IdempotencyRepository repository;
+    private final Map<String, IdempotencyRecord> cache;
+    private final Duration ttl;
+    private final Duration claimLease;
+    private final Clock clock;
+
+    /**
+     * Creates an idempotency service.
+     *
+     * @param repository The shared tier, or null to use only the in-container cache
+     * @param cacheSize  The maximum number of records kept in the container
+     * @param ttl        How long a completed request suppresses duplicates
+     * @param claimLease How long a claim holds its key before a retry may take it over
+     * @param clock      The clock used to expire records
+     */
+    public IdempotencyService(IdempotencyRepository repository, int cacheSize, Duration ttl, Duration claimLease,
+            Clock clock) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be at least 1");
+        }
+        this.repository = repository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.ttl = ttl;
+        this.claimLease = claimLease;
+        this.clock = clock;
+    }
+
+    /**
+     * Derives an idempotency key from the parts that identify a request.
+     * The parts are hashed with SHA-256, each followed by a separator so that
+     * different splits of the same text give different keys.
+     *
+     * @param parts The parts identifying the request
+     * @return The hex-encoded key
+     */
+    public static String contentKey(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                if (part != null) {
+                    digest.update(part.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0);
+            }
+            return HEX.formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Claims a key before the request is handled.
+     *
+     * @param key The idempotency key
+     * @return PROCEED if the caller should handle the request, REPLAY with the
+     *         recorded response if it was already handled, or IN_PROGRESS if it is
+     *         being handled elsewhere
+     */
+    public IdempotencyOutcome claim(String key) {
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(claimLease);
+
+        IdempotencyRecord local = claimLocally(key, now, expiresAt);
+        if (local != null) {
+            return local.getStatus() == IdempotencyStatus.COMPLETED ? replay(local) : inProgress();
+        }
+        if (repository == null) {
+            return proceed(expiresAt);
+        }
+
+        try {
+            if (repository.tryClaim(key, expiresAt, now)) {
+                return proceed(expiresAt);
+            }
+            Optional<IdempotencyRecord> stored = repository.find(key);
+            if (stored.isPresent() && stored.get().getStatus() == IdempotencyStatus.COMPLETED) {
+                remember(stored.get());
+                return replay(stored.get());
+            }
+            forget(key);
+            if (stored.isEmpty() && repository.tryClaim(key, expiresAt, now)) {
+                claimLocally(key, now, expiresAt);
+                return proceed(expiresAt);
+            }
+            return inProgress();
+        } catch (RuntimeException e) {
+            log.warn("Idempotency store unavailable, handling request without it: {}", e.getMessage());
+            return proceed(expiresAt);
+        }
+    }
+
+    /**
+     * Records the response of a handled request, so repeats are answered with it.
+     *
+     * @param key          The idempotency key
+     * @param statusCode   The HTTP status code of the response
+     * @param responseBody The body of the response
+     */
+    public void complete(String key, int statusCode, String responseBody) {
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .key(key)
+                .status(IdempotencyStatus.COMPLETED)
+                .statusCode(statusCode)
+                .responseBody(responseBody)
+                .expiresAt(clock.instant().plus(ttl))
+                .build();
+        remember(record);
+        if (repository != null) {
+            try {
+                repository.complete(record);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record idempotent response for {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gives up a claim after the request failed, so a retry is handled again.
+     * Only the caller's own claim is removed: if its lease lapsed and a retry
+     * claimed the key in the meantime, the retry's claim is kept.
+     *
+     * @param key            The idempotency key
+     * @param claimExpiresAt The end of the caller's claim, from its PROCEED outcome
+     */
+    public void release(String key, Instant claimExpiresAt) {
+        forgetClaim(key, claimExpiresAt);
+        if (repository != null) {
+            try {
+                if (!repository.release(key, claimExpiresAt)) {
+                    log.info("Idempotency key {} was claimed by another request, leaving it claimed", key);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the live local record for a key, or records an in-progress claim if
+     * there is none.
+     *
+     * @param key       The idempotency key
+     * @param now       The current time
+     * @param expiresAt The end of a new claim's lease
+     * @return The existing live record, or null if the key was claimed locally
+     */
+    private IdempotencyRecord claimLocally(String key, Instant now, Instant expiresAt) {
+        synchronized (cache) {
+            IdempotencyRecord existing = cache.get(key);
+            if (existing != null && !existing.isExpired(now)) {
+                return existing;
+            }
+            cache.put(key, IdempotencyRecord.builder()
+                    .key(key)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .expiresAt(expiresAt)
+                    .build());
+            return null;
+        }
+    }
+
+    /**
+     * Stores a record in the local cache.
+     *
+     * @param record The record
+     */
+    private void remember(IdempotencyRecord record) {
+        synchronized (cache) {
+            cache.put(record.getKey(), record);
+        }
+    }
+
+    /**
+     * Removes a key from the local cache.
+     *
+     * @param key The idempotency key
+     */
+    private void forget(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * Removes a key from the local cache if it still holds the in-progress
+     * claim that ends at the given time.
+     *
+     * @param key            The idempotency key
+     * @param claimExpiresAt The end of the claim
+     */
+    private void forgetClaim(String key, Instant claimExpiresAt) {
+        synchronized (cache) {
+            IdempotencyRecord existing = cache.get(key);
+            if (existing != null && existing.getStatus() == IdempotencyStatus.IN_PROGRESS
+                    && existing.getExpiresAt().equals(claimExpiresAt)) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Creates a PROCEED outcome.
+     *
+     * @param claimExpiresAt The end of the caller's claim
+     * @return The outcome
+     */
+    private static IdempotencyOutcome proceed(Instant claimExpiresAt) {
+        return IdempotencyOutcome.builder().decision(Decision.PROCEED).claimExpiresAt(claimExpiresAt).build();
+    }
+
+    /**
+     * Creates a REPLAY outcome.
+     *
+     * @param record The recorded request
+     * @return The outcome
+     */
+    private static IdempotencyOutcome replay(IdempotencyRecord record) {
+        return IdempotencyOutcome.builder().decision(Decision.REPLAY).record(record).build();
+    }
+
+    /**
+     * Creates an IN_PROGRESS outcome.
+     *
+     * @return The outcome
+     */
+    private static IdempotencyOutcome inProgress() {
+        return IdempotencyOutcome.builder().decision(Decision.IN_PROGRESS).build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+
+/**
+ * EventPublisher that keeps published events in memory, for local runs and
+ * tests. Events matching a rejection rule are reported as failed instead of
+ * being kept. It is thread-safe.
+ */
+public class InMemoryEventPublisher implements EventPublisher {
+
+    static final String REJECTED = "Rejected";
+
+    private final List<OutboundEvent> events = new ArrayList<>();
+    private volatile Predicate<OutboundEvent> rejection = event -> false;
+
+    /**
+     * Starts a session. Events are kept when the session completes.
+     *
+     * @return A new session
+     */
+    @Override
+    public Session newSession() {
+        return new InMemorySession();
+    }
+
+    /**
+     * Does nothing, since there is no connection to open.
+     */
+    @Override
+    public void warmUp() {
+    }
+
+    /**
+     * Reports events matching the given rule as failed from now on.
+     *
+     * @param rejection Selects the events to reject
+     */
+    public void rejectWhen(Predicate<OutboundEvent> rejection) {
+        this.rejection = rejection;
+    }
+
+    /**
+     * Returns the events published so far, in publish order.
+     *
+     * @return A copy of the published events
+     */
+    public synchronized List<OutboundEvent> events() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * Forgets the events published so far.
+     */
+    public synchronized void clear() {
+        events.clear();
+    }
+
+    /**
+     * Keeps the accepted events of a session.
+     *
+     * @param accepted The events to keep
+     */
+    private synchronized void store(List<OutboundEvent> accepted) {
+        events.addAll(accepted);
+    }
+
+    /**
+     * Collects events until the session completes.
+     */
+    private final class InMemorySession implements Session {
+        private final List<OutboundEvent> accepted = new ArrayList<>();
+        private final List<FailedEvent> failedEvents = new ArrayList<>();
+        private int eventCount;
+
+        /**
+         * Adds an event, or records it as failed if it matches the rejection rule.
+         *
+         * @param event The event to publish
+         * @return The index of the event within this session
+         */
+        @Override
+        public int add(OutboundEvent event) {
+            int index = eventCount++;
+            if (rejection.test(event)) {
+                failedEvents.add(FailedEvent.builder()
+                        .index(index)
+                        .errorCode(REJECTED)
+                        .errorMessage("Rejected by the in-memory publisher")
+                        .build());
+            } else {
+                accepted.add(event);
+            }
+            return index;
+        }
+
+        /**
+         * Keeps the accepted events.
+         *
+         * @return A completed future for the publish result of the session
+         */
+        @Override
+        public CompletableFuture<PublishResult> complete() {
+            store(accepted);
+            return CompletableFuture.completedFuture(PublishResult.builder()
+                    .eventCount(eventCount)
+                    .requestCount(eventCount == 0 ? 0 : 1)
+                    .failedEvents(List.copyOf(failedEvents))
+                    .build());
+        }
+    }
+}
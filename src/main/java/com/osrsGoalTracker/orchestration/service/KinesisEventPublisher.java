@@ -0,0 +1,136 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.DescribeStreamSummaryRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+
+/**
+ * EventPublisher for a Kinesis data stream, using PutRecords with up to 500
+ * records and 5 MB per call. The partition key is the event's partition key,
+ * the user ID for goal events, so each user's events land on one shard and
+ * are read in order. Each record carries the EventBridge-shaped envelope.
+ * Records throttled by a shard or hit by an internal failure are retried.
+ */
+@Log4j2
+public class KinesisEventPublisher extends BatchingEventPublisher<PutRecordsRequestEntry> {
+
+    static final int MAX_RECORDS_PER_REQUEST = 500;
+    static final int MAX_REQUEST_SIZE_BYTES = 5 * 1024 * 1024;
+    static final int MAX_RECORD_SIZE_BYTES = 1024 * 1024;
+    static final int MAX_PARTITION_KEY_LENGTH = 256;
+
+    private static final Set<String> RETRYABLE_ERROR_CODES = Set.of(
+            "ProvisionedThroughputExceededException",
+            "InternalFailure");
+
+    private final KinesisAsyncClient kinesis;
+    private final String streamName;
+
+    /**
+     * Creates a publisher.
+     *
+     * @param kinesis     The Kinesis client
+     * @param streamName  The name of the stream
+     * @param backoff     The backoff applied between attempts
+     * @param maxAttempts The maximum number of attempts per record
+     */
+    public KinesisEventPublisher(KinesisAsyncClient kinesis, String streamName, JitteredBackoff backoff,
+            int maxAttempts) {
+        super("Kinesis", backoff, maxAttempts, MAX_RECORDS_PER_REQUEST, MAX_REQUEST_SIZE_BYTES,
+                MAX_RECORD_SIZE_BYTES);
+        this.kinesis = kinesis;
+        this.streamName = streamName;
+    }
+
+    /**
+     * Describes the stream to open a connection.
+     */
+    @Override
+    public void warmUp() {
+        try {
+            kinesis.describeStreamSummary(DescribeStreamSummaryRequest.builder()
+                    .streamName(streamName)
+                    .build()).join();
+        } catch (RuntimeException e) {
+            log.debug("Kinesis warm-up call failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the record for an event.
+     *
+     * @param event The event
+     * @return The record entry
+     * @throws IllegalArgumentException if the event has no partition key or the key is too long
+     */
+    @Override
+    protected PutRecordsRequestEntry toEntry(OutboundEvent event) {
+        String partitionKey = event.getPartitionKey();
+        if (partitionKey == null || partitionKey.isEmpty() || partitionKey.length() > MAX_PARTITION_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Kinesis partition keys must be 1 to " + MAX_PARTITION_KEY_LENGTH + " characters");
+        }
+        return PutRecordsRequestEntry.builder()
+                .partitionKey(partitionKey)
+                .data(SdkBytes.fromUtf8String(envelope(event)))
+                .build();
+    }
+
+    /**
+     * Returns the size of the data and partition key, which is what Kinesis
+     * counts towards its limits.
+     *
+     * @param entry The record entry
+     * @return The size in bytes
+     */
+    @Override
+    protected int entrySize(PutRecordsRequestEntry entry) {
+        return entry.data().asByteArrayUnsafe().length + utf8Length(entry.partitionKey());
+    }
+
+    /**
+     * Sends a PutRecords request.
+     *
+     * @param entries The records to send
+     * @return A future for the outcome of each record, in request order
+     */
+    @Override
+    protected CompletableFuture<List<EntryError>> send(List<PutRecordsRequestEntry> entries) {
+        return kinesis.putRecords(PutRecordsRequest.builder()
+                        .streamName(streamName)
+                        .records(entries)
+                        .build())
+                .thenApply(KinesisEventPublisher::errors);
+    }
+
+    /**
+     * Reads the outcome of each record from a response.
+     *
+     * @param response The PutRecords response
+     * @return The outcome of each record, in request order
+     */
+    private static List<EntryError> errors(PutRecordsResponse response) {
+        // Kinesis returns one result per record, in request order.
+        List<EntryError> errors = new ArrayList<>(response.records().size());
+        for (PutRecordsResultEntry record : response.records()) {
+            errors.add(record.errorCode() == null
+                    ? null
+                    : new EntryError(record.errorCode(), record.errorMessage(),
+                            RETRYABLE_ERROR_CODES.contains(record.errorCode())));
+        }
+        return errors;
+    }
+}
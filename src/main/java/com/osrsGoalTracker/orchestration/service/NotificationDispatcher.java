@@ -0,0 +1,109 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.external.NotificationChannel;
+import com.osrsGoalTracker.orchestration.external.NotificationDeliveryException;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+import com.osrsGoalTracker.orchestration.util.RateLimiter;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Sends digests through one channel in batches no larger than the channel
+ * accepts, spacing requests to the channel's rate limit. A batch the channel
+ * rate limits is retried after the delay it asks for, capped at
+ * maxRetryAfter; any other failure gives up on the batch.
+ */
+@Log4j2
+public class NotificationDispatcher {
+
+    private final NotificationChannel channel;
+    private final RateLimiter rateLimiter;
+    private final int maxAttempts;
+    private final Duration maxRetryAfter;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param channel       The channel to send through
+     * @param rateLimiter   The limit on requests to the channel
+     * @param maxAttempts   The maximum number of attempts per batch, including the first
+     * @param maxRetryAfter The longest delay honoured before retrying a rate-limited batch
+     */
+    public NotificationDispatcher(NotificationChannel channel, RateLimiter rateLimiter, int maxAttempts,
+            Duration maxRetryAfter) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.channel = channel;
+        this.rateLimiter = rateLimiter;
+        this.maxAttempts = maxAttempts;
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    /**
+     * Returns the channel this dispatcher sends through.
+     *
+     * @return The channel type
+     */
+    public NotificationChannelType channelType() {
+        return channel.type();
+    }
+
+    /**
+     * Sends digests in batches.
+     *
+     * @param digests The digests, all for this dispatcher's channel
+     * @return The number of digests delivered
+     */
+    public int dispatch(List<NotificationDigest> digests) {
+        int delivered = 0;
+        int batchSize = channel.maxBatchSize();
+        for (int start = 0; start < digests.size(); start += batchSize) {
+            List<NotificationDigest> batch = digests.subList(start, Math.min(start + batchSize, digests.size()));
+            if (sendBatch(batch)) {
+                delivered += batch.size();
+            } else if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Sends one batch, retrying while the channel rate limits it.
+     *
+     * @param batch The batch
+     * @return true if the channel accepted the batch
+     */
+    private boolean sendBatch(List<NotificationDigest> batch) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                rateLimiter.acquire();
+                channel.send(batch);
+                return true;
+            } catch (NotificationDeliveryException e) {
+                if (e.getRetryAfter() == null || attempt == maxAttempts) {
+                    log.warn("Failed to send {} {} digests on attempt {}: {}", Unbox.box(batch.size()),
+                            channel.type(), Unbox.box(attempt), e.getMessage());
+                    return false;
+                }
+                Duration delay = e.getRetryAfter().compareTo(maxRetryAfter) > 0 ? maxRetryAfter : e.getRetryAfter();
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,190 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationTickSummary;
+import com.osrsGoalTracker.orchestration.repository.ActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.NotificationScheduleRepository;
+import com.osrsGoalTracker.orchestration.repository.RefreshCursorRepository;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Drives the NotificationScheduler from a scheduled job. The first run in a
+ * container restores the schedule from its store. Every run then reads the
+ * active goals to pick up new goals and changed notification settings, and
+ * ticks the scheduler to send what has fallen due.
+ *
+ * Goals are read the way the hiscore refresh reads them: pages are read until
+ * the run's deadline and a cursor is saved after the last page read, so a pass
+ * over a large goals table spans as many runs as it needs. A goal seen with a
+ * channel and a frequency is scheduled one period after it is first seen, and
+ * rescheduled the same way when either changes. At the end of a pass, the
+ * notifications of goals the pass did not see, because they expired or were
+ * deleted, are cancelled. That only happens when the whole pass ran in this
+ * container, since the goals seen are only kept in memory.
+ */
+@Log4j2
+public class NotificationJobService {
+
+    private final NotificationScheduler scheduler;
+    private final NotificationScheduleRepository scheduleRepository;
+    private final ActiveGoalRepository goalRepository;
+    private final RefreshCursorRepository cursorRepository;
+    private final Clock clock;
+    private final Set<GoalNotification> seenThisPass = new HashSet<>();
+    private boolean restored;
+    private boolean passStartedHere;
+
+    /**
+     * Creates a service.
+     *
+     * @param scheduler          The scheduler, which writes every due time it sets to scheduleRepository
+     * @param scheduleRepository The store the schedule is restored from
+     * @param goalRepository     The source of active goals
+     * @param cursorRepository   The store of where the next pass over the goals resumes
+     * @param clock              The clock used for the deadline and for expiring goals
+     */
+    public NotificationJobService(NotificationScheduler scheduler, NotificationScheduleRepository scheduleRepository,
+            ActiveGoalRepository goalRepository, RefreshCursorRepository cursorRepository, Clock clock) {
+        this.scheduler = scheduler;
+        this.scheduleRepository = scheduleRepository;
+        this.goalRepository = goalRepository;
+        this.cursorRepository = cursorRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs the job once.
+     *
+     * @param deadline The time after which no new page of goals is read
+     * @return The outcome of the scheduler's tick
+     * @throws RuntimeException if the schedule cannot be restored, in which case nothing is sent
+     */
+    public synchronized NotificationTickSummary run(Instant deadline) {
+        if (!restored) {
+            scheduler.restore(scheduleRepository.findAll());
+            restored = true;
+            log.info("Restored {} scheduled notifications", Unbox.box(scheduler.size()));
+        }
+        readGoals(deadline);
+        return scheduler.tick();
+    }
+
+    /**
+     * Reads pages of active goals from where the last run stopped until the
+     * deadline, scheduling the notifications of the goals read.
+     *
+     * @param deadline The time after which no new page is read
+     */
+    private void readGoals(Instant deadline) {
+        String startCursor = loadCursor();
+        if (startCursor == null) {
+            seenThisPass.clear();
+            passStartedHere = true;
+        }
+        String cursor = startCursor;
+        boolean passFinished = true;
+        try (Stream<ActiveGoalPage> pages = goalRepository.activeGoalPages(clock.instant(), startCursor)) {
+            Iterator<ActiveGoalPage> pageIterator = pages.iterator();
+            while (pageIterator.hasNext()) {
+                if (!clock.instant().isBefore(deadline)) {
+                    passFinished = false;
+                    break;
+                }
+                ActiveGoalPage page = pageIterator.next();
+                page.getGoals().forEach(this::readGoal);
+                cursor = page.getNextCursor();
+            }
+        }
+
+        if (passFinished) {
+            if (passStartedHere) {
+                cancelUnseen();
+            }
+            cursor = null;
+        }
+        saveCursor(cursor);
+    }
+
+    /**
+     * Schedules a goal's notification, unless it is already scheduled as it
+     * is, or cancels it if the goal no longer has one.
+     *
+     * @param goal The goal
+     */
+    private void readGoal(ActiveGoal goal) {
+        if (goal.getNotificationChannelType() == null || goal.getFrequency() == null) {
+            scheduler.cancel(goal.getUserId(), goal.getGoalId());
+            return;
+        }
+        GoalNotification notification = GoalNotification.builder()
+                .userId(goal.getUserId())
+                .goalId(goal.getGoalId())
+                .characterName(goal.getCharacterName())
+                .targetAttribute(goal.getTargetAttribute())
+                .channelType(goal.getNotificationChannelType())
+                .frequency(goal.getFrequency())
+                .build();
+        seenThisPass.add(notification);
+        if (!scheduler.isScheduled(notification)) {
+            scheduler.schedule(notification);
+        }
+    }
+
+    /**
+     * Cancels the notifications of the goals the finished pass did not see.
+     */
+    private void cancelUnseen() {
+        int cancelled = 0;
+        for (GoalNotification notification : scheduler.notifications()) {
+            if (!seenThisPass.contains(notification)) {
+                scheduler.cancel(notification.getUserId(), notification.getGoalId());
+                cancelled++;
+            }
+        }
+        if (cancelled > 0) {
+            log.info("Cancelled the notifications of {} goals that are no longer active", Unbox.box(cancelled));
+        }
+        seenThisPass.clear();
+        passStartedHere = false;
+    }
+
+    /**
+     * Loads the cursor this run starts from. If it cannot be loaded, the run
+     * starts a new pass.
+     *
+     * @return The cursor, or null to start from the first goal
+     */
+    private String loadCursor() {
+        try {
+            return cursorRepository.load().orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load the notification cursor, starting from the first goal: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the cursor the next run starts from. If it cannot be saved, the
+     * next run repeats this one's pages.
+     *
+     * @param cursor The cursor, or null to start from the first goal
+     */
+    private void saveCursor(String cursor) {
+        try {
+            cursorRepository.save(cursor);
+        } catch (RuntimeException e) {
+            log.warn("Failed to save the notification cursor: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+import com.osrsGoalTracker.orchestration.model.NotificationTickSummary;
+import com.osrsGoalTracker.orchestration.model.ScheduledNotification;
+import com.osrsGoalTracker.orchestration.repository.NotificationScheduleRepository;
+import com.osrsGoalTracker.orchestration.util.HierarchicalTimingWheel;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Schedules recurring goal notifications and sends the ones that fall due.
+ * Due times are kept in a hierarchical timing wheel, so a tick only touches
+ * the notifications that are due rather than every scheduled goal. The due
+ * notifications of each user on each channel are grouped into one digest,
+ * and each channel's digests are sent by its dispatcher on a virtual thread
+ * of their own, so a slow, rate-limited or failing channel does not hold up
+ * the others.
+ * Every sent notification is rescheduled one period after its due time,
+ * whether or not its digest was delivered; periods missed while the scheduler
+ * was not ticking are skipped rather than sent in a burst.
+ *
+ * With a store, every due time the scheduler sets is also written there, so a
+ * scheduler restored from the store carries on where the last one stopped. A
+ * cancelled notification stays in the wheel until its due time comes round and
+ * is dropped then.
+ */
+@Log4j2
+public class NotificationScheduler {
+
+    private final HierarchicalTimingWheel<ScheduledNotification> wheel;
+    private final Map<GoalKey, ScheduledNotification> byGoal = new HashMap<>();
+    private final Map<NotificationChannelType, NotificationDispatcher> dispatchers;
+    private final NotificationScheduleRepository store;
+    private final Clock clock;
+
+    /**
+     * Creates a scheduler that keeps its schedule in memory only.
+     *
+     * @param dispatchers The dispatchers, at most one per channel
+     * @param tick        The resolution of due times
+     * @param wheelSize   The number of buckets on each level of the timing wheel
+     * @param clock       The clock that drives the wheel
+     */
+    public NotificationScheduler(List<NotificationDispatcher> dispatchers, Duration tick, int wheelSize,
+            Clock clock) {
+        this(dispatchers, tick, wheelSize, null, clock);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param dispatchers The dispatchers, at most one per channel
+     * @param tick        The resolution of due times
+     * @param wheelSize   The number of buckets on each level of the timing wheel
+     * @param store       The store every due time is written to, or null to keep the schedule in memory only
+     * @param clock       The clock that drives the wheel
+     */
+    public NotificationScheduler(List<NotificationDispatcher> dispatchers, Duration tick, int wheelSize,
+            NotificationScheduleRepository store, Clock clock) {
+        this.dispatchers = new EnumMap<>(NotificationChannelType.class);
+        for (NotificationDispatcher dispatcher : dispatchers) {
+            if (this.dispatchers.put(dispatcher.channelType(), dispatcher) != null) {
+                throw new IllegalArgumentException("More than one dispatcher for " + dispatcher.channelType());
+            }
+        }
+        this.wheel = new HierarchicalTimingWheel<>(tick, wheelSize, clock.instant());
+        this.store = store;
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules a notification one period from now.
+     *
+     * @param notification The notification
+     */
+    public void schedule(GoalNotification notification) {
+        schedule(notification, notification.getFrequency().next(clock.instant()));
+    }
+
+    /**
+     * Schedules a notification for the given time, replacing the due time its
+     * goal had.
+     *
+     * @param notification The notification
+     * @param dueAt        The time it first falls due
+     */
+    public synchronized void schedule(GoalNotification notification, Instant dueAt) {
+        save(add(scheduledAt(notification, dueAt)));
+    }
+
+    /**
+     * Puts notifications read back from the store on the schedule, without
+     * writing them again. A notification whose due time passed while nothing
+     * was ticking falls due on the next tick.
+     *
+     * @param notifications The stored notifications
+     */
+    public synchronized void restore(List<ScheduledNotification> notifications) {
+        notifications.forEach(this::add);
+    }
+
+    /**
+     * Takes a goal's notification off the schedule.
+     *
+     * @param userId The user that owns the goal
+     * @param goalId The goal
+     */
+    public synchronized void cancel(String userId, String goalId) {
+        if (byGoal.remove(new GoalKey(userId, goalId)) != null) {
+            delete(userId, goalId);
+        }
+    }
+
+    /**
+     * Returns whether a notification is scheduled as it is, with the same
+     * channel, frequency and details.
+     *
+     * @param notification The notification
+     * @return true if its goal is scheduled with exactly this notification
+     */
+    public synchronized boolean isScheduled(GoalNotification notification) {
+        ScheduledNotification current = byGoal.get(key(notification));
+        return current != null && current.getNotification().equals(notification);
+    }
+
+    /**
+     * Returns the notifications scheduled.
+     *
+     * @return The notifications
+     */
+    public synchronized List<GoalNotification> notifications() {
+        return byGoal.values().stream().map(ScheduledNotification::getNotification).toList();
+    }
+
+    /**
+     * Returns the number of notifications scheduled.
+     *
+     * @return The number of notifications
+     */
+    public synchronized int size() {
+        return byGoal.size();
+    }
+
+    /**
+     * Sends the notifications that have fallen due since the last tick and
+     * reschedules them.
+     *
+     * @return The outcome of the tick
+     */
+    public synchronized NotificationTickSummary tick() {
+        Instant now = clock.instant();
+        List<ScheduledNotification> due = new ArrayList<>();
+        for (ScheduledNotification released : wheel.advanceTo(now)) {
+            // A cancelled or rescheduled notification leaves an entry behind in the wheel.
+            if (byGoal.get(key(released.getNotification())) == released) {
+                due.add(released);
+            }
+        }
+
+        Map<NotificationChannelType, Map<String, List<GoalNotification>>> byChannel =
+                new EnumMap<>(NotificationChannelType.class);
+        for (ScheduledNotification released : due) {
+            GoalNotification notification = released.getNotification();
+            byChannel.computeIfAbsent(notification.getChannelType(), channel -> new LinkedHashMap<>())
+                    .computeIfAbsent(notification.getUserId(), userId -> new ArrayList<>())
+                    .add(notification);
+            save(add(scheduledAt(notification, nextDue(released, now))));
+        }
+
+        int digestCount = 0;
+        int sentCount = 0;
+        Map<NotificationChannelType, Future<Integer>> sends = new EnumMap<>(NotificationChannelType.class);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<NotificationChannelType, Map<String, List<GoalNotification>>> channel
+                    : byChannel.entrySet()) {
+                List<NotificationDigest> digests = digests(channel.getKey(), channel.getValue(), now);
+                digestCount += digests.size();
+                NotificationDispatcher dispatcher = dispatchers.get(channel.getKey());
+                if (dispatcher == null) {
+                    log.warn("No dispatcher for {}, dropping {} digests", channel.getKey(), digests.size());
+                    continue;
+                }
+                sends.put(channel.getKey(), executor.submit(() -> dispatcher.dispatch(digests)));
+            }
+            for (Map.Entry<NotificationChannelType, Future<Integer>> send : sends.entrySet()) {
+                sentCount += sentCount(send.getKey(), send.getValue());
+            }
+        }
+
+        NotificationTickSummary summary = NotificationTickSummary.builder()
+                .dueCount(due.size())
+                .digestCount(digestCount)
+                .sentCount(sentCount)
+                .failedCount(digestCount - sentCount)
+                .scheduledCount(byGoal.size())
+                .build();
+        if (!due.isEmpty()) {
+            log.info("Notification tick finished: {}", summary);
+        }
+        return summary;
+    }
+
+    /**
+     * Puts a notification on the wheel, replacing the goal's earlier due time.
+     *
+     * @param notification The notification and its due time
+     * @return The notification
+     */
+    private ScheduledNotification add(ScheduledNotification notification) {
+        byGoal.put(key(notification.getNotification()), notification);
+        wheel.add(notification, notification.getDueAt());
+        return notification;
+    }
+
+    /**
+     * Writes a due time to the store. A failed write is logged and the
+     * schedule in memory kept, so only a scheduler restored before the next
+     * successful write sends the notification at its earlier due time.
+     *
+     * @param notification The notification and its due time
+     */
+    private void save(ScheduledNotification notification) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.save(notification);
+        } catch (RuntimeException e) {
+            log.warn("Failed to save the schedule of goal {}: {}", notification.getNotification().getGoalId(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a goal's notification from the store. A failed delete is logged;
+     * a scheduler restored before the goal is cancelled again sends it once more.
+     *
+     * @param userId The user that owns the goal
+     * @param goalId The goal
+     */
+    private void delete(String userId, String goalId) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.delete(userId, goalId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove goal {} from the schedule: {}", goalId, e.getMessage());
+        }
+    }
+
+    /**
+     * Pairs a notification with a due time.
+     *
+     * @param notification The notification
+     * @param dueAt        The time it falls due
+     * @return The scheduled notification
+     */
+    private static ScheduledNotification scheduledAt(GoalNotification notification, Instant dueAt) {
+        return ScheduledNotification.builder().notification(notification).dueAt(dueAt).build();
+    }
+
+    /**
+     * Returns the key of a notification's goal.
+     *
+     * @param notification The notification
+     * @return The goal key
+     */
+    private static GoalKey key(GoalNotification notification) {
+        return new GoalKey(notification.getUserId(), notification.getGoalId());
+    }
+
+    /**
+     * Waits for one channel's digests to be sent. A channel whose dispatch
+     * fails counts as having sent none, without affecting the other channels.
+     *
+     * @param channelType The channel
+     * @param send        The channel's dispatch
+     * @return The number of digests the channel delivered
+     */
+    private static int sentCount(NotificationChannelType channelType, Future<Integer> send) {
+        try {
+            return send.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send.cancel(true);
+            return 0;
+        } catch (ExecutionException e) {
+            log.error("Notification dispatch failed for {}", channelType, e.getCause());
+            return 0;
+        }
+    }
+
+    /**
+     * Groups one channel's due notifications into a digest per user.
+     *
+     * @param channelType   The channel
+     * @param notifications The due notifications, by user
+     * @param now           The time of the tick
+     * @return The digests
+     */
+    private static List<NotificationDigest> digests(NotificationChannelType channelType,
+            Map<String, List<GoalNotification>> notifications, Instant now) {
+        List<NotificationDigest> digests = new ArrayList<>(notifications.size());
+        for (Map.Entry<String, List<GoalNotification>> user : notifications.entrySet()) {
+            digests.add(NotificationDigest.builder()
+                    .userId(user.getKey())
+                    .channelType(channelType)
+                    .sentAt(now)
+                    .notifications(user.getValue())
+                    .build());
+        }
+        return digests;
+    }
+
+    /**
+     * Computes the first due time after now that lies a whole number of
+     * periods after the notification's last due time.
+     *
+     * @param released The notification that fell due
+     * @param now      The time of the tick
+     * @return The next due time
+     */
+    private static Instant nextDue(ScheduledNotification released, Instant now) {
+        Instant next = released.getNotification().getFrequency().next(released.getDueAt());
+        while (!next.isAfter(now)) {
+            next = released.getNotification().getFrequency().next(next);
+        }
+        return next;
+    }
+
+    /**
+     * The goal a notification belongs to.
+     */
+    @Value
+    private static class GoalKey {
+        String userId;
+        String goalId;
+    }
+}
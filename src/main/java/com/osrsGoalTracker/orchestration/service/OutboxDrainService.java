@@ -0,0 +1,134 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.OutboxDrainSummary;
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+import com.osrsGoalTracker.orchestration.model.OutboxStatus;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.OutboxRepository;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes outbox entries to the configured transport and marks them sent.
+ * Entries are re-read with strongly consistent reads first, so entries a
+ * previous attempt already sent are not published again. Every pending entry
+ * of a drain goes to the transport in one publish session, which packs them
+ * into as few calls as the transport allows.
+ */
+@Log4j2
+public class OutboxDrainService {
+
+    private final OutboxRepository repository;
+    private final EventPublisher transport;
+    private final JitteredBackoff backoff;
+    private final int maxAttempts;
+    private final Clock clock;
+
+    /**
+     * Creates a service.
+     *
+     * @param repository  The outbox
+     * @param transport   The publisher for the transport events are drained to
+     * @param backoff     The delay between retries of unprocessed entries when marking them sent
+     * @param maxAttempts The maximum number of attempts per batch when marking entries sent
+     * @param clock       The clock used to stamp sent entries
+     */
+    public OutboxDrainService(OutboxRepository repository, EventPublisher transport, JitteredBackoff backoff,
+            int maxAttempts, Clock clock) {
+        this.repository = repository;
+        this.transport = transport;
+        this.backoff = backoff;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+    }
+
+    /**
+     * Publishes the pending entries among the given keys.
+     *
+     * @param keys The keys of the entries to drain, in write order
+     * @return The outcome, including the entries that could not be published
+     */
+    public OutboxDrainSummary drain(List<OutboxKey> keys) {
+        List<OutboxEntry> pending = keys.isEmpty() ? List.of() : repository.findPending(keys);
+        List<OutboundEvent> events = new ArrayList<>(pending.size());
+        for (OutboxEntry entry : pending) {
+            events.add(entry.getEvent());
+        }
+
+        PublishResult result = events.isEmpty()
+                ? PublishResult.builder().failedEvents(List.of()).build()
+                : transport.publish(events);
+        Set<Integer> failedIndexes = new HashSet<>();
+        List<OutboxKey> failedKeys = new ArrayList<>();
+        for (FailedEvent failedEvent : result.getFailedEvents()) {
+            failedIndexes.add(failedEvent.getIndex());
+            failedKeys.add(pending.get(failedEvent.getIndex()).getKey());
+            log.error("Failed to publish outbox entry {}: {} {}", pending.get(failedEvent.getIndex()).getKey(),
+                    failedEvent.getErrorCode(), failedEvent.getErrorMessage());
+        }
+
+        Instant sentAt = clock.instant();
+        List<OutboxEntry> sent = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            if (!failedIndexes.contains(i)) {
+                sent.add(pending.get(i).toBuilder().status(OutboxStatus.SENT).sentAt(sentAt).build());
+            }
+        }
+        markSent(sent);
+
+        log.info("Drained outbox: keys={} pending={} published={} failed={}",
+                keys.size(), pending.size(), sent.size(), failedKeys.size());
+        return OutboxDrainSummary.builder()
+                .pendingCount(pending.size())
+                .publishedCount(sent.size())
+                .skippedCount(keys.size() - pending.size())
+                .failedKeys(failedKeys)
+                .build();
+    }
+
+    /**
+     * Marks published entries as sent. An entry that cannot be marked stays
+     * pending and may be published again by a later drain, which consumers
+     * already tolerate since delivery is at least once.
+     *
+     * @param sent The published entries, with their status set to SENT
+     */
+    private void markSent(List<OutboxEntry> sent) {
+        for (int from = 0; from < sent.size(); from += OutboxRepository.MAX_BATCH_SIZE) {
+            List<OutboxEntry> pending = sent.subList(from, Math.min(from + OutboxRepository.MAX_BATCH_SIZE,
+                    sent.size()));
+            for (int attempt = 1;; attempt++) {
+                try {
+                    pending = repository.writeBatch(pending);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to mark {} outbox entries sent (attempt {} of {}): {}",
+                            pending.size(), attempt, maxAttempts, e.getMessage());
+                }
+                if (pending.isEmpty()) {
+                    break;
+                }
+                if (attempt == maxAttempts) {
+                    log.warn("Left {} published outbox entries pending", pending.size());
+                    break;
+                }
+                try {
+                    Thread.sleep(backoff.delayMillis(attempt));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+import com.osrsGoalTracker.orchestration.model.OutboxStatus;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.OutboxRepository;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * EventPublisher that writes events to the outbox instead of a transport.
+ * A single event is one conditional put; several events are written with
+ * BatchWriteItem requests of up to 25 entries, sent in parallel, with the
+ * entries DynamoDB leaves unprocessed retried with jittered backoff. An event
+ * counts as published once it is in the outbox; the outbox drainer publishes
+ * it to the transport later.
+ * Event IDs start with the write time and the position in the session, so
+ * each user's entries sort in the order they were written. The stored event
+ * carries the entry's ID, so every drain of it sends the same ID.
+ */
+@Log4j2
+public class OutboxEventPublisher implements EventPublisher {
+
+    static final String OUTBOX_WRITE_FAILED = "OutboxWriteFailed";
+
+    private final OutboxRepository repository;
+    private final Executor executor;
+    private final JitteredBackoff backoff;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Clock clock;
+
+    /**
+     * Creates a publisher.
+     *
+     * @param repository  The outbox
+     * @param executor    Runs the batch writes of a session in parallel
+     * @param backoff     The delay between retries of unprocessed entries
+     * @param maxAttempts The maximum number of attempts per batch
+     * @param retention   How long entries are kept before DynamoDB deletes them
+     * @param clock       The clock used to stamp entries
+     */
+    public OutboxEventPublisher(OutboxRepository repository, Executor executor, JitteredBackoff backoff,
+            int maxAttempts, Duration retention, Clock clock) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.repository = repository;
+        this.executor = executor;
+        this.backoff = backoff;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts a session. Entries are written when the session completes.
+     *
+     * @return A new session
+     */
+    @Override
+    public Session newSession() {
+        return new OutboxSession(clock.instant());
+    }
+
+    /**
+     * Describes the outbox table to open a connection.
+     */
+    @Override
+    public void warmUp() {
+        repository.warmUp();
+    }
+
+    /**
+     * Builds a time-ordered event ID.
+     *
+     * @param createdAt The write time
+     * @param position  The position of the event in its session
+     * @return The event ID
+     */
+    static String eventId(Instant createdAt, int position) {
+        return String.format("%013d-%05d-%s", createdAt.toEpochMilli(), position, UUID.randomUUID());
+    }
+
+    /**
+     * Writes a chunk, retrying the entries DynamoDB leaves unprocessed.
+     *
+     * @param chunk        The entries to write, with distinct keys
+     * @param requestCount Counts the requests made
+     * @return The entries that were still not written after the last attempt
+     */
+    private List<OutboxEntry> writeChunk(List<OutboxEntry> chunk, AtomicInteger requestCount) {
+        List<OutboxEntry> pending = chunk;
+        for (int attempt = 1;; attempt++) {
+            requestCount.incrementAndGet();
+            try {
+                pending = repository.writeBatch(pending);
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} outbox entries (attempt {} of {}): {}",
+                        pending.size(), attempt, maxAttempts, e.getMessage());
+            }
+            if (pending.isEmpty() || attempt == maxAttempts) {
+                return pending;
+            }
+            try {
+                Thread.sleep(backoff.delayMillis(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return pending;
+            }
+        }
+    }
+
+    /**
+     * Creates a failed event.
+     *
+     * @param index        The index of the event
+     * @param errorCode    The error code
+     * @param errorMessage The error message
+     * @return The failed event
+     */
+    private static FailedEvent failedEvent(int index, String errorCode, String errorMessage) {
+        return FailedEvent.builder()
+                .index(index)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    /**
+     * Collects the entries of a session and writes them on completion.
+     */
+    private final class OutboxSession implements Session {
+        private final Instant createdAt;
+        private final List<OutboxEntry> entries = new ArrayList<>();
+        private final List<Integer> indexes = new ArrayList<>();
+        private final List<FailedEvent> failedEvents = new ArrayList<>();
+        private int eventCount;
+
+        /**
+         * Creates a session.
+         *
+         * @param createdAt The write time stamped on every entry of the session
+         */
+        private OutboxSession(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * Adds an event.
+         *
+         * @param event The event to publish
+         * @return The index of the event within this session
+         */
+        @Override
+        public int add(OutboundEvent event) {
+            int index = eventCount++;
+            if (event.getPartitionKey() == null || event.getPartitionKey().isEmpty()) {
+                failedEvents.add(failedEvent(index, BatchingEventPublisher.INVALID_ENTRY,
+                        "Outbox entries need a partition key"));
+                return index;
+            }
+            String eventId = eventId(createdAt, index);
+            entries.add(OutboxEntry.builder()
+                    .key(OutboxKey.builder()
+                            .partitionKey(event.getPartitionKey())
+                            .eventId(eventId)
+                            .build())
+                    .event(event.toBuilder().eventId(eventId).build())
+                    .status(OutboxStatus.PENDING)
+                    .createdAt(createdAt)
+                    .expiresAt(createdAt.plus(retention))
+                    .build());
+            indexes.add(index);
+            return index;
+        }
+
+        /**
+         * Writes the entries: a single entry with a conditional put, several
+         * with parallel batch writes.
+         *
+         * @return A future for the publish result of the session
+         */
+        @Override
+        public CompletableFuture<PublishResult> complete() {
+            AtomicInteger requestCount = new AtomicInteger();
+            if (entries.size() == 1) {
+                requestCount.incrementAndGet();
+                try {
+                    repository.add(entries.get(0));
+                } catch (RuntimeException e) {
+                    log.error("Failed to write outbox entry: {}", e.getMessage(), e);
+                    failedEvents.add(failedEvent(indexes.get(0), OUTBOX_WRITE_FAILED, e.getMessage()));
+                }
+                return CompletableFuture.completedFuture(toResult(requestCount));
+            }
+
+            List<CompletableFuture<List<OutboxEntry>>> chunks = new ArrayList<>();
+            for (int from = 0; from < entries.size(); from += OutboxRepository.MAX_BATCH_SIZE) {
+                List<OutboxEntry> chunk = entries.subList(from,
+                        Math.min(from + OutboxRepository.MAX_BATCH_SIZE, entries.size()));
+                chunks.add(CompletableFuture.supplyAsync(() -> writeChunk(chunk, requestCount), executor));
+            }
+            return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> {
+                        for (CompletableFuture<List<OutboxEntry>> chunk : chunks) {
+                            for (OutboxEntry unwritten : chunk.join()) {
+                                failedEvents.add(failedEvent(indexes.get(entries.indexOf(unwritten)),
+                                        OUTBOX_WRITE_FAILED, "Entry was not written to the outbox"));
+                            }
+                        }
+                        return toResult(requestCount);
+                    });
+        }
+
+        /**
+         * Builds the publish result.
+         *
+         * @param requestCount The number of requests made
+         * @return The publish result
+         */
+        private PublishResult toResult(AtomicInteger requestCount) {
+            List<FailedEvent> sorted = new ArrayList<>(failedEvents);
+            sorted.sort(Comparator.comparingInt(FailedEvent::getIndex));
+            return PublishResult.builder()
+                    .eventCount(eventCount)
+                    .requestCount(requestCount.get())
+                    .failedEvents(sorted)
+                    .build();
+        }
+    }
+}
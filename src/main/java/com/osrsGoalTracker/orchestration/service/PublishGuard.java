@@ -0,0 +1,250 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.util.AdaptiveRateLimiter;
+import com.osrsGoalTracker.orchestration.util.CircuitBreaker;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Protects the event transport from callers, and callers from the transport,
+ * when the transport is throttling or failing. A publish is refused up front
+ * while the circuit breaker is open or the adaptive rate limit is used up, and
+ * a publish that is let through is waited on only until the caller's
+ * deadline. The outcome feeds both: a publish that the transport throttled,
+ * failed or did not finish in time lowers the rate and counts towards opening
+ * the breaker, and a clean publish raises the rate and closes it. Failures
+ * caused by the entries themselves, such as an oversized entry, count as
+ * neither.
+ *
+ * A guard lives as long as the container, so its state carries over from one
+ * invocation to the next.
+ */
+@Log4j2
+public class PublishGuard {
+
+    private static final Set<String> CLIENT_ERROR_CODES = Set.of(
+            BatchingEventPublisher.INVALID_ENTRY,
+            BatchingEventPublisher.ENTRY_TOO_LARGE,
+            "InvalidArgument",
+            "MalformedDetail");
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final AdaptiveRateLimiter limiter;
+    private final CircuitBreaker breaker;
+    private final Clock clock;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+
+    /**
+     * Creates a guard.
+     *
+     * @param limiter The adaptive limit on publishes per second, or null for no limit
+     * @param breaker The circuit breaker, or null to never refuse a publish for failures
+     * @param clock   The clock deadlines are measured by
+     */
+    public PublishGuard(AdaptiveRateLimiter limiter, CircuitBreaker breaker, Clock clock) {
+        this.limiter = limiter;
+        this.breaker = breaker;
+        this.clock = clock;
+    }
+
+    /**
+     * Publishes through a new session of the given publisher, if the guard
+     * allows it, and waits for the result until the deadline.
+     *
+     * @param publisher The publisher
+     * @param addEvents Adds the events to the session
+     * @param deadline  The time by which the result is needed
+     * @return The publish result
+     * @throws PublishRejectedException if the publish is refused or does not finish by the deadline
+     */
+    public PublishResult publish(EventPublisher publisher, Consumer<EventPublisher.Session> addEvents,
+            Instant deadline) {
+        acquire(deadline);
+        CompletableFuture<PublishResult> completion;
+        try {
+            EventPublisher.Session session = publisher.newSession();
+            addEvents.accept(session);
+            completion = session.complete();
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+        return await(completion, deadline);
+    }
+
+    /**
+     * Returns the current state of the guard.
+     *
+     * @return The state
+     */
+    public Snapshot snapshot() {
+        return Snapshot.builder()
+                .circuitState(breaker == null ? CircuitBreaker.State.CLOSED : breaker.state())
+                .consecutiveFailures(breaker == null ? 0 : breaker.consecutiveFailures())
+                .publishRate(limiter == null ? Double.POSITIVE_INFINITY : limiter.rate())
+                .availableTokens(limiter == null ? Double.POSITIVE_INFINITY : limiter.availableTokens())
+                .rejectedCount(rejectedCount.get())
+                .timedOutCount(timedOutCount.get())
+                .build();
+    }
+
+    /**
+     * Lets a publish start, or refuses it.
+     *
+     * @param deadline The time by which the result is needed
+     * @throws PublishRejectedException if the deadline has passed, the breaker is open or no token is left
+     */
+    private void acquire(Instant deadline) {
+        if (!clock.instant().isBefore(deadline)) {
+            rejectedCount.incrementAndGet();
+            throw new PublishRejectedException("No time left to publish", DEFAULT_RETRY_AFTER);
+        }
+        long breakerWaitMillis = breaker == null ? 0 : breaker.tryAcquire();
+        if (breakerWaitMillis > 0) {
+            rejectedCount.incrementAndGet();
+            throw new PublishRejectedException("Event transport is unavailable", Duration.ofMillis(breakerWaitMillis));
+        }
+        long limiterWaitMillis = limiter == null ? 0 : limiter.tryAcquire();
+        if (limiterWaitMillis > 0) {
+            rejectedCount.incrementAndGet();
+            throw new PublishRejectedException("Publish rate exceeded", Duration.ofMillis(limiterWaitMillis));
+        }
+    }
+
+    /**
+     * Waits for a publish until the deadline and records its outcome.
+     *
+     * @param completion The pending publish
+     * @param deadline   The time by which the result is needed
+     * @return The publish result
+     * @throws PublishRejectedException if the publish does not finish by the deadline, marked as sent
+     */
+    private PublishResult await(CompletableFuture<PublishResult> completion, Instant deadline) {
+        PublishResult result;
+        try {
+            if (deadline.equals(Instant.MAX)) {
+                result = completion.get();
+            } else {
+                long remainingMillis = Math.max(0, Duration.between(clock.instant(), deadline).toMillis());
+                result = completion.get(remainingMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            timedOutCount.incrementAndGet();
+            onFailure();
+            throw new PublishRejectedException("Publish did not finish before the deadline", retryAfter(), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PublishRejectedException("Interrupted waiting for publish", DEFAULT_RETRY_AFTER, true);
+        } catch (ExecutionException e) {
+            onFailure();
+            throw new CompletionException(e.getCause());
+        }
+
+        if (isTransportFailure(result)) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether a publish result shows the transport throttling or
+     * failing, as opposed to rejecting particular entries.
+     *
+     * @param result The publish result
+     * @return true if at least one event failed for a reason other than its content
+     */
+    private static boolean isTransportFailure(PublishResult result) {
+        for (FailedEvent failedEvent : result.getFailedEvents()) {
+            if (!CLIENT_ERROR_CODES.contains(failedEvent.getErrorCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records a clean publish.
+     */
+    private void onSuccess() {
+        if (limiter != null) {
+            limiter.onSuccess();
+        }
+        if (breaker != null) {
+            CircuitBreaker.State before = breaker.state();
+            breaker.onSuccess();
+            if (before != CircuitBreaker.State.CLOSED) {
+                log.info("Publish circuit closed");
+            }
+        }
+    }
+
+    /**
+     * Records a publish the transport throttled, failed or did not finish in time.
+     */
+    private void onFailure() {
+        if (limiter != null) {
+            limiter.onOverload();
+        }
+        if (breaker != null) {
+            CircuitBreaker.State before = breaker.state();
+            breaker.onFailure();
+            if (before != CircuitBreaker.State.OPEN && breaker.state() == CircuitBreaker.State.OPEN) {
+                log.warn("Publish circuit opened after {} consecutive failures", breaker.consecutiveFailures());
+            }
+        }
+    }
+
+    /**
+     * Returns how long a caller should wait after a failed publish.
+     *
+     * @return The retry delay
+     */
+    private Duration retryAfter() {
+        long breakerWaitMillis = breaker == null ? 0 : breaker.remainingOpenMillis();
+        return breakerWaitMillis > 0 ? Duration.ofMillis(breakerWaitMillis) : DEFAULT_RETRY_AFTER;
+    }
+
+    /**
+     * The state of a guard at one point in time.
+     */
+    @Value
+    @Builder
+    public static class Snapshot {
+        /** The state of the circuit breaker. */
+        CircuitBreaker.State circuitState;
+
+        /** The number of failed publishes since the last clean one. */
+        int consecutiveFailures;
+
+        /** The current publish rate limit, in publishes per second. */
+        double publishRate;
+
+        /** The publishes that could start right now. */
+        double availableTokens;
+
+        /** The publishes refused so far. */
+        long rejectedCount;
+
+        /** The publishes that did not finish before their deadline so far. */
+        long timedOutCount;
+    }
+}
@@ -0,0 +1,59 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a publish is refused before it starts, because the circuit
+ * breaker is open or the publish rate has been used up, or when it cannot
+ * finish before the invocation's deadline. The caller should try again after
+ * the given delay. A publish given up at the deadline has already handed its
+ * events to the transport, so they may still be delivered.
+ */
+public class PublishRejectedException extends RuntimeException {
+
+    private final transient Duration retryAfter;
+    private final boolean sent;
+
+    /**
+     * Creates an exception for a publish that was refused before anything was
+     * sent.
+     *
+     * @param message    The detail message
+     * @param retryAfter How long the caller should wait before trying again
+     */
+    public PublishRejectedException(String message, Duration retryAfter) {
+        this(message, retryAfter, false);
+    }
+
+    /**
+     * Creates an exception with the given message and retry delay.
+     *
+     * @param message    The detail message
+     * @param retryAfter How long the caller should wait before trying again
+     * @param sent       Whether the events were handed to the transport before the publish was given up
+     */
+    public PublishRejectedException(String message, Duration retryAfter, boolean sent) {
+        super(message);
+        this.retryAfter = retryAfter;
+        this.sent = sent;
+    }
+
+    /**
+     * Returns how long the caller should wait before trying again.
+     *
+     * @return The retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Returns whether the events were handed to the transport before the
+     * publish was given up, in which case they may still be delivered.
+     *
+     * @return true if the events may have been sent
+     */
+    public boolean isSent() {
+        return sent;
+    }
+}
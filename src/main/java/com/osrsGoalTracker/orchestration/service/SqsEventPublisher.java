@@ -0,0 +1,143 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+/**
+ * EventPublisher for an SQS queue, using SendMessageBatch with up to 10
+ * messages and 256 KB per call. Each message body is the EventBridge-shaped
+ * envelope, so the consumers that read EventBridge deliveries from SQS read
+ * these too. On a FIFO queue the partition key is the message group, which
+ * keeps each user's events in order, and the deduplication ID is the event's
+ * ID, so a retried send is not delivered twice while identical events are.
+ * Entries SQS rejects through no fault of the sender are retried.
+ */
+@Log4j2
+public class SqsEventPublisher extends BatchingEventPublisher<SendMessageBatchRequestEntry> {
+
+    static final int MAX_ENTRIES_PER_REQUEST = 10;
+    static final int MAX_REQUEST_SIZE_BYTES = 256 * 1024;
+
+    private static final String FIFO_SUFFIX = ".fifo";
+
+    private final SqsAsyncClient sqs;
+    private final String queueUrl;
+    private final boolean fifo;
+
+    /**
+     * Creates a publisher.
+     *
+     * @param sqs         The SQS client
+     * @param queueUrl    The URL of the queue; a URL ending in .fifo selects FIFO behaviour
+     * @param backoff     The backoff applied between attempts
+     * @param maxAttempts The maximum number of attempts per message
+     */
+    public SqsEventPublisher(SqsAsyncClient sqs, String queueUrl, JitteredBackoff backoff, int maxAttempts) {
+        super("SQS", backoff, maxAttempts, MAX_ENTRIES_PER_REQUEST, MAX_REQUEST_SIZE_BYTES, MAX_REQUEST_SIZE_BYTES);
+        this.sqs = sqs;
+        this.queueUrl = queueUrl;
+        this.fifo = queueUrl.endsWith(FIFO_SUFFIX);
+    }
+
+    /**
+     * Reads an attribute of the queue to open a connection.
+     */
+    @Override
+    public void warmUp() {
+        try {
+            sqs.getQueueAttributes(GetQueueAttributesRequest.builder()
+                    .queueUrl(queueUrl)
+                    .attributeNames(QueueAttributeName.QUEUE_ARN)
+                    .build()).join();
+        } catch (RuntimeException e) {
+            log.debug("SQS warm-up call failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the message for an event. The entry ID is assigned when the batch
+     * is sent.
+     *
+     * @param event The event
+     * @return The message entry
+     * @throws IllegalArgumentException if the queue is FIFO and the event has no partition key or event ID
+     */
+    @Override
+    protected SendMessageBatchRequestEntry toEntry(OutboundEvent event) {
+        SendMessageBatchRequestEntry.Builder entry = SendMessageBatchRequestEntry.builder()
+                .messageBody(envelope(event));
+        if (fifo) {
+            if (event.getPartitionKey() == null || event.getPartitionKey().isEmpty()) {
+                throw new IllegalArgumentException("A FIFO queue needs a partition key for the message group");
+            }
+            if (event.getEventId() == null || event.getEventId().isEmpty()) {
+                throw new IllegalArgumentException("A FIFO queue needs an event ID for the deduplication ID");
+            }
+            entry.messageGroupId(event.getPartitionKey())
+                    .messageDeduplicationId(event.getEventId());
+        }
+        return entry.build();
+    }
+
+    /**
+     * Returns the size of the message body, which is what SQS counts for a
+     * message without attributes.
+     *
+     * @param entry The message entry
+     * @return The size in bytes
+     */
+    @Override
+    protected int entrySize(SendMessageBatchRequestEntry entry) {
+        return utf8Length(entry.messageBody());
+    }
+
+    /**
+     * Sends a SendMessageBatch request. Entries are identified by their
+     * position in the request.
+     *
+     * @param entries The messages to send
+     * @return A future for the outcome of each message, in request order
+     */
+    @Override
+    protected CompletableFuture<List<EntryError>> send(List<SendMessageBatchRequestEntry> entries) {
+        List<SendMessageBatchRequestEntry> identified = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            identified.add(entries.get(i).toBuilder().id(Integer.toString(i)).build());
+        }
+        return sqs.sendMessageBatch(SendMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(identified)
+                        .build())
+                .thenApply(response -> errors(response, entries.size()));
+    }
+
+    /**
+     * Maps the failed entries of a response back to their positions.
+     *
+     * @param response The SendMessageBatch response
+     * @param count    The number of entries that were sent
+     * @return The outcome of each entry, in request order
+     */
+    private static List<EntryError> errors(SendMessageBatchResponse response, int count) {
+        List<EntryError> errors = new ArrayList<>(Collections.nCopies(count, null));
+        for (BatchResultErrorEntry failed : response.failed()) {
+            errors.set(Integer.parseInt(failed.id()),
+                    new EntryError(failed.code(), failed.message(), !Boolean.TRUE.equals(failed.senderFault())));
+        }
+        return errors;
+    }
+}
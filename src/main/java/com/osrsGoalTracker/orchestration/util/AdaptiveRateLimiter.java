@@ -0,0 +1,120 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.time.Clock;
+
+/**
+ * A token bucket whose rate adapts to how the downstream service copes, by
+ * additive increase and multiplicative decrease. Every success raises the rate
+ * by the increase divided by the current rate, so the rate grows by about the
+ * increase for each second of successful calls; every overload signal
+ * multiplies it by the decrease factor. The bucket holds at most one second of
+ * tokens, so an idle limiter does not save up a large burst.
+ *
+ * Callers are never made to wait: a call that finds no token is told how long
+ * until one is available and can fail fast instead. It is thread-safe.
+ */
+public class AdaptiveRateLimiter {
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increase;
+    private final double decreaseFactor;
+    private final Clock clock;
+    private double rate;
+    private double tokens;
+    private long refilledAtMillis;
+
+    /**
+     * Creates a limiter with a full bucket.
+     *
+     * @param initialRate    The starting rate, in calls per second
+     * @param minRate        The rate is never decreased below this
+     * @param maxRate        The rate is never increased above this
+     * @param increase       How much the rate grows per second of successful calls
+     * @param decreaseFactor What the rate is multiplied by on each overload signal, between 0 and 1
+     * @param clock          The clock the bucket is refilled by
+     * @throws IllegalArgumentException if the rates are not positive and ordered or the factor is out of range
+     */
+    public AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, double increase,
+            double decreaseFactor, Clock clock) {
+        if (!(minRate > 0) || minRate > initialRate || initialRate > maxRate) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < min <= initial <= max, got "
+                    + minRate + ", " + initialRate + ", " + maxRate);
+        }
+        if (!(decreaseFactor > 0 && decreaseFactor < 1)) {
+            throw new IllegalArgumentException("decreaseFactor must be between 0 and 1, got " + decreaseFactor);
+        }
+        if (increase < 0) {
+            throw new IllegalArgumentException("increase cannot be negative, got " + increase);
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increase = increase;
+        this.decreaseFactor = decreaseFactor;
+        this.clock = clock;
+        this.rate = initialRate;
+        this.tokens = Math.max(1, initialRate);
+        this.refilledAtMillis = clock.millis();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return 0 if a token was taken, otherwise the milliseconds until one is available
+     */
+    public synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) * 1_000 / rate));
+    }
+
+    /**
+     * Records a call the downstream service handled, raising the rate.
+     */
+    public synchronized void onSuccess() {
+        refill();
+        rate = Math.min(maxRate, rate + increase / rate);
+    }
+
+    /**
+     * Records a call the downstream service throttled or failed, lowering the rate.
+     */
+    public synchronized void onOverload() {
+        refill();
+        rate = Math.max(minRate, rate * decreaseFactor);
+        tokens = Math.min(tokens, Math.max(1, rate));
+    }
+
+    /**
+     * Returns the current rate.
+     *
+     * @return The rate, in calls per second
+     */
+    public synchronized double rate() {
+        return rate;
+    }
+
+    /**
+     * Returns the tokens currently in the bucket.
+     *
+     * @return The number of tokens, possibly fractional
+     */
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    /**
+     * Adds the tokens earned since the last refill, up to one second's worth.
+     */
+    private void refill() {
+        long now = clock.millis();
+        if (now > refilledAtMillis) {
+            tokens = Math.min(Math.max(1, rate), tokens + (now - refilledAtMillis) * rate / 1_000);
+            refilledAtMillis = now;
+        }
+    }
+}
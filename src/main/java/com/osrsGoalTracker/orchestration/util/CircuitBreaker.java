@@ -0,0 +1,134 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Stops calls to a failing service for a while instead of letting every
+ * caller wait on it. The breaker opens after a number of consecutive failures
+ * and rejects calls until the open period has passed; it then lets a single
+ * probe call through. A successful probe closes the breaker and a failed one
+ * opens it again. A probe that never reports back is replaced by a new one
+ * after another open period. It is thread-safe.
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of the breaker.
+     */
+    public enum State {
+        /** Calls go through. */
+        CLOSED,
+        /** Calls are rejected. */
+        OPEN,
+        /** A single probe call is allowed through. */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long changedAtMillis;
+
+    /**
+     * Creates a closed breaker.
+     *
+     * @param failureThreshold The number of consecutive failures that opens the breaker
+     * @param openDuration     How long the breaker stays open before it allows a probe
+     * @param clock            The clock the open period is measured by
+     * @throws IllegalArgumentException if the threshold is not positive or the duration is negative
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1, got " + failureThreshold);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration cannot be negative, got " + openDuration);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+        this.changedAtMillis = clock.millis();
+    }
+
+    /**
+     * Asks to make a call. When the open period is over, the first caller is
+     * let through as the probe.
+     *
+     * @return 0 if the call may go ahead, otherwise the milliseconds until a probe is allowed
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.CLOSED) {
+            return 0;
+        }
+        long waited = clock.millis() - changedAtMillis;
+        if (waited >= openMillis) {
+            transitionTo(State.HALF_OPEN);
+            return 0;
+        }
+        return Math.max(1, openMillis - waited);
+    }
+
+    /**
+     * Records a successful call, closing the breaker.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Records a failed call. A failed probe, or the failure that reaches the
+     * threshold, opens the breaker.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return The state
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Returns how long the breaker stays open, without letting a probe through.
+     *
+     * @return The milliseconds until a probe is allowed, or 0 if the breaker is not open
+     */
+    public synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openMillis - (clock.millis() - changedAtMillis));
+    }
+
+    /**
+     * Returns the number of failures since the last success.
+     *
+     * @return The number of consecutive failures
+     */
+    public synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Moves the breaker to a new state.
+     *
+     * @param newState The new state
+     */
+    private void transitionTo(State newState) {
+        state = newState;
+        changedAtMillis = clock.millis();
+    }
+}
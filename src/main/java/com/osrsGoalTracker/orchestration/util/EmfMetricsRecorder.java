@@ -0,0 +1,288 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * MetricsRecorder that writes CloudWatch Embedded Metric Format. Each flush
+ * writes one JSON line; CloudWatch Logs extracts the metrics from it, so
+ * emitting them costs no API call. Latencies are in milliseconds. A metric
+ * recorded once is written as a number, and one recorded several times as a
+ * Values/Counts histogram, with values rounded to two significant digits so
+ * the histogram stays within EMF's limit of 100 distinct values. Nothing is
+ * written for an invocation that recorded no metrics.
+ *
+ * Only one invocation is recorded at a time, which matches a Lambda container;
+ * the recorder is thread-safe so work fanned out within an invocation can
+ * record too.
+ */
+public class EmfMetricsRecorder implements MetricsRecorder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final MathContext HISTOGRAM_PRECISION = new MathContext(2);
+    private static final int MAX_HISTOGRAM_VALUES = 100;
+    private static final String MILLISECONDS = "Milliseconds";
+    private static final String COUNT = "Count";
+    private static final String NONE = "None";
+
+    private final String namespace;
+    private final Map<String, String> dimensions;
+    private final Consumer<String> sink;
+    private final Clock clock;
+    private final Map<String, Metric> metrics = new LinkedHashMap<>();
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    /**
+     * Creates a recorder.
+     *
+     * @param namespace  The CloudWatch namespace of the metrics
+     * @param dimensions The dimensions every metric is recorded under, in order
+     * @param sink       Receives each EMF line, normally standard output
+     * @param clock      The clock used to timestamp each line
+     */
+    public EmfMetricsRecorder(String namespace, Map<String, String> dimensions, Consumer<String> sink, Clock clock) {
+        this.namespace = namespace;
+        this.dimensions = new LinkedHashMap<>(dimensions);
+        this.sink = sink;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a latency, in milliseconds.
+     *
+     * @param name  The metric name
+     * @param nanos The latency in nanoseconds
+     */
+    @Override
+    public synchronized void recordLatency(String name, long nanos) {
+        metric(name, MILLISECONDS).add(nanos / 1_000_000.0);
+    }
+
+    /**
+     * Adds to a count. A count is written as one value per flush.
+     *
+     * @param name  The metric name
+     * @param count The amount to add
+     */
+    @Override
+    public synchronized void count(String name, long count) {
+        metric(name, COUNT).sum += count;
+    }
+
+    /**
+     * Records a unitless value. Values that are not finite, which JSON cannot
+     * hold, are dropped.
+     *
+     * @param name  The metric name
+     * @param value The value
+     */
+    @Override
+    public synchronized void gauge(String name, double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        metric(name, NONE).add(value);
+    }
+
+    /**
+     * Attaches a property to the invocation.
+     *
+     * @param name  The property name
+     * @param value The property value
+     */
+    @Override
+    public synchronized void property(String name, Object value) {
+        properties.put(name, value);
+    }
+
+    /**
+     * Writes the EMF line for the invocation and starts over.
+     */
+    @Override
+    public synchronized void flush() {
+        try {
+            if (!metrics.isEmpty()) {
+                sink.accept(toEmf());
+            }
+        } finally {
+            metrics.clear();
+            properties.clear();
+        }
+    }
+
+    /**
+     * Returns the metric with the given name, creating it if needed.
+     *
+     * @param name The metric name
+     * @param unit The unit used if the metric is created
+     * @return The metric
+     */
+    private Metric metric(String name, String unit) {
+        return metrics.computeIfAbsent(name, ignored -> new Metric(unit));
+    }
+
+    /**
+     * Builds the EMF line from the recorded metrics and properties.
+     *
+     * @return The JSON line
+     */
+    private String toEmf() {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("_aws");
+            generator.writeNumberField("Timestamp", clock.millis());
+            generator.writeArrayFieldStart("CloudWatchMetrics");
+            generator.writeStartObject();
+            generator.writeStringField("Namespace", namespace);
+            generator.writeArrayFieldStart("Dimensions");
+            generator.writeStartArray();
+            for (String dimension : dimensions.keySet()) {
+                generator.writeString(dimension);
+            }
+            generator.writeEndArray();
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("Metrics");
+            for (Map.Entry<String, Metric> metric : metrics.entrySet()) {
+                generator.writeStartObject();
+                generator.writeStringField("Name", metric.getKey());
+                generator.writeStringField("Unit", metric.getValue().unit);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+
+            for (Map.Entry<String, String> dimension : dimensions.entrySet()) {
+                generator.writeStringField(dimension.getKey(), dimension.getValue());
+            }
+            for (Map.Entry<String, Metric> metric : metrics.entrySet()) {
+                generator.writeFieldName(metric.getKey());
+                metric.getValue().write(generator);
+            }
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                if (!metrics.containsKey(property.getKey()) && !dimensions.containsKey(property.getKey())) {
+                    writeProperty(generator, property.getKey(), property.getValue());
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write EMF metrics", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes a property as a JSON number, boolean or string.
+     *
+     * @param generator The generator to write to
+     * @param name      The property name
+     * @param value     The property value
+     * @throws IOException if the value cannot be written
+     */
+    private static void writeProperty(JsonGenerator generator, String name, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else if (value instanceof Integer || value instanceof Long) {
+            generator.writeNumberField(name, ((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            generator.writeNumberField(name, number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            generator.writeBooleanField(name, bool);
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+
+    /**
+     * The values of one metric within an invocation.
+     */
+    private static final class Metric {
+        private final String unit;
+        private final TreeMap<Double, Integer> histogram = new TreeMap<>();
+        private double first;
+        private int samples;
+        private long sum;
+
+        /**
+         * Creates an empty metric.
+         *
+         * @param unit The EMF unit
+         */
+        private Metric(String unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Adds a sample.
+         *
+         * @param value The value
+         */
+        private void add(double value) {
+            if (samples == 0) {
+                first = value;
+            }
+            samples++;
+            double bucket = round(value);
+            if (histogram.size() < MAX_HISTOGRAM_VALUES || histogram.containsKey(bucket)) {
+                histogram.merge(bucket, 1, Integer::sum);
+            } else {
+                Double nearest = histogram.floorKey(bucket);
+                histogram.merge(nearest != null ? nearest : histogram.firstKey(), 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Writes the metric value: the sum for a count, the value for a single
+         * sample, or a Values/Counts histogram.
+         *
+         * @param generator The generator to write to
+         * @throws IOException if the value cannot be written
+         */
+        private void write(JsonGenerator generator) throws IOException {
+            if (COUNT.equals(unit)) {
+                generator.writeNumber(sum);
+            } else if (samples == 1) {
+                generator.writeNumber(first);
+            } else {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("Values");
+                for (double value : histogram.keySet()) {
+                    generator.writeNumber(value);
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("Counts");
+                for (int count : histogram.values()) {
+                    generator.writeNumber(count);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+
+        /**
+         * Rounds a value to the histogram precision.
+         *
+         * @param value The value
+         * @return The rounded value
+         */
+        private static double round(double value) {
+            if (value == 0) {
+                return value;
+            }
+            return new BigDecimal(value).round(HISTOGRAM_PRECISION).doubleValue();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds items until they fall due, without looking at every item on every
+ * tick. Level 0 has one bucket per tick; each level above it has buckets as
+ * wide as a whole turn of the level below. An item is placed on the lowest
+ * level that can hold it and moves down a level each time its bucket comes
+ * round, so advancing the wheel touches only the buckets that are due.
+ * Levels are added as farther due times are scheduled.
+ *
+ * Time only moves when advanceTo is called, which makes the wheel easy to
+ * drive from a simulated clock. Items are never released before their due
+ * time, and at most one tick after it. The wheel is not thread-safe.
+ *
+ * @param <T> The type of the items
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<ArrayDeque<Entry<T>>[]> levels = new ArrayList<>();
+    private final List<T> ready = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a wheel.
+     *
+     * @param tick      The resolution of the wheel
+     * @param wheelSize The number of buckets on each level
+     * @param start     The time the wheel starts at
+     * @throws IllegalArgumentException if the tick is not positive or the wheel has fewer than two buckets
+     */
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, Instant start) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("tick must be at least 1ms, got " + tick);
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("wheelSize must be at least 2, got " + wheelSize);
+        }
+        this.tickMillis = tick.toMillis();
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(start.toEpochMilli(), tickMillis);
+        addLevel();
+    }
+
+    /**
+     * Schedules an item. An item already due is released by the next call to
+     * advanceTo.
+     *
+     * @param item  The item
+     * @param dueAt The time the item falls due
+     */
+    public void add(T item, Instant dueAt) {
+        size++;
+        place(new Entry<>(item, Math.ceilDiv(dueAt.toEpochMilli(), tickMillis)));
+    }
+
+    /**
+     * Moves the wheel forward and releases the items that fell due.
+     *
+     * @param now The current time; a time before the wheel's time releases only items already due
+     * @return The released items, in due order at tick resolution
+     */
+    public List<T> advanceTo(Instant now) {
+        long targetTick = Math.floorDiv(now.toEpochMilli(), tickMillis);
+        while (currentTick < targetTick) {
+            if (size == ready.size()) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            for (int level = levels.size() - 1; level > 0; level--) {
+                long span = span(level);
+                if (currentTick % span == 0) {
+                    drain(level, Math.floorMod(currentTick / span, wheelSize));
+                }
+            }
+            drain(0, Math.floorMod(currentTick, wheelSize));
+        }
+        List<T> released = new ArrayList<>(ready);
+        size -= released.size();
+        ready.clear();
+        return released;
+    }
+
+    /**
+     * Returns the number of items scheduled and not yet released.
+     *
+     * @return The number of items
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Puts an entry on the lowest level whose turn still covers its due tick,
+     * or on the ready list when it is already due.
+     *
+     * @param entry The entry
+     */
+    private void place(Entry<T> entry) {
+        if (entry.dueTick <= currentTick) {
+            ready.add(entry.item);
+            return;
+        }
+        int level = 0;
+        while (true) {
+            if (level == levels.size()) {
+                addLevel();
+            }
+            long span = span(level);
+            long slotDistance = entry.dueTick / span - currentTick / span;
+            if (slotDistance < wheelSize) {
+                levels.get(level)[(int) Math.floorMod(entry.dueTick / span, wheelSize)].add(entry);
+                return;
+            }
+            level++;
+        }
+    }
+
+    /**
+     * Empties a bucket whose time has come, releasing the entries that are
+     * due and moving the others down.
+     *
+     * @param level  The level of the bucket
+     * @param bucket The index of the bucket
+     */
+    private void drain(int level, int bucket) {
+        ArrayDeque<Entry<T>> entries = levels.get(level)[bucket];
+        int count = entries.size();
+        for (int i = 0; i < count; i++) {
+            place(entries.poll());
+        }
+    }
+
+    /**
+     * Returns the number of ticks a bucket on the given level spans.
+     *
+     * @param level The level
+     * @return The span in ticks
+     */
+    private long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        return span;
+    }
+
+    /**
+     * Adds an empty level above the existing ones.
+     */
+    @SuppressWarnings("unchecked")
+    private void addLevel() {
+        ArrayDeque<Entry<T>>[] buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        levels.add(buckets);
+    }
+
+    /**
+     * A scheduled item and the tick it falls due on.
+     *
+     * @param <T> The type of the item
+     */
+    private static final class Entry<T> {
+        private final T item;
+        private final long dueTick;
+
+        /**
+         * Creates an entry.
+         *
+         * @param item    The item
+         * @param dueTick The tick the item falls due on
+         */
+        private Entry(T item, long dueTick) {
+            this.item = item;
+            this.dueTick = dueTick;
+        }
+    }
+}
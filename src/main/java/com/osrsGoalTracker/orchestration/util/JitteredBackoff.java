@@ -0,0 +1,44 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter.
+ * The delay for an attempt is a random value between zero and the capped
+ * exponential delay, which spreads retries from concurrent callers apart.
+ */
+public class JitteredBackoff {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Creates a backoff with the given base and maximum delays.
+     *
+     * @param baseDelay The delay ceiling for the first retry
+     * @param maxDelay  The upper bound for any delay
+     */
+    public JitteredBackoff(Duration baseDelay, Duration maxDelay) {
+        if (baseDelay.isNegative() || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Backoff delays cannot be negative");
+        }
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    /**
+     * Computes the delay before the given retry.
+     *
+     * @param retry The retry number, starting at 1
+     * @return The delay in milliseconds
+     */
+    public long delayMillis(int retry) {
+        int shift = Math.min(Math.max(retry - 1, 0), 30);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << shift);
+        if (ceiling <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
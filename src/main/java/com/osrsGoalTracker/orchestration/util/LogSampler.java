@@ -0,0 +1,47 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether an individual request should have its full payload logged.
+ * A rate of 0 never samples, a rate of 1 always samples, and anything in
+ * between samples that fraction of requests at random.
+ */
+public class LogSampler {
+
+    private final double rate;
+
+    /**
+     * Creates a sampler with the given rate.
+     *
+     * @param rate The fraction of requests to sample, between 0 and 1
+     * @throws IllegalArgumentException if the rate is outside [0, 1]
+     */
+    public LogSampler(double rate) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1, got " + rate);
+        }
+        this.rate = rate;
+    }
+
+    /**
+     * Decides whether the current request is sampled.
+     *
+     * @return true if the payload should be logged
+     */
+    public boolean sample() {
+        if (rate <= 0.0) {
+            return false;
+        }
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Gets the sample rate.
+     *
+     * @return The fraction of requests that are sampled
+     */
+    public double getRate() {
+        return rate;
+    }
+}
@@ -0,0 +1,91 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Collects the metrics of one invocation and emits them together when the
+ * invocation ends. A metric recorded several times in one invocation keeps
+ * every value, so latencies can be aggregated into percentiles downstream.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records a latency.
+     *
+     * @param name  The metric name
+     * @param nanos The latency in nanoseconds
+     */
+    void recordLatency(String name, long nanos);
+
+    /**
+     * Adds to a count.
+     *
+     * @param name  The metric name
+     * @param count The amount to add
+     */
+    void count(String name, long count);
+
+    /**
+     * Records a unitless value, such as a rate or a state.
+     *
+     * @param name  The metric name
+     * @param value The value
+     */
+    void gauge(String name, double value);
+
+    /**
+     * Attaches a value to the invocation that is searchable but is not a metric,
+     * such as a request ID.
+     *
+     * @param name  The property name
+     * @param value The property value
+     */
+    void property(String name, Object value);
+
+    /**
+     * Emits everything recorded since the last flush and starts over.
+     */
+    void flush();
+
+    /**
+     * Wraps a task handed to another thread so that what it records lands in
+     * the current invocation. A recorder shared by every thread returns the
+     * task as it is.
+     *
+     * @param task The task
+     * @param <T>  The task's result type
+     * @return The wrapped task
+     */
+    default <T> Supplier<T> propagate(Supplier<T> task) {
+        return task;
+    }
+
+    /**
+     * Returns a recorder that drops everything.
+     *
+     * @return The recorder
+     */
+    static MetricsRecorder discarding() {
+        return new MetricsRecorder() {
+            @Override
+            public void recordLatency(String name, long nanos) {
+            }
+
+            @Override
+            public void count(String name, long count) {
+            }
+
+            @Override
+            public void gauge(String name, double value) {
+            }
+
+            @Override
+            public void property(String name, Object value) {
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+    }
+}
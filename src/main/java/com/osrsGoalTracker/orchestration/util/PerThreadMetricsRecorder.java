@@ -0,0 +1,106 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.util.function.Supplier;
+
+/**
+ * MetricsRecorder that gives every thread a recorder of its own, for a
+ * process that handles many invocations at once. A recorder such as
+ * EmfMetricsRecorder holds one invocation at a time, so invocations running
+ * side by side would otherwise flush each other's metrics. When each request
+ * runs on its own thread, as on the HTTP server's virtual threads, each
+ * request gets its own EMF line. Work a request hands to other threads is
+ * wrapped with propagate, so it records into the request's recorder. The
+ * thread's recorder is dropped when it flushes.
+ */
+public class PerThreadMetricsRecorder implements MetricsRecorder {
+
+    private final ThreadLocal<MetricsRecorder> recorders;
+
+    /**
+     * Creates a recorder.
+     *
+     * @param factory Creates the recorder for a thread
+     */
+    public PerThreadMetricsRecorder(Supplier<MetricsRecorder> factory) {
+        this.recorders = ThreadLocal.withInitial(factory);
+    }
+
+    /**
+     * Records a latency on the current thread's recorder.
+     *
+     * @param name  The metric name
+     * @param nanos The latency in nanoseconds
+     */
+    @Override
+    public void recordLatency(String name, long nanos) {
+        recorders.get().recordLatency(name, nanos);
+    }
+
+    /**
+     * Adds to a count on the current thread's recorder.
+     *
+     * @param name  The metric name
+     * @param count The amount to add
+     */
+    @Override
+    public void count(String name, long count) {
+        recorders.get().count(name, count);
+    }
+
+    /**
+     * Records a unitless value on the current thread's recorder.
+     *
+     * @param name  The metric name
+     * @param value The value
+     */
+    @Override
+    public void gauge(String name, double value) {
+        recorders.get().gauge(name, value);
+    }
+
+    /**
+     * Attaches a property on the current thread's recorder.
+     *
+     * @param name  The property name
+     * @param value The property value
+     */
+    @Override
+    public void property(String name, Object value) {
+        recorders.get().property(name, value);
+    }
+
+    /**
+     * Wraps a task so that it records into the current thread's recorder on
+     * whichever thread it runs. The recorder the running thread had before is
+     * restored when the task ends.
+     *
+     * @param task The task
+     * @param <T>  The task's result type
+     * @return The wrapped task
+     */
+    @Override
+    public <T> Supplier<T> propagate(Supplier<T> task) {
+        MetricsRecorder caller = recorders.get();
+        return () -> {
+            MetricsRecorder previous = recorders.get();
+            recorders.set(caller);
+            try {
+                return task.get();
+            } finally {
+                recorders.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Emits what the current thread recorded and drops its recorder.
+     */
+    @Override
+    public void flush() {
+        try {
+            recorders.get().flush();
+        } finally {
+            recorders.remove();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out calls to a fixed rate, shared by every thread that uses it.
+ * Each caller reserves the next free slot and sleeps until it comes round, so
+ * callers are admitted in the order they arrived and never faster than the
+ * rate. A limiter that has been idle does not save up permits for a burst.
+ * Sleeping is cheap on virtual threads, which is what it is meant to run on.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param permitsPerSecond The number of calls allowed per second
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public RateLimiter(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive, got " + permitsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Waits until the caller may proceed.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
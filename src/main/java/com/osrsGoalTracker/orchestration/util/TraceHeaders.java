@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.orchestration.util;
+
+/**
+ * Reads the trace header of the current Lambda invocation. The Java runtime
+ * sets it as a system property for each invocation when tracing is active;
+ * the environment variable holds it for the first invocation and in other
+ * runtimes.
+ */
+public final class TraceHeaders {
+
+    static final String TRACE_HEADER_PROPERTY = "com.amazonaws.xray.traceHeader";
+    static final String TRACE_HEADER_ENV = "_X_AMZN_TRACE_ID";
+
+    /**
+     * Prevents instantiation.
+     */
+    private TraceHeaders() {
+    }
+
+    /**
+     * Returns the X-Ray trace header of the current invocation.
+     *
+     * @return The trace header, or null outside a traced invocation
+     */
+    public static String current() {
+        String header = System.getProperty(TRACE_HEADER_PROPERTY);
+        if (header == null || header.isBlank()) {
+            header = System.getenv(TRACE_HEADER_ENV);
+        }
+        return header == null || header.isBlank() ? null : header;
+    }
+}
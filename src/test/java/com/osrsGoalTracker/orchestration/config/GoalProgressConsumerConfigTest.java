@@ -0,0 +1,110 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.model.ProgressCoalescing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the GoalProgressConsumerConfig.
+ */
+class GoalProgressConsumerConfigTest {
+
+    private Map<String, String> environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new HashMap<>();
+        environment.put("GOAL_PROGRESS_TABLE_NAME", "goal-progress");
+    }
+
+    @Test
+    void testFromEnvironment_withRequiredValuesOnly_usesDefaults() {
+        // When
+        GoalProgressConsumerConfig config = GoalProgressConsumerConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals("goal-progress", config.getGoalProgressTableName());
+        assertEquals(ProgressCoalescing.MAX, config.getCoalescing());
+        assertEquals(4, config.getWriteParallelism());
+        assertEquals(4, config.getWriteMaxAttempts());
+        assertTrue(config.isMetricsEnabled());
+        assertEquals("OsrsGoalTracker/Orchestration", config.getMetricsNamespace());
+        assertFalse(config.isProjectionEnabled());
+        assertEquals(Duration.ofDays(7), config.getProjectionHalfLife());
+        assertEquals(3, config.getProjectionMinObservations());
+    }
+
+    @Test
+    void testFromEnvironment_withProjectionEnabled_readsProjectionSettings() {
+        // Given
+        environment.put("PROJECTION_ENABLED", "true");
+        environment.put("PROJECTION_HALF_LIFE_HOURS", "48");
+        environment.put("EVENT_BUS_NAME", "goal-events");
+
+        // When
+        GoalProgressConsumerConfig config = GoalProgressConsumerConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertTrue(config.isProjectionEnabled());
+        assertEquals(Duration.ofHours(48), config.getProjectionHalfLife());
+        assertEquals("goal-events", config.getEventBusName());
+        assertEquals("GoalAtRiskEvent", config.getAtRiskEventDetailType());
+        assertEquals("com.osrsGoalTracker.orchestration", config.getEventSource());
+    }
+
+    @Test
+    void testFromEnvironment_withProjectionEnabledAndNoEventBus_reportsProblem() {
+        // Given
+        environment.put("PROJECTION_ENABLED", "true");
+        environment.put("PROJECTION_MIN_OBSERVATIONS", "1");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> GoalProgressConsumerConfig.fromEnvironment(environment::get));
+
+        // Then
+        String message = exception.getMessage();
+        assertTrue(message.contains("EVENT_BUS_NAME is required when PROJECTION_ENABLED is true"));
+        assertTrue(message.contains("PROJECTION_MIN_OBSERVATIONS must be between 2 and 1000"));
+    }
+
+    @Test
+    void testFromEnvironment_withCoalescingInLowerCase_readsStrategy() {
+        // Given
+        environment.put("PROGRESS_COALESCING", "latest");
+
+        // When
+        GoalProgressConsumerConfig config = GoalProgressConsumerConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals(ProgressCoalescing.LATEST, config.getCoalescing());
+    }
+
+    @Test
+    void testFromEnvironment_withInvalidValues_reportsEveryProblem() {
+        // Given
+        environment.remove("GOAL_PROGRESS_TABLE_NAME");
+        environment.put("PROGRESS_COALESCING", "sum");
+        environment.put("PROGRESS_WRITE_PARALLELISM", "0");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> GoalProgressConsumerConfig.fromEnvironment(environment::get));
+
+        // Then
+        String message = exception.getMessage();
+        assertTrue(message.contains("GOAL_PROGRESS_TABLE_NAME is required"));
+        assertTrue(message.contains("PROGRESS_COALESCING must be one of [LATEST, MAX]"));
+        assertTrue(message.contains("PROGRESS_WRITE_PARALLELISM must be between 1 and 64"));
+    }
+}
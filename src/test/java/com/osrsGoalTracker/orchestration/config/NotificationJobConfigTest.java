@@ -0,0 +1,78 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the NotificationJobConfig.
+ */
+class NotificationJobConfigTest {
+
+    private Map<String, String> environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new HashMap<>();
+        environment.put("GOALS_TABLE_NAME", "goals");
+        environment.put("NOTIFICATION_SCHEDULE_TABLE_NAME", "notification-schedule");
+    }
+
+    @Test
+    void testFromEnvironment_withRequiredValuesOnly_usesDefaults() {
+        // When
+        NotificationJobConfig config = NotificationJobConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals("goals", config.getGoalsTableName());
+        assertEquals("notification-schedule", config.getNotificationScheduleTableName());
+        assertNull(config.getRefreshCursorTableName());
+        assertNull(config.getDiscordWebhookUri());
+        assertNull(config.getEmailRelayUri());
+        assertEquals(Duration.ofMinutes(1), config.getTick());
+        assertEquals(60, config.getWheelSize());
+        assertEquals(30, config.getDiscordRequestsPerMinute());
+        assertEquals(3, config.getMaxAttempts());
+    }
+
+    @Test
+    void testFromEnvironment_withChannelEndpoints_readsThem() {
+        // Given
+        environment.put("DISCORD_WEBHOOK_URL", "http://localhost:8080/webhook");
+        environment.put("EMAIL_RELAY_URL", "http://localhost:8081/send");
+        environment.put("EMAIL_BATCH_SIZE", "10");
+
+        // When
+        NotificationJobConfig config = NotificationJobConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals(URI.create("http://localhost:8080/webhook"), config.getDiscordWebhookUri());
+        assertEquals(URI.create("http://localhost:8081/send"), config.getEmailRelayUri());
+        assertEquals(10, config.getEmailBatchSize());
+    }
+
+    @Test
+    void testFromEnvironment_withMissingTableAndShortTick_reportsEveryProblem() {
+        // Given
+        environment.remove("NOTIFICATION_SCHEDULE_TABLE_NAME");
+        environment.put("NOTIFICATION_TICK_MS", "10");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> NotificationJobConfig.fromEnvironment(environment::get));
+
+        // Then
+        String message = exception.getMessage();
+        assertTrue(message.contains("NOTIFICATION_SCHEDULE_TABLE_NAME is required"));
+        assertTrue(message.contains("NOTIFICATION_TICK_MS must be between 1000 and 86400000"));
+    }
+}
@@ -0,0 +1,278 @@
+package com.osrsGoalTracker.orchestration.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.model.EventTransport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the OrchestrationConfig.
+ */
+class OrchestrationConfigTest {
+
+    private Map<String, String> environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new HashMap<>();
+        environment.put("EVENT_BUS_NAME", "test-event-bus");
+        environment.put("GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE", "test-detail-type");
+    }
+
+    @Test
+    void testFromEnvironment_withRequiredValuesOnly_usesDefaults() {
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals("test-event-bus", config.getEventBusName());
+        assertEquals("test-detail-type", config.getDetailType());
+        assertEquals("com.osrsGoalTracker.orchestration", config.getEventSource());
+        assertNull(config.getRegion());
+        assertEquals(10, config.getPublishBatchSize());
+        assertEquals(100, config.getMaxBulkItems());
+        assertEquals(4, config.getPublishMaxAttempts());
+        assertEquals(Duration.ofMillis(50), config.getPublishRetryBaseDelay());
+        assertEquals(0.01, config.getPayloadSampleRate());
+        assertTrue(config.isPrimeOnInit());
+        assertFalse(config.isEventEnvelopeEnabled());
+        assertNull(config.getIdempotencyTableName());
+        assertEquals(Duration.ofHours(24), config.getIdempotencyTtl());
+        assertEquals(Duration.ofSeconds(30), config.getIdempotencyClaimLease());
+        assertFalse(config.isSnapshotCacheEnabled());
+        assertNull(config.getDynamoDbEndpoint());
+    }
+
+    @Test
+    void testFromEnvironment_withOverrides_readsTypedValues() {
+        // Given
+        environment.put("AWS_REGION", "eu-west-2");
+        environment.put("PUBLISH_BATCH_SIZE", "5");
+        environment.put("PUBLISH_RETRY_MAX_DELAY_MS", "250");
+        environment.put("TRANSPORT_API_CALL_TIMEOUT_MS", "1500");
+        environment.put("LOG_PAYLOAD_SAMPLE_RATE", "0.5");
+        environment.put("PRIME_ON_INIT", "FALSE");
+        environment.put("EVENT_ENVELOPE_ENABLED", "true");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals("eu-west-2", config.getRegion());
+        assertEquals(5, config.getPublishBatchSize());
+        assertEquals(Duration.ofMillis(250), config.getPublishRetryMaxDelay());
+        assertEquals(Duration.ofMillis(1500), config.getTransportApiCallTimeout());
+        assertEquals(0.5, config.getPayloadSampleRate());
+        assertFalse(config.isPrimeOnInit());
+        assertTrue(config.isEventEnvelopeEnabled());
+    }
+
+    @Test
+    void testFromEnvironment_withMissingEventBus_failsFast() {
+        // Given
+        environment.remove("EVENT_BUS_NAME");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> OrchestrationConfig.fromEnvironment(environment::get));
+
+        // Then
+        assertTrue(exception.getMessage().contains("EVENT_BUS_NAME is required"));
+    }
+
+    @Test
+    void testFromEnvironment_withSeveralInvalidValues_reportsEveryProblem() {
+        // Given
+        environment.put("GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE", " ");
+        environment.put("PUBLISH_BATCH_SIZE", "25");
+        environment.put("PUBLISH_MAX_ATTEMPTS", "many");
+        environment.put("LOG_PAYLOAD_SAMPLE_RATE", "2");
+        environment.put("PRIME_ON_INIT", "yes");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> OrchestrationConfig.fromEnvironment(environment::get));
+
+        // Then
+        String message = exception.getMessage();
+        assertTrue(message.contains("GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE is required"));
+        assertTrue(message.contains("PUBLISH_BATCH_SIZE must be between 1 and 10"));
+        assertTrue(message.contains("PUBLISH_MAX_ATTEMPTS must be an integer"));
+        assertTrue(message.contains("LOG_PAYLOAD_SAMPLE_RATE must be between 0 and 1"));
+        assertTrue(message.contains("PRIME_ON_INIT must be true or false"));
+    }
+
+    @Test
+    void testFromEnvironment_withMaxDelayBelowBaseDelay_failsFast() {
+        // Given
+        environment.put("PUBLISH_RETRY_BASE_DELAY_MS", "500");
+        environment.put("PUBLISH_RETRY_MAX_DELAY_MS", "100");
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> OrchestrationConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void testFromEnvironment_withIdempotencySettings_readsTableAndEndpoint() {
+        // Given
+        environment.put("IDEMPOTENCY_TABLE_NAME", "idempotency");
+        environment.put("IDEMPOTENCY_TTL_SECONDS", "600");
+        environment.put("IDEMPOTENCY_CLAIM_LEASE_SECONDS", "15");
+        environment.put("DYNAMODB_ENDPOINT", "http://localhost:8000");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals("idempotency", config.getIdempotencyTableName());
+        assertEquals(Duration.ofMinutes(10), config.getIdempotencyTtl());
+        assertEquals(Duration.ofSeconds(15), config.getIdempotencyClaimLease());
+        assertEquals(URI.create("http://localhost:8000"), config.getDynamoDbEndpoint());
+    }
+
+    @Test
+    void testFromEnvironment_withSnapshotCacheSettings_readsTableTtlAndSize() {
+        // Given
+        environment.put("SNAPSHOT_CACHE_ENABLED", "true");
+        environment.put("CHARACTER_SNAPSHOT_TABLE_NAME", "character-snapshots");
+        environment.put("SNAPSHOT_CACHE_TTL_SECONDS", "60");
+        environment.put("SNAPSHOT_CACHE_SIZE", "500");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertTrue(config.isSnapshotCacheEnabled());
+        assertEquals("character-snapshots", config.getCharacterSnapshotTableName());
+        assertEquals(Duration.ofMinutes(1), config.getSnapshotCacheTtl());
+        assertEquals(500, config.getSnapshotCacheSize());
+    }
+
+    @Test
+    void testFromEnvironment_withSnapshotCacheAndNoTable_failsFast() {
+        // Given
+        environment.put("SNAPSHOT_CACHE_ENABLED", "true");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> OrchestrationConfig.fromEnvironment(environment::get));
+
+        // Then
+        assertTrue(exception.getMessage().contains("CHARACTER_SNAPSHOT_TABLE_NAME is required"));
+    }
+
+    @Test
+    void testFromEnvironment_withMalformedDynamoDbEndpoint_failsFast() {
+        // Given
+        environment.put("DYNAMODB_ENDPOINT", "http://dynamodb local:8000");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> OrchestrationConfig.fromEnvironment(environment::get));
+
+        // Then
+        assertTrue(exception.getMessage().contains("DYNAMODB_ENDPOINT"));
+    }
+
+    @Test
+    void testFromEnvironment_withKinesisTransport_readsStreamWithoutEventBus() {
+        // Given
+        environment.remove("EVENT_BUS_NAME");
+        environment.put("EVENT_TRANSPORT", "kinesis");
+        environment.put("KINESIS_STREAM_NAME", "goal-events");
+        environment.put("KINESIS_ENDPOINT", "http://localhost:4566");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals(EventTransport.KINESIS, config.getEventTransport());
+        assertEquals("goal-events", config.getKinesisStreamName());
+        assertEquals(URI.create("http://localhost:4566"), config.getKinesisEndpoint());
+        assertNull(config.getEventBusName());
+    }
+
+    @Test
+    void testFromEnvironment_withSqsTransportAndNoQueue_failsFast() {
+        // Given
+        environment.put("EVENT_TRANSPORT", "SQS");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> OrchestrationConfig.fromEnvironment(environment::get));
+
+        // Then
+        assertTrue(exception.getMessage().contains("SQS_QUEUE_URL is required when EVENT_TRANSPORT is SQS"));
+    }
+
+    @Test
+    void testFromEnvironment_withOutboxSettings_readsTableAndRetention() {
+        // Given
+        environment.put("OUTBOX_TABLE_NAME", "outbox");
+        environment.put("OUTBOX_RETENTION_SECONDS", "86400");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals("outbox", config.getOutboxTableName());
+        assertEquals(Duration.ofDays(1), config.getOutboxRetention());
+    }
+
+    @Test
+    void testFromEnvironment_withMetricsSettings_readsEnabledAndNamespace() {
+        // Given
+        environment.put("METRICS_ENABLED", "false");
+        environment.put("METRICS_NAMESPACE", "Custom/Namespace");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertFalse(config.isMetricsEnabled());
+        assertEquals("Custom/Namespace", config.getMetricsNamespace());
+    }
+
+    @Test
+    void testFromEnvironment_withServerSettings_readsPortTimeoutsAndBodyLimit() {
+        // Given
+        environment.put("SERVER_PORT", "9090");
+        environment.put("SERVER_REQUEST_TIMEOUT_MS", "3000");
+        environment.put("SERVER_SHUTDOWN_GRACE_MS", "5000");
+        environment.put("SERVER_MAX_BODY_BYTES", "65536");
+
+        // When
+        OrchestrationConfig config = OrchestrationConfig.fromEnvironment(environment::get);
+
+        // Then
+        assertEquals(9090, config.getServerPort());
+        assertEquals(Duration.ofSeconds(3), config.getServerRequestTimeout());
+        assertEquals(Duration.ofSeconds(5), config.getServerShutdownGrace());
+        assertEquals(65_536, config.getServerMaxBodyBytes());
+    }
+
+    @Test
+    void testFromEnvironment_withInitialPublishRateAboveMax_failsFast() {
+        // Given
+        environment.put("PUBLISH_RATE_INITIAL", "2000");
+        environment.put("PUBLISH_RATE_MAX", "1000");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> OrchestrationConfig.fromEnvironment(environment::get));
+
+        // Then
+        assertTrue(exception.getMessage().contains("PUBLISH_RATE_INITIAL"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the EventEnvelopeReader.
+ */
+class EventEnvelopeReaderTest {
+
+    private static final String PAYLOAD = "{\"userId\":\"user123\",\"characterName\":\"Zezima\","
+            + "\"targetAttribute\":\"WOODCUTTING\",\"targetValue\":99,\"targetDate\":1893456000.000000000}";
+
+    private static final String ENVELOPE = "{\"type\":\"GoalCreationRequestEvent\",\"schemaVersion\":1,"
+            + "\"userId\":\"user123\",\"correlationId\":\"request-1\",\"emittedAt\":1767225600.123000000,"
+            + "\"payload\":" + PAYLOAD + "}";
+
+    private final EventEnvelopeReader reader = new EventEnvelopeReader();
+
+    @Test
+    void testRead_withEnvelope_readsHeaderAndKeepsPayloadBytes() {
+        // When
+        EventEnvelope envelope = reader.read(ENVELOPE);
+
+        // Then
+        assertTrue(envelope.isType(GoalCreationRequestEvent.EVENT_TYPE));
+        assertEquals(1, envelope.getSchemaVersion());
+        assertEquals("user123", envelope.getUserId());
+        assertEquals("request-1", envelope.getCorrelationId());
+        assertEquals(Instant.parse("2026-01-01T00:00:00.123Z"), envelope.getEmittedAt());
+        assertEquals(PAYLOAD, new String(envelope.getPayloadBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReadPayload_withEnvelope_bindsEvent() {
+        // When
+        GoalCreationRequestEvent event = reader.read(ENVELOPE).readPayload(GoalCreationRequestEvent.class);
+
+        // Then
+        assertEquals("Zezima", event.getCharacterName());
+        assertEquals(99, event.getTargetValue());
+        assertEquals(Instant.parse("2030-01-01T00:00:00Z"), event.getTargetDate());
+    }
+
+    @Test
+    void testRead_withPayloadBeforeHeaderAndMultiByteText_findsPayload() {
+        // Given
+        String payload = "{\"characterName\":\"Z\u00e9zima\",\"extra\":[{\"nested\":\"}\"}]}";
+        String document = "{\"payload\":" + payload + ",\"schemaVersion\":1,\"type\":\"GoalCreationRequestEvent\"}";
+
+        // When
+        EventEnvelope envelope = reader.read(document);
+
+        // Then
+        assertEquals(payload, new String(envelope.getPayloadBytes(), StandardCharsets.UTF_8));
+        assertEquals("Z\u00e9zima", envelope.readPayload(GoalCreationRequestEvent.class).getCharacterName());
+    }
+
+    @Test
+    void testRead_withEventWithoutEnvelope_readsWholeDocumentAsLegacyPayload() {
+        // When
+        EventEnvelope envelope = reader.read(PAYLOAD);
+
+        // Then
+        assertNull(envelope.getType());
+        assertFalse(envelope.isType(GoalCreationRequestEvent.EVENT_TYPE));
+        assertEquals(EventEnvelope.LEGACY_SCHEMA_VERSION, envelope.getSchemaVersion());
+        assertEquals("user123", envelope.getUserId());
+        assertEquals("Zezima", envelope.readPayload(GoalCreationRequestEvent.class).getCharacterName());
+    }
+
+    @Test
+    void testReadPayload_withOlderSchemaVersion_appliesUpcastersInOrder() {
+        // Given
+        EventUpcasters upcasters = EventUpcasters.builder()
+                .register(GoalCreationRequestEvent.EVENT_TYPE, 2, payload -> {
+                    String attribute = payload.get("targetAttribute").asText();
+                    payload.put("targetAttribute", attribute.toUpperCase(Locale.ROOT));
+                    return payload;
+                })
+                .register(GoalCreationRequestEvent.EVENT_TYPE, 1, payload -> {
+                    payload.set("targetAttribute", payload.remove("skill"));
+                    return payload;
+                })
+                .build();
+        String document = "{\"type\":\"GoalCreationRequestEvent\",\"schemaVersion\":1,"
+                + "\"payload\":{\"skill\":\"woodcutting\",\"targetValue\":99}}";
+
+        // When
+        GoalCreationRequestEvent event = new EventEnvelopeReader(upcasters).read(document)
+                .readPayload(GoalCreationRequestEvent.class);
+
+        // Then
+        assertEquals(3, upcasters.currentVersion(GoalCreationRequestEvent.EVENT_TYPE));
+        assertEquals("WOODCUTTING", event.getTargetAttribute());
+        assertEquals(99, event.getTargetValue());
+    }
+
+    @Test
+    void testBuild_withGapInUpcasters_throwsIllegalArgumentException() {
+        // Given
+        EventUpcasters.Builder builder = EventUpcasters.builder()
+                .register(GoalCreationRequestEvent.EVENT_TYPE, 2, payload -> payload);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "[1]",
+        "{\"schemaVersion\":1,\"payload\":{}}",
+        "{\"type\":\"GoalCreationRequestEvent\",\"schemaVersion\":0,\"payload\":{}}",
+        "{\"type\":\"GoalCreationRequestEvent\",\"schemaVersion\":1,\"payload\":\"{}\"}",
+        "{\"type\":\"GoalCreationRequestEvent\",\"schemaVersion\":1,\"emittedAt\":\"yesterday\",\"payload\":{}}",
+        "invalid json"
+    })
+    void testRead_withInvalidEnvelope_throwsIllegalArgumentException(String document) {
+        assertThrows(IllegalArgumentException.class, () -> reader.read(document));
+    }
+}
@@ -0,0 +1,95 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the EventLatencyTracker.
+ */
+class EventLatencyTrackerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2030-01-01T00:01:00Z");
+
+    private List<String> lines;
+    private EmfMetricsRecorder metrics;
+    private EventLatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        lines = new ArrayList<>();
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        metrics = new EmfMetricsRecorder("Test", Map.of("Handler", "Test"), lines::add, clock);
+        tracker = new EventLatencyTracker(metrics, clock);
+    }
+
+    @Test
+    void testRecord_withGoalCreationRequestEvent_recordsLagAndPipelineLatency() throws Exception {
+        // Given
+        GoalCreationRequestEvent event = GoalCreationRequestEvent.builder()
+                .userId("user123")
+                .ingestedAt(NOW.minusSeconds(5))
+                .correlationId("request-1")
+                .build();
+
+        // When
+        tracker.record(event, NOW.minusMillis(250));
+        metrics.flush();
+
+        // Then
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(250.0, line.get(EventLatencyTracker.BUS_LAG).asDouble());
+        assertEquals(5_000.0, line.get(EventLatencyTracker.PIPELINE_LATENCY).asDouble());
+    }
+
+    @Test
+    void testRecord_withUnstampedEventAndUnknownEnqueueTime_recordsNothing() {
+        // Given
+        GoalProgressUpdateEvent event = new GoalProgressUpdateEvent();
+
+        // When
+        tracker.record(event, null);
+        metrics.flush();
+
+        // Then
+        assertEquals(List.of(), lines);
+    }
+
+    @Test
+    void testPipelineLatency_withIngestTimeAheadOfClock_returnsZero() {
+        // Given
+        GoalProgressUpdateEvent event = new GoalProgressUpdateEvent();
+        event.setIngestedAt(NOW.plusMillis(40));
+
+        // When
+        Duration latency = tracker.pipelineLatency(event);
+
+        // Then
+        assertEquals(Duration.ZERO, latency);
+        assertEquals(Duration.ofSeconds(60), tracker.busLag(Instant.parse("2030-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void testSqsSentAt_readsSentTimestampAttribute() {
+        // When / Then
+        assertEquals(Instant.ofEpochMilli(1_893_456_000_123L),
+                EventLatencyTracker.sqsSentAt(Map.of("SentTimestamp", "1893456000123")));
+        assertNull(EventLatencyTracker.sqsSentAt(Map.of("SentTimestamp", "yesterday")));
+        assertNull(EventLatencyTracker.sqsSentAt(null));
+    }
+}
@@ -0,0 +1,135 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the ExperienceTable.
+ */
+class ExperienceTableTest {
+
+    /** Levels and their experience as published in the official OSRS experience table. */
+    private static final int[][] OFFICIAL_MILESTONES = {
+        {1, 0}, {2, 83}, {10, 1_154}, {20, 4_470}, {30, 13_363}, {40, 37_224}, {50, 101_333}, {60, 273_742},
+        {70, 737_627}, {80, 1_986_068}, {85, 3_258_594}, {90, 5_346_332}, {92, 6_517_253}, {99, 13_034_431},
+        {120, 104_273_167}, {126, 188_884_740}};
+
+    @Test
+    void testXpForLevel_withEveryLevel_matchesGameFormula() {
+        // Given
+        long points = 0;
+        for (int level = ExperienceTable.MIN_LEVEL; level <= ExperienceTable.MAX_VIRTUAL_LEVEL; level++) {
+            // When
+            int xp = ExperienceTable.xpForLevel(level);
+
+            // Then
+            assertEquals(points / 4, xp, "level " + level);
+            points += (long) Math.floor(level + 300 * StrictMath.pow(2, level / 7.0));
+        }
+    }
+
+    @Test
+    void testXpForLevel_withOfficialMilestones_matchesOfficialTable() {
+        for (int[] milestone : OFFICIAL_MILESTONES) {
+            // When
+            int xp = ExperienceTable.xpForLevel(milestone[0]);
+
+            // Then
+            assertEquals(milestone[1], xp, "level " + milestone[0]);
+        }
+    }
+
+    @Test
+    void testVirtualLevelForXp_withEveryXpValue_matchesTable() {
+        // Given
+        int expected = ExperienceTable.MIN_LEVEL;
+        for (int xp = 0; xp <= ExperienceTable.MAX_XP; xp++) {
+            if (expected < ExperienceTable.MAX_VIRTUAL_LEVEL && xp == ExperienceTable.xpForLevel(expected + 1)) {
+                expected++;
+            }
+
+            // When
+            int level = ExperienceTable.virtualLevelForXp(xp);
+
+            // Then
+            if (level != expected) {
+                assertEquals(expected, level, "xp " + xp);
+            }
+        }
+    }
+
+    @Test
+    void testLevelForXp_withXpPastLevel99_returns99() {
+        // When
+        int atCap = ExperienceTable.levelForXp(ExperienceTable.MAX_XP);
+        int justBelow99 = ExperienceTable.levelForXp(13_034_430);
+
+        // Then
+        assertEquals(ExperienceTable.MAX_LEVEL, atCap);
+        assertEquals(98, justBelow99);
+        assertEquals(ExperienceTable.MAX_VIRTUAL_LEVEL, ExperienceTable.virtualLevelForXp(ExperienceTable.MAX_XP));
+    }
+
+    @Test
+    void testXpToNextLevel_withXpWithinLevel_returnsDistanceToNextLevel() {
+        // When
+        long fromLevel1 = ExperienceTable.xpToNextLevel(0);
+        long from98 = ExperienceTable.xpToNextLevel(12_000_000);
+        long atMaxVirtual = ExperienceTable.xpToNextLevel(ExperienceTable.MAX_XP);
+
+        // Then
+        assertEquals(83, fromLevel1);
+        assertEquals(1_034_431, from98);
+        assertEquals(0, atMaxVirtual);
+    }
+
+    @Test
+    void testXpRemaining_withTargetAheadOrBehind_returnsRemainingOrZero() {
+        // When
+        long ahead = ExperienceTable.xpRemaining(3_258_594, 13_034_431);
+        long reached = ExperienceTable.xpRemaining(13_034_432, 13_034_431);
+
+        // Then
+        assertEquals(9_775_837, ahead);
+        assertEquals(0, reached);
+    }
+
+    @Test
+    void testPercentComplete_withTargetFromZero_returnsShareOfTargetXp() {
+        // When
+        double percent = ExperienceTable.percentComplete(3_258_594, 13_034_431);
+
+        // Then
+        assertEquals(25.0, percent, 0.01);
+    }
+
+    @Test
+    void testPercentComplete_withStartingXp_countsFromStart() {
+        // When
+        double halfway = ExperienceTable.percentComplete(1_000, 2_000, 3_000);
+        double notStarted = ExperienceTable.percentComplete(1_000, 500, 3_000);
+        double passed = ExperienceTable.percentComplete(1_000, 4_000, 3_000);
+        double noDistance = ExperienceTable.percentComplete(3_000, 3_000, 3_000);
+
+        // Then
+        assertEquals(50.0, halfway);
+        assertEquals(0.0, notStarted);
+        assertEquals(100.0, passed);
+        assertEquals(100.0, noDistance);
+    }
+
+    @Test
+    void testXpForLevel_withLevelOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.xpForLevel(0));
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.xpForLevel(127));
+    }
+
+    @Test
+    void testLevelForXp_withXpOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.levelForXp(-1));
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.levelForXp(200_000_001L));
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.percentComplete(0, -5, 100));
+    }
+}
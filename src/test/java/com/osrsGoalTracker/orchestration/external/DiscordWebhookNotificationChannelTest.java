@@ -0,0 +1,135 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DiscordWebhookNotificationChannel, against a stub webhook.
+ */
+class DiscordWebhookNotificationChannelTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private DiscordWebhookNotificationChannel channel;
+    private final List<JsonNode> received = new ArrayList<>();
+    private int status = 204;
+    private String retryAfter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/1/token", this::respond);
+        server.start();
+        URI webhook = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/webhooks/1/token");
+        channel = new DiscordWebhookNotificationChannel(HttpClient.newHttpClient(), webhook, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testSend_withTwoDigests_postsOneEmbedPerDigest() {
+        // When
+        channel.send(List.of(digest("user-1"), digest("user-2")));
+
+        // Then
+        assertEquals(1, received.size());
+        JsonNode embeds = received.get(0).path("embeds");
+        assertEquals(2, embeds.size());
+        assertEquals("Goal progress for user-1", embeds.get(0).path("title").asText());
+        assertEquals("- Zezima: WOODCUTTING\n", embeds.get(0).path("description").asText());
+    }
+
+    @Test
+    void testSend_whenRateLimited_reportsRetryAfter() {
+        // Given
+        status = 429;
+        retryAfter = "1.5";
+
+        // When
+        NotificationDeliveryException exception = assertThrows(NotificationDeliveryException.class,
+                () -> channel.send(List.of(digest("user-1"))));
+
+        // Then
+        assertEquals(Duration.ofMillis(1_500), exception.getRetryAfter());
+    }
+
+    @Test
+    void testSend_whenWebhookFails_reportsFailureWithoutRetryAfter() {
+        // Given
+        status = 500;
+
+        // When
+        NotificationDeliveryException exception = assertThrows(NotificationDeliveryException.class,
+                () -> channel.send(List.of(digest("user-1"))));
+
+        // Then
+        assertNull(exception.getRetryAfter());
+    }
+
+    @Test
+    void testSend_withTooManyDigests_throwsException() {
+        // Given
+        List<NotificationDigest> digests = new ArrayList<>();
+        for (int i = 0; i <= DiscordWebhookNotificationChannel.MAX_EMBEDS_PER_MESSAGE; i++) {
+            digests.add(digest("user-" + i));
+        }
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> channel.send(digests));
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            received.add(OBJECT_MAPPER.readTree(body));
+        }
+        if (retryAfter != null) {
+            exchange.getResponseHeaders().add("Retry-After", retryAfter);
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static NotificationDigest digest(String userId) {
+        return NotificationDigest.builder()
+                .userId(userId)
+                .channelType(NotificationChannelType.DISCORD)
+                .sentAt(Instant.parse("2025-06-02T09:00:00Z"))
+                .notifications(List.of(GoalNotification.builder()
+                        .userId(userId)
+                        .goalId("goal-1")
+                        .characterName("Zezima")
+                        .targetAttribute("WOODCUTTING")
+                        .channelType(NotificationChannelType.DISCORD)
+                        .frequency(NotificationFrequency.DAILY)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.osrsGoalTracker.orchestration.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.CharacterHiscores;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the HttpHiscoreClient, against a stub hiscores server.
+ */
+class HttpHiscoreClientTest {
+
+    private static final String ZEZIMA = "{\"skills\":["
+            + "{\"id\":0,\"name\":\"Overall\",\"rank\":1,\"level\":2277,\"xp\":4600000000},"
+            + "{\"id\":8,\"name\":\"Woodcutting\",\"rank\":5,\"level\":99,\"xp\":13034431},"
+            + "{\"id\":9,\"name\":\"Fletching\",\"rank\":-1,\"level\":1,\"xp\":-1}],"
+            + "\"activities\":[{\"id\":6,\"name\":\"Clue Scrolls (all)\",\"rank\":10,\"score\":512}]}";
+
+    private HttpServer server;
+    private HttpHiscoreClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/m=hiscore_oldschool/index_lite.json", this::respond);
+        server.start();
+        URI baseUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/m=hiscore_oldschool");
+        client = new HttpHiscoreClient(HttpClient.newHttpClient(), baseUri, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testFetch_withRankedCharacter_returnsValues() {
+        // When
+        Optional<CharacterHiscores> hiscores = client.fetch("Zezima");
+
+        // Then
+        assertTrue(hiscores.isPresent());
+        assertEquals(13_034_431L, hiscores.get().getValues().get("WOODCUTTING"));
+        assertEquals(4_600_000_000L, hiscores.get().getValues().get("OVERALL"));
+        assertEquals(512L, hiscores.get().getValues().get("CLUE_SCROLLS_ALL"));
+        assertFalse(hiscores.get().getValues().containsKey("FLETCHING"));
+    }
+
+    @Test
+    void testFetch_withUnknownCharacter_returnsEmpty() {
+        // When / Then
+        assertTrue(client.fetch("Nobody Here").isEmpty());
+    }
+
+    @Test
+    void testFetch_whenServerFails_throwsException() {
+        // When / Then
+        assertThrows(HiscoreUnavailableException.class, () -> client.fetch("Broken"));
+    }
+
+    @Test
+    void testAttributeName_withPunctuation_returnsUpperSnakeCase() {
+        // When / Then
+        assertEquals("CLUE_SCROLLS_ALL", HttpHiscoreClient.attributeName("Clue Scrolls (all)"));
+        assertEquals("LMS_RANK", HttpHiscoreClient.attributeName("LMS - Rank"));
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        int status;
+        String body;
+        if ("player=Zezima".equals(query)) {
+            status = 200;
+            body = ZEZIMA;
+        } else if ("player=Broken".equals(query)) {
+            status = 500;
+            body = "error";
+        } else {
+            status = 404;
+            body = "not found";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for the GoalCreationHttpServer.
+ */
+class GoalCreationHttpServerTest {
+
+    private static final String BODY = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\","
+            + "\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2099-12-31T23:59:59Z\","
+            + "\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
+
+    private GoalCreationRequestEventProducerHandler handler;
+    private GoalCreationHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler = mock(GoalCreationRequestEventProducerHandler.class);
+        server = new GoalCreationHttpServer(handler, new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0),
+                Duration.ofSeconds(10), Duration.ofSeconds(5), 1_024);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void testPostGoals_withBody_passesApiGatewayRequestToHandlerAndWritesItsResponse() throws Exception {
+        // Given
+        when(handler.handleRequest(any(), any())).thenReturn(response(200, "{\"message\":\"ok\"}"));
+
+        // When
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/users/user123/characters/Zezima/goals?dryRun=true"))
+                .header("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")
+                .header(GoalCreationHttpServer.REQUEST_ID_HEADER, "request-1")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"message\":\"ok\"}", response.body());
+        assertEquals("request-1", response.headers().firstValue(GoalCreationHttpServer.REQUEST_ID_HEADER).orElse(null));
+        ArgumentCaptor<APIGatewayProxyRequestEvent> request = ArgumentCaptor.forClass(APIGatewayProxyRequestEvent.class);
+        ArgumentCaptor<Context> context = ArgumentCaptor.forClass(Context.class);
+        verify(handler).handleRequest(request.capture(), context.capture());
+        assertEquals("POST", request.getValue().getHttpMethod());
+        assertEquals(GoalCreationHttpServer.GOALS_RESOURCE, request.getValue().getResource());
+        assertEquals(Map.of("userId", "user123", "name", "Zezima"), request.getValue().getPathParameters());
+        assertEquals(Map.of("dryRun", "true"), request.getValue().getQueryStringParameters());
+        assertEquals(BODY, request.getValue().getBody());
+        assertTrue(request.getValue().getHeaders().entrySet().stream().anyMatch(header ->
+                header.getKey().equalsIgnoreCase("traceparent") && header.getValue().startsWith("00-0af7")));
+        assertEquals("request-1", context.getValue().getAwsRequestId());
+        assertTrue(context.getValue().getRemainingTimeInMillis() > 0);
+    }
+
+    @Test
+    void testPostGoals_withEncodedCharacterName_decodesPathParameter() throws Exception {
+        // Given
+        when(handler.handleRequest(any(), any())).thenReturn(response(200, "{}"));
+
+        // When
+        client.send(HttpRequest.newBuilder(uri("/users/user123/characters/Iron%20Man/goals"))
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        ArgumentCaptor<APIGatewayProxyRequestEvent> request = ArgumentCaptor.forClass(APIGatewayProxyRequestEvent.class);
+        verify(handler).handleRequest(request.capture(), any());
+        assertEquals("Iron Man", request.getValue().getPathParameters().get("name"));
+        assertNull(request.getValue().getQueryStringParameters());
+    }
+
+    @Test
+    void testGetGoals_returnsMethodNotAllowed() throws Exception {
+        // When
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/users/user123/characters/Zezima/goals"))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(null));
+        verify(handler, never()).handleRequest(any(), any());
+    }
+
+    @Test
+    void testUnknownPath_returnsNotFound() throws Exception {
+        // When
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/users/user123/goals"))
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(404, response.statusCode());
+        assertTrue(response.body().contains("\"error\""));
+        verify(handler, never()).handleRequest(any(), any());
+    }
+
+    @Test
+    void testPostGoals_withBodyOverLimit_returnsPayloadTooLarge() throws Exception {
+        // When
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/users/user123/characters/Zezima/goals"))
+                .POST(HttpRequest.BodyPublishers.ofString("[" + BODY + "," + BODY + "," + BODY + "," + BODY + ","
+                        + BODY + "," + BODY + "]"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(413, response.statusCode());
+        verify(handler, never()).handleRequest(any(), any());
+    }
+
+    @Test
+    void testPostGoals_withHandlerThrowing_returnsInternalError() throws Exception {
+        // Given
+        when(handler.handleRequest(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/users/user123/characters/Zezima/goals"))
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(500, response.statusCode());
+        assertEquals("{\"error\":\"Internal server error\"}", response.body());
+    }
+
+    @Test
+    void testStop_withRequestInFlight_drainsItAndRefusesNewRequests() throws Exception {
+        // Given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(handler.handleRequest(any(), any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response(200, "{\"message\":\"published\"}");
+        });
+        CompletableFuture<HttpResponse<String>> inFlight = client.sendAsync(
+                HttpRequest.newBuilder(uri("/users/user123/characters/Zezima/goals"))
+                        .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        CompletableFuture<Boolean> stopped = CompletableFuture.supplyAsync(server::stop);
+        HttpResponse<String> health = awaitDraining();
+        HttpResponse<String> refused = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(uri("/users/user123/characters/Zezima/goals"))
+                        .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+        release.countDown();
+
+        // Then
+        assertEquals(503, health.statusCode());
+        assertEquals(503, refused.statusCode());
+        assertNotNull(refused.headers().firstValue("Retry-After").orElse(null));
+        assertEquals(200, inFlight.get(5, TimeUnit.SECONDS).statusCode());
+        assertTrue(stopped.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Polls the health route until the server reports that it is draining.
+     *
+     * @return The health response
+     * @throws Exception if the server does not start draining
+     */
+    private HttpResponse<String> awaitDraining() throws Exception {
+        HttpClient healthClient = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        HttpResponse<String> health;
+        do {
+            health = healthClient.send(HttpRequest.newBuilder(uri(GoalCreationHttpServer.HEALTH_PATH)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (health.statusCode() == 503) {
+                return health;
+            }
+            Thread.sleep(10);
+        } while (System.nanoTime() < deadline);
+        return health;
+    }
+
+    /**
+     * Builds a URI on the server under test.
+     *
+     * @param path The path and query
+     * @return The URI
+     */
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+
+    /**
+     * Builds a handler response.
+     *
+     * @param statusCode The status code
+     * @param body       The body
+     * @return The response
+     */
+    private static APIGatewayProxyResponseEvent response(int statusCode, String body) {
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withHeaders(Map.of("Content-Type", "application/json"))
+                .withBody(body);
+    }
+}
@@ -0,0 +1,208 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.handler.validation.GoalCreationRequestValidator;
+import com.osrsGoalTracker.orchestration.service.EventBridgeEventPublisher;
+import com.osrsGoalTracker.orchestration.service.EventPublisher;
+import com.osrsGoalTracker.orchestration.service.IdempotencyService;
+import com.osrsGoalTracker.orchestration.service.PublishGuard;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+
+/**
+ * Startup tests for the GoalCreationRequestEventProducerHandler.
+ * Measures the time from construction to the first response and checks that
+ * priming happens before the first request.
+ */
+class GoalCreationRequestEventProducerHandlerStartupTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration STARTUP_BUDGET = Duration.ofSeconds(5);
+    private static final String BODY = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
+
+    private EventBridgeAsyncClient eventBridge;
+    private OrchestrationConfig config;
+
+    /**
+     * Test module that provides mock dependencies.
+     */
+    static class TestModule extends AbstractModule {
+        private final EventBridgeAsyncClient mockEventBridge;
+        private final OrchestrationConfig config;
+
+        TestModule(EventBridgeAsyncClient mockEventBridge, OrchestrationConfig config) {
+            this.mockEventBridge = mockEventBridge;
+            this.config = config;
+        }
+
+        @Provides
+        @Singleton
+        public OrchestrationConfig provideOrchestrationConfig() {
+            return config;
+        }
+
+        @Provides
+        @Singleton
+        public GoalCreationRequestValidator provideGoalCreationRequestValidator() {
+            return new GoalCreationRequestValidator(Clock.fixed(NOW, ZoneOffset.UTC));
+        }
+
+        @Provides
+        @Singleton
+        public EventPublisher provideEventPublisher() {
+            return new EventBridgeEventPublisher(mockEventBridge, config.getEventBusName());
+        }
+
+        @Provides
+        @Singleton
+        public IdempotencyService provideIdempotencyService() {
+            return new IdempotencyService(null, 100, Duration.ofHours(1), Duration.ofSeconds(30),
+                    Clock.systemUTC());
+        }
+
+        @Provides
+        @Singleton
+        public PublishGuard providePublishGuard() {
+            return new PublishGuard(null, null, Clock.systemUTC());
+        }
+
+        @Provides
+        @Singleton
+        public MetricsRecorder provideMetricsRecorder() {
+            return MetricsRecorder.discarding();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        eventBridge = mock(EventBridgeAsyncClient.class);
+        config = OrchestrationConfig.builder()
+                .eventBusName("test-event-bus")
+                .detailType("test-detail-type")
+                .build();
+
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(PutEventsResponse.builder().failedEntryCount(0).build()));
+        when(eventBridge.describeEventBus(any(DescribeEventBusRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(DescribeEventBusResponse.builder().build()));
+    }
+
+    @Test
+    void testConstructorToFirstResponse_isWithinBudget() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("userId", "user123", "name", "characterName"))
+                .withBody(BODY);
+
+        // When
+        long start = System.nanoTime();
+        GoalCreationRequestEventProducerHandler handler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)));
+        long constructed = System.nanoTime();
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, lambdaContext());
+        long responded = System.nanoTime();
+
+        // Then
+        Duration initTime = Duration.ofNanos(constructed - start);
+        Duration firstRequestTime = Duration.ofNanos(responded - constructed);
+        assertEquals(200, response.getStatusCode());
+        assertTrue(initTime.plus(firstRequestTime).compareTo(STARTUP_BUDGET) < 0,
+                "Constructor to first response took " + initTime.plus(firstRequestTime).toMillis() + " ms (init "
+                        + initTime.toMillis() + " ms, first request " + firstRequestTime.toMillis() + " ms)");
+    }
+
+    @Test
+    void testConstructor_warmsEventBusBeforeFirstRequest() {
+        // When
+        GoalCreationRequestEventProducerHandler handler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)));
+        handler.handleRequest(new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("userId", "user123", "name", "characterName"))
+                .withBody(BODY), lambdaContext());
+
+        // Then
+        InOrder order = inOrder(eventBridge);
+        order.verify(eventBridge).describeEventBus(any(DescribeEventBusRequest.class));
+        order.verify(eventBridge).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testConstructor_withPrimingDisabled_skipsWarmUp() {
+        // Given
+        config = config.toBuilder().primeOnInit(false).build();
+
+        // When
+        new GoalCreationRequestEventProducerHandler(Guice.createInjector(new TestModule(eventBridge, config)));
+
+        // Then
+        verify(eventBridge, times(0)).describeEventBus(any(DescribeEventBusRequest.class));
+    }
+
+    @Test
+    void testCheckpointHooks_primeBeforeCheckpointAndReconnectAfterRestore() {
+        // Given
+        config = config.toBuilder().primeOnInit(false).build();
+        GoalCreationRequestEventProducerHandler handler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)));
+        CheckpointPrimer primer = handler.getCheckpointPrimer();
+        assertNotNull(primer);
+
+        // When
+        primer.beforeCheckpoint(null);
+
+        // Then
+        verify(eventBridge, times(1)).describeEventBus(any(DescribeEventBusRequest.class));
+
+        // When
+        primer.afterRestore(null);
+
+        // Then
+        verify(eventBridge, times(2)).describeEventBus(any(DescribeEventBusRequest.class));
+        verify(eventBridge, never()).putEvents(any(PutEventsRequest.class));
+    }
+
+    /**
+     * Creates a Lambda context with time left to handle a request.
+     *
+     * @return The context
+     */
+    private static Context lambdaContext() {
+        Context context = mock(Context.class);
+        when(context.getRemainingTimeInMillis()).thenReturn(30_000);
+        return context;
+    }
+}
@@ -1,26 +1,56 @@
 package com.osrsGoalTracker.orchestration.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import com.amazonaws.services.eventbridge.AmazonEventBridge;
-import com.amazonaws.services.eventbridge.model.PutEventsRequest;
-import com.amazonaws.services.eventbridge.model.PutEventsResult;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
-import com.osrsGoalTracker.orchestration.util.EnvUtil;
+import com.osrsGoalTracker.orchestration.config.OrchestrationConfig;
+import com.osrsGoalTracker.orchestration.events.EventEnvelope;
+import com.osrsGoalTracker.orchestration.events.EventEnvelopeReader;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+import com.osrsGoalTracker.orchestration.handler.validation.GoalCreationRequestValidator;
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.repository.CharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.service.CharacterSnapshotCache;
+import com.osrsGoalTracker.orchestration.service.EventBridgeEventPublisher;
+import com.osrsGoalTracker.orchestration.service.IdempotencyService;
+import com.osrsGoalTracker.orchestration.service.InMemoryEventPublisher;
+import com.osrsGoalTracker.orchestration.service.PublishGuard;
+import com.osrsGoalTracker.orchestration.util.CircuitBreaker;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.PerThreadMetricsRecorder;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,29 +58,38 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
 /**
  * Tests for the GoalCreationRequestEventProducerHandler.
  */
 class GoalCreationRequestEventProducerHandlerTest {
 
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String GOAL_BODY = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private GoalCreationRequestEventProducerHandler handler;
 
     @Mock
     private Context context;
 
-    private AmazonEventBridge eventBridge;
-    private EnvUtil envUtil;
+    private EventBridgeAsyncClient eventBridge;
+    private OrchestrationConfig config;
 
     /**
      * Test module that provides mock dependencies.
      */
     static class TestModule extends AbstractModule {
-        private final AmazonEventBridge mockEventBridge;
-        private final EnvUtil mockEnvUtil;
+        private final EventBridgeAsyncClient mockEventBridge;
+        private final OrchestrationConfig config;
 
-        public TestModule(AmazonEventBridge mockEventBridge, EnvUtil mockEnvUtil) {
+        public TestModule(EventBridgeAsyncClient mockEventBridge, OrchestrationConfig config) {
             this.mockEventBridge = mockEventBridge;
-            this.mockEnvUtil = mockEnvUtil;
+            this.config = config;
         }
 
         @Override
@@ -60,13 +99,19 @@ class GoalCreationRequestEventProducerHandlerTest {
 
         @Provides
         @Singleton
-        public EnvUtil provideEnvUtil() {
-            return mockEnvUtil;
+        public OrchestrationConfig provideOrchestrationConfig() {
+            return config;
         }
 
         @Provides
         @Singleton
-        public AmazonEventBridge provideAmazonEventBridge() {
+        public GoalCreationRequestValidator provideGoalCreationRequestValidator() {
+            return new GoalCreationRequestValidator(Clock.fixed(NOW, ZoneOffset.UTC));
+        }
+
+        @Provides
+        @Singleton
+        public EventBridgeAsyncClient provideEventBridgeAsyncClient() {
             return mockEventBridge;
         }
     }
@@ -76,19 +121,22 @@ class GoalCreationRequestEventProducerHandlerTest {
         MockitoAnnotations.openMocks(this);
 
         // Create mocks
-        eventBridge = mock(AmazonEventBridge.class);
-        envUtil = mock(EnvUtil.class);
+        eventBridge = mock(EventBridgeAsyncClient.class);
+        config = OrchestrationConfig.builder()
+                .eventBusName("test-event-bus")
+                .detailType("test-detail-type")
+                .build();
 
         // Configure mocks
-        when(envUtil.getEnvVariable("GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE")).thenReturn("test-detail-type");
-        when(envUtil.getEnvVariable("EVENT_BUS_NAME")).thenReturn("test-event-bus");
-        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(new PutEventsResult());
+        when(context.getRemainingTimeInMillis()).thenReturn(30_000);
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(PutEventsResponse.builder().failedEntryCount(0).build()));
 
         // Create handler with test module
         handler = new GoalCreationRequestEventProducerHandler(
-                Guice.createInjector(new TestModule(eventBridge, envUtil)),
-                eventBridge,
-                envUtil);
+                Guice.createInjector(new TestModule(eventBridge, config)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                config);
     }
 
     @Test
@@ -98,7 +146,7 @@ class GoalCreationRequestEventProducerHandlerTest {
         pathParameters.put("userId", "user123");
         pathParameters.put("name", "characterName");
 
-        String body = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2024-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
+        String body = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
 
         APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
                 .withPathParameters(pathParameters)
@@ -117,12 +165,10 @@ class GoalCreationRequestEventProducerHandlerTest {
 
         // Verify the event bus name was set correctly
         PutEventsRequest capturedRequest = requestCaptor.getValue();
-        assertEquals(1, capturedRequest.getEntries().size());
-        assertEquals("test-event-bus", capturedRequest.getEntries().get(0).getEventBusName());
-
-        // Verify EnvUtil was called for both environment variables
-        verify(envUtil).getEnvVariable("GOAL_CREATION_REQUEST_EVENT_DETAIL_TYPE");
-        verify(envUtil).getEnvVariable("EVENT_BUS_NAME");
+        assertEquals(1, capturedRequest.entries().size());
+        assertEquals("test-event-bus", capturedRequest.entries().get(0).eventBusName());
+        assertEquals("test-detail-type", capturedRequest.entries().get(0).detailType());
+        assertEquals("com.osrsGoalTracker.orchestration", capturedRequest.entries().get(0).source());
     }
 
     @Test
@@ -130,7 +176,7 @@ class GoalCreationRequestEventProducerHandlerTest {
         // Given
         APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
                 .withBody(
-                        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2024-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}");
+                        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}");
 
         // When
         APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
@@ -149,7 +195,7 @@ class GoalCreationRequestEventProducerHandlerTest {
         APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
                 .withPathParameters(pathParameters)
                 .withBody(
-                        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2024-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}");
+                        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}");
 
         // When
         APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
@@ -168,7 +214,7 @@ class GoalCreationRequestEventProducerHandlerTest {
         APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
                 .withPathParameters(pathParameters)
                 .withBody(
-                        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2024-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}");
+                        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}");
 
         // When
         APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
@@ -222,7 +268,7 @@ class GoalCreationRequestEventProducerHandlerTest {
         pathParameters.put("userId", "user123");
         pathParameters.put("name", "characterName");
 
-        String body = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2024-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
+        String body = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
 
         APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
                 .withPathParameters(pathParameters)
@@ -238,4 +284,566 @@ class GoalCreationRequestEventProducerHandlerTest {
         assertNotNull(response);
         assertEquals(500, response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHandleRequest_whenEntryIsRejected_returnsErrorResponse() {
+        // Given
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", "user123");
+        pathParameters.put("name", "characterName");
+
+        String body = "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}";
+
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withBody(body);
+
+        // Configure EventBridge to reject the entry with a non-retryable error
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                PutEventsResponse.builder()
+                        .failedEntryCount(1)
+                        .entries(PutEventsResultEntry.builder()
+                                .errorCode("MalformedDetail")
+                                .errorMessage("Detail is malformed")
+                                .build())
+                        .build()));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(500, response.getStatusCode());
+    }
+
+    @Test
+    void testHandleRequest_withBulkBody_publishesAllGoalsInOneCall() throws Exception {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + "," + GOAL_BODY + "," + GOAL_BODY + "]");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        assertEquals(3, requestCaptor.getValue().entries().size());
+
+        JsonNode responseBody = OBJECT_MAPPER.readTree(response.getBody());
+        assertEquals(3, responseBody.get("acceptedCount").asInt());
+        assertEquals(0, responseBody.get("rejectedCount").asInt());
+        assertEquals("ACCEPTED", responseBody.get("results").get(2).get("status").asText());
+    }
+
+    @Test
+    void testHandleRequest_withEventEnvelopeEnabled_publishesVersionedEnvelope() {
+        // Given
+        OrchestrationConfig envelopeConfig = config.toBuilder().eventEnvelopeEnabled(true).build();
+        handler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, envelopeConfig)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                envelopeConfig);
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        EventEnvelope envelope = new EventEnvelopeReader().read(requestCaptor.getValue().entries().get(0).detail());
+        assertTrue(envelope.isType(GoalCreationRequestEvent.EVENT_TYPE));
+        assertEquals(GoalCreationRequestEvent.SCHEMA_VERSION, envelope.getSchemaVersion());
+        assertNotNull(envelope.getEmittedAt());
+        assertEquals(envelope.getUserId(), envelope.readPayload(GoalCreationRequestEvent.class).getUserId());
+    }
+
+    @Test
+    void testHandleRequest_withLowerCaseCodes_publishesCanonicalSpellings() throws Exception {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY.replace("\"WOODCUTTING\"", "\" woodcutting\"")
+                        .replace("\"SKILL\"", "\"Skill\"")
+                        .replace("\"EMAIL\"", "\"email\"")
+                        .replace("\"DAILY\"", "\"daily \""));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        JsonNode event = OBJECT_MAPPER.readTree(requestCaptor.getValue().entries().get(0).detail());
+        assertEquals("WOODCUTTING", event.get("targetAttribute").asText());
+        assertEquals("SKILL", event.get("targetType").asText());
+        assertEquals("EMAIL", event.get("notificationChannelType").asText());
+        assertEquals("DAILY", event.get("frequency").asText());
+    }
+
+    @Test
+    void testHandleRequest_withSnapshotForAttribute_publishesSnapshotCurrentValue() throws Exception {
+        // Given
+        CharacterSnapshotCache snapshots = mock(CharacterSnapshotCache.class);
+        when(snapshots.get("characterName")).thenReturn(Optional.of(snapshot(Map.of("WOODCUTTING", 42L))));
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+
+        // When
+        APIGatewayProxyResponseEvent response = snapshotHandler(snapshots).handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        JsonNode event = OBJECT_MAPPER.readTree(requestCaptor.getValue().entries().get(0).detail());
+        assertEquals(42, event.get("currentValue").asLong());
+    }
+
+    @Test
+    void testHandleRequest_withSnapshotPastTarget_returnsAlreadyReached() {
+        // Given
+        CharacterSnapshotCache snapshots = mock(CharacterSnapshotCache.class);
+        when(snapshots.get("characterName")).thenReturn(Optional.of(snapshot(Map.of("WOODCUTTING", 13_034_431L))));
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+
+        // When
+        APIGatewayProxyResponseEvent response = snapshotHandler(snapshots).handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertTrue(response.getBody().contains("targetValue is already reached"));
+        verify(eventBridge, times(0)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_withBulkBodyAndSnapshotMissingAttribute_keepsRequestedCurrentValue() throws Exception {
+        // Given
+        CharacterSnapshotCache snapshots = mock(CharacterSnapshotCache.class);
+        when(snapshots.get("characterName")).thenReturn(Optional.of(snapshot(Map.of("ZULRAH", 5L))));
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + "," + GOAL_BODY + "]");
+
+        // When
+        APIGatewayProxyResponseEvent response = snapshotHandler(snapshots).handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        for (int i = 0; i < 2; i++) {
+            JsonNode event = OBJECT_MAPPER.readTree(requestCaptor.getValue().entries().get(i).detail());
+            assertEquals(1, event.get("currentValue").asLong());
+        }
+    }
+
+    @Test
+    void testHandleRequest_withInMemoryTransport_publishesEventsPartitionedByUser() throws Exception {
+        // Given
+        InMemoryEventPublisher inMemoryPublisher = new InMemoryEventPublisher();
+        GoalCreationRequestEventProducerHandler inMemoryHandler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)), inMemoryPublisher, config);
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + "," + GOAL_BODY + "]");
+
+        // When
+        APIGatewayProxyResponseEvent response = inMemoryHandler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        List<OutboundEvent> events = inMemoryPublisher.events();
+        assertEquals(2, events.size());
+        assertEquals("user123", events.get(0).getPartitionKey());
+        assertEquals("test-detail-type", events.get(0).getDetailType());
+        assertEquals("user123", OBJECT_MAPPER.readTree(events.get(1).getDetail()).get("userId").asText());
+        verify(eventBridge, times(0)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_withIdenticalBulkGoals_givesEachEventItsOwnId() throws Exception {
+        // Given
+        InMemoryEventPublisher inMemoryPublisher = new InMemoryEventPublisher();
+        GoalCreationRequestEventProducerHandler inMemoryHandler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)), inMemoryPublisher, config);
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + "," + GOAL_BODY + "]");
+
+        // When
+        inMemoryHandler.handleRequest(request, context);
+
+        // Then
+        List<OutboundEvent> events = inMemoryPublisher.events();
+        assertEquals(events.get(0).getDetail(), events.get(1).getDetail());
+        assertNotNull(events.get(0).getEventId());
+        assertNotEquals(events.get(0).getEventId(), events.get(1).getEventId());
+    }
+
+    @Test
+    void testHandleRequest_withBulkBodyContainingInvalidGoal_returnsMultiStatus() throws Exception {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + ",{\"targetValue\":\"lots\"},\"not a goal\"]");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(207, response.getStatusCode());
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        assertEquals(1, requestCaptor.getValue().entries().size());
+
+        JsonNode results = OBJECT_MAPPER.readTree(response.getBody()).get("results");
+        assertEquals("ACCEPTED", results.get(0).get("status").asText());
+        assertEquals("INVALID", results.get(1).get("status").asText());
+        assertEquals("INVALID", results.get(2).get("status").asText());
+        assertNotNull(results.get(2).get("error"));
+    }
+
+    @Test
+    void testHandleRequest_withGoalBreakingSeveralRules_returnsEveryViolationWithoutPublishing() throws Exception {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":250000000,"
+                        + "\"targetDate\":\"2020-01-01T00:00:00Z\",\"notificationChannelType\":\"EMAIL\","
+                        + "\"frequency\":\"HOURLY\"}");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        JsonNode violations = OBJECT_MAPPER.readTree(response.getBody()).get("violations");
+        assertEquals(3, violations.size());
+        assertEquals("targetValue must be between 1 and 200000000", violations.get(0).asText());
+        verify(eventBridge, times(0)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_withBulkBodyAndRejectedEntry_reportsFailedGoal() throws Exception {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + "," + GOAL_BODY + "]");
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                PutEventsResponse.builder()
+                        .failedEntryCount(1)
+                        .entries(
+                                PutEventsResultEntry.builder().eventId("event-0").build(),
+                                PutEventsResultEntry.builder().errorCode("MalformedDetail").build())
+                        .build()));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(207, response.getStatusCode());
+        JsonNode results = OBJECT_MAPPER.readTree(response.getBody()).get("results");
+        assertEquals("ACCEPTED", results.get(0).get("status").asText());
+        assertEquals("FAILED", results.get(1).get("status").asText());
+    }
+
+    @Test
+    void testHandleRequest_withEmptyBulkBody_returnsErrorResponse() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[]");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+    }
+
+    @Test
+    void testHandleRequest_withTraceHeader_stampsEventWithIngestTimeCorrelationIdAndTrace() throws Exception {
+        // Given
+        when(context.getAwsRequestId()).thenReturn("request-1");
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withHeaders(Map.of("X-Amzn-Trace-Id", "Root=1-5759e988-bd862e3fe1be46a994272793"))
+                .withBody(GOAL_BODY);
+
+        // When
+        handler.handleRequest(request, context);
+
+        // Then
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        JsonNode detail = OBJECT_MAPPER.readTree(requestCaptor.getValue().entries().get(0).detail());
+        assertEquals("request-1", detail.get("correlationId").asText());
+        assertEquals("Root=1-5759e988-bd862e3fe1be46a994272793", detail.get("traceContext").asText());
+        assertTrue(detail.get("ingestedAt").isNumber());
+    }
+
+    @Test
+    void testHandleRequest_withRepeatedRequest_replaysResponseWithoutPublishing() {
+        // Given
+        GoalCreationRequestEventProducerHandler idempotentHandler = idempotentHandler();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+
+        // When
+        APIGatewayProxyResponseEvent first = idempotentHandler.handleRequest(request, context);
+        APIGatewayProxyResponseEvent repeat = idempotentHandler.handleRequest(request, context);
+
+        // Then
+        verify(eventBridge, times(1)).putEvents(any(PutEventsRequest.class));
+        assertEquals(first.getStatusCode(), repeat.getStatusCode());
+        assertEquals(first.getBody(), repeat.getBody());
+        assertEquals("true", repeat.getHeaders().get("Idempotent-Replayed"));
+    }
+
+    @Test
+    void testHandleRequest_withSameIdempotencyKeyHeader_replaysOriginalResponse() {
+        // Given
+        GoalCreationRequestEventProducerHandler idempotentHandler = idempotentHandler();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withHeaders(Map.of("Idempotency-Key", "retry-1"))
+                .withBody("[" + GOAL_BODY + "]");
+        APIGatewayProxyRequestEvent retry = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withHeaders(Map.of("idempotency-key", "retry-1"))
+                .withBody("[ " + GOAL_BODY + " ]");
+
+        // When
+        idempotentHandler.handleRequest(request, context);
+        APIGatewayProxyResponseEvent response = idempotentHandler.handleRequest(retry, context);
+
+        // Then
+        verify(eventBridge, times(1)).putEvents(any(PutEventsRequest.class));
+        assertEquals(200, response.getStatusCode());
+        assertEquals("true", response.getHeaders().get("Idempotent-Replayed"));
+    }
+
+    @Test
+    void testHandleRequest_whenFirstAttemptFails_publishesRetry() {
+        // Given
+        GoalCreationRequestEventProducerHandler idempotentHandler = idempotentHandler();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+        when(eventBridge.putEvents(any(PutEventsRequest.class)))
+                .thenThrow(new RuntimeException("EventBridge error"))
+                .thenReturn(CompletableFuture.completedFuture(PutEventsResponse.builder().failedEntryCount(0).build()));
+
+        // When
+        APIGatewayProxyResponseEvent first = idempotentHandler.handleRequest(request, context);
+        APIGatewayProxyResponseEvent retry = idempotentHandler.handleRequest(request, context);
+
+        // Then
+        assertEquals(500, first.getStatusCode());
+        assertEquals(200, retry.getStatusCode());
+        verify(eventBridge, times(2)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_whenPublishTimesOutAfterSending_keepsIdempotencyClaim() {
+        // Given
+        GoalCreationRequestEventProducerHandler idempotentHandler = idempotentHandler();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+        when(context.getRemainingTimeInMillis()).thenReturn(600);
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(new CompletableFuture<>());
+
+        // When
+        APIGatewayProxyResponseEvent first = idempotentHandler.handleRequest(request, context);
+        APIGatewayProxyResponseEvent retry = idempotentHandler.handleRequest(request, context);
+
+        // Then
+        assertEquals(503, first.getStatusCode());
+        assertEquals(409, retry.getStatusCode());
+        verify(eventBridge, times(1)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_whenCircuitIsOpen_returnsServiceUnavailableWithoutPublishing() {
+        // Given
+        GoalCreationRequestEventProducerHandler guardedHandler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                config,
+                null,
+                new PublishGuard(null, new CircuitBreaker(2, Duration.ofSeconds(30), Clock.systemUTC()),
+                        Clock.systemUTC()));
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenThrow(new RuntimeException("EventBridge error"));
+        guardedHandler.handleRequest(request, context);
+        guardedHandler.handleRequest(request, context);
+        clearInvocations(eventBridge);
+
+        // When
+        APIGatewayProxyResponseEvent response = guardedHandler.handleRequest(request, context);
+
+        // Then
+        assertEquals(503, response.getStatusCode());
+        assertEquals("30", response.getHeaders().get("Retry-After"));
+        verify(eventBridge, never()).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_withLambdaTimeoutTooClose_returnsServiceUnavailable() {
+        // Given
+        when(context.getRemainingTimeInMillis()).thenReturn(100);
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(503, response.getStatusCode());
+        assertEquals("1", response.getHeaders().get("Retry-After"));
+        verify(eventBridge, never()).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testHandleRequest_withValidInput_emitsStageMetricsOncePerInvocation() throws Exception {
+        // Given
+        List<String> lines = new ArrayList<>();
+        GoalCreationRequestEventProducerHandler meteredHandler = meteredHandler(lines);
+        when(context.getAwsRequestId()).thenReturn("request-1");
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody(GOAL_BODY);
+
+        // When
+        meteredHandler.handleRequest(request, context);
+        meteredHandler.handleRequest(request, context);
+
+        // Then
+        assertEquals(2, lines.size());
+        JsonNode first = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(1, first.get("ColdStart").asInt());
+        assertNotNull(first.get("InitLatency"));
+        for (String stage : List.of("RequestLatency", "ParseLatency", "SerializeLatency", "PublishLatency",
+                "ResponseLatency")) {
+            assertNotNull(first.get(stage), stage);
+        }
+        assertEquals(1, first.get("GoalsAccepted").asInt());
+        assertEquals(0, first.get("CircuitOpen").asInt());
+        assertEquals("request-1", first.get("requestId").asText());
+        assertEquals(200, first.get("statusCode").asInt());
+        JsonNode second = OBJECT_MAPPER.readTree(lines.get(1));
+        assertEquals(0, second.get("ColdStart").asInt());
+        assertNull(second.get("InitLatency"));
+    }
+
+    @Test
+    void testHandleRequest_withBulkBodyContainingInvalidGoals_countsValidationErrors() throws Exception {
+        // Given
+        List<String> lines = new ArrayList<>();
+        GoalCreationRequestEventProducerHandler meteredHandler = meteredHandler(lines);
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + GOAL_BODY + ",{\"targetValue\":\"lots\"},\"not a goal\"]");
+
+        // When
+        meteredHandler.handleRequest(request, context);
+
+        // Then
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(2, line.get("ValidationErrors").asInt());
+        assertEquals(1, line.get("GoalsAccepted").asInt());
+        assertEquals(0, line.get("PublishFailures").asInt());
+        assertTrue(line.get("bulk").asBoolean());
+    }
+
+    @Test
+    void testHandleRequest_withBulkBodyAndPerThreadMetrics_recordsEverySnapshotLookup() throws Exception {
+        // Given
+        List<String> lines = new ArrayList<>();
+        MetricsRecorder metrics = new PerThreadMetricsRecorder(() -> new EmfMetricsRecorder("Test",
+                Map.of("Handler", "Test"), lines::add, Clock.systemUTC()));
+        CharacterSnapshotRepository repository = mock(CharacterSnapshotRepository.class);
+        when(repository.find(any())).thenReturn(Optional.empty());
+        GoalCreationRequestEventProducerHandler meteredHandler = new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                config,
+                null,
+                new PublishGuard(null, null, Clock.systemUTC()),
+                metrics,
+                new CharacterSnapshotCache(repository, 10, Duration.ofMinutes(5), Clock.systemUTC(), metrics));
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(validPathParameters())
+                .withBody("[" + String.join(",", Collections.nCopies(32, GOAL_BODY)) + "]");
+
+        // When
+        meteredHandler.handleRequest(request, context);
+
+        // Then
+        assertEquals(1, lines.size());
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(32, line.path("SnapshotCacheMisses").asInt() + line.path("SnapshotCacheHits").asInt());
+        verify(repository, times(1)).find(any());
+    }
+
+    private GoalCreationRequestEventProducerHandler meteredHandler(List<String> lines) {
+        return new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                config,
+                null,
+                new PublishGuard(null, null, Clock.systemUTC()),
+                new EmfMetricsRecorder("Test", Map.of("Handler", "Test"), lines::add, Clock.systemUTC()));
+    }
+
+    private GoalCreationRequestEventProducerHandler idempotentHandler() {
+        return new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                config,
+                new IdempotencyService(null, 100, Duration.ofHours(1), Duration.ofSeconds(30),
+                        Clock.systemUTC()));
+    }
+
+    private GoalCreationRequestEventProducerHandler snapshotHandler(CharacterSnapshotCache snapshots) {
+        return new GoalCreationRequestEventProducerHandler(
+                Guice.createInjector(new TestModule(eventBridge, config)),
+                new EventBridgeEventPublisher(eventBridge, config.getEventBusName()),
+                config,
+                null,
+                new PublishGuard(null, null, Clock.systemUTC()),
+                MetricsRecorder.discarding(),
+                snapshots);
+    }
+
+    private static CharacterSnapshot snapshot(Map<String, Long> values) {
+        return CharacterSnapshot.builder()
+                .characterName("characterName")
+                .values(values)
+                .capturedAt(Instant.parse("2030-01-01T00:00:00Z"))
+                .build();
+    }
+
+    private static Map<String, String> validPathParameters() {
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("userId", "user123");
+        pathParameters.put("name", "characterName");
+        return pathParameters;
+    }
+}
@@ -0,0 +1,200 @@
+package com.osrsGoalTracker.orchestration.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse.BatchItemFailure;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent.SQSMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.ProgressCoalescing;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.service.GoalProgressUpdateService;
+import com.osrsGoalTracker.orchestration.util.EmfMetricsRecorder;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for the GoalProgressUpdateEventConsumerHandler.
+ */
+class GoalProgressUpdateEventConsumerHandlerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:10Z");
+
+    private GoalProgressRepository repository;
+    private GoalProgressUpdateService progressService;
+    private GoalProgressUpdateEventConsumerHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GoalProgressRepository.class);
+        Executor sameThread = Runnable::run;
+        progressService = new GoalProgressUpdateService(repository,
+                ProgressCoalescing.MAX, sameThread, new JitteredBackoff(Duration.ZERO, Duration.ZERO), 1);
+        handler = new GoalProgressUpdateEventConsumerHandler(progressService);
+    }
+
+    @Test
+    void testHandleRequest_withBurstForOneGoal_writesOnce() {
+        // Given
+        when(repository.writeBatch(anyList())).thenReturn(List.of());
+        SQSEvent event = event(
+                message("m1", body("goal-1", 100)),
+                message("m2", body("goal-1", 250)),
+                message("m3", "{\"detail-type\":\"GoalProgressUpdate\",\"detail\":" + body("goal-1", 200) + "}"));
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, mock(Context.class));
+
+        // Then
+        assertTrue(response.getBatchItemFailures().isEmpty());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalProgressUpdateEvent>> batch = ArgumentCaptor.forClass(List.class);
+        verify(repository).writeBatch(batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertEquals(250, batch.getValue().get(0).getProgressValue());
+    }
+
+    @Test
+    void testHandleRequest_whenGoalWriteFails_reportsEveryMessageOfThatGoal() {
+        // Given
+        when(repository.writeBatch(anyList())).thenAnswer(invocation -> {
+            List<GoalProgressUpdateEvent> updates = invocation.getArgument(0);
+            return updates.stream().filter(update -> update.getGoalId().equals("goal-2")).toList();
+        });
+        SQSEvent event = event(
+                message("m1", body("goal-1", 100)),
+                message("m2", body("goal-2", 5)),
+                message("m3", body("goal-2", 6)));
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, mock(Context.class));
+
+        // Then
+        assertEquals(Set.of("m2", "m3"), failedIds(response));
+    }
+
+    @Test
+    void testHandleRequest_withUnreadableMessage_reportsOnlyThatMessage() {
+        // Given
+        when(repository.writeBatch(anyList())).thenReturn(List.of());
+        SQSEvent event = event(
+                message("m1", body("goal-1", 100)),
+                message("m2", "not json"),
+                message("m3", "{\"userId\":\"user123\",\"progressValue\":5}"));
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, mock(Context.class));
+
+        // Then
+        assertEquals(Set.of("m2", "m3"), failedIds(response));
+    }
+
+    @Test
+    void testHandleRequest_withTracedMessages_recordsLagAndPipelineLatencyOfWrittenUpdates() throws Exception {
+        // Given
+        List<String> lines = new ArrayList<>();
+        GoalProgressUpdateEventConsumerHandler meteredHandler = new GoalProgressUpdateEventConsumerHandler(
+                progressService,
+                new EmfMetricsRecorder("Test", Map.of("Handler", "Test"), lines::add, Clock.fixed(NOW, ZoneOffset.UTC)),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.writeBatch(anyList())).thenAnswer(invocation -> {
+            List<GoalProgressUpdateEvent> updates = invocation.getArgument(0);
+            return updates.stream().filter(update -> update.getGoalId().equals("goal-2")).toList();
+        });
+        SQSMessage queued = message("m1", tracedBody("goal-1", "2030-01-01T00:00:07Z"));
+        queued.setAttributes(Map.of("SentTimestamp", Long.toString(NOW.minusMillis(1_500).toEpochMilli())));
+        SQSMessage failed = message("m2", tracedBody("goal-2", "2030-01-01T00:00:00Z"));
+        SQSEvent event = event(queued, failed);
+
+        // When
+        meteredHandler.handleRequest(event, mock(Context.class));
+
+        // Then
+        assertEquals(1, lines.size());
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(1_500.0, line.get("BusToConsumerLag").asDouble());
+        assertEquals(3_000.0, line.get("PipelineLatency").asDouble());
+    }
+
+    @Test
+    void testHandleRequest_withEventBridgeEnvelopeAndNoSendTime_measuresLagFromEnvelopeTime() throws Exception {
+        // Given
+        List<String> lines = new ArrayList<>();
+        GoalProgressUpdateEventConsumerHandler meteredHandler = new GoalProgressUpdateEventConsumerHandler(
+                progressService,
+                new EmfMetricsRecorder("Test", Map.of("Handler", "Test"), lines::add, Clock.fixed(NOW, ZoneOffset.UTC)),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.writeBatch(anyList())).thenReturn(List.of());
+        SQSEvent event = event(message("m1", "{\"time\":\"2030-01-01T00:00:08Z\",\"detail\":"
+                + body("goal-1", 100) + "}"));
+
+        // When
+        meteredHandler.handleRequest(event, mock(Context.class));
+
+        // Then
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(2_000.0, line.get("BusToConsumerLag").asDouble());
+        assertFalse(line.has("PipelineLatency"));
+    }
+
+    @Test
+    void testParseMessage_withNegativeProgress_throwsException() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> handler.parseMessage(body("goal-1", -1)));
+    }
+
+    private static Set<String> failedIds(SQSBatchResponse response) {
+        return response.getBatchItemFailures().stream()
+                .map(BatchItemFailure::getItemIdentifier)
+                .collect(Collectors.toSet());
+    }
+
+    private static String body(String goalId, long progressValue) {
+        return "{\"userId\":\"user123\",\"characterName\":\"characterName\",\"goalId\":\"" + goalId
+                + "\",\"progressValue\":" + progressValue + "}";
+    }
+
+    private static String tracedBody(String goalId, String ingestedAt) {
+        return "{\"userId\":\"user123\",\"characterName\":\"characterName\",\"goalId\":\"" + goalId
+                + "\",\"progressValue\":1,\"ingestedAt\":\"" + ingestedAt + "\",\"correlationId\":\"request-1\"}";
+    }
+
+    private static SQSMessage message(String messageId, String body) {
+        SQSMessage message = new SQSMessage();
+        message.setMessageId(messageId);
+        message.setBody(body);
+        return message;
+    }
+
+    private static SQSEvent event(SQSMessage... messages) {
+        SQSEvent event = new SQSEvent();
+        event.setRecords(List.of(messages));
+        return event;
+    }
+}
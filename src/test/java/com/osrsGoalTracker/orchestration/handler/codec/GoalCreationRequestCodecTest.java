@@ -0,0 +1,169 @@
+package com.osrsGoalTracker.orchestration.handler.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.orchestration.events.EventEnvelope;
+import com.osrsGoalTracker.orchestration.events.EventEnvelopeReader;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+import com.osrsGoalTracker.orchestration.handler.model.request.GoalCreationRequestEventProducerRequestBody;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the GoalCreationRequestCodec. Results are compared against the
+ * reflective ObjectMapper path the codec replaces.
+ */
+class GoalCreationRequestCodecTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private GoalCreationRequestCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new GoalCreationRequestCodec(OBJECT_MAPPER.getFactory());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"targetAttribute\":\"WOODCUTTING\",\"targetType\":\"SKILL\",\"targetValue\":99,\"currentValue\":1,"
+                + "\"targetDate\":\"2030-12-31T23:59:59Z\",\"notificationChannelType\":\"EMAIL\",\"frequency\":\"DAILY\"}",
+        "{\"targetValue\":\"13034431\",\"currentValue\":null,\"targetDate\":1735689599,"
+                + "\"extra\":{\"nested\":[1,2,{\"deeper\":3}]},\"frequency\":5}",
+        "{\"targetDate\":1735689599.123456789,\"targetValue\":12.7}",
+        "{\"targetDate\":\"2030-01-01T01:00:00+01:00\"}",
+        "{\"targetDate\":\"2030-01-01T00:00:00.5Z\",\"targetAttribute\":null}",
+        "{\"targetDate\":\"1969-12-31T23:59:59.25Z\"}",
+        "{}"
+    })
+    void testReadAndWrite_matchesReflectivePath(String body) throws Exception {
+        // When
+        String codecDetail = codec.writeEvent(codec.readEvent(body, "user123", "characterName"));
+
+        // Then
+        assertEquals(OBJECT_MAPPER.readTree(reflectiveDetail(body)), OBJECT_MAPPER.readTree(codecDetail));
+    }
+
+    @Test
+    void testReadEvent_injectsPathValues() {
+        // When
+        GoalCreationRequestEvent event = codec.readEvent(
+                "{\"userId\":\"spoofed\",\"targetDate\":\"2030-01-01T00:00:00Z\"}", "user123", "characterName");
+
+        // Then
+        assertEquals("user123", event.getUserId());
+        assertEquals("characterName", event.getCharacterName());
+        assertEquals(Instant.parse("2030-01-01T00:00:00Z"), event.getTargetDate());
+    }
+
+    @Test
+    void testWriteEvent_withTraceFields_matchesReflectivePath() throws Exception {
+        // Given
+        GoalCreationRequestEvent event = codec.readEvent("{\"targetValue\":99}", "user123", "characterName")
+                .toBuilder()
+                .ingestedAt(Instant.parse("2030-01-01T00:00:00.123Z"))
+                .correlationId("request-1")
+                .traceContext("Root=1-5759e988-bd862e3fe1be46a994272793")
+                .build();
+
+        // When
+        String codecDetail = codec.writeEvent(event);
+
+        // Then
+        assertEquals(OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(event)),
+                OBJECT_MAPPER.readTree(codecDetail));
+        assertEquals("request-1", OBJECT_MAPPER.readValue(codecDetail, GoalCreationRequestEvent.class)
+                .getCorrelationId());
+    }
+
+    @Test
+    void testWriteEnvelope_readByEnvelopeReader_returnsHeaderAndEvent() {
+        // Given
+        GoalCreationRequestEvent event = codec.readEvent("{\"targetValue\":99,\"targetDate\":\"2030-01-01T00:00:00Z\"}",
+                "user123", "characterName").toBuilder().correlationId("request-1").build();
+        Instant emittedAt = Instant.parse("2030-01-01T00:00:00.123Z");
+
+        // When
+        EventEnvelope envelope = new EventEnvelopeReader().read(codec.writeEnvelope(event, emittedAt));
+
+        // Then
+        assertEquals(GoalCreationRequestEvent.EVENT_TYPE, envelope.getType());
+        assertEquals(GoalCreationRequestEvent.SCHEMA_VERSION, envelope.getSchemaVersion());
+        assertEquals("user123", envelope.getUserId());
+        assertEquals("request-1", envelope.getCorrelationId());
+        assertEquals(emittedAt, envelope.getEmittedAt());
+        assertEquals(event, envelope.readPayload(GoalCreationRequestEvent.class));
+    }
+
+    @Test
+    void testReadEvent_withTraceFieldsInBody_ignoresThem() {
+        // When
+        GoalCreationRequestEvent event = codec.readEvent(
+                "{\"ingestedAt\":\"2020-01-01T00:00:00Z\",\"correlationId\":\"spoofed\",\"traceContext\":\"spoofed\"}",
+                "user123", "characterName");
+
+        // Then
+        assertNull(event.getIngestedAt());
+        assertNull(event.getCorrelationId());
+        assertNull(event.getTraceContext());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"targetValue\":\"lots\"}",
+        "{\"targetAttribute\":{\"name\":\"WOODCUTTING\"}}",
+        "{\"targetDate\":\"tomorrow\"}",
+        "{\"targetDate\":\"2030-02-30T00:00:00Z\"}",
+        "[1]",
+        "invalid json"
+    })
+    void testReadEvent_withBodyRejectedByReflectivePath_throwsIllegalArgumentException(String body) {
+        // Given
+        assertThrows(Exception.class, () -> reflectiveDetail(body));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> codec.readEvent(body, "user123", "characterName"));
+    }
+
+    @Test
+    void testReadEvent_fromTree_reportsFirstInvalidField() throws Exception {
+        // Given
+        JsonNode goal = OBJECT_MAPPER.readTree("{\"targetValue\":\"lots\",\"targetType\":{\"skill\":true}}");
+
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> codec.readEvent(goal.traverse(), "user123", "characterName"));
+
+        // Then
+        assertEquals("Invalid value for targetValue: expected a number", exception.getMessage());
+    }
+
+    private static String reflectiveDetail(String body) throws Exception {
+        GoalCreationRequestEventProducerRequestBody requestBody = OBJECT_MAPPER.readValue(body,
+                GoalCreationRequestEventProducerRequestBody.class);
+        return OBJECT_MAPPER.writeValueAsString(GoalCreationRequestEvent.builder()
+                .userId("user123")
+                .characterName("characterName")
+                .targetAttribute(requestBody.getTargetAttribute())
+                .targetType(requestBody.getTargetType())
+                .targetValue(requestBody.getTargetValue())
+                .currentValue(requestBody.getCurrentValue())
+                .targetDate(requestBody.getTargetDate())
+                .notificationChannelType(requestBody.getNotificationChannelType())
+                .frequency(requestBody.getFrequency())
+                .build());
+    }
+}
@@ -0,0 +1,172 @@
+package com.osrsGoalTracker.orchestration.handler.validation;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the GoalCreationRequestValidator.
+ */
+class GoalCreationRequestValidatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private GoalCreationRequestValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new GoalCreationRequestValidator(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testValidate_withValidGoal_passes() {
+        // When / Then
+        assertDoesNotThrow(() -> validator.validate(validGoal().build()));
+    }
+
+    @Test
+    void testValidate_withLowerCaseCodes_returnsCanonicalSpellings() {
+        // Given
+        GoalCreationRequestEvent event = validGoal()
+                .targetAttribute("clue_scrolls_all")
+                .targetType(" activity ")
+                .targetValue(500)
+                .notificationChannelType("discord")
+                .frequency("Weekly")
+                .build();
+
+        // When
+        GoalCreationRequestEvent validated = validator.validate(event);
+
+        // Then
+        assertEquals("CLUE_SCROLLS_ALL", validated.getTargetAttribute());
+        assertEquals("ACTIVITY", validated.getTargetType());
+        assertEquals("DISCORD", validated.getNotificationChannelType());
+        assertEquals("WEEKLY", validated.getFrequency());
+        assertEquals(500, validated.getTargetValue());
+    }
+
+    @Test
+    void testValidate_withCanonicalCodes_returnsSameEvent() {
+        // Given
+        GoalCreationRequestEvent event = validGoal().build();
+
+        // When / Then
+        assertSame(event, validator.validate(event));
+    }
+
+    @Test
+    void testValidate_withManyProblems_reportsEveryViolation() {
+        // Given
+        GoalCreationRequestEvent event = validGoal()
+                .targetValue(200_000_001L)
+                .targetDate(NOW.minusSeconds(1))
+                .notificationChannelType("SMS")
+                .frequency("HOURLY")
+                .build();
+
+        // When
+        GoalValidationException exception = assertThrows(GoalValidationException.class,
+                () -> validator.validate(event));
+
+        // Then
+        assertEquals(List.of(
+                "targetValue must be between 1 and 200000000",
+                "targetDate must be in the future",
+                "notificationChannelType must be one of [DISCORD, EMAIL]",
+                "frequency must be one of [DAILY, WEEKLY, MONTHLY]"), exception.getViolations());
+    }
+
+    @Test
+    void testValidate_withSkillMarkedAsActivity_reportsTypeMismatch() {
+        // Given
+        GoalCreationRequestEvent event = validGoal().targetType("ACTIVITY").build();
+
+        // When
+        GoalValidationException exception = assertThrows(GoalValidationException.class,
+                () -> validator.validate(event));
+
+        // Then
+        assertEquals(List.of("targetType of WOODCUTTING must be SKILL"), exception.getViolations());
+    }
+
+    @Test
+    void testValidate_withUnknownAttributeAndReachedTarget_reportsBoth() {
+        // Given
+        GoalCreationRequestEvent event = validGoal()
+                .targetAttribute("BOUNTY_HUNTER")
+                .currentValue(13_034_431)
+                .build();
+
+        // When
+        GoalValidationException exception = assertThrows(GoalValidationException.class,
+                () -> validator.validate(event));
+
+        // Then
+        assertEquals(List.of(
+                "targetAttribute must be an OSRS skill or activity, got BOUNTY_HUNTER",
+                "currentValue must be less than targetValue"), exception.getViolations());
+    }
+
+    @Test
+    void testValidate_withTargetReachedOnHiscores_reportsAlreadyReached() {
+        // Given
+        GoalCreationRequestEvent event = validGoal().currentValue(13_034_431).build();
+
+        // When
+        GoalValidationException exception = assertThrows(GoalValidationException.class,
+                () -> validator.validate(event, true));
+
+        // Then
+        assertEquals(List.of("targetValue is already reached: WOODCUTTING is 13034431 on the hiscores"),
+                exception.getViolations());
+    }
+
+    @Test
+    void testValidate_withOverallAboveSingleSkillCap_passes() {
+        // Given
+        GoalCreationRequestEvent event = validGoal().targetAttribute("OVERALL").targetValue(1_000_000_000L).build();
+
+        // When / Then
+        assertDoesNotThrow(() -> validator.validate(event));
+    }
+
+    @Test
+    void testEnumLookup_withMixedCaseAndUnknownNames_findsOnlyKnownConstants() {
+        // Given
+        EnumLookup<GoalAttribute> lookup = new EnumLookup<>(GoalAttribute.class);
+
+        // When / Then
+        for (GoalAttribute attribute : GoalAttribute.values()) {
+            assertSame(attribute, lookup.find(attribute.name().toLowerCase()));
+        }
+        assertNull(lookup.find("WOODCUTTIN"));
+        assertNull(lookup.find(""));
+        assertNull(lookup.find(null));
+    }
+
+    private static GoalCreationRequestEvent.GoalCreationRequestEventBuilder validGoal() {
+        return GoalCreationRequestEvent.builder()
+                .userId("user123")
+                .characterName("characterName")
+                .targetAttribute("WOODCUTTING")
+                .targetType("SKILL")
+                .targetValue(13_034_431)
+                .currentValue(0)
+                .targetDate(NOW.plusSeconds(86_400))
+                .notificationChannelType("EMAIL")
+                .frequency("DAILY");
+    }
+}
@@ -0,0 +1,101 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+
+/**
+ * Tests for the DynamoDbActiveGoalRepository against DynamoDB Local.
+ */
+class DynamoDbActiveGoalRepositoryTest extends DynamoDbLocalTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private DynamoDbActiveGoalRepository repository;
+    private DynamoDbTable<GoalItem> table;
+
+    @BeforeEach
+    void setUp() {
+        String tableName = createTable("goals", DynamoDbActiveGoalRepository.TABLE_SCHEMA);
+        table = enhancedClient().table(tableName, DynamoDbActiveGoalRepository.TABLE_SCHEMA);
+        repository = new DynamoDbActiveGoalRepository(enhancedClient(), tableName, 2);
+        for (int i = 0; i < 5; i++) {
+            table.putItem(item("goal-" + i));
+        }
+    }
+
+    @Test
+    void testActiveGoalPages_resumedFromCursor_continuesAfterPage() {
+        // Given
+        ActiveGoalPage firstPage = repository.activeGoalPages(NOW, null).findFirst().orElseThrow();
+        assertNotNull(firstPage.getNextCursor());
+
+        // When
+        List<ActiveGoalPage> remaining = repository.activeGoalPages(NOW, firstPage.getNextCursor()).toList();
+
+        // Then
+        List<String> goalIds = new ArrayList<>();
+        firstPage.getGoals().forEach(goal -> goalIds.add(goal.getGoalId()));
+        remaining.forEach(page -> page.getGoals().forEach(goal -> goalIds.add(goal.getGoalId())));
+        assertEquals(5, goalIds.size());
+        assertEquals(Set.of("goal-0", "goal-1", "goal-2", "goal-3", "goal-4"), Set.copyOf(goalIds));
+        assertNull(remaining.get(remaining.size() - 1).getNextCursor());
+    }
+
+    @Test
+    void testActiveGoalPages_withMalformedCursor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.activeGoalPages(NOW, "not-a-cursor"));
+    }
+
+    @Test
+    void testActiveGoalPages_withNotificationAttributes_readsChannelAndFrequency() {
+        // Given
+        GoalItem notified = item("goal-5");
+        notified.setNotificationChannelType("DISCORD");
+        notified.setFrequency("WEEKLY");
+        GoalItem unknown = item("goal-6");
+        unknown.setNotificationChannelType("PIGEON");
+        unknown.setFrequency("DAILY");
+        table.putItem(notified);
+        table.putItem(unknown);
+
+        // When
+        Map<String, ActiveGoal> goals = repository.activeGoalPages(NOW, null)
+                .flatMap(page -> page.getGoals().stream())
+                .collect(Collectors.toMap(ActiveGoal::getGoalId, goal -> goal));
+
+        // Then
+        assertEquals(NotificationChannelType.DISCORD, goals.get("goal-5").getNotificationChannelType());
+        assertEquals(NotificationFrequency.WEEKLY, goals.get("goal-5").getFrequency());
+        assertNull(goals.get("goal-6").getNotificationChannelType());
+        assertNull(goals.get("goal-0").getFrequency());
+    }
+
+    private static GoalItem item(String goalId) {
+        GoalItem item = new GoalItem();
+        item.setUserId("user123");
+        item.setGoalId(goalId);
+        item.setCharacterName("Zezima");
+        item.setTargetAttribute("WOODCUTTING");
+        item.setCurrentValue(0L);
+        return item;
+    }
+}
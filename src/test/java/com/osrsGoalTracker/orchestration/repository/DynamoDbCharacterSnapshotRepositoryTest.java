@@ -0,0 +1,76 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+import com.osrsGoalTracker.orchestration.service.CharacterSnapshotCache;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DynamoDbCharacterSnapshotRepository against DynamoDB Local.
+ */
+class DynamoDbCharacterSnapshotRepositoryTest extends DynamoDbLocalTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private DynamoDbCharacterSnapshotRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDbCharacterSnapshotRepository(enhancedClient(),
+                createTable("character-snapshots", DynamoDbCharacterSnapshotRepository.TABLE_SCHEMA));
+    }
+
+    @Test
+    void testFind_afterSave_returnsEveryAttribute() {
+        // Given
+        repository.save("zezima", snapshot(Map.of("WOODCUTTING", 13_034_431L, "ZULRAH", 1_234L)));
+
+        // When
+        CharacterSnapshot found = repository.find("zezima").orElseThrow();
+
+        // Then
+        assertEquals("Zezima", found.getCharacterName());
+        assertEquals(13_034_431L, found.valueOf("woodcutting"));
+        assertEquals(1_234L, found.valueOf("ZULRAH"));
+        assertEquals(NOW, found.getCapturedAt());
+    }
+
+    @Test
+    void testFind_withUnknownCharacter_returnsEmpty() {
+        // When / Then
+        assertTrue(repository.find("nobody").isEmpty());
+    }
+
+    @Test
+    void testCacheGet_withSavedSnapshot_readsThroughToTable() {
+        // Given
+        repository.save("zezima", snapshot(Map.of("WOODCUTTING", 13_034_431L)));
+        CharacterSnapshotCache cache = new CharacterSnapshotCache(repository, 10, Duration.ofMinutes(5),
+                Clock.fixed(NOW, ZoneOffset.UTC), MetricsRecorder.discarding());
+
+        // When
+        CharacterSnapshot found = cache.get("ZEZIMA").orElseThrow();
+
+        // Then
+        assertEquals(13_034_431L, found.valueOf("WOODCUTTING"));
+    }
+
+    private static CharacterSnapshot snapshot(Map<String, Long> values) {
+        return CharacterSnapshot.builder()
+                .characterName("Zezima")
+                .values(values)
+                .capturedAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DynamoDbGoalProgressRepository against DynamoDB Local.
+ */
+class DynamoDbGoalProgressRepositoryTest extends DynamoDbLocalTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private DynamoDbGoalProgressRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDbGoalProgressRepository(enhancedClient(),
+                createTable("goal-progress", DynamoDbGoalProgressRepository.TABLE_SCHEMA),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testWriteBatch_withNewerUpdate_replacesProgress() {
+        // Given
+        repository.writeBatch(List.of(update(100, NOW.minus(Duration.ofHours(2)))));
+
+        // When
+        List<GoalProgressUpdateEvent> unprocessed = repository.writeBatch(
+                List.of(update(200, NOW.minus(Duration.ofHours(1)))));
+
+        // Then
+        assertTrue(unprocessed.isEmpty());
+        assertEquals(200, readProjection().getValue());
+    }
+
+    @Test
+    void testWriteBatch_withUpdatesOutOfOrder_keepsNewestProgress() {
+        // Given
+        GoalProgressUpdateEvent newer = update(200, NOW.minus(Duration.ofHours(1)));
+        GoalProgressUpdateEvent older = update(300, NOW.minus(Duration.ofHours(2)));
+        repository.writeBatch(List.of(newer));
+
+        // When
+        List<GoalProgressUpdateEvent> unprocessed = repository.writeBatch(List.of(older));
+
+        // Then
+        assertTrue(unprocessed.isEmpty());
+        assertEquals(200, readProjection().getValue());
+    }
+
+    @Test
+    void testWriteBatch_withStaleProjection_keepsNewerProjection() {
+        // Given
+        GoalProgressUpdateEvent newer = update(200, NOW.minus(Duration.ofHours(1)));
+        GoalProgressUpdateEvent older = update(150, NOW.minus(Duration.ofHours(2)));
+        repository.writeBatch(List.of(newer), Map.of(key(), projection(200, newer.getIngestedAt(), 50)));
+
+        // When
+        repository.writeBatch(List.of(older), Map.of(key(), projection(150, older.getIngestedAt(), 10)));
+
+        // Then
+        GoalProjection stored = readProjection();
+        assertEquals(200, stored.getValue());
+        assertEquals(50, stored.getRatePerDay());
+        assertEquals(newer.getIngestedAt(), stored.getObservedAt());
+    }
+
+    @Test
+    void testWriteBatch_withRedeliveredUpdate_writesItAgain() {
+        // Given
+        GoalProgressUpdateEvent update = update(200, NOW.minus(Duration.ofHours(1)));
+        repository.writeBatch(List.of(update));
+
+        // When
+        List<GoalProgressUpdateEvent> unprocessed = repository.writeBatch(List.of(update));
+
+        // Then
+        assertTrue(unprocessed.isEmpty());
+        assertEquals(200, readProjection().getValue());
+    }
+
+    private GoalProjection readProjection() {
+        List<GoalProjection> projections = repository.readProjections(List.of(update(0, NOW)));
+        assertEquals(1, projections.size());
+        return projections.get(0);
+    }
+
+    private static String key() {
+        return GoalProgressRepository.goalKey("user123", "goal-1");
+    }
+
+    private static GoalProgressUpdateEvent update(long progressValue, Instant ingestedAt) {
+        GoalProgressUpdateEvent update = new GoalProgressUpdateEvent();
+        update.setUserId("user123");
+        update.setCharacterName("Zezima");
+        update.setGoalId("goal-1");
+        update.setProgressValue(progressValue);
+        update.setIngestedAt(ingestedAt);
+        return update;
+    }
+
+    private static GoalProjection projection(long value, Instant observedAt, double ratePerDay) {
+        return GoalProjection.builder()
+                .userId("user123")
+                .goalId("goal-1")
+                .value(value)
+                .observedAt(observedAt)
+                .ratePerDay(ratePerDay)
+                .observations(3)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.IdempotencyRecord;
+import com.osrsGoalTracker.orchestration.model.IdempotencyStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DynamoDbIdempotencyRepository against DynamoDB Local.
+ */
+class DynamoDbIdempotencyRepositoryTest extends DynamoDbLocalTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private DynamoDbIdempotencyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDbIdempotencyRepository(enhancedClient(),
+                createTable("idempotency", DynamoDbIdempotencyRepository.TABLE_SCHEMA));
+    }
+
+    @Test
+    void testTryClaim_withLiveClaim_rejectsSecondClaim() {
+        // When
+        boolean first = repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+        boolean second = repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(IdempotencyStatus.IN_PROGRESS, repository.find("key").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testTryClaim_withExpiredRecord_claimsAgain() {
+        // Given
+        repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+
+        // When
+        boolean claimed = repository.tryClaim("key", NOW.plusSeconds(180), NOW.plusSeconds(120));
+
+        // Then
+        assertTrue(claimed);
+    }
+
+    @Test
+    void testComplete_replacesClaimWithResponse() {
+        // Given
+        repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+
+        // When
+        repository.complete(IdempotencyRecord.builder()
+                .key("key")
+                .status(IdempotencyStatus.COMPLETED)
+                .statusCode(200)
+                .responseBody("{\"message\":\"ok\"}")
+                .expiresAt(NOW.plusSeconds(60))
+                .build());
+
+        // Then
+        IdempotencyRecord record = repository.find("key").orElseThrow();
+        assertEquals(IdempotencyStatus.COMPLETED, record.getStatus());
+        assertEquals(200, record.getStatusCode());
+        assertEquals("{\"message\":\"ok\"}", record.getResponseBody());
+        assertFalse(repository.tryClaim("key", NOW.plusSeconds(60), NOW));
+    }
+
+    @Test
+    void testRelease_withOwnClaim_deletesRecord() {
+        // Given
+        repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+
+        // When
+        boolean released = repository.release("key", NOW.plusSeconds(60));
+
+        // Then
+        assertTrue(released);
+        assertEquals(Optional.empty(), repository.find("key"));
+    }
+
+    @Test
+    void testRelease_afterLapsedClaimWasTakenOver_keepsNewClaim() {
+        // Given
+        repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+        repository.tryClaim("key", NOW.plusSeconds(180), NOW.plusSeconds(120));
+
+        // When
+        boolean released = repository.release("key", NOW.plusSeconds(60));
+
+        // Then
+        assertFalse(released);
+        IdempotencyRecord record = repository.find("key").orElseThrow();
+        assertEquals(IdempotencyStatus.IN_PROGRESS, record.getStatus());
+        assertEquals(NOW.plusSeconds(180), record.getExpiresAt());
+    }
+
+    @Test
+    void testRelease_afterComplete_keepsResponse() {
+        // Given
+        repository.tryClaim("key", NOW.plusSeconds(60), NOW);
+        repository.complete(IdempotencyRecord.builder()
+                .key("key")
+                .status(IdempotencyStatus.COMPLETED)
+                .statusCode(200)
+                .responseBody("{\"message\":\"ok\"}")
+                .expiresAt(NOW.plusSeconds(60))
+                .build());
+
+        // When
+        boolean released = repository.release("key", NOW.plusSeconds(60));
+
+        // Then
+        assertFalse(released);
+        assertEquals(IdempotencyStatus.COMPLETED, repository.find("key").orElseThrow().getStatus());
+    }
+}
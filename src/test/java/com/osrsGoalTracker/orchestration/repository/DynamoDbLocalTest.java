@@ -0,0 +1,67 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Base for repository tests against DynamoDB Local. The tests are skipped
+ * unless DYNAMODB_LOCAL_ENDPOINT is set, for example to http://localhost:8000
+ * after starting amazon/dynamodb-local in Docker. Every table a test creates
+ * gets a unique name and is deleted after the test.
+ */
+abstract class DynamoDbLocalTest {
+
+    private static final String ENDPOINT_VARIABLE = "DYNAMODB_LOCAL_ENDPOINT";
+
+    private final List<DynamoDbTable<?>> tables = new ArrayList<>();
+    private DynamoDbClient dynamoDb;
+    private DynamoDbEnhancedClient enhancedClient;
+
+    @BeforeEach
+    void connectToDynamoDbLocal() {
+        String endpoint = System.getenv(ENDPOINT_VARIABLE);
+        assumeTrue(endpoint != null && !endpoint.isBlank(), ENDPOINT_VARIABLE + " is not set");
+        dynamoDb = DynamoDbClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local")))
+                .build();
+        enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build();
+    }
+
+    @AfterEach
+    void deleteTablesAndDisconnect() {
+        tables.forEach(DynamoDbTable::deleteTable);
+        tables.clear();
+        if (dynamoDb != null) {
+            dynamoDb.close();
+        }
+    }
+
+    protected DynamoDbEnhancedClient enhancedClient() {
+        return enhancedClient;
+    }
+
+    protected <T> String createTable(String prefix, TableSchema<T> schema) {
+        String tableName = prefix + "-" + UUID.randomUUID();
+        DynamoDbTable<T> table = enhancedClient.table(tableName, schema);
+        table.createTable();
+        tables.add(table);
+        return tableName;
+    }
+}
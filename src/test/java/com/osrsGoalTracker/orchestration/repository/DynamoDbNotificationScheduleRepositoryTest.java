@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+import com.osrsGoalTracker.orchestration.model.ScheduledNotification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DynamoDbNotificationScheduleRepository against DynamoDB Local.
+ */
+class DynamoDbNotificationScheduleRepositoryTest extends DynamoDbLocalTest {
+
+    private static final Instant DUE_AT = Instant.parse("2030-01-02T09:00:00Z");
+
+    private DynamoDbNotificationScheduleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDbNotificationScheduleRepository(enhancedClient(),
+                createTable("notification-schedule", DynamoDbNotificationScheduleRepository.TABLE_SCHEMA));
+    }
+
+    @Test
+    void testFindAll_afterSave_returnsNotificationWithDueTime() {
+        // Given
+        ScheduledNotification scheduled = scheduled("goal-1", DUE_AT);
+        repository.save(scheduled);
+
+        // When
+        List<ScheduledNotification> schedule = repository.findAll();
+
+        // Then
+        assertEquals(List.of(scheduled), schedule);
+    }
+
+    @Test
+    void testFindAll_afterSavingAgain_returnsLatestDueTime() {
+        // Given
+        repository.save(scheduled("goal-1", DUE_AT));
+        repository.save(scheduled("goal-1", DUE_AT.plusSeconds(86_400)));
+
+        // When
+        List<ScheduledNotification> schedule = repository.findAll();
+
+        // Then
+        assertEquals(List.of(scheduled("goal-1", DUE_AT.plusSeconds(86_400))), schedule);
+    }
+
+    @Test
+    void testFindAll_afterDelete_returnsEmpty() {
+        // Given
+        repository.save(scheduled("goal-1", DUE_AT));
+
+        // When
+        repository.delete("user123", "goal-1");
+
+        // Then
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    private static ScheduledNotification scheduled(String goalId, Instant dueAt) {
+        return ScheduledNotification.builder()
+                .notification(GoalNotification.builder()
+                        .userId("user123")
+                        .goalId(goalId)
+                        .characterName("Zezima")
+                        .targetAttribute("WOODCUTTING")
+                        .channelType(NotificationChannelType.EMAIL)
+                        .frequency(NotificationFrequency.DAILY)
+                        .build())
+                .dueAt(dueAt)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+import com.osrsGoalTracker.orchestration.model.OutboxStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+/**
+ * Tests for the DynamoDbOutboxRepository against DynamoDB Local.
+ */
+class DynamoDbOutboxRepositoryTest extends DynamoDbLocalTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private DynamoDbOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDbOutboxRepository(enhancedClient(),
+                createTable("outbox", DynamoDbOutboxRepository.TABLE_SCHEMA));
+    }
+
+    @Test
+    void testAdd_withTakenKey_rejectsSecondWrite() {
+        // Given
+        OutboxEntry entry = entry("user-1", "0001");
+        repository.add(entry);
+
+        // When / Then
+        assertThrows(ConditionalCheckFailedException.class, () -> repository.add(entry));
+    }
+
+    @Test
+    void testFindPending_afterWriteBatch_returnsPendingEntriesInKeyOrder() {
+        // Given
+        List<OutboxEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            entries.add(entry("user-" + (i % 3), String.format("%04d", i)));
+        }
+        assertTrue(repository.writeBatch(entries).isEmpty());
+        List<OutboxKey> keys = entries.stream().map(OutboxEntry::getKey).toList().reversed();
+
+        // When
+        List<OutboxEntry> pending = repository.findPending(keys);
+
+        // Then
+        assertEquals(25, pending.size());
+        assertEquals(keys.get(0), pending.get(0).getKey());
+        assertEquals(entries.get(24), pending.get(0));
+    }
+
+    @Test
+    void testFindPending_withSentAndMissingEntries_returnsOnlyPendingOnes() {
+        // Given
+        OutboxEntry pending = entry("user-1", "0001");
+        OutboxEntry sent = entry("user-1", "0002");
+        repository.writeBatch(List.of(pending, sent.toBuilder().status(OutboxStatus.SENT).sentAt(NOW).build()));
+
+        // When
+        List<OutboxEntry> found = repository.findPending(List.of(pending.getKey(), sent.getKey(),
+                OutboxKey.builder().partitionKey("user-2").eventId("0003").build()));
+
+        // Then
+        assertEquals(List.of(pending), found);
+    }
+
+    /**
+     * Builds a pending entry.
+     *
+     * @param partitionKey The partition key
+     * @param eventId      The event ID
+     * @return The entry
+     */
+    private static OutboxEntry entry(String partitionKey, String eventId) {
+        return OutboxEntry.builder()
+                .key(OutboxKey.builder().partitionKey(partitionKey).eventId(eventId).build())
+                .event(OutboundEvent.builder()
+                        .eventId(eventId)
+                        .partitionKey(partitionKey)
+                        .detailType("GoalCreationRequestEvent")
+                        .source("test-source")
+                        .detail("{\"eventId\":\"" + eventId + "\"}")
+                        .build())
+                .status(OutboxStatus.PENDING)
+                .createdAt(NOW)
+                .expiresAt(NOW.plusSeconds(3_600))
+                .build();
+    }
+}
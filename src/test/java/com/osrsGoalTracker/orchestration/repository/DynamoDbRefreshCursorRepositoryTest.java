@@ -0,0 +1,55 @@
+package com.osrsGoalTracker.orchestration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DynamoDbRefreshCursorRepository against DynamoDB Local.
+ */
+class DynamoDbRefreshCursorRepositoryTest extends DynamoDbLocalTest {
+
+    private DynamoDbRefreshCursorRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDbRefreshCursorRepository(enhancedClient(),
+                createTable("refresh-cursor", DynamoDbRefreshCursorRepository.TABLE_SCHEMA), "hiscore-refresh",
+                Clock.fixed(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testLoad_withNoCursorSaved_returnsEmpty() {
+        // When / Then
+        assertTrue(repository.load().isEmpty());
+    }
+
+    @Test
+    void testLoad_afterSave_returnsCursor() {
+        // Given
+        repository.save("user123\u0000goal-1");
+
+        // When
+        Optional<String> cursor = repository.load();
+
+        // Then
+        assertEquals(Optional.of("user123\u0000goal-1"), cursor);
+    }
+
+    @Test
+    void testLoad_afterSavingNull_returnsEmpty() {
+        // Given
+        repository.save("user123\u0000goal-1");
+        repository.save(null);
+
+        // When / Then
+        assertTrue(repository.load().isEmpty());
+    }
+}
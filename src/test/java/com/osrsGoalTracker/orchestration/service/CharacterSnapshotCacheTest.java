@@ -0,0 +1,212 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+import com.osrsGoalTracker.orchestration.repository.CharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.util.MetricsRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the CharacterSnapshotCache.
+ */
+class CharacterSnapshotCacheTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final CharacterSnapshot ZEZIMA = CharacterSnapshot.builder()
+            .characterName("Zezima")
+            .values(Map.of("WOODCUTTING", 13_034_431L))
+            .capturedAt(NOW)
+            .build();
+
+    private CharacterSnapshotRepository repository;
+    private MetricsRecorder metrics;
+    private SimulatedClock clock;
+    private CharacterSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CharacterSnapshotRepository.class);
+        metrics = mock(MetricsRecorder.class);
+        clock = new SimulatedClock(NOW);
+        cache = new CharacterSnapshotCache(repository, 2, TTL, clock, metrics);
+    }
+
+    @Test
+    void testGet_withRepeatedLookupWithinTtl_readsRepositoryOnce() {
+        // Given
+        when(repository.find("zezima")).thenReturn(Optional.of(ZEZIMA));
+
+        // When
+        Optional<CharacterSnapshot> first = cache.get("Zezima");
+        Optional<CharacterSnapshot> second = cache.get(" ZEZIMA ");
+
+        // Then
+        assertEquals(ZEZIMA, first.orElseThrow());
+        assertEquals(ZEZIMA, second.orElseThrow());
+        verify(repository, times(1)).find("zezima");
+        verify(metrics).count(CharacterSnapshotCache.SNAPSHOT_CACHE_MISSES, 1);
+        verify(metrics).count(CharacterSnapshotCache.SNAPSHOT_CACHE_HITS, 1);
+        verify(metrics, times(2)).recordLatency(eq(CharacterSnapshotCache.SNAPSHOT_LOOKUP_LATENCY), anyLong());
+    }
+
+    @Test
+    void testGet_afterTtl_readsRepositoryAgain() {
+        // Given
+        when(repository.find("zezima")).thenReturn(Optional.of(ZEZIMA));
+        cache.get("Zezima");
+        clock.advance(TTL);
+
+        // When
+        cache.get("Zezima");
+
+        // Then
+        verify(repository, times(2)).find("zezima");
+    }
+
+    @Test
+    void testGet_withCharacterWithoutSnapshot_cachesAbsence() {
+        // Given
+        when(repository.find("lynx titan")).thenReturn(Optional.empty());
+
+        // When
+        Optional<CharacterSnapshot> first = cache.get("Lynx_Titan");
+        Optional<CharacterSnapshot> second = cache.get("Lynx Titan");
+
+        // Then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(repository, times(1)).find("lynx titan");
+    }
+
+    @Test
+    void testGet_beyondCacheSize_evictsLeastRecentlyUsed() {
+        // Given
+        when(repository.find(anyString())).thenReturn(Optional.of(ZEZIMA));
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+
+        // When
+        cache.get("c");
+        cache.get("a");
+        cache.get("b");
+
+        // Then
+        verify(repository, times(1)).find("a");
+        verify(repository, times(2)).find("b");
+        verify(repository, times(1)).find("c");
+    }
+
+    @Test
+    void testGet_withRepositoryFailure_returnsEmptyAndRetriesNextTime() {
+        // Given
+        when(repository.find("zezima"))
+                .thenThrow(new IllegalStateException("Table unavailable"))
+                .thenReturn(Optional.of(ZEZIMA));
+
+        // When
+        Optional<CharacterSnapshot> failed = cache.get("Zezima");
+        Optional<CharacterSnapshot> retried = cache.get("Zezima");
+
+        // Then
+        assertTrue(failed.isEmpty());
+        assertEquals(ZEZIMA, retried.orElseThrow());
+        verify(metrics).count(CharacterSnapshotCache.SNAPSHOT_LOOKUP_FAILURES, 1);
+    }
+
+    @Test
+    void testGet_withConcurrentLookupsForSameCharacter_readsRepositoryOnce() throws Exception {
+        // Given
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch releaseRead = new CountDownLatch(1);
+        when(repository.find("zezima")).thenAnswer(invocation -> {
+            readStarted.countDown();
+            releaseRead.await(5, TimeUnit.SECONDS);
+            return Optional.of(ZEZIMA);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Optional<CharacterSnapshot>>> lookups = new ArrayList<>();
+
+        // When
+        try {
+            lookups.add(executor.submit(() -> cache.get("Zezima")));
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                lookups.add(executor.submit(() -> cache.get("zezima")));
+            }
+            releaseRead.countDown();
+            for (Future<Optional<CharacterSnapshot>> lookup : lookups) {
+                assertEquals(ZEZIMA, lookup.get(5, TimeUnit.SECONDS).orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        verify(repository, times(1)).find("zezima");
+    }
+
+    @Test
+    void testConstructor_withZeroCacheSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CharacterSnapshotCache(repository, 0, TTL, clock, metrics));
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class SimulatedClock extends Clock {
+        private Instant now;
+
+        private SimulatedClock(Instant start) {
+            this.now = start;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
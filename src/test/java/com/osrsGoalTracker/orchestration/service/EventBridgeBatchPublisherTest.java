@@ -0,0 +1,226 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+/**
+ * Tests for the EventBridgeBatchPublisher.
+ */
+class EventBridgeBatchPublisherTest {
+
+    private EventBridgeAsyncClient eventBridge;
+    private EventBridgeBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        eventBridge = mock(EventBridgeAsyncClient.class);
+        publisher = new EventBridgeBatchPublisher(eventBridge, new JitteredBackoff(Duration.ZERO, Duration.ZERO), 3);
+    }
+
+    @Test
+    void testPublish_withTwentyFiveEntries_sendsThreeRequests() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(response(0));
+
+        // When
+        PublishResult result = publisher.publishEntries(entries(25, 100));
+
+        // Then
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge, times(3)).putEvents(requestCaptor.capture());
+        assertEquals(10, requestCaptor.getAllValues().get(0).entries().size());
+        assertEquals(10, requestCaptor.getAllValues().get(1).entries().size());
+        assertEquals(5, requestCaptor.getAllValues().get(2).entries().size());
+        assertTrue(result.isSuccessful());
+        assertEquals(3, result.getRequestCount());
+    }
+
+    @Test
+    void testPublish_withLargeEntries_respectsRequestSizeLimit() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(response(0));
+
+        // When
+        PublishResult result = publisher.publishEntries(entries(4, 100 * 1024));
+
+        // Then
+        verify(eventBridge, times(2)).putEvents(any(PutEventsRequest.class));
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void testPublish_withOversizedEntry_reportsItWithoutSending() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(response(0));
+
+        // When
+        PublishResult result = publisher.publishEntries(entries(1, 300 * 1024));
+
+        // Then
+        verify(eventBridge, never()).putEvents(any(PutEventsRequest.class));
+        assertEquals(1, result.getFailedEvents().size());
+        assertEquals(EventBridgeBatchPublisher.ENTRY_TOO_LARGE, result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    @Test
+    void testPublish_withThrottledEntry_resubmitsOnlyThatEntry() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(response(1,
+                        succeeded("event-0"),
+                        failed("ThrottlingException"),
+                        succeeded("event-2")))
+                .thenReturn(response(0, succeeded("event-1")));
+        List<PutEventsRequestEntry> entries = entries(3, 100);
+
+        // When
+        PublishResult result = publisher.publishEntries(entries);
+
+        // Then
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge, times(2)).putEvents(requestCaptor.capture());
+        PutEventsRequest retryRequest = requestCaptor.getAllValues().get(1);
+        assertEquals(1, retryRequest.entries().size());
+        assertEquals(entries.get(1), retryRequest.entries().get(0));
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void testPublish_whenThrottlingPersists_reportsFailedEntry() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(response(1, failed("ThrottlingException")));
+
+        // When
+        PublishResult result = publisher.publishEntries(entries(1, 100));
+
+        // Then
+        verify(eventBridge, times(3)).putEvents(any(PutEventsRequest.class));
+        assertFalse(result.isSuccessful());
+        assertEquals(0, result.getFailedEvents().get(0).getIndex());
+        assertEquals("ThrottlingException", result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    @Test
+    void testPublish_whenCallFails_reportsEveryEntryOfTheBatch() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection reset")));
+
+        // When
+        PublishResult result = publisher.publishEntries(entries(2, 100));
+
+        // Then
+        assertEquals(2, result.getFailedEvents().size());
+        assertEquals("IllegalStateException", result.getFailedEvents().get(1).getErrorCode());
+    }
+
+    @Test
+    void testSession_sendsFullBatchBeforeCompletion() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(response(0));
+        BatchingEventPublisher.EntrySession<PutEventsRequestEntry> session = publisher.newSession();
+
+        // When
+        entries(10, 100).forEach(session::addEntry);
+
+        // Then
+        verify(eventBridge, times(1)).putEvents(any(PutEventsRequest.class));
+        session.addEntry(entries(1, 100).get(0));
+        assertTrue(session.complete().join().isSuccessful());
+        verify(eventBridge, times(2)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void testPublish_withNonRetryableError_doesNotRetry() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(
+                response(1, succeeded("event-0"), failed("MalformedDetail")));
+
+        // When
+        PublishResult result = publisher.publishEntries(entries(2, 100));
+
+        // Then
+        verify(eventBridge, times(1)).putEvents(any(PutEventsRequest.class));
+        assertEquals(1, result.getFailedEvents().size());
+        assertEquals(1, result.getFailedEvents().get(0).getIndex());
+    }
+
+    @Test
+    void testPublish_withEventPublisher_sendsEventsToConfiguredBus() {
+        // Given
+        when(eventBridge.putEvents(any(PutEventsRequest.class))).thenReturn(response(0));
+        EventBridgeEventPublisher eventPublisher = new EventBridgeEventPublisher(eventBridge, "goal-events",
+                new JitteredBackoff(Duration.ZERO, Duration.ZERO), 3, 10);
+
+        // When
+        PublishResult result = eventPublisher.publish(List.of(OutboundEvent.builder()
+                .partitionKey("user123")
+                .detailType("test-detail-type")
+                .source("com.osrsGoalTracker.orchestration")
+                .detail("{\"goalId\":\"goal-1\"}")
+                .build()));
+
+        // Then
+        ArgumentCaptor<PutEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridge).putEvents(requestCaptor.capture());
+        PutEventsRequestEntry entry = requestCaptor.getValue().entries().get(0);
+        assertEquals("goal-events", entry.eventBusName());
+        assertEquals("test-detail-type", entry.detailType());
+        assertTrue(result.isSuccessful());
+    }
+
+    private static List<PutEventsRequestEntry> entries(int count, int detailSize) {
+        String detail = "x".repeat(detailSize);
+        List<PutEventsRequestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(PutEventsRequestEntry.builder()
+                    .source("com.osrsGoalTracker.orchestration")
+                    .detailType("test-detail-type")
+                    .eventBusName("test-event-bus")
+                    .detail(detail)
+                    .build());
+        }
+        return entries;
+    }
+
+    private static CompletableFuture<PutEventsResponse> response(int failedEntryCount, PutEventsResultEntry... entries) {
+        return CompletableFuture.completedFuture(PutEventsResponse.builder()
+                .failedEntryCount(failedEntryCount)
+                .entries(entries)
+                .build());
+    }
+
+    private static PutEventsResultEntry succeeded(String eventId) {
+        return PutEventsResultEntry.builder().eventId(eventId).build();
+    }
+
+    private static PutEventsResultEntry failed(String errorCode) {
+        return PutEventsResultEntry.builder().errorCode(errorCode).errorMessage(errorCode + " message").build();
+    }
+}
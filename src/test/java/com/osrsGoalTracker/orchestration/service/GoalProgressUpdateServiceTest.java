@@ -0,0 +1,272 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+import com.osrsGoalTracker.orchestration.model.FailedEvent;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+import com.osrsGoalTracker.orchestration.model.ProgressCoalescing;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.service.GoalProjectionService.AtRiskEventTarget;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+
+/**
+ * Tests for the GoalProgressUpdateService.
+ */
+class GoalProgressUpdateServiceTest {
+
+    private static final JitteredBackoff NO_DELAY = new JitteredBackoff(Duration.ZERO, Duration.ZERO);
+    private static final Instant NOW = Instant.parse("2026-01-10T00:00:00Z");
+
+    private GoalProgressRepository repository;
+    private EventBridgeBatchPublisher publisher;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GoalProgressRepository.class);
+        executor = Executors.newFixedThreadPool(4);
+        when(repository.writeBatch(anyList())).thenReturn(List.of());
+        when(repository.writeBatch(anyList(), anyMap())).thenReturn(List.of());
+        publisher = mock(EventBridgeBatchPublisher.class);
+        when(publisher.publishEntries(anyList())).thenAnswer(invocation -> PublishResult.builder()
+                .eventCount(invocation.<List<?>>getArgument(0).size())
+                .requestCount(1)
+                .failedEvents(List.of())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testCoalesce_withMaxStrategy_keepsHighestProgressPerGoal() {
+        // Given
+        GoalProgressUpdateService service = service(ProgressCoalescing.MAX);
+
+        // When
+        List<GoalProgressUpdateEvent> coalesced = service.coalesce(List.of(
+                update("goal-1", 100), update("goal-2", 5), update("goal-1", 300), update("goal-1", 200)));
+
+        // Then
+        assertEquals(2, coalesced.size());
+        assertEquals("goal-1", coalesced.get(0).getGoalId());
+        assertEquals(300, coalesced.get(0).getProgressValue());
+        assertEquals(5, coalesced.get(1).getProgressValue());
+    }
+
+    @Test
+    void testCoalesce_withLatestStrategy_keepsLastUpdatePerGoal() {
+        // Given
+        GoalProgressUpdateService service = service(ProgressCoalescing.LATEST);
+
+        // When
+        List<GoalProgressUpdateEvent> coalesced = service.coalesce(List.of(
+                update("goal-1", 100), update("goal-1", 300), update("goal-1", 200)));
+
+        // Then
+        assertEquals(1, coalesced.size());
+        assertEquals(200, coalesced.get(0).getProgressValue());
+    }
+
+    @Test
+    void testCoalesce_withLatestStrategyAndReorderedBatch_keepsLastIngestedUpdate() {
+        // Given
+        GoalProgressUpdateService service = service(ProgressCoalescing.LATEST);
+        GoalProgressUpdateEvent newer = update("goal-1", 300);
+        newer.setIngestedAt(NOW);
+        GoalProgressUpdateEvent older = update("goal-1", 200);
+        older.setIngestedAt(NOW.minus(Duration.ofMinutes(5)));
+
+        // When
+        List<GoalProgressUpdateEvent> coalesced = service.coalesce(List.of(newer, older));
+
+        // Then
+        assertEquals(1, coalesced.size());
+        assertEquals(300, coalesced.get(0).getProgressValue());
+    }
+
+    @Test
+    void testWrite_withSixtyGoals_writesThreeBatchesOfDistinctGoals() {
+        // Given
+        List<GoalProgressUpdateEvent> updates = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            updates.add(update("goal-" + i, i));
+            updates.add(update("goal-" + i, i + 1));
+        }
+
+        // When
+        Set<String> failed = service(ProgressCoalescing.MAX).write(updates);
+
+        // Then
+        assertTrue(failed.isEmpty());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalProgressUpdateEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(3)).writeBatch(batches.capture());
+        Set<String> written = new HashSet<>();
+        for (List<GoalProgressUpdateEvent> batch : batches.getAllValues()) {
+            assertTrue(batch.size() <= GoalProgressRepository.MAX_BATCH_SIZE);
+            batch.forEach(update -> assertTrue(written.add(update.getGoalId())));
+        }
+        assertEquals(60, written.size());
+    }
+
+    @Test
+    void testWrite_withUnprocessedItems_retriesOnlyThoseItems() {
+        // Given
+        GoalProgressUpdateEvent throttled = update("goal-2", 20);
+        when(repository.writeBatch(anyList())).thenReturn(List.of(throttled)).thenReturn(List.of());
+
+        // When
+        Set<String> failed = service(ProgressCoalescing.MAX).write(List.of(update("goal-1", 10), throttled));
+
+        // Then
+        assertTrue(failed.isEmpty());
+        verify(repository).writeBatch(List.of(throttled));
+    }
+
+    @Test
+    void testWrite_whenRetriesAreExhausted_reportsFailedGoals() {
+        // Given
+        when(repository.writeBatch(anyList())).thenThrow(new IllegalStateException("throttled"));
+
+        // When
+        Set<String> failed = service(ProgressCoalescing.MAX).write(List.of(update("goal-1", 10)));
+
+        // Then
+        assertEquals(Set.of(GoalProgressUpdateService.goalKey(update("goal-1", 10))), failed);
+        verify(repository, times(3)).writeBatch(anyList());
+    }
+
+    @Test
+    void testWrite_withGoalFallingBehind_publishesAtRiskEventAndWritesProjection() {
+        // Given
+        when(repository.readProjections(anyList())).thenReturn(List.of(stalled("goal-1", false)));
+
+        // When
+        Set<String> failed = projectingService().write(List.of(targeted("goal-1")));
+
+        // Then
+        assertTrue(failed.isEmpty());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PutEventsRequestEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publishEntries(entries.capture());
+        PutEventsRequestEntry entry = entries.getValue().get(0);
+        assertEquals("GoalAtRiskEvent", entry.detailType());
+        assertTrue(entry.detail().contains("\"goalId\":\"goal-1\""));
+        assertTrue(entry.detail().contains("\"targetValue\":1000"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, GoalProjection>> projections = ArgumentCaptor.forClass(Map.class);
+        verify(repository).writeBatch(anyList(), projections.capture());
+        GoalProjection written = projections.getValue().get(GoalProgressRepository.goalKey("user123", "goal-1"));
+        assertTrue(written.isAtRisk());
+        assertEquals(NOW, written.getObservedAt());
+        assertEquals(3, written.getObservations());
+    }
+
+    @Test
+    void testWrite_withGoalAlreadyAtRisk_doesNotPublishAgain() {
+        // Given
+        when(repository.readProjections(anyList())).thenReturn(List.of(stalled("goal-1", true)));
+
+        // When
+        Set<String> failed = projectingService().write(List.of(targeted("goal-1")));
+
+        // Then
+        assertTrue(failed.isEmpty());
+        verify(publisher, never()).publishEntries(anyList());
+        verify(repository).writeBatch(anyList(), anyMap());
+    }
+
+    @Test
+    void testWrite_whenAtRiskEventFails_leavesGoalUnwritten() {
+        // Given
+        when(repository.readProjections(anyList())).thenReturn(List.of(stalled("goal-1", false)));
+        when(publisher.publishEntries(anyList())).thenReturn(PublishResult.builder()
+                .eventCount(1)
+                .requestCount(1)
+                .failedEvents(List.of(FailedEvent.builder().index(0).errorCode("InternalFailure").build()))
+                .build());
+
+        // When
+        Set<String> failed = projectingService().write(List.of(targeted("goal-1"), update("goal-2", 10)));
+
+        // Then
+        assertEquals(Set.of(GoalProgressRepository.goalKey("user123", "goal-1")), failed);
+        verify(repository).writeBatch(List.of(update("goal-2", 10)), Map.of(
+                GoalProgressRepository.goalKey("user123", "goal-2"),
+                GoalProjection.builder().userId("user123").goalId("goal-2").value(10).observedAt(NOW)
+                        .observations(1).build(),
+                GoalProgressRepository.goalKey("user123", "goal-1"),
+                stalled("goal-1", false).toBuilder().observedAt(NOW).observations(3).atRisk(true).build()));
+    }
+
+    private GoalProgressUpdateService projectingService() {
+        GoalProjectionService projectionService = new GoalProjectionService(repository,
+                new GoalProjector(Duration.ofDays(7), 3), publisher,
+                new AtRiskEventTarget("goal-bus", "GoalAtRiskEvent", "test"), Clock.fixed(NOW, ZoneOffset.UTC));
+        return new GoalProgressUpdateService(repository, ProgressCoalescing.MAX, executor, NO_DELAY, 3,
+                projectionService);
+    }
+
+    private static GoalProjection stalled(String goalId, boolean atRisk) {
+        return GoalProjection.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .value(100)
+                .observedAt(NOW.minus(Duration.ofDays(1)))
+                .observations(2)
+                .atRisk(atRisk)
+                .build();
+    }
+
+    private static GoalProgressUpdateEvent targeted(String goalId) {
+        GoalProgressUpdateEvent update = update(goalId, 100);
+        update.setTargetValue(1_000L);
+        update.setTargetDate(NOW.plus(Duration.ofDays(30)));
+        return update;
+    }
+
+    private GoalProgressUpdateService service(ProgressCoalescing coalescing) {
+        return new GoalProgressUpdateService(repository, coalescing, executor, NO_DELAY, 3);
+    }
+
+    private static GoalProgressUpdateEvent update(String goalId, long progressValue) {
+        GoalProgressUpdateEvent update = new GoalProgressUpdateEvent();
+        update.setUserId("user123");
+        update.setCharacterName("characterName");
+        update.setGoalId(goalId);
+        update.setProgressValue(progressValue);
+        return update;
+    }
+}
@@ -0,0 +1,163 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the GoalProjector.
+ */
+class GoalProjectorTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration DAY = Duration.ofDays(1);
+
+    private final GoalProjector projector = new GoalProjector(DAY, 3);
+
+    @Test
+    void testObserve_withFirstUpdate_recordsProgressWithoutRate() {
+        // When
+        GoalProjection projection = projector.observe(null, "user123", "goal-1", 500, START);
+
+        // Then
+        assertEquals(500, projection.getValue());
+        assertEquals(START, projection.getObservedAt());
+        assertEquals(0.0, projection.getRatePerDay());
+        assertEquals(1, projection.getObservations());
+    }
+
+    @Test
+    void testObserve_withSecondUpdate_usesProgressBetweenThem() {
+        // Given
+        GoalProjection first = projector.observe(null, "user123", "goal-1", 0, START);
+
+        // When
+        GoalProjection second = projector.observe(first, "user123", "goal-1", 500, START.plus(Duration.ofHours(12)));
+
+        // Then
+        assertEquals(1_000.0, second.getRatePerDay(), 1e-9);
+        assertEquals(2, second.getObservations());
+    }
+
+    @Test
+    void testObserve_afterOneHalfLife_movesRateHalfwayToLatestProgress() {
+        // Given
+        GoalProjection projection = observeAll(0, 1_000);
+
+        // When
+        GoalProjection next = projector.observe(projection, "user123", "goal-1", 4_000,
+                START.plus(DAY.multipliedBy(2)));
+
+        // Then
+        assertEquals(2_000.0, next.getRatePerDay(), 1e-9);
+        assertEquals(3, next.getObservations());
+    }
+
+    @Test
+    void testObserve_withProgressGoingDown_countsNoProgress() {
+        // Given
+        GoalProjection projection = observeAll(0, 1_000);
+
+        // When
+        GoalProjection next = projector.observe(projection, "user123", "goal-1", 900, START.plus(DAY.multipliedBy(2)));
+
+        // Then
+        assertEquals(500.0, next.getRatePerDay(), 1e-9);
+        assertEquals(900, next.getValue());
+    }
+
+    @Test
+    void testObserve_withStaleUpdate_keepsProjection() {
+        // Given
+        GoalProjection projection = observeAll(0, 1_000);
+
+        // When
+        GoalProjection stale = projector.observe(projection, "user123", "goal-1", 2_000, START.plus(DAY));
+
+        // Then
+        assertSame(projection, stale);
+    }
+
+    @Test
+    void testProjectedCompletion_withSteadyRate_returnsWhenTargetIsReached() {
+        // Given
+        GoalProjection projection = observeAll(0, 1_000, 2_000);
+
+        // When
+        Instant completion = projector.projectedCompletion(projection, 10_000);
+
+        // Then
+        assertEquals(START.plus(DAY.multipliedBy(10)), completion);
+    }
+
+    @Test
+    void testProjectedCompletion_withStalledGoal_returnsNull() {
+        // Given
+        GoalProjection projection = observeAll(1_000, 1_000, 1_000);
+
+        // When / Then
+        assertNull(projector.projectedCompletion(projection, 10_000));
+    }
+
+    @Test
+    void testIsAtRisk_withTargetDateBeforeProjection_returnsTrue() {
+        // Given
+        GoalProjection projection = observeAll(0, 1_000, 2_000);
+
+        // When / Then
+        assertTrue(projector.isAtRisk(projection, 10_000, START.plus(DAY.multipliedBy(9))));
+        assertFalse(projector.isAtRisk(projection, 10_000, START.plus(DAY.multipliedBy(11))));
+        assertTrue(projector.isAtRisk(observeAll(1_000, 1_000, 1_000), 10_000, START.plus(DAY.multipliedBy(365))));
+    }
+
+    @Test
+    void testIsAtRisk_afterProgressStops_returnsTrueOnceUnchangedUpdatesDecayRate() {
+        // Given
+        Instant targetDate = START.plus(DAY.multipliedBy(11));
+        GoalProjection onTrack = observeAll(0, 1_000, 2_000);
+
+        // When
+        GoalProjection stalled = projector.observe(onTrack, "user123", "goal-1", 2_000,
+                START.plus(DAY.multipliedBy(3)));
+
+        // Then
+        assertFalse(projector.isAtRisk(onTrack, 10_000, targetDate));
+        assertEquals(500.0, stalled.getRatePerDay(), 1e-9);
+        assertTrue(projector.isAtRisk(stalled, 10_000, targetDate));
+    }
+
+    @Test
+    void testIsAtRisk_withTooFewUpdatesNoDateOrTargetReached_returnsFalse() {
+        // Given
+        Instant pastDate = START.minus(DAY);
+
+        // When / Then
+        assertFalse(projector.isAtRisk(observeAll(0, 1_000), 10_000, pastDate));
+        assertFalse(projector.isAtRisk(observeAll(0, 1_000, 2_000), 10_000, null));
+        assertFalse(projector.isAtRisk(observeAll(0, 1_000, 10_000), 10_000, pastDate));
+    }
+
+    @Test
+    void testConstructor_withInvalidSettings_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GoalProjector(Duration.ZERO, 3));
+        assertThrows(IllegalArgumentException.class, () -> new GoalProjector(DAY, 1));
+    }
+
+    private GoalProjection observeAll(long... values) {
+        GoalProjection projection = null;
+        for (int i = 0; i < values.length; i++) {
+            projection = projector.observe(projection, "user123", "goal-1", values[i], START.plus(DAY.multipliedBy(i)));
+        }
+        return projection;
+    }
+}
@@ -0,0 +1,470 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.osrsGoalTracker.orchestration.external.HiscoreClient;
+import com.osrsGoalTracker.orchestration.external.HiscoreUnavailableException;
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+import com.osrsGoalTracker.orchestration.model.CharacterHiscores;
+import com.osrsGoalTracker.orchestration.model.CharacterSnapshot;
+import com.osrsGoalTracker.orchestration.model.GoalProjection;
+import com.osrsGoalTracker.orchestration.model.HiscoreRefreshSummary;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.ActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.CharacterSnapshotRepository;
+import com.osrsGoalTracker.orchestration.repository.GoalProgressRepository;
+import com.osrsGoalTracker.orchestration.repository.InMemoryRefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.repository.RefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService.GoalStores;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService.ProgressEventTarget;
+import com.osrsGoalTracker.orchestration.service.HiscoreRefreshService.RefreshSettings;
+import com.osrsGoalTracker.orchestration.util.RateLimiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+
+/**
+ * Tests for the HiscoreRefreshService.
+ */
+class HiscoreRefreshServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private ActiveGoalRepository goalRepository;
+    private GoalProgressRepository progressRepository;
+    private RefreshCursorRepository cursorRepository;
+    private CharacterSnapshotRepository snapshotRepository;
+    private HiscoreClient hiscoreClient;
+    private EventBridgeBatchPublisher publisher;
+    private HiscoreRefreshService service;
+
+    @BeforeEach
+    void setUp() {
+        goalRepository = mock(ActiveGoalRepository.class);
+        progressRepository = mock(GoalProgressRepository.class);
+        hiscoreClient = mock(HiscoreClient.class);
+        publisher = mock(EventBridgeBatchPublisher.class);
+        when(publisher.publishEntries(anyList())).thenAnswer(invocation -> PublishResult.builder()
+                .eventCount(invocation.<List<?>>getArgument(0).size())
+                .requestCount(1)
+                .failedEvents(List.of())
+                .build());
+        cursorRepository = new InMemoryRefreshCursorRepository();
+        snapshotRepository = mock(CharacterSnapshotRepository.class);
+        service = createService(4, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testRefresh_withManyGoalsForOneCharacter_fetchesOnce() {
+        // Given
+        List<ActiveGoal> firstPage = new ArrayList<>();
+        List<ActiveGoal> secondPage = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String name = i % 2 == 0 ? "Zezima" : "zezima";
+            (i < 10 ? firstPage : secondPage).add(goal("goal-" + i, name, "WOODCUTTING", 1_000));
+        }
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page("page-1", firstPage),
+                page(null, secondPage)));
+        when(hiscoreClient.fetch(anyString())).thenReturn(Optional.of(hiscores("Zezima", 1_000)));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        verify(hiscoreClient, times(1)).fetch(anyString());
+        assertEquals(20, summary.getGoalCount());
+        assertEquals(1, summary.getCharacterCount());
+        assertEquals(0, summary.getPublishedCount());
+        verify(publisher, never()).publishEntries(anyList());
+    }
+
+    @Test
+    void testRefresh_withSomeGoalsChanged_publishesOnlyChangedGoals() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 1_000),
+                goal("goal-2", "Zezima", "WOODCUTTING", 1_500),
+                goal("goal-3", "Lynx Titan", "WOODCUTTING", 0)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+        when(hiscoreClient.fetch("Lynx Titan")).thenReturn(Optional.empty());
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX, "request-1");
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PutEventsRequestEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publishEntries(entries.capture());
+        assertEquals(1, entries.getValue().size());
+        PutEventsRequestEntry entry = entries.getValue().get(0);
+        assertEquals("goal-bus", entry.eventBusName());
+        assertEquals("GoalProgressUpdateEvent", entry.detailType());
+        assertEquals("{\"userId\":\"user123\",\"characterName\":\"Zezima\",\"goalId\":\"goal-1\","
+                + "\"progressValue\":1500,\"ingestedAt\":1748779200.000000000,\"correlationId\":\"request-1\"}",
+                entry.detail());
+        assertEquals(1, summary.getFetchedCount());
+        assertEquals(1, summary.getNotFoundCount());
+        assertEquals(1, summary.getPublishedCount());
+    }
+
+    @Test
+    void testRefresh_twiceOverSameHiscores_secondRunPublishesNothing() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenAnswer(invocation -> Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 1_000)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+        when(progressRepository.readStoredProgress(anyList()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(storedProgress("goal-1", 1_500)));
+
+        // When
+        HiscoreRefreshSummary first = service.refresh(Instant.MAX);
+        HiscoreRefreshSummary second = service.refresh(Instant.MAX);
+
+        // Then
+        assertEquals(1, first.getPublishedCount());
+        assertEquals(0, second.getPublishedCount());
+        verify(publisher, times(1)).publishEntries(anyList());
+    }
+
+    @Test
+    void testRefresh_withStoredProgressAheadOfCreationValue_comparesWithStoredProgress() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 1_500),
+                goal("goal-2", "Zezima", "WOODCUTTING", 1_000)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+        when(progressRepository.readStoredProgress(anyList())).thenReturn(List.of(
+                storedProgress("goal-1", 1_200),
+                storedProgress("goal-2", 1_500)));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PutEventsRequestEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publishEntries(entries.capture());
+        assertEquals(1, summary.getPublishedCount());
+        assertTrue(entries.getValue().get(0).detail().contains("\"goalId\":\"goal-1\""));
+    }
+
+    @Test
+    void testRefresh_whenStoredProgressUnreadable_publishesGoalsWithValues() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 1_500)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+        when(progressRepository.readStoredProgress(anyList())).thenThrow(new IllegalStateException("Throttled"));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        assertEquals(1, summary.getPublishedCount());
+    }
+
+    @Test
+    void testRefresh_withGoalTarget_stampsTargetOnProgressEvent() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                ActiveGoal.builder()
+                        .userId("user123")
+                        .goalId("goal-1")
+                        .characterName("Zezima")
+                        .targetAttribute("WOODCUTTING")
+                        .currentValue(1_000)
+                        .targetValue(13_034_431L)
+                        .targetDate(Instant.parse("2030-01-01T00:00:00Z"))
+                        .build()))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+
+        // When
+        service.refresh(Instant.MAX);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PutEventsRequestEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publishEntries(entries.capture());
+        String detail = entries.getValue().get(0).detail();
+        assertTrue(detail.contains("\"targetValue\":13034431"));
+        assertTrue(detail.contains("\"targetDate\":1893456000.000000000"));
+    }
+
+    @Test
+    void testRefresh_withStalledGoalsDueStallCheck_publishesUnchangedProgress() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                targetGoal("goal-1", 1_000),
+                targetGoal("goal-2", 1_000),
+                targetGoal("goal-3", 1_000),
+                goal("goal-4", "Zezima", "WOODCUTTING", 1_000)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+        when(progressRepository.readStoredProgress(anyList())).thenReturn(List.of(
+                storedProgress("goal-1", 1_500).toBuilder().observedAt(NOW.minus(Duration.ofDays(2))).build(),
+                storedProgress("goal-2", 1_500),
+                storedProgress("goal-3", 1_500).toBuilder().observedAt(NOW.minus(Duration.ofDays(2)))
+                        .atRisk(true).build(),
+                storedProgress("goal-4", 1_500).toBuilder().observedAt(NOW.minus(Duration.ofDays(2))).build()));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PutEventsRequestEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publishEntries(entries.capture());
+        assertEquals(1, summary.getPublishedCount());
+        String detail = entries.getValue().get(0).detail();
+        assertTrue(detail.contains("\"goalId\":\"goal-1\""));
+        assertTrue(detail.contains("\"progressValue\":1500"));
+    }
+
+    @Test
+    void testRefresh_withTargetDatedGoalWithoutStoredProgress_publishesCreationValue() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                targetGoal("goal-1", 1_500)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        assertEquals(1, summary.getPublishedCount());
+    }
+
+    @Test
+    void testRefresh_withFetchedHiscores_savesCharacterSnapshot() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Lynx_Titan", "WOODCUTTING", 1_000)))));
+        when(hiscoreClient.fetch("Lynx_Titan")).thenReturn(Optional.of(hiscores("Lynx Titan", 1_500)));
+
+        // When
+        service.refresh(Instant.MAX);
+
+        // Then
+        verify(snapshotRepository).save("lynx titan", CharacterSnapshot.builder()
+                .characterName("Lynx_Titan")
+                .values(Map.of("WOODCUTTING", 1_500L))
+                .capturedAt(NOW)
+                .build());
+    }
+
+    @Test
+    void testRefresh_whenSnapshotSaveFails_stillPublishesProgress() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 1_000)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 1_500)));
+        doThrow(new IllegalStateException("Table unavailable")).when(snapshotRepository).save(anyString(), any());
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        assertEquals(1, summary.getFetchedCount());
+        assertEquals(1, summary.getPublishedCount());
+    }
+
+    @Test
+    void testRefresh_whenFetchFails_countsFailureAndPublishesOthers() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 0),
+                goal("goal-2", "Lynx Titan", "WOODCUTTING", 0)))));
+        when(hiscoreClient.fetch("Zezima")).thenReturn(Optional.of(hiscores("Zezima", 10)));
+        when(hiscoreClient.fetch("Lynx Titan")).thenThrow(new HiscoreUnavailableException("Hiscores returned 503"));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(Instant.MAX);
+
+        // Then
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(1, summary.getPublishedCount());
+    }
+
+    @Test
+    void testRefresh_pastDeadline_skipsFetches() {
+        // Given
+        when(goalRepository.activeGoalPages(NOW, null)).thenReturn(Stream.of(page(null, List.of(
+                goal("goal-1", "Zezima", "WOODCUTTING", 0)))));
+
+        // When
+        HiscoreRefreshSummary summary = service.refresh(NOW);
+
+        // Then
+        verify(hiscoreClient, never()).fetch(eq("Zezima"));
+        assertEquals(0, summary.getCharacterCount());
+    }
+
+    @Test
+    void testRefresh_twoDeadlineLimitedRuns_fetchEveryCharacterOnce() {
+        // Given
+        SimulatedClock clock = new SimulatedClock(NOW);
+        HiscoreRefreshService limited = createService(1, clock);
+        List<ActiveGoalPage> pages = List.of(
+                page("0", List.of(goal("goal-1", "Zezima", "WOODCUTTING", 0))),
+                page("1", List.of(goal("goal-2", "Lynx Titan", "WOODCUTTING", 0))),
+                page("2", List.of(goal("goal-3", "Woox", "WOODCUTTING", 0))),
+                page(null, List.of(goal("goal-4", "B0aty", "WOODCUTTING", 0))));
+        when(goalRepository.activeGoalPages(any(Instant.class), any())).thenAnswer(invocation -> {
+            String cursor = invocation.getArgument(1);
+            int from = cursor == null ? 0 : Integer.parseInt(cursor) + 1;
+            return pages.subList(from, pages.size()).stream();
+        });
+        when(hiscoreClient.fetch(anyString())).thenAnswer(invocation -> {
+            clock.advance(Duration.ofSeconds(1));
+            return Optional.of(hiscores(invocation.getArgument(0), 10));
+        });
+
+        // When
+        HiscoreRefreshSummary first = limited.refresh(clock.instant().plusMillis(2_500));
+        Optional<String> cursorAfterFirst = cursorRepository.load();
+        HiscoreRefreshSummary second = limited.refresh(clock.instant().plusMillis(2_500));
+
+        // Then
+        assertEquals(3, first.getFetchedCount());
+        assertEquals(Optional.of("2"), cursorAfterFirst);
+        assertEquals(1, second.getFetchedCount());
+        for (String characterName : List.of("Zezima", "Lynx Titan", "Woox", "B0aty")) {
+            verify(hiscoreClient, times(1)).fetch(characterName);
+        }
+        assertTrue(cursorRepository.load().isEmpty());
+    }
+
+    @Test
+    void testRefresh_pastDeadline_keepsCursor() {
+        // Given
+        cursorRepository.save("0");
+        when(goalRepository.activeGoalPages(NOW, "0")).thenReturn(Stream.of(
+                page("1", List.of(goal("goal-2", "Lynx Titan", "WOODCUTTING", 0)))));
+
+        // When
+        service.refresh(NOW);
+
+        // Then
+        verify(hiscoreClient, never()).fetch(anyString());
+        assertEquals(Optional.of("0"), cursorRepository.load());
+    }
+
+    @Test
+    void testCharacterKey_withEquivalentNames_returnsSameKey() {
+        // When / Then
+        assertEquals(HiscoreRefreshService.characterKey("Lynx Titan"),
+                HiscoreRefreshService.characterKey(" lynx_titan"));
+        assertEquals(HiscoreRefreshService.characterKey("Lynx Titan"),
+                HiscoreRefreshService.characterKey("LYNX-TITAN"));
+    }
+
+    private HiscoreRefreshService createService(int maxConcurrency, Clock clock) {
+        return new HiscoreRefreshService(
+                new GoalStores(goalRepository, progressRepository, cursorRepository, snapshotRepository),
+                hiscoreClient, new RateLimiter(1_000), publisher,
+                new ProgressEventTarget("goal-bus", "GoalProgressUpdateEvent", "test"),
+                new RefreshSettings(maxConcurrency, Duration.ofDays(1)), clock);
+    }
+
+    private static ActiveGoalPage page(String nextCursor, List<ActiveGoal> goals) {
+        return ActiveGoalPage.builder()
+                .goals(goals)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static ActiveGoal goal(String goalId, String characterName, String attribute, long currentValue) {
+        return ActiveGoal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName(characterName)
+                .targetAttribute(attribute)
+                .currentValue(currentValue)
+                .build();
+    }
+
+    private static ActiveGoal targetGoal(String goalId, long currentValue) {
+        return ActiveGoal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName("Zezima")
+                .targetAttribute("WOODCUTTING")
+                .currentValue(currentValue)
+                .targetValue(13_034_431L)
+                .targetDate(Instant.parse("2030-01-01T00:00:00Z"))
+                .build();
+    }
+
+    private static GoalProjection storedProgress(String goalId, long value) {
+        return GoalProjection.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .value(value)
+                .observedAt(NOW.minusSeconds(3_600))
+                .observations(1)
+                .build();
+    }
+
+    private static CharacterHiscores hiscores(String characterName, long woodcutting) {
+        return CharacterHiscores.builder()
+                .characterName(characterName)
+                .values(Map.of("WOODCUTTING", woodcutting))
+                .build();
+    }
+
+    /**
+     * A clock that only moves when told to, from any thread.
+     */
+    private static final class SimulatedClock extends Clock {
+        private volatile Instant now;
+
+        private SimulatedClock(Instant start) {
+            this.now = start;
+        }
+
+        private synchronized void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import com.osrsGoalTracker.orchestration.model.IdempotencyOutcome;
+import com.osrsGoalTracker.orchestration.model.IdempotencyOutcome.Decision;
+import com.osrsGoalTracker.orchestration.model.IdempotencyRecord;
+import com.osrsGoalTracker.orchestration.model.IdempotencyStatus;
+import com.osrsGoalTracker.orchestration.repository.IdempotencyRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the IdempotencyService.
+ */
+class IdempotencyServiceTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private IdempotencyRepository repository;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyRepository.class);
+        service = new IdempotencyService(repository, 10, TTL, LEASE, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testClaim_withNewKey_proceedsAndClaimsInRepository() {
+        // Given
+        when(repository.tryClaim("key", NOW.plus(LEASE), NOW)).thenReturn(true);
+
+        // When
+        IdempotencyOutcome outcome = service.claim("key");
+
+        // Then
+        assertEquals(Decision.PROCEED, outcome.getDecision());
+        verify(repository).tryClaim("key", NOW.plus(LEASE), NOW);
+    }
+
+    @Test
+    void testClaim_afterCompleteInSameContainer_replaysWithoutRepository() {
+        // Given
+        when(repository.tryClaim(any(), any(), any())).thenReturn(true);
+        service.claim("key");
+        service.complete("key", 200, "{\"message\":\"ok\"}");
+
+        // When
+        IdempotencyOutcome outcome = service.claim("key");
+
+        // Then
+        assertEquals(Decision.REPLAY, outcome.getDecision());
+        assertEquals(200, outcome.getRecord().getStatusCode());
+        assertEquals("{\"message\":\"ok\"}", outcome.getRecord().getResponseBody());
+        verify(repository, times(1)).tryClaim(any(), any(), any());
+    }
+
+    @Test
+    void testClaim_whenCompletedInAnotherContainer_replaysStoredResponse() {
+        // Given
+        when(repository.tryClaim(any(), any(), any())).thenReturn(false);
+        when(repository.find("key")).thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED)));
+
+        // When
+        IdempotencyOutcome outcome = service.claim("key");
+
+        // Then
+        assertEquals(Decision.REPLAY, outcome.getDecision());
+        assertEquals(202, outcome.getRecord().getStatusCode());
+    }
+
+    @Test
+    void testClaim_whenInProgressInAnotherContainer_returnsInProgressAndKeepsNoLocalClaim() {
+        // Given
+        when(repository.tryClaim(any(), any(), any())).thenReturn(false);
+        when(repository.find("key")).thenReturn(Optional.of(record(IdempotencyStatus.IN_PROGRESS)));
+
+        // When
+        IdempotencyOutcome first = service.claim("key");
+        IdempotencyOutcome second = service.claim("key");
+
+        // Then
+        assertEquals(Decision.IN_PROGRESS, first.getDecision());
+        assertEquals(Decision.IN_PROGRESS, second.getDecision());
+        verify(repository, times(2)).find("key");
+    }
+
+    @Test
+    void testClaim_whenRepositoryFails_proceeds() {
+        // Given
+        when(repository.tryClaim(any(), any(), any())).thenThrow(new IllegalStateException("throttled"));
+
+        // When
+        IdempotencyOutcome outcome = service.claim("key");
+
+        // Then
+        assertEquals(Decision.PROCEED, outcome.getDecision());
+    }
+
+    @Test
+    void testRelease_afterClaim_allowsRetry() {
+        // Given
+        when(repository.tryClaim(any(), any(), any())).thenReturn(true);
+        IdempotencyOutcome claimed = service.claim("key");
+
+        // When
+        service.release("key", claimed.getClaimExpiresAt());
+        IdempotencyOutcome outcome = service.claim("key");
+
+        // Then
+        assertEquals(Decision.PROCEED, outcome.getDecision());
+        verify(repository).release("key", NOW.plus(LEASE));
+    }
+
+    @Test
+    void testComplete_storesRecordInRepository() {
+        // When
+        service.complete("key", 200, "body");
+
+        // Then
+        verify(repository).complete(eq(IdempotencyRecord.builder()
+                .key("key")
+                .status(IdempotencyStatus.COMPLETED)
+                .statusCode(200)
+                .responseBody("body")
+                .expiresAt(NOW.plus(TTL))
+                .build()));
+    }
+
+    @Test
+    void testClaim_withoutRepository_usesLocalCacheOnly() {
+        // Given
+        IdempotencyService localOnly = new IdempotencyService(null, 1, TTL, LEASE,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        localOnly.claim("first");
+        localOnly.complete("first", 200, "body");
+
+        // When
+        IdempotencyOutcome repeat = localOnly.claim("first");
+        localOnly.claim("second");
+        IdempotencyOutcome evicted = localOnly.claim("first");
+
+        // Then
+        assertEquals(Decision.REPLAY, repeat.getDecision());
+        assertEquals(Decision.PROCEED, evicted.getDecision());
+        verify(repository, never()).find(any());
+    }
+
+    @Test
+    void testClaim_afterStaleClaimLeaseLapses_takesKeyOver() {
+        // Given
+        SimulatedClock clock = new SimulatedClock(NOW);
+        IdempotencyService leased = new IdempotencyService(null, 10, TTL, LEASE, clock);
+        leased.claim("key");
+        IdempotencyOutcome whileLeased = leased.claim("key");
+        clock.advance(LEASE);
+
+        // When
+        IdempotencyOutcome afterLease = leased.claim("key");
+
+        // Then
+        assertEquals(Decision.IN_PROGRESS, whileLeased.getDecision());
+        assertEquals(Decision.PROCEED, afterLease.getDecision());
+    }
+
+    @Test
+    void testRelease_afterLapsedClaimWasTakenOver_keepsRetrysClaim() {
+        // Given
+        SimulatedClock clock = new SimulatedClock(NOW);
+        IdempotencyService leased = new IdempotencyService(null, 10, TTL, LEASE, clock);
+        IdempotencyOutcome stale = leased.claim("key");
+        clock.advance(LEASE);
+        leased.claim("key");
+
+        // When
+        leased.release("key", stale.getClaimExpiresAt());
+        IdempotencyOutcome outcome = leased.claim("key");
+
+        // Then
+        assertEquals(Decision.IN_PROGRESS, outcome.getDecision());
+    }
+
+    @Test
+    void testComplete_afterClaim_suppressesRepeatsForFullTtl() {
+        // Given
+        SimulatedClock clock = new SimulatedClock(NOW);
+        IdempotencyService leased = new IdempotencyService(null, 10, TTL, LEASE, clock);
+        leased.claim("key");
+        leased.complete("key", 200, "body");
+        clock.advance(TTL.minusSeconds(1));
+
+        // When
+        IdempotencyOutcome outcome = leased.claim("key");
+
+        // Then
+        assertEquals(Decision.REPLAY, outcome.getDecision());
+    }
+
+    @Test
+    void testContentKey_withDifferentSplits_returnsDifferentKeys() {
+        // When / Then
+        assertEquals(IdempotencyService.contentKey("ab", "c"), IdempotencyService.contentKey("ab", "c"));
+        assertNotEquals(IdempotencyService.contentKey("ab", "c"), IdempotencyService.contentKey("a", "bc"));
+    }
+
+    private static IdempotencyRecord record(IdempotencyStatus status) {
+        return IdempotencyRecord.builder()
+                .key("key")
+                .status(status)
+                .statusCode(202)
+                .responseBody("{}")
+                .expiresAt(NOW.plus(TTL))
+                .build();
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class SimulatedClock extends Clock {
+        private Instant now;
+
+        private SimulatedClock(Instant start) {
+            this.now = start;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+
+/**
+ * Tests for the KinesisEventPublisher.
+ */
+class KinesisEventPublisherTest {
+
+    private KinesisAsyncClient kinesis;
+    private KinesisEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        kinesis = mock(KinesisAsyncClient.class);
+        publisher = new KinesisEventPublisher(kinesis, "goal-events", new JitteredBackoff(Duration.ZERO, Duration.ZERO),
+                3);
+    }
+
+    @Test
+    void testPublish_withTwelveHundredEvents_sendsThreePutRecordsRequests() {
+        // Given
+        when(kinesis.putRecords(any(PutRecordsRequest.class))).thenAnswer(invocation -> success(invocation
+                .getArgument(0, PutRecordsRequest.class).records().size()));
+
+        // When
+        PublishResult result = publisher.publish(events(1_200, "user-1"));
+
+        // Then
+        ArgumentCaptor<PutRecordsRequest> requestCaptor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(kinesis, times(3)).putRecords(requestCaptor.capture());
+        assertEquals(500, requestCaptor.getAllValues().get(0).records().size());
+        assertEquals(500, requestCaptor.getAllValues().get(1).records().size());
+        assertEquals(200, requestCaptor.getAllValues().get(2).records().size());
+        assertEquals("goal-events", requestCaptor.getAllValues().get(0).streamName());
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void testPublish_withEvent_usesPartitionKeyAndWrapsDetailInEnvelope() throws Exception {
+        // Given
+        when(kinesis.putRecords(any(PutRecordsRequest.class))).thenReturn(success(1));
+
+        // When
+        publisher.publish(events(1, "user-42"));
+
+        // Then
+        ArgumentCaptor<PutRecordsRequest> requestCaptor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(kinesis).putRecords(requestCaptor.capture());
+        PutRecordsRequestEntry record = requestCaptor.getValue().records().get(0);
+        assertEquals("user-42", record.partitionKey());
+        JsonNode envelope = new ObjectMapper().readTree(record.data().asUtf8String());
+        assertEquals("GoalCreationRequestEvent", envelope.get("detail-type").asText());
+        assertEquals("test-source", envelope.get("source").asText());
+        assertEquals(0, envelope.get("detail").get("n").asInt());
+    }
+
+    @Test
+    void testPublish_withThrottledRecord_retriesOnlyThatRecord() {
+        // Given
+        PutRecordsResponse throttled = PutRecordsResponse.builder()
+                .failedRecordCount(1)
+                .records(PutRecordsResultEntry.builder().sequenceNumber("1").shardId("shardId-0").build(),
+                        PutRecordsResultEntry.builder()
+                                .errorCode("ProvisionedThroughputExceededException")
+                                .errorMessage("Rate exceeded for shard")
+                                .build())
+                .build();
+        when(kinesis.putRecords(any(PutRecordsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(throttled))
+                .thenReturn(success(1));
+
+        // When
+        PublishResult result = publisher.publish(events(2, "user-1"));
+
+        // Then
+        ArgumentCaptor<PutRecordsRequest> requestCaptor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(kinesis, times(2)).putRecords(requestCaptor.capture());
+        assertEquals(1, requestCaptor.getAllValues().get(1).records().size());
+        assertTrue(result.isSuccessful());
+        assertEquals(2, result.getRequestCount());
+    }
+
+    @Test
+    void testPublish_withKmsFailure_reportsRecordWithoutRetrying() {
+        // Given
+        PutRecordsResponse rejected = PutRecordsResponse.builder()
+                .failedRecordCount(1)
+                .records(PutRecordsResultEntry.builder()
+                        .errorCode("KMSAccessDeniedException")
+                        .errorMessage("Access denied")
+                        .build())
+                .build();
+        when(kinesis.putRecords(any(PutRecordsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(rejected));
+
+        // When
+        PublishResult result = publisher.publish(events(1, "user-1"));
+
+        // Then
+        verify(kinesis, times(1)).putRecords(any(PutRecordsRequest.class));
+        assertFalse(result.isSuccessful());
+        assertEquals("KMSAccessDeniedException", result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    @Test
+    void testPublish_withMissingPartitionKey_reportsEventWithoutSending() {
+        // Given
+        when(kinesis.putRecords(any(PutRecordsRequest.class))).thenReturn(success(1));
+
+        // When
+        PublishResult result = publisher.publish(events(1, null));
+
+        // Then
+        verify(kinesis, never()).putRecords(any(PutRecordsRequest.class));
+        assertEquals(BatchingEventPublisher.INVALID_ENTRY, result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    /**
+     * Builds a successful response for the given number of records.
+     *
+     * @param count The number of records
+     * @return A completed future for the response
+     */
+    private static CompletableFuture<PutRecordsResponse> success(int count) {
+        List<PutRecordsResultEntry> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(PutRecordsResultEntry.builder().sequenceNumber(Integer.toString(i)).shardId("shardId-0")
+                    .build());
+        }
+        return CompletableFuture.completedFuture(PutRecordsResponse.builder()
+                .failedRecordCount(0)
+                .records(records)
+                .build());
+    }
+
+    /**
+     * Builds events with a small detail.
+     *
+     * @param count        The number of events
+     * @param partitionKey The partition key of every event
+     * @return The events
+     */
+    private static List<OutboundEvent> events(int count, String partitionKey) {
+        List<OutboundEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(OutboundEvent.builder()
+                    .partitionKey(partitionKey)
+                    .detailType("GoalCreationRequestEvent")
+                    .source("test-source")
+                    .detail("{\"n\":" + i + "}")
+                    .build());
+        }
+        return events;
+    }
+}
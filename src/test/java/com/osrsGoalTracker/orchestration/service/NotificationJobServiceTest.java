@@ -0,0 +1,189 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.osrsGoalTracker.orchestration.model.ActiveGoal;
+import com.osrsGoalTracker.orchestration.model.ActiveGoalPage;
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+import com.osrsGoalTracker.orchestration.model.NotificationTickSummary;
+import com.osrsGoalTracker.orchestration.model.ScheduledNotification;
+import com.osrsGoalTracker.orchestration.repository.ActiveGoalRepository;
+import com.osrsGoalTracker.orchestration.repository.InMemoryRefreshCursorRepository;
+import com.osrsGoalTracker.orchestration.repository.NotificationScheduleRepository;
+import com.osrsGoalTracker.orchestration.repository.RefreshCursorRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the NotificationJobService.
+ */
+class NotificationJobServiceTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T09:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private ActiveGoalRepository goalRepository;
+    private NotificationScheduleRepository scheduleRepository;
+    private RefreshCursorRepository cursorRepository;
+    private NotificationScheduler scheduler;
+    private NotificationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        goalRepository = mock(ActiveGoalRepository.class);
+        scheduleRepository = mock(NotificationScheduleRepository.class);
+        cursorRepository = new InMemoryRefreshCursorRepository();
+        scheduler = new NotificationScheduler(List.of(), Duration.ofMinutes(1), 60, scheduleRepository, CLOCK);
+        service = new NotificationJobService(scheduler, scheduleRepository, goalRepository, cursorRepository, CLOCK);
+    }
+
+    @Test
+    void testRun_withNewGoalWithNotification_schedulesOnePeriodOut() {
+        // Given
+        ActiveGoal goal = goal("goal-1", NotificationChannelType.DISCORD, NotificationFrequency.DAILY);
+        when(goalRepository.activeGoalPages(any(), any())).thenReturn(Stream.of(page(null, goal)));
+
+        // When
+        service.run(Instant.MAX);
+
+        // Then
+        assertTrue(scheduler.isScheduled(notification(goal)));
+        verify(scheduleRepository).save(ScheduledNotification.builder()
+                .notification(notification(goal))
+                .dueAt(NOW.plus(Duration.ofDays(1)))
+                .build());
+    }
+
+    @Test
+    void testRun_onFirstRun_restoresStoredScheduleAndSendsWhatIsDue() {
+        // Given
+        ActiveGoal goal = goal("goal-1", NotificationChannelType.EMAIL, NotificationFrequency.WEEKLY);
+        when(scheduleRepository.findAll()).thenReturn(List.of(ScheduledNotification.builder()
+                .notification(notification(goal))
+                .dueAt(NOW.minus(Duration.ofMinutes(5)))
+                .build()));
+        when(goalRepository.activeGoalPages(any(), any())).thenReturn(Stream.of(page(null, goal)));
+
+        // When
+        NotificationTickSummary summary = service.run(Instant.MAX);
+
+        // Then
+        assertEquals(1, summary.getDueCount());
+        assertEquals(1, summary.getScheduledCount());
+    }
+
+    @Test
+    void testRun_afterPassWithoutGoal_cancelsItsNotification() {
+        // Given
+        ActiveGoal kept = goal("goal-1", NotificationChannelType.DISCORD, NotificationFrequency.DAILY);
+        ActiveGoal removed = goal("goal-2", NotificationChannelType.DISCORD, NotificationFrequency.DAILY);
+        when(goalRepository.activeGoalPages(any(), any()))
+                .thenReturn(Stream.of(page(null, kept, removed)))
+                .thenReturn(Stream.of(page(null, kept)));
+        service.run(Instant.MAX);
+
+        // When
+        service.run(Instant.MAX);
+
+        // Then
+        assertTrue(scheduler.isScheduled(notification(kept)));
+        assertFalse(scheduler.isScheduled(notification(removed)));
+        verify(scheduleRepository).delete("user123", "goal-2");
+    }
+
+    @Test
+    void testRun_withPassStartedInAnotherContainer_keepsGoalsItDidNotSee() {
+        // Given
+        ActiveGoal stored = goal("goal-1", NotificationChannelType.DISCORD, NotificationFrequency.DAILY);
+        ActiveGoal read = goal("goal-2", NotificationChannelType.DISCORD, NotificationFrequency.DAILY);
+        when(scheduleRepository.findAll()).thenReturn(List.of(ScheduledNotification.builder()
+                .notification(notification(stored))
+                .dueAt(NOW.plus(Duration.ofHours(1)))
+                .build()));
+        cursorRepository.save("user123\u0000goal-1");
+        when(goalRepository.activeGoalPages(any(), any())).thenReturn(Stream.of(page(null, read)));
+
+        // When
+        service.run(Instant.MAX);
+
+        // Then
+        assertTrue(scheduler.isScheduled(notification(stored)));
+        assertTrue(scheduler.isScheduled(notification(read)));
+        assertTrue(cursorRepository.load().isEmpty());
+    }
+
+    @Test
+    void testRun_withGoalWhoseNotificationWasRemoved_cancelsIt() {
+        // Given
+        ActiveGoal notified = goal("goal-1", NotificationChannelType.EMAIL, NotificationFrequency.DAILY);
+        ActiveGoal silenced = goal("goal-1", null, null);
+        when(goalRepository.activeGoalPages(any(), any()))
+                .thenReturn(Stream.of(page(null, notified)))
+                .thenReturn(Stream.of(page(null, silenced)));
+        service.run(Instant.MAX);
+
+        // When
+        NotificationTickSummary summary = service.run(Instant.MAX);
+
+        // Then
+        assertEquals(0, summary.getScheduledCount());
+        verify(scheduleRepository).delete("user123", "goal-1");
+    }
+
+    @Test
+    void testRun_pastDeadline_savesCursorAndReadsNoPage() {
+        // Given
+        cursorRepository.save("user123\u0000goal-0");
+        when(goalRepository.activeGoalPages(any(), any())).thenReturn(Stream.of(page("user123\u0000goal-5",
+                goal("goal-1", NotificationChannelType.DISCORD, NotificationFrequency.DAILY))));
+
+        // When
+        NotificationTickSummary summary = service.run(NOW);
+
+        // Then
+        assertEquals(0, summary.getScheduledCount());
+        assertEquals("user123\u0000goal-0", cursorRepository.load().orElseThrow());
+    }
+
+    private static ActiveGoalPage page(String nextCursor, ActiveGoal... goals) {
+        return ActiveGoalPage.builder().goals(List.of(goals)).nextCursor(nextCursor).build();
+    }
+
+    private static ActiveGoal goal(String goalId, NotificationChannelType channel, NotificationFrequency frequency) {
+        return ActiveGoal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName("Zezima")
+                .targetAttribute("WOODCUTTING")
+                .notificationChannelType(channel)
+                .frequency(frequency)
+                .build();
+    }
+
+    private static GoalNotification notification(ActiveGoal goal) {
+        return GoalNotification.builder()
+                .userId(goal.getUserId())
+                .goalId(goal.getGoalId())
+                .characterName(goal.getCharacterName())
+                .targetAttribute(goal.getTargetAttribute())
+                .channelType(goal.getNotificationChannelType())
+                .frequency(goal.getFrequency())
+                .build();
+    }
+}
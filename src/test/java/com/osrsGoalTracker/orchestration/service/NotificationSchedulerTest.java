@@ -0,0 +1,340 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.external.NotificationChannel;
+import com.osrsGoalTracker.orchestration.external.NotificationDeliveryException;
+import com.osrsGoalTracker.orchestration.model.GoalNotification;
+import com.osrsGoalTracker.orchestration.model.NotificationChannelType;
+import com.osrsGoalTracker.orchestration.model.NotificationDigest;
+import com.osrsGoalTracker.orchestration.model.NotificationFrequency;
+import com.osrsGoalTracker.orchestration.model.NotificationTickSummary;
+import com.osrsGoalTracker.orchestration.model.ScheduledNotification;
+import com.osrsGoalTracker.orchestration.repository.NotificationScheduleRepository;
+import com.osrsGoalTracker.orchestration.util.RateLimiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the NotificationScheduler, driven by a simulated clock.
+ */
+class NotificationSchedulerTest {
+
+    private static final Instant START = Instant.parse("2025-06-01T09:00:00Z");
+
+    private SimulatedClock clock;
+    private RecordingChannel discord;
+    private RecordingChannel email;
+    private NotificationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SimulatedClock(START);
+        discord = new RecordingChannel(NotificationChannelType.DISCORD, 10);
+        email = new RecordingChannel(NotificationChannelType.EMAIL, 2);
+        scheduler = new NotificationScheduler(List.of(dispatcher(discord), dispatcher(email)),
+                Duration.ofMinutes(1), 60, clock);
+    }
+
+    @Test
+    void testTick_withSeveralGoalsPerUser_sendsOneDigestPerUserAndChannel() {
+        // Given
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+        scheduler.schedule(daily("user-1", "goal-2", NotificationChannelType.DISCORD));
+        scheduler.schedule(daily("user-1", "goal-3", NotificationChannelType.EMAIL));
+        scheduler.schedule(daily("user-2", "goal-4", NotificationChannelType.DISCORD));
+
+        // When
+        clock.advance(Duration.ofDays(1));
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(4, summary.getDueCount());
+        assertEquals(3, summary.getDigestCount());
+        assertEquals(3, summary.getSentCount());
+        assertEquals(1, discord.batches.size());
+        assertEquals(2, discord.batches.get(0).size());
+        assertEquals(2, discord.batches.get(0).get(0).getNotifications().size());
+        assertEquals(1, email.batches.size());
+    }
+
+    @Test
+    void testTick_beforeDueTime_sendsNothing() {
+        // Given
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+
+        // When
+        clock.advance(Duration.ofHours(23));
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(0, summary.getDueCount());
+        assertTrue(discord.batches.isEmpty());
+    }
+
+    @Test
+    void testTick_withMoreDigestsThanBatchSize_sendsSeveralBatches() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(notification("user-" + i, "goal-" + i, NotificationChannelType.EMAIL,
+                    NotificationFrequency.WEEKLY));
+        }
+
+        // When
+        clock.advance(Duration.ofDays(7));
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(5, summary.getSentCount());
+        assertEquals(List.of(2, 2, 1), email.batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void testTick_afterSending_reschedulesForNextPeriodOnly() {
+        // Given
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+
+        // When
+        clock.advance(Duration.ofDays(3).plusHours(1));
+        NotificationTickSummary missed = scheduler.tick();
+        clock.advance(Duration.ofHours(22));
+        NotificationTickSummary early = scheduler.tick();
+        clock.advance(Duration.ofHours(1));
+        NotificationTickSummary next = scheduler.tick();
+
+        // Then
+        assertEquals(1, missed.getDueCount());
+        assertEquals(0, early.getDueCount());
+        assertEquals(1, next.getDueCount());
+        assertEquals(1, next.getScheduledCount());
+    }
+
+    @Test
+    void testTick_whenChannelRateLimits_retriesAfterRequestedDelay() {
+        // Given
+        discord.rateLimitedResponses = 2;
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+
+        // When
+        clock.advance(Duration.ofDays(1));
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(1, summary.getSentCount());
+        assertEquals(3, discord.attempts);
+    }
+
+    @Test
+    void testTick_whenChannelFails_countsFailedDigestAndKeepsSchedule() {
+        // Given
+        discord.failing = true;
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+
+        // When
+        clock.advance(Duration.ofDays(1));
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(1, summary.getScheduledCount());
+    }
+
+    @Test
+    void testTick_whenOneChannelThrows_countsTheOtherChannelsDeliveries() {
+        // Given
+        discord.crashing = true;
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+        scheduler.schedule(daily("user-1", "goal-2", NotificationChannelType.EMAIL));
+
+        // When
+        clock.advance(Duration.ofDays(1));
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(1, summary.getSentCount());
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(1, email.batches.size());
+    }
+
+    @Test
+    void testTick_withStore_savesNextDueTimeOfSentNotification() {
+        // Given
+        NotificationScheduleRepository store = mock(NotificationScheduleRepository.class);
+        NotificationScheduler persisted = new NotificationScheduler(List.of(dispatcher(discord)),
+                Duration.ofMinutes(1), 60, store, clock);
+        GoalNotification notification = daily("user-1", "goal-1", NotificationChannelType.DISCORD);
+        persisted.schedule(notification);
+
+        // When
+        clock.advance(Duration.ofDays(1));
+        persisted.tick();
+
+        // Then
+        verify(store).save(scheduled(notification, START.plus(Duration.ofDays(1))));
+        verify(store).save(scheduled(notification, START.plus(Duration.ofDays(2))));
+    }
+
+    @Test
+    void testTick_afterRestoreWithPastDueTime_sendsOnNextTick() {
+        // Given
+        GoalNotification notification = daily("user-1", "goal-1", NotificationChannelType.EMAIL);
+        scheduler.restore(List.of(scheduled(notification, START.minus(Duration.ofHours(2)))));
+
+        // When
+        NotificationTickSummary summary = scheduler.tick();
+
+        // Then
+        assertEquals(1, summary.getSentCount());
+        assertEquals(1, summary.getScheduledCount());
+    }
+
+    @Test
+    void testTick_afterCancel_sendsNothingAndDeletesFromStore() {
+        // Given
+        NotificationScheduleRepository store = mock(NotificationScheduleRepository.class);
+        NotificationScheduler persisted = new NotificationScheduler(List.of(dispatcher(discord)),
+                Duration.ofMinutes(1), 60, store, clock);
+        persisted.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+
+        // When
+        persisted.cancel("user-1", "goal-1");
+        clock.advance(Duration.ofDays(1));
+        NotificationTickSummary summary = persisted.tick();
+
+        // Then
+        assertEquals(0, summary.getDueCount());
+        assertEquals(0, summary.getScheduledCount());
+        assertTrue(discord.batches.isEmpty());
+        verify(store).delete("user-1", "goal-1");
+    }
+
+    @Test
+    void testTick_afterReschedulingWithNewFrequency_sendsOnlyAtNewDueTime() {
+        // Given
+        scheduler.schedule(daily("user-1", "goal-1", NotificationChannelType.DISCORD));
+        GoalNotification weekly = notification("user-1", "goal-1", NotificationChannelType.DISCORD,
+                NotificationFrequency.WEEKLY);
+
+        // When
+        scheduler.schedule(weekly);
+        clock.advance(Duration.ofDays(1));
+        NotificationTickSummary daily = scheduler.tick();
+        clock.advance(Duration.ofDays(6));
+        NotificationTickSummary week = scheduler.tick();
+
+        // Then
+        assertEquals(0, daily.getDueCount());
+        assertEquals(1, week.getDueCount());
+        assertTrue(scheduler.isScheduled(weekly));
+    }
+
+    private static ScheduledNotification scheduled(GoalNotification notification, Instant dueAt) {
+        return ScheduledNotification.builder().notification(notification).dueAt(dueAt).build();
+    }
+
+    private static NotificationDispatcher dispatcher(NotificationChannel channel) {
+        return new NotificationDispatcher(channel, new RateLimiter(1_000), 3, Duration.ZERO);
+    }
+
+    private static GoalNotification daily(String userId, String goalId, NotificationChannelType channel) {
+        return notification(userId, goalId, channel, NotificationFrequency.DAILY);
+    }
+
+    private static GoalNotification notification(String userId, String goalId, NotificationChannelType channel,
+            NotificationFrequency frequency) {
+        return GoalNotification.builder()
+                .userId(userId)
+                .goalId(goalId)
+                .characterName("characterName")
+                .targetAttribute("WOODCUTTING")
+                .channelType(channel)
+                .frequency(frequency)
+                .build();
+    }
+
+    /**
+     * A channel that records what it is sent instead of calling an endpoint.
+     */
+    private static final class RecordingChannel implements NotificationChannel {
+        private final NotificationChannelType type;
+        private final int maxBatchSize;
+        private final List<List<NotificationDigest>> batches = new ArrayList<>();
+        private int rateLimitedResponses;
+        private boolean failing;
+        private boolean crashing;
+        private int attempts;
+
+        private RecordingChannel(NotificationChannelType type, int maxBatchSize) {
+            this.type = type;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public NotificationChannelType type() {
+            return type;
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public synchronized void send(List<NotificationDigest> digests) {
+            attempts++;
+            if (crashing) {
+                throw new IllegalStateException("The channel is misconfigured");
+            }
+            if (failing) {
+                throw new NotificationDeliveryException("The endpoint returned 500");
+            }
+            if (rateLimitedResponses > 0) {
+                rateLimitedResponses--;
+                throw new NotificationDeliveryException("Rate limited", Duration.ofMillis(1));
+            }
+            batches.add(List.copyOf(digests));
+        }
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class SimulatedClock extends Clock {
+        private Instant now;
+
+        private SimulatedClock(Instant start) {
+            this.now = start;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.OutboxDrainSummary;
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxKey;
+import com.osrsGoalTracker.orchestration.model.OutboxStatus;
+import com.osrsGoalTracker.orchestration.repository.OutboxRepository;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for the OutboxDrainService.
+ */
+class OutboxDrainServiceTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private OutboxRepository repository;
+    private InMemoryEventPublisher transport;
+    private OutboxDrainService drainService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxRepository.class);
+        transport = new InMemoryEventPublisher();
+        drainService = new OutboxDrainService(repository, transport,
+                new JitteredBackoff(Duration.ZERO, Duration.ZERO), 3, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.writeBatch(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void testDrain_withPendingEntries_publishesThemAndMarksThemSent() {
+        // Given
+        List<OutboxEntry> entries = entries(30);
+        List<OutboxKey> keys = entries.stream().map(OutboxEntry::getKey).toList();
+        when(repository.findPending(keys)).thenReturn(entries);
+
+        // When
+        OutboxDrainSummary summary = drainService.drain(keys);
+
+        // Then
+        assertEquals(30, transport.events().size());
+        assertEquals(entries.get(0).getEvent(), transport.events().get(0));
+        assertEquals(30, summary.getPublishedCount());
+        assertEquals(0, summary.getSkippedCount());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEntry>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).writeBatch(batchCaptor.capture());
+        assertEquals(25, batchCaptor.getAllValues().get(0).size());
+        assertEquals(5, batchCaptor.getAllValues().get(1).size());
+        OutboxEntry marked = batchCaptor.getAllValues().get(0).get(0);
+        assertEquals(OutboxStatus.SENT, marked.getStatus());
+        assertEquals(NOW, marked.getSentAt());
+    }
+
+    @Test
+    void testDrain_withAlreadySentEntries_skipsThem() {
+        // Given
+        List<OutboxEntry> entries = entries(3);
+        List<OutboxKey> keys = entries.stream().map(OutboxEntry::getKey).toList();
+        when(repository.findPending(keys)).thenReturn(entries.subList(2, 3));
+
+        // When
+        OutboxDrainSummary summary = drainService.drain(keys);
+
+        // Then
+        assertEquals(List.of(entries.get(2).getEvent()), transport.events());
+        assertEquals(1, summary.getPublishedCount());
+        assertEquals(2, summary.getSkippedCount());
+    }
+
+    @Test
+    void testDrain_withRejectedEvent_leavesItPendingAndReportsIt() {
+        // Given
+        List<OutboxEntry> entries = entries(3);
+        List<OutboxKey> keys = entries.stream().map(OutboxEntry::getKey).toList();
+        when(repository.findPending(keys)).thenReturn(entries);
+        transport.rejectWhen(event -> event.getDetail().equals(entries.get(1).getEvent().getDetail()));
+
+        // When
+        OutboxDrainSummary summary = drainService.drain(keys);
+
+        // Then
+        assertEquals(List.of(keys.get(1)), summary.getFailedKeys());
+        assertEquals(2, summary.getPublishedCount());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEntry>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repository).writeBatch(batchCaptor.capture());
+        assertEquals(List.of(keys.get(0), keys.get(2)),
+                batchCaptor.getValue().stream().map(OutboxEntry::getKey).toList());
+    }
+
+    @Test
+    void testDrain_withNoKeys_readsNothing() {
+        // When
+        OutboxDrainSummary summary = drainService.drain(List.of());
+
+        // Then
+        verify(repository, never()).findPending(anyList());
+        assertEquals(0, summary.getPendingCount());
+    }
+
+    /**
+     * Builds pending entries for one user.
+     *
+     * @param count The number of entries
+     * @return The entries
+     */
+    private static List<OutboxEntry> entries(int count) {
+        List<OutboxEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String eventId = OutboxEventPublisher.eventId(NOW, i);
+            entries.add(OutboxEntry.builder()
+                    .key(OutboxKey.builder().partitionKey("user-1").eventId(eventId).build())
+                    .event(OutboundEvent.builder()
+                            .eventId(eventId)
+                            .partitionKey("user-1")
+                            .detailType("GoalCreationRequestEvent")
+                            .source("test-source")
+                            .detail("{\"n\":" + i + "}")
+                            .build())
+                    .status(OutboxStatus.PENDING)
+                    .createdAt(NOW)
+                    .expiresAt(NOW.plus(Duration.ofDays(7)))
+                    .build());
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,140 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.OutboxEntry;
+import com.osrsGoalTracker.orchestration.model.OutboxStatus;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.repository.OutboxRepository;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for the OutboxEventPublisher.
+ */
+class OutboxEventPublisherTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private OutboxRepository repository;
+    private OutboxEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxRepository.class);
+        publisher = new OutboxEventPublisher(repository, Runnable::run,
+                new JitteredBackoff(Duration.ZERO, Duration.ZERO), 3, Duration.ofDays(7),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testPublish_withSingleEvent_makesOneConditionalWrite() {
+        // When
+        PublishResult result = publisher.publish(events(1));
+
+        // Then
+        ArgumentCaptor<OutboxEntry> entryCaptor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(repository).add(entryCaptor.capture());
+        verify(repository, never()).writeBatch(anyList());
+        OutboxEntry entry = entryCaptor.getValue();
+        assertEquals("user-1", entry.getKey().getPartitionKey());
+        assertEquals(OutboxStatus.PENDING, entry.getStatus());
+        assertEquals(NOW.plus(Duration.ofDays(7)), entry.getExpiresAt());
+        assertTrue(result.isSuccessful());
+        assertEquals(1, result.getRequestCount());
+    }
+
+    @Test
+    void testPublish_withFailedWrite_reportsEvent() {
+        // Given
+        doThrow(new IllegalStateException("DynamoDB unavailable")).when(repository).add(any(OutboxEntry.class));
+
+        // When
+        PublishResult result = publisher.publish(events(1));
+
+        // Then
+        assertFalse(result.isSuccessful());
+        assertEquals(OutboxEventPublisher.OUTBOX_WRITE_FAILED, result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    @Test
+    void testPublish_withBulkEvents_writesBatchesInOrderAndRetriesUnprocessed() {
+        // Given
+        when(repository.writeBatch(anyList())).thenAnswer(invocation -> {
+            List<OutboxEntry> batch = invocation.getArgument(0);
+            return batch.size() == 5 ? batch.subList(4, 5) : List.of();
+        });
+
+        // When
+        PublishResult result = publisher.publish(events(30));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEntry>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(3)).writeBatch(batchCaptor.capture());
+        List<OutboxEntry> first = batchCaptor.getAllValues().get(0);
+        assertEquals(25, first.size());
+        assertTrue(first.get(0).getKey().getEventId().compareTo(first.get(1).getKey().getEventId()) < 0);
+        assertEquals(first.get(0).getKey().getEventId(), first.get(0).getEvent().getEventId());
+        assertEquals(1, batchCaptor.getAllValues().get(2).size());
+        assertTrue(result.isSuccessful());
+        assertEquals(3, result.getRequestCount());
+    }
+
+    @Test
+    void testPublish_withEntryNeverProcessed_reportsItsIndex() {
+        // Given
+        when(repository.writeBatch(anyList())).thenAnswer(invocation -> {
+            List<OutboxEntry> batch = invocation.getArgument(0);
+            return batch.subList(batch.size() - 1, batch.size());
+        });
+
+        // When
+        PublishResult result = publisher.publish(events(2));
+
+        // Then
+        verify(repository, times(3)).writeBatch(anyList());
+        assertEquals(1, result.getFailedEvents().size());
+        assertEquals(1, result.getFailedEvents().get(0).getIndex());
+    }
+
+    /**
+     * Builds events for one user.
+     *
+     * @param count The number of events
+     * @return The events
+     */
+    private static List<OutboundEvent> events(int count) {
+        List<OutboundEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(OutboundEvent.builder()
+                    .partitionKey("user-1")
+                    .detailType("GoalCreationRequestEvent")
+                    .source("test-source")
+                    .detail("{\"n\":" + i + "}")
+                    .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,191 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.util.AdaptiveRateLimiter;
+import com.osrsGoalTracker.orchestration.util.CircuitBreaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the PublishGuard.
+ */
+class PublishGuardTest {
+
+    private static final Instant START = Instant.parse("2030-01-01T00:00:00Z");
+    private static final OutboundEvent EVENT = OutboundEvent.builder()
+            .partitionKey("user-1")
+            .detailType("GoalCreationRequestEvent")
+            .source("test-source")
+            .detail("{}")
+            .build();
+
+    private SimulatedClock clock;
+    private InMemoryEventPublisher publisher;
+    private PublishGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SimulatedClock(START);
+        publisher = new InMemoryEventPublisher();
+        guard = new PublishGuard(
+                new AdaptiveRateLimiter(10, 1, 100, 1.0, 0.5, clock),
+                new CircuitBreaker(3, Duration.ofSeconds(10), clock),
+                clock);
+    }
+
+    @Test
+    void testPublish_withCleanPublish_raisesRate() {
+        // When
+        PublishResult result = guard.publish(publisher, session -> session.add(EVENT), Instant.MAX);
+
+        // Then
+        assertTrue(result.isSuccessful());
+        assertEquals(1, publisher.events().size());
+        assertEquals(10.1, guard.snapshot().getPublishRate(), 1e-9);
+        assertEquals(CircuitBreaker.State.CLOSED, guard.snapshot().getCircuitState());
+    }
+
+    @Test
+    void testPublish_withTransportFailures_lowersRateAndOpensCircuit() {
+        // Given
+        publisher.rejectWhen(event -> true);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            guard.publish(publisher, session -> session.add(EVENT), Instant.MAX);
+        }
+        PublishRejectedException exception = assertThrows(PublishRejectedException.class,
+                () -> guard.publish(publisher, session -> session.add(EVENT), Instant.MAX));
+
+        // Then
+        assertEquals(Duration.ofSeconds(10), exception.getRetryAfter());
+        assertEquals(1.25, guard.snapshot().getPublishRate(), 1e-9);
+        assertEquals(CircuitBreaker.State.OPEN, guard.snapshot().getCircuitState());
+        assertEquals(1, guard.snapshot().getRejectedCount());
+    }
+
+    @Test
+    void testPublish_afterOpenPeriodWithHealthyTransport_closesCircuit() {
+        // Given
+        publisher.rejectWhen(event -> true);
+        for (int i = 0; i < 3; i++) {
+            guard.publish(publisher, session -> session.add(EVENT), Instant.MAX);
+        }
+        publisher.rejectWhen(event -> false);
+        clock.advance(Duration.ofSeconds(10));
+
+        // When
+        PublishResult result = guard.publish(publisher, session -> session.add(EVENT), Instant.MAX);
+
+        // Then
+        assertTrue(result.isSuccessful());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.snapshot().getCircuitState());
+    }
+
+    @Test
+    void testPublish_withRateUsedUp_rejectsUntilTokenIsEarned() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            guard.publish(publisher, session -> session.add(EVENT), Instant.MAX);
+        }
+
+        // When
+        PublishRejectedException exception = assertThrows(PublishRejectedException.class,
+                () -> guard.publish(publisher, session -> session.add(EVENT), Instant.MAX));
+
+        // Then
+        assertEquals(10, publisher.events().size());
+        assertTrue(exception.getRetryAfter().toMillis() > 0);
+        assertTrue(exception.getRetryAfter().toMillis() <= 100);
+    }
+
+    @Test
+    void testPublish_withDeadlinePassed_rejectsWithoutPublishing() {
+        // When
+        PublishRejectedException exception = assertThrows(PublishRejectedException.class,
+                () -> guard.publish(publisher, session -> session.add(EVENT), START));
+
+        // Then
+        assertFalse(exception.isSent());
+        assertTrue(publisher.events().isEmpty());
+    }
+
+    @Test
+    void testPublish_withPublishOutlastingDeadline_givesUpAndCountsFailure() {
+        // Given
+        EventPublisher stalled = new EventPublisher() {
+            @Override
+            public Session newSession() {
+                return new Session() {
+                    @Override
+                    public int add(OutboundEvent event) {
+                        return 0;
+                    }
+
+                    @Override
+                    public CompletableFuture<PublishResult> complete() {
+                        return new CompletableFuture<>();
+                    }
+                };
+            }
+
+            @Override
+            public void warmUp() {
+            }
+        };
+
+        // When
+        PublishRejectedException exception = assertThrows(PublishRejectedException.class,
+                () -> guard.publish(stalled, session -> session.add(EVENT), START.plusMillis(20)));
+
+        // Then
+        assertTrue(exception.isSent());
+        assertEquals(1, guard.snapshot().getTimedOutCount());
+        assertEquals(1, guard.snapshot().getConsecutiveFailures());
+        assertEquals(5.0, guard.snapshot().getPublishRate(), 1e-9);
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class SimulatedClock extends Clock {
+        private Instant now;
+
+        private SimulatedClock(Instant start) {
+            this.now = start;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
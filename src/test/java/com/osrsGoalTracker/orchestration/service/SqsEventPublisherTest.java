@@ -0,0 +1,212 @@
+package com.osrsGoalTracker.orchestration.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.orchestration.model.OutboundEvent;
+import com.osrsGoalTracker.orchestration.model.PublishResult;
+import com.osrsGoalTracker.orchestration.util.JitteredBackoff;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+/**
+ * Tests for the SqsEventPublisher.
+ */
+class SqsEventPublisherTest {
+
+    private static final String QUEUE_URL = "http://localhost:9324/000000000000/goal-events";
+    private static final String FIFO_QUEUE_URL = QUEUE_URL + ".fifo";
+
+    private SqsAsyncClient sqs;
+
+    @BeforeEach
+    void setUp() {
+        sqs = mock(SqsAsyncClient.class);
+    }
+
+    @Test
+    void testPublish_withTwentyFiveEvents_sendsThreeBatches() {
+        // Given
+        when(sqs.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(success());
+        SqsEventPublisher publisher = publisher(QUEUE_URL);
+
+        // When
+        PublishResult result = publisher.publish(events(25));
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqs, times(3)).sendMessageBatch(requestCaptor.capture());
+        SendMessageBatchRequest first = requestCaptor.getAllValues().get(0);
+        assertEquals(10, first.entries().size());
+        assertEquals(QUEUE_URL, first.queueUrl());
+        assertEquals("0", first.entries().get(0).id());
+        assertEquals("9", first.entries().get(9).id());
+        assertNull(first.entries().get(0).messageGroupId());
+        assertEquals(5, requestCaptor.getAllValues().get(2).entries().size());
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void testPublish_withFifoQueue_groupsByPartitionKeyAndDeduplicatesByEventId() {
+        // Given
+        when(sqs.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(success());
+        SqsEventPublisher publisher = publisher(FIFO_QUEUE_URL);
+
+        // When
+        publisher.publish(events(2));
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqs).sendMessageBatch(requestCaptor.capture());
+        SendMessageBatchRequestEntry entry = requestCaptor.getValue().entries().get(1);
+        assertEquals("user-1", entry.messageGroupId());
+        assertEquals("event-1", entry.messageDeduplicationId());
+        assertEquals("{\"detail-type\":\"GoalCreationRequestEvent\",\"source\":\"test-source\",\"detail\":{\"n\":1}}",
+                entry.messageBody());
+    }
+
+    @Test
+    void testPublish_withFifoQueueAndIdenticalEvents_givesEachItsOwnDeduplicationId() {
+        // Given
+        when(sqs.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(success());
+        SqsEventPublisher publisher = publisher(FIFO_QUEUE_URL);
+        OutboundEvent event = events(1).get(0);
+
+        // When
+        publisher.publish(List.of(event, event.toBuilder().eventId("event-1").build()));
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqs).sendMessageBatch(requestCaptor.capture());
+        List<SendMessageBatchRequestEntry> entries = requestCaptor.getValue().entries();
+        assertEquals(entries.get(0).messageBody(), entries.get(1).messageBody());
+        assertEquals("event-0", entries.get(0).messageDeduplicationId());
+        assertEquals("event-1", entries.get(1).messageDeduplicationId());
+    }
+
+    @Test
+    void testPublish_withFifoQueueAndMissingEventId_reportsEventWithoutSending() {
+        // Given
+        SqsEventPublisher publisher = publisher(FIFO_QUEUE_URL);
+
+        // When
+        PublishResult result = publisher.publish(List.of(events(1).get(0).toBuilder().eventId(null).build()));
+
+        // Then
+        verify(sqs, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+        assertEquals(BatchingEventPublisher.INVALID_ENTRY, result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    @Test
+    void testPublish_withServerSideFailure_retriesOnlyThatMessage() {
+        // Given
+        SendMessageBatchResponse partial = SendMessageBatchResponse.builder()
+                .failed(BatchResultErrorEntry.builder()
+                        .id("1")
+                        .code("ServiceUnavailable")
+                        .message("Try again")
+                        .senderFault(false)
+                        .build())
+                .build();
+        when(sqs.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(partial))
+                .thenReturn(success());
+        SqsEventPublisher publisher = publisher(QUEUE_URL);
+
+        // When
+        PublishResult result = publisher.publish(events(3));
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqs, times(2)).sendMessageBatch(requestCaptor.capture());
+        SendMessageBatchRequest retry = requestCaptor.getAllValues().get(1);
+        assertEquals(1, retry.entries().size());
+        assertTrue(retry.entries().get(0).messageBody().contains("{\"n\":1}"));
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void testPublish_withSenderFault_reportsMessageWithoutRetrying() {
+        // Given
+        SendMessageBatchResponse rejected = SendMessageBatchResponse.builder()
+                .failed(BatchResultErrorEntry.builder()
+                        .id("0")
+                        .code("InvalidMessageContents")
+                        .message("Invalid characters")
+                        .senderFault(true)
+                        .build())
+                .build();
+        when(sqs.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(rejected));
+        SqsEventPublisher publisher = publisher(QUEUE_URL);
+
+        // When
+        PublishResult result = publisher.publish(events(1));
+
+        // Then
+        verify(sqs, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        assertFalse(result.isSuccessful());
+        assertEquals(0, result.getFailedEvents().get(0).getIndex());
+        assertEquals("InvalidMessageContents", result.getFailedEvents().get(0).getErrorCode());
+    }
+
+    /**
+     * Creates a publisher for the given queue that retries without waiting.
+     *
+     * @param queueUrl The queue URL
+     * @return The publisher
+     */
+    private SqsEventPublisher publisher(String queueUrl) {
+        return new SqsEventPublisher(sqs, queueUrl, new JitteredBackoff(Duration.ZERO, Duration.ZERO), 3);
+    }
+
+    /**
+     * Builds a response in which every message was accepted.
+     *
+     * @return A completed future for the response
+     */
+    private static CompletableFuture<SendMessageBatchResponse> success() {
+        return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().build());
+    }
+
+    /**
+     * Builds events for one user with a small detail.
+     *
+     * @param count The number of events
+     * @return The events
+     */
+    private static List<OutboundEvent> events(int count) {
+        List<OutboundEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(OutboundEvent.builder()
+                    .eventId("event-" + i)
+                    .partitionKey("user-1")
+                    .detailType("GoalCreationRequestEvent")
+                    .source("test-source")
+                    .detail("{\"n\":" + i + "}")
+                    .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,158 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the CircuitBreaker.
+ */
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private SimulatedClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SimulatedClock(Instant.parse("2030-01-01T00:00:00Z"));
+        breaker = new CircuitBreaker(3, OPEN_DURATION, clock);
+    }
+
+    @Test
+    void testOnFailure_withFailuresBelowThreshold_staysClosed() {
+        // When
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.tryAcquire());
+    }
+
+    @Test
+    void testTryAcquire_withThresholdReached_rejectsUntilOpenPeriodEnds() {
+        // Given
+        failThreeTimes();
+
+        // When
+        clock.advance(Duration.ofSeconds(4));
+        long waitMillis = breaker.tryAcquire();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(6_000, waitMillis);
+        assertEquals(6_000, breaker.remainingOpenMillis());
+    }
+
+    @Test
+    void testTryAcquire_afterOpenPeriod_letsOneProbeThrough() {
+        // Given
+        failThreeTimes();
+        clock.advance(OPEN_DURATION);
+
+        // When
+        long probe = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+
+        // Then
+        assertEquals(0, probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(second > 0);
+    }
+
+    @Test
+    void testOnSuccess_afterProbe_closesBreaker() {
+        // Given
+        failThreeTimes();
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquire();
+
+        // When
+        breaker.onSuccess();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.consecutiveFailures());
+        assertEquals(0, breaker.tryAcquire());
+    }
+
+    @Test
+    void testOnFailure_afterProbe_reopensBreaker() {
+        // Given
+        failThreeTimes();
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquire();
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(OPEN_DURATION.toMillis(), breaker.tryAcquire());
+    }
+
+    @Test
+    void testTryAcquire_withProbeThatNeverReports_letsAnotherProbeThrough() {
+        // Given
+        failThreeTimes();
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquire();
+
+        // When
+        clock.advance(OPEN_DURATION);
+
+        // Then
+        assertEquals(0, breaker.tryAcquire());
+    }
+
+    /**
+     * Opens the breaker.
+     */
+    private void failThreeTimes() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class SimulatedClock extends Clock {
+        private Instant now;
+
+        private SimulatedClock(Instant start) {
+            this.now = start;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the EmfMetricsRecorder.
+ */
+class EmfMetricsRecorderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private List<String> lines;
+    private EmfMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        lines = new ArrayList<>();
+        Map<String, String> dimensions = new LinkedHashMap<>();
+        dimensions.put("Handler", "Test");
+        recorder = new EmfMetricsRecorder("Test/Namespace", dimensions, lines::add, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testFlush_withSingleLatency_writesMetadataAndValueInMilliseconds() throws Exception {
+        // Given
+        recorder.recordLatency("ParseLatency", 2_500_000);
+
+        // When
+        recorder.flush();
+
+        // Then
+        assertEquals(1, lines.size());
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        JsonNode metadata = line.get("_aws");
+        assertEquals(NOW.toEpochMilli(), metadata.get("Timestamp").asLong());
+        JsonNode directive = metadata.get("CloudWatchMetrics").get(0);
+        assertEquals("Test/Namespace", directive.get("Namespace").asText());
+        assertEquals("Handler", directive.get("Dimensions").get(0).get(0).asText());
+        assertEquals("ParseLatency", directive.get("Metrics").get(0).get("Name").asText());
+        assertEquals("Milliseconds", directive.get("Metrics").get(0).get("Unit").asText());
+        assertEquals("Test", line.get("Handler").asText());
+        assertEquals(2.5, line.get("ParseLatency").asDouble());
+    }
+
+    @Test
+    void testFlush_withRepeatedLatency_writesRoundedHistogram() throws Exception {
+        // Given
+        recorder.recordLatency("PublishLatency", 12_300_000);
+        recorder.recordLatency("PublishLatency", 12_340_000);
+        recorder.recordLatency("PublishLatency", 40_000_000);
+
+        // When
+        recorder.flush();
+
+        // Then
+        JsonNode histogram = OBJECT_MAPPER.readTree(lines.get(0)).get("PublishLatency");
+        assertEquals(2, histogram.get("Values").size());
+        assertEquals(12.0, histogram.get("Values").get(0).asDouble());
+        assertEquals(40.0, histogram.get("Values").get(1).asDouble());
+        assertEquals(2, histogram.get("Counts").get(0).asInt());
+        assertEquals(1, histogram.get("Counts").get(1).asInt());
+    }
+
+    @Test
+    void testFlush_withRepeatedCount_writesSum() throws Exception {
+        // Given
+        recorder.count("ValidationErrors", 2);
+        recorder.count("ValidationErrors", 3);
+        recorder.count("ColdStart", 0);
+
+        // When
+        recorder.flush();
+
+        // Then
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertEquals(5, line.get("ValidationErrors").asLong());
+        assertEquals(0, line.get("ColdStart").asLong());
+    }
+
+    @Test
+    void testFlush_withPropertiesAndNonFiniteGauge_writesPropertiesAndDropsGauge() throws Exception {
+        // Given
+        recorder.count("GoalsAccepted", 1);
+        recorder.gauge("PublishRate", Double.POSITIVE_INFINITY);
+        recorder.property("requestId", "request-1");
+        recorder.property("statusCode", 200);
+        recorder.property("bulk", false);
+
+        // When
+        recorder.flush();
+
+        // Then
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        assertFalse(line.has("PublishRate"));
+        assertEquals(1, line.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics").size());
+        assertEquals("request-1", line.get("requestId").asText());
+        assertEquals(200, line.get("statusCode").asInt());
+        assertFalse(line.get("bulk").asBoolean());
+    }
+
+    @Test
+    void testFlush_withNothingRecorded_writesNothing() {
+        // Given
+        recorder.property("requestId", "request-1");
+
+        // When
+        recorder.flush();
+
+        // Then
+        assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    void testFlush_calledTwice_startsEachInvocationEmpty() throws Exception {
+        // Given
+        recorder.count("PublishFailures", 1);
+        recorder.property("requestId", "request-1");
+        recorder.flush();
+        recorder.count("GoalsAccepted", 1);
+
+        // When
+        recorder.flush();
+
+        // Then
+        assertEquals(2, lines.size());
+        JsonNode second = OBJECT_MAPPER.readTree(lines.get(1));
+        assertFalse(second.has("PublishFailures"));
+        assertFalse(second.has("requestId"));
+        assertEquals(1, second.get("GoalsAccepted").asLong());
+    }
+}
@@ -0,0 +1,108 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the HierarchicalTimingWheel.
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Test
+    void testAdvanceTo_beforeDueTime_releasesNothing() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofMinutes(1), 8, START);
+        wheel.add("daily", START.plus(Duration.ofDays(1)));
+
+        // When
+        List<String> released = wheel.advanceTo(START.plus(Duration.ofHours(23)));
+
+        // Then
+        assertTrue(released.isEmpty());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void testAdvanceTo_withItemsOnSeveralLevels_releasesEachOnTime() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofMinutes(1), 8, START);
+        wheel.add("minutes", START.plus(Duration.ofMinutes(3)));
+        wheel.add("hours", START.plus(Duration.ofHours(5)));
+        wheel.add("week", START.plus(Duration.ofDays(7)));
+
+        // When / Then
+        assertEquals(List.of("minutes"), wheel.advanceTo(START.plus(Duration.ofMinutes(3))));
+        assertEquals(List.of(), wheel.advanceTo(START.plus(Duration.ofHours(5)).minusSeconds(1)));
+        assertEquals(List.of("hours"), wheel.advanceTo(START.plus(Duration.ofHours(5))));
+        assertEquals(List.of("week"), wheel.advanceTo(START.plus(Duration.ofDays(8))));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceTo_withDueTimeInsideTick_neverReleasesEarly() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofMinutes(1), 8, START);
+        wheel.add("item", START.plusSeconds(90));
+
+        // When / Then
+        assertEquals(List.of(), wheel.advanceTo(START.plusSeconds(90)));
+        assertEquals(List.of("item"), wheel.advanceTo(START.plusSeconds(120)));
+    }
+
+    @Test
+    void testAdvanceTo_withItemAlreadyDue_releasesOnNextAdvance() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofMinutes(1), 8, START);
+        wheel.add("late", START.minusSeconds(30));
+
+        // When / Then
+        assertEquals(List.of("late"), wheel.advanceTo(START));
+    }
+
+    @Test
+    void testAdvanceTo_withRandomDueTimes_releasesEveryItemWithinOneTick() {
+        // Given
+        HierarchicalTimingWheel<Instant> wheel = new HierarchicalTimingWheel<>(Duration.ofMinutes(1), 4, START);
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Instant dueAt = START.plusSeconds(random.nextInt(14 * 24 * 60 * 60));
+            wheel.add(dueAt, dueAt);
+        }
+        List<Instant> dueTimes = new ArrayList<>();
+
+        // When
+        Instant now = START;
+        List<Instant> late = new ArrayList<>();
+        while (wheel.size() > 0) {
+            now = now.plus(Duration.ofMinutes(7));
+            for (Instant dueAt : wheel.advanceTo(now)) {
+                dueTimes.add(dueAt);
+                if (dueAt.isAfter(now) || dueAt.plus(Duration.ofMinutes(8)).isBefore(now)) {
+                    late.add(dueAt);
+                }
+            }
+        }
+
+        // Then
+        assertEquals(500, dueTimes.size());
+        assertTrue(late.isEmpty(), "released outside their tick: " + late);
+    }
+
+    @Test
+    void testConstructor_withOneBucket_throwsException() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new HierarchicalTimingWheel<String>(Duration.ofMinutes(1), 1, START));
+    }
+}
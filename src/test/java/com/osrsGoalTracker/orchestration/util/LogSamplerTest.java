@@ -0,0 +1,43 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the LogSampler.
+ */
+class LogSamplerTest {
+
+    @Test
+    void testSample_withRateZero_neverSamples() {
+        // Given
+        LogSampler sampler = new LogSampler(0.0);
+
+        // When / Then
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(sampler.sample());
+        }
+    }
+
+    @Test
+    void testSample_withRateOne_alwaysSamples() {
+        // Given
+        LogSampler sampler = new LogSampler(1.0);
+
+        // When / Then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(sampler.sample());
+        }
+    }
+
+    @Test
+    void testConstructor_withRateOutOfRange_throwsIllegalArgumentException() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new LogSampler(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new LogSampler(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new LogSampler(Double.NaN));
+    }
+}
@@ -0,0 +1,118 @@
+package com.osrsGoalTracker.orchestration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the PerThreadMetricsRecorder.
+ */
+class PerThreadMetricsRecorderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private List<String> lines;
+    private PerThreadMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        lines = Collections.synchronizedList(new ArrayList<>());
+        recorder = new PerThreadMetricsRecorder(
+                () -> new EmfMetricsRecorder("Test", Map.of("Handler", "Test"), lines::add, CLOCK));
+    }
+
+    @Test
+    void testFlush_withInterleavedInvocationsOnTwoThreads_writesOneLinePerInvocation() throws Exception {
+        // Given
+        CyclicBarrier bothRecorded = new CyclicBarrier(2);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> first = threads.submit(() -> invocation("request-1", 1, bothRecorded));
+            Future<?> second = threads.submit(() -> invocation("request-2", 2, bothRecorded));
+
+            // When
+            first.get();
+            second.get();
+        }
+
+        // Then
+        assertEquals(2, lines.size());
+        for (String line : lines) {
+            JsonNode json = OBJECT_MAPPER.readTree(line);
+            long expected = json.get("requestId").asText().equals("request-1") ? 1 : 2;
+            assertEquals(expected, json.get("GoalsAccepted").asLong());
+        }
+    }
+
+    @Test
+    void testFlush_calledAgainOnSameThread_startsWithFreshRecorder() throws Exception {
+        // Given
+        recorder.count("PublishFailures", 1);
+        recorder.flush();
+
+        // When
+        recorder.count("GoalsAccepted", 1);
+        recorder.flush();
+
+        // Then
+        assertEquals(2, lines.size());
+        assertFalse(OBJECT_MAPPER.readTree(lines.get(1)).has("PublishFailures"));
+    }
+
+    @Test
+    void testPropagate_withTaskOnAnotherThread_recordsIntoCallersLine() throws Exception {
+        // Given
+        recorder.count("GoalsAccepted", 1);
+        Supplier<Void> task = recorder.propagate(() -> {
+            recorder.count("GoalsAccepted", 2);
+            return null;
+        });
+
+        // When
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.supplyAsync(task, threads).join();
+        }
+        recorder.flush();
+
+        // Then
+        assertEquals(1, lines.size());
+        assertEquals(3, OBJECT_MAPPER.readTree(lines.get(0)).get("GoalsAccepted").asLong());
+    }
+
+    /**
+     * Records one invocation, waiting for the other thread between recording
+     * and flushing so the two invocations overlap.
+     *
+     * @param requestId The request ID property
+     * @param accepted  The number of goals accepted
+     * @param barrier   The barrier both invocations meet at
+     * @return null
+     * @throws Exception if the barrier is broken
+     */
+    private Void invocation(String requestId, long accepted, CyclicBarrier barrier) throws Exception {
+        recorder.count("GoalsAccepted", accepted);
+        recorder.property("requestId", requestId);
+        barrier.await();
+        recorder.flush();
+        return null;
+    }
+}